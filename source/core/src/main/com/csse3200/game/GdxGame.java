@@ -26,6 +26,9 @@ public class GdxGame extends Game {
   private Screen previousScreen;
   private ScreenType currentScreenType;
   private Cutscene currentCutscene;
+  private SkinService skinService;
+  private FontService fontService;
+  private AudioService audioService;
 
 
   @Override
@@ -39,6 +42,12 @@ public class GdxGame extends Game {
     Gdx.gl.glClearColor(234f/255f, 221/255f, 202/255f, 1);
 
     ServiceLocator.registerGame(this);
+    skinService = new SkinService();
+    ServiceLocator.registerSkinService(skinService);
+    fontService = new FontService();
+    ServiceLocator.registerFontService(fontService);
+    audioService = new AudioService();
+    ServiceLocator.registerAudioService(audioService);
 
     setScreen(ScreenType.MAIN_MENU);
   }
@@ -50,6 +59,10 @@ public class GdxGame extends Game {
     logger.debug("Loading game settings");
     UserSettings.Settings settings = UserSettings.get();
     UserSettings.applySettings(settings);
+    if (settings.textureCache) {
+      ResourceService.setSharedTextureCache(new TextureCache(TextureCache.defaultDirectory()));
+    }
+    ResourceService.setDefaultResidencyBudgetBytes(settings.textureResidencyMegabytes * 1024L * 1024);
   }
 
   /**
@@ -106,10 +119,26 @@ public class GdxGame extends Game {
     return currentScreenType;
   }
 
+  @Override
+  public void render() {
+    // Music fades carry on across screen changes, so they are advanced here rather than by a screen
+    audioService.update(Gdx.graphics.getDeltaTime());
+    super.render();
+    if (audioService.isBusy()) {
+      // Screens which render on demand would otherwise hold a fade or preload until the next input
+      Gdx.graphics.requestRendering();
+    }
+  }
+
   @Override
   public void dispose() {
     logger.debug("Disposing of current screen");
     getScreen().dispose();
+    skinService.dispose();
+    fontService.dispose();
+    audioService.dispose();
+    ResourceService.disposeSharedAssets();
+    SaveLoadService.flushSaves();
   }
 
   /**
@@ -6,6 +6,7 @@ import com.csse3200.game.GdxGame;
 import com.csse3200.game.entities.benches.Bench;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -17,7 +18,6 @@ import org.slf4j.LoggerFactory;
 
 import static com.badlogic.gdx.Gdx.app;
 
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.areas.terrain.TerrainFactory;
@@ -40,152 +40,10 @@ import com.csse3200.game.utils.math.GridPoint2Utils;
 public class ForestGameArea extends GameArea {
   private static final Logger logger = LoggerFactory.getLogger(ForestGameArea.class);
   private static final GridPoint2 PLAYER_SPAWN = new GridPoint2(5, 2);
-  private static final String[] forestTextures = {
-          //"images/special_NPCs/boss.png",
-          //"images/special_NPCs/penguin2.png",
-          "images/meals/acai_bowl.png",
-          "images/meals/banana_split.png",
-          "images/meals/salad.png",
-          "images/meals/steak_meal.png",
-          "images/meals/fruit_salad.png",
-          "images/ingredients/raw_cucumber.png",
-          "images/ingredients/raw_acai.png",
-          "images/ingredients/raw_tomato.png",
-          "images/ingredients/raw_strawberry.png",
-          "images/ingredients/chopped_strawberry.png",
-          "images/ingredients/chopped_chocolate.png",
-          "images/ingredients/chopped_cucumber.png",
-          "images/ingredients/chopped_lettuce.png",
-          "images/ingredients/chopped_acai.png",
-          "images/ingredients/chopped_tomato.png",
-          "images/ingredients/raw_lettuce.png",
-          "images/ingredients/raw_chocolate.png",
-          "images/ingredients/raw_banana.png",
-          "images/ingredients/chopped_banana.png",
-          //"images/ingredients/raw_fish.png",
-          "images/ingredients/cooked_fish.png",
-          "images/ingredients/raw_beef.png",
-          "images/ingredients/cooked_beef.png",
-          "images/ingredients/burnt_beef.png",
-          "images/money.png",
-          "images/hourglass.png",
-          "images/tooltip_bg.png",
-          //"images/chef_player.png",
-          "images/tiles/orange_tile.png",
-          "images/tiles/blue_tile.png",
-          "images/stations/oven.png",
-          "images/stations/stove.png",
-          "images/stations/apple_tree.png",
-          "images/stations/servery.png",
-          "images/stations/refrigerator.png",
-          "images/fireExtinguisher/Fire_Extinguisher.png",
-
-          "images/stations/bench_legs.png",
-          "images/stations/bench_top.png",
-          "images/stations/benches/left_border.png",
-          "images/stations/benches/right_border.png",
-          "images/stations/benches/vertical.png",
-          "images/stations/benches/top.png",
-          "images/stations/benches/bottom_shadow.png",
-          "images/stations/benches/single.png",
-          "images/stations/benches/single.png",
-          "images/stations/benches/left_corner_shadow.png",
-          "images/stations/benches/right_corner_shadow.png",
-          "images/stations/benches/top_shadows.png",
-          "images/stations/benches/garbage_bin.png",
-          "images/stations/baskets/basket_acai.png",
-          "images/stations/baskets/basket_banana.png",
-          "images/stations/baskets/basket_cucumber.png",
-          "images/stations/baskets/basket_lettuce.png",
-          "images/stations/baskets/basket_strawberry.png",
-          "images/stations/baskets/basket_tomato.png",
-          "images/stations/fridge/fridge_meat.png",
-          "images/stations/fridge/fridge_choc.png",
-          "images/stations/chopping_board/choppingboardbench.png",
-          "images/stations/benches/dishwasher.png",
-
-          //These frames have some use in ObstacleFactory but it's only ever instantiated as full_door - Alex S.
-          "images/frame/full_door.png",
-          "images/frame/border_test.png",
-          "images/frame/side_border.png",
-          "images/frame/wall.png",
-
-
-          "images/platecomponent/cleanplate.png",
-          "images/platecomponent/dirtyplate.png",
-          "images/platecomponent/stackedplates/1plates.png",
-          "images/platecomponent/stackedplates/2plates.png",
-          "images/platecomponent/stackedplates/3plates.png",
-          "images/platecomponent/stackedplates/4plates.png",
-          "images/platecomponent/stackedplates/5plates.png",
-          "images/inventory_ui/slot.png",
-          "images/inventory_ui/null_image.png",
-          "images/inventory_ui/interact_key.png",
-          "images/inventory_ui/combine_key.png",
-          "images/inventory_ui/rotate_key.png",
-          "images/inventory_ui/chop_key.png",
-          "images/inventory_ui/place_key.png",
-          "images/inventory_ui/take_key.png",
-          "images/inventory_ui/submit_key.png",
-          "images/inventory_ui/dispose_key.png",
-          "images/inventory_ui/cook_key.png"
-  };
-  private static final String[] forestTextureAtlases = {
-          "images/Cutscenes/cutscene_badEnd.atlas",
-          "images/terrain_iso_grass.atlas",
-          "images/ghost.atlas",
-          "images/ghostKing.atlas",
-          "images/animal_images/gorilla.atlas",
-          "images/animal_images/goose.atlas",
-          "images/animal_images/goat.atlas",
-          "images/animal_images/monkey.atlas",
-          "images/animal_images/snow_wolf.atlas",
-          "images/player.atlas",
-          "images/fireExtinguisher/atlas/flame.atlas",
-          "images/stations/oven/oven.atlas",
-          "images/terrain_iso_grass.atlas",
-          "images/ghost.atlas",
-          "images/ghostKing.atlas",
-          "images/animal_images/gorilla.atlas",
-          "images/animal_images/goose.atlas",
-          "images/animal_images/goat.atlas",
-          "images/animal_images/monkey.atlas",
-          "images/animal_images/snow_wolf.atlas",
-          "images/fireExtinguisher/atlas/flame.atlas",
-          "images/player/player.atlas",
-          "images/player/acaiBowl.atlas",
-          "images/player/bananaSplit.atlas",
-          "images/player/burntBeef.atlas",
-          "images/player/choppedAcai.atlas",
-          "images/player/choppedBanana.atlas",
-          "images/player/choppedChocolate.atlas",
-          "images/player/choppedCucumber.atlas",
-          "images/player/choppedLettuce.atlas",
-          "images/player/choppedStrawberry.atlas",
-          "images/player/choppedTomato.atlas",
-          "images/player/cookedBeef.atlas",
-          "images/player/cookedFish.atlas",
-          "images/player/fruitSalad.atlas",
-          "images/player/rawAcai.atlas",
-          "images/player/rawBanana.atlas",
-          "images/player/rawBeef.atlas",
-          "images/player/rawChocolate.atlas",
-          "images/player/rawCucumber.atlas",
-          "images/player/rawFish.atlas",
-          "images/player/rawLettuce.atlas",
-          "images/player/rawStrawberry.atlas",
-          "images/player/rawTomato.atlas",
-          "images/player/salad.atlas",
-          "images/player/steak.atlas",
-          "images/player/playerPlate.atlas",
-          "images/player/playerDirtyPlate.atlas",
-          "images/player/playerFireExtinguisher.atlas",
-          "images/special_NPCs/boss.atlas", "images/stations/Servery_Animation/servery.atlas",
-          "images/special_NPCs/penguin.atlas",
-  };
-  private static final String[] forestSounds = {"sounds/Impact4.ogg"};
+  // Textures, atlases, sounds and music are listed in the asset manifest
+  private static final String ASSET_SCOPE = "forest";
   private static final String BACKGROUND_MUSIC = "sounds/BB_BGM.mp3";
-  private static final String[] forestMusic = {BACKGROUND_MUSIC};
+  private static final float MUSIC_FADE_SECONDS = 1f;
   private static Entity customerSpawnController;
 
   private final TerrainFactory terrainFactory;
@@ -193,6 +51,7 @@ public class ForestGameArea extends GameArea {
   private final GdxGame.LevelType level;
 
   private Entity player;
+  private CompletableFuture<Void> assetsLoaded;
     // Reference to CheckWinLoseComponent
 
   /**
@@ -512,39 +371,51 @@ public class ForestGameArea extends GameArea {
    * Plays the background music
    */
   private void playMusic() {
-    Music music = ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class);
-    music.setLooping(true);
-    music.setVolume(0.04f);
-    music.play();
+    AudioService audioService = ServiceLocator.getAudioService();
+    if (audioService != null) {
+      audioService.playMusic(BACKGROUND_MUSIC, 0.04f, MUSIC_FADE_SECONDS);
+    }
+  }
+
+  /**
+   * Request the assets for this area, so that a screen can show loading progress while they load
+   * before creating the area. Only requests them once.
+   *
+   * @return future completed once every asset has loaded
+   */
+  public CompletableFuture<Void> requestAssets() {
+    if (assetsLoaded == null) {
+      logger.debug("Requesting assets");
+      assetsLoaded = ServiceLocator.getResourceService()
+          .loadScope(AssetManifest.get().getScope(ASSET_SCOPE), LoadPriority.CRITICAL);
+    }
+    return assetsLoaded;
   }
 
+  /**
+   * Makes sure the area's assets are loaded, only blocking if they weren't requested and waited for
+   * ahead of time.
+   */
   private void loadAssets() {
-    logger.debug("Loading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(forestTextures);
-    resourceService.loadTextureAtlases(forestTextureAtlases);
-    resourceService.loadSounds(forestSounds);
-    resourceService.loadMusic(forestMusic);
-
-    while (!resourceService.loadForMillis(10)) {
-      // This could be upgraded to a loading screen
-      logger.info("Loading... {}%", resourceService.getProgress());
+    requestAssets();
+    if (!assetsLoaded.isDone()) {
+      logger.debug("Loading assets");
+      ServiceLocator.getResourceService().finishLoading(AssetManifest.get().getScope(ASSET_SCOPE));
     }
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(forestTextures);
-    resourceService.unloadAssets(forestTextureAtlases);
-    resourceService.unloadAssets(forestSounds);
-    resourceService.unloadAssets(forestMusic);
+    ServiceLocator.getResourceService().unloadScope(AssetManifest.get().getScope(ASSET_SCOPE));
   }
 
   @Override
   public void dispose() {
     super.dispose();
-    ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class).stop();
+    AudioService audioService = ServiceLocator.getAudioService();
+    if (audioService != null) {
+      audioService.stopMusic(MUSIC_FADE_SECONDS);
+    }
     this.unloadAssets();
   }
 
@@ -0,0 +1,281 @@
+package com.csse3200.game.areas.map;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * A map layout compiled from its text file into a binary file, so that it can be loaded with a
+ * single read rather than parsed line by line. The text files stay the source of the maps; they
+ * are compiled by {@code ./gradlew :desktop:compileMaps}.
+ *
+ * <p>The file starts with a header:
+ * <pre>
+ *   int   magic ("MAPB")
+ *   short version
+ *   short width
+ *   short height
+ *   short cell count
+ *   short name length, then the name in UTF-8
+ * </pre>
+ * followed by one fixed width cell for each bench or station in the text file:
+ * <pre>
+ *   byte type   the character from the text file, e.g. 'X' or 'G'
+ *   byte row    line of the text file, counting the header lines
+ *   byte a      first digit, the column
+ *   byte b      second digit, the length of a bench row or column, or 0
+ * </pre>
+ */
+public class CompiledMap {
+    public static final int MAGIC = 0x4D415042;
+    public static final short VERSION = 1;
+    public static final String EXTENSION = ".map";
+    public static final int CELL_BYTES = 4;
+    private static final int HEADER_BYTES = 14;
+    private static final String BENCH_TYPES = "XYQP";
+    private static final String STATION_TYPES = "bsutcaEOBCGNSFZ";
+    // Lines before the first row of the map: name, width, height and a separator
+    private static final int HEADER_LINES = 4;
+
+    private final ByteBuffer buffer;
+    private final String name;
+    private final int width;
+    private final int height;
+    private final int cellCount;
+    private final int cellsOffset;
+
+    private CompiledMap(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled map");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Compiled map is version " + buffer.getShort(4) + ", not " + VERSION);
+        }
+        width = buffer.getShort(6);
+        height = buffer.getShort(8);
+        cellCount = buffer.getShort(10);
+        int nameLength = buffer.getShort(12);
+        cellsOffset = HEADER_BYTES + nameLength;
+        if (buffer.limit() != cellsOffset + cellCount * CELL_BYTES) {
+            throw new IOException("Compiled map is " + buffer.limit() + " bytes, expected "
+                    + (cellsOffset + cellCount * CELL_BYTES));
+        }
+        byte[] nameBytes = new byte[nameLength];
+        buffer.get(HEADER_BYTES, nameBytes);
+        name = new String(nameBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param textPath path of a map's text file
+     * @return path its compiled file is written to
+     */
+    public static String getCompiledPath(String textPath) {
+        int extension = textPath.lastIndexOf('.');
+        return (extension > textPath.lastIndexOf('/') ? textPath.substring(0, extension) : textPath)
+                + EXTENSION;
+    }
+
+    /**
+     * Check whether a compiled map exists and is at least as new as its text file.
+     *
+     * @param textPath path of a map's text file
+     * @return true if the compiled map should be loaded instead of the text file
+     */
+    public static boolean isUpToDate(String textPath) {
+        Path text = Path.of(textPath);
+        Path compiled = Path.of(getCompiledPath(textPath));
+        try {
+            return Files.isRegularFile(compiled) && (!Files.exists(text)
+                    || Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(text)) >= 0);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read a compiled map.
+     *
+     * @param file  compiled map file
+     * @param reuse buffer to read into if it is large enough, e.g. the one the last map was read
+     *              into, or null
+     * @return compiled map
+     * @throws IOException if the file can't be read or isn't a compiled map of this version
+     */
+    public static CompiledMap read(Path file, ByteBuffer reuse) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to be a compiled map");
+            }
+            ByteBuffer buffer = reuse != null && reuse.capacity() >= size ? reuse.clear()
+                    : ByteBuffer.allocate((int) size);
+            buffer.limit((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException(file + " ended early");
+                }
+            }
+            buffer.flip();
+            return new CompiledMap(buffer);
+        }
+    }
+
+    /**
+     * Compile a map's text file.
+     *
+     * @param text   map text file
+     * @param output file to write the compiled map to
+     * @throws IOException if the text file can't be read or has an invalid cell
+     */
+    public static void compile(Path text, Path output) throws IOException {
+        ByteBuffer compiled = compile(Files.readAllLines(text, StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (compiled.hasRemaining()) {
+                channel.write(compiled);
+            }
+        }
+    }
+
+    /**
+     * Compile the lines of a map's text file.
+     *
+     * @param lines lines of the text file
+     * @return compiled map, ready to be written
+     * @throws IOException if the header is missing or a cell is invalid
+     */
+    public static ByteBuffer compile(List<String> lines) throws IOException {
+        if (lines.size() < HEADER_LINES) {
+            throw new IOException("Map is missing its header");
+        }
+        if (lines.size() > 0xFF) {
+            throw new IOException("Map has more rows than a cell can store");
+        }
+        byte[] name = lines.get(0).getBytes(StandardCharsets.UTF_8);
+        int cellCount = 0;
+        for (int row = HEADER_LINES; row < lines.size(); row++) {
+            String line = lines.get(row);
+            for (int col = 0; col < line.length(); col += 4) {
+                if (isCell(line.charAt(col))) {
+                    cellCount++;
+                }
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + name.length + cellCount * CELL_BYTES);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort(parseHeader(lines.get(1), "width"))
+                .putShort(parseHeader(lines.get(2), "height"))
+                .putShort((short) cellCount)
+                .putShort((short) name.length)
+                .put(name);
+        for (int row = HEADER_LINES; row < lines.size(); row++) {
+            String line = lines.get(row);
+            for (int col = 0; col < line.length(); col += 4) {
+                char type = line.charAt(col);
+                if (!isCell(type)) {
+                    continue;
+                }
+                // Bench rows and columns have a length as well as a column
+                boolean hasLength = type == 'X' || type == 'Y';
+                buffer.put((byte) type)
+                        .put((byte) row)
+                        .put((byte) digit(line, row, col + 1))
+                        .put((byte) (hasLength ? digit(line, row, col + 2) : 0));
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * @param type character of a cell in a map's text file
+     * @return true if it is a station
+     */
+    public static boolean isStation(char type) {
+        return STATION_TYPES.indexOf(type) >= 0;
+    }
+
+    private static boolean isCell(char type) {
+        return BENCH_TYPES.indexOf(type) >= 0 || isStation(type);
+    }
+
+    private static short parseHeader(String line, String field) throws IOException {
+        try {
+            return Short.parseShort(line.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Map " + field + " is not a number: " + line);
+        }
+    }
+
+    private static int digit(String line, int row, int col) throws IOException {
+        int digit = col < line.length() ? Character.digit(line.charAt(col), 10) : -1;
+        if (digit < 0) {
+            throw new IOException("Expected a digit at line " + (row + 1) + ", column " + (col + 1)
+                    + ": " + line);
+        }
+        return digit;
+    }
+
+    /**
+     * @return buffer the map was read into, which can be reused to read the next map
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * @param cell cell index
+     * @return character of the cell in the text file
+     */
+    public char getType(int cell) {
+        return (char) (buffer.get(cellsOffset + cell * CELL_BYTES) & 0xFF);
+    }
+
+    /**
+     * @param cell cell index
+     * @return line of the text file the cell was on, counting the header lines
+     */
+    public int getRow(int cell) {
+        return buffer.get(cellsOffset + cell * CELL_BYTES + 1) & 0xFF;
+    }
+
+    /**
+     * @param cell cell index
+     * @return column of the cell
+     */
+    public int getColumn(int cell) {
+        return buffer.get(cellsOffset + cell * CELL_BYTES + 2);
+    }
+
+    /**
+     * @param cell cell index
+     * @return length of a bench row or column, or 0 for other cells
+     */
+    public int getLength(int cell) {
+        return buffer.get(cellsOffset + cell * CELL_BYTES + 3);
+    }
+}
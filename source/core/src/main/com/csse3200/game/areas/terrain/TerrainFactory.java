@@ -116,7 +116,6 @@ public class TerrainFactory {
 
     fillBlueTiles(layer, modifiedsize, customerTile, CUST_TILE_COUNT);
 
-    tiledMap.getLayers().add(layer);
     tiledMap.getLayers().add(layer);
     return tiledMap;
   }
@@ -1,6 +1,7 @@
 package com.csse3200.game.components;
 
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.ui.binding.ObservableProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +16,7 @@ public class CombatStatsComponent extends Component {
   private int health;
   private int gold;
   private int baseAttack;
+  private final ObservableProperty<Integer> goldProperty = new ObservableProperty<>(0);
 
   public CombatStatsComponent(int health, int baseAttack) {
     setHealth(health);
@@ -104,6 +106,7 @@ public class CombatStatsComponent extends Component {
    */
   public void setGold(int gold) {
     this.gold = Math.max(gold, 0);
+    goldProperty.set(this.gold);
     if (entity != null) {
       entity.getEvents().trigger("updateGold", this.gold);
       ServiceLocator.getLevelService().setCurrGold(this.gold);
@@ -128,4 +131,13 @@ public class CombatStatsComponent extends Component {
   public int getGold() {
     return gold;
   }
+
+  /**
+   * Returns an observable view of the entity's gold, for UI that should only update on change.
+   *
+   * @return entity's gold property
+   */
+  public ObservableProperty<Integer> getGoldProperty() {
+    return goldProperty;
+  }
 }
@@ -2,15 +2,15 @@ package com.csse3200.game.components.ScoreSystem;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TextureHandle;
 
 public class HoverBoxComponent extends RenderComponent {
     private Texture hoverImage;
-    private ShapeRenderer shapeRenderer;
+    private TextureHandle hoverHandle;
     Vector2 position;
     Vector2 scale;
     private static final float X_OFFSET = 0.45f;
@@ -20,15 +20,38 @@ public class HoverBoxComponent extends RenderComponent {
         hoverImage = contentImage;
     }
 
+    /**
+     * Creates a hover box showing a shared texture acquired from the resource service.
+     * @param texturePath path of the texture to show
+     */
+    public HoverBoxComponent(String texturePath) {
+        setTexture(texturePath);
+    }
+
     public void setTexture(Texture newTexture) {
+        releaseHandle();
         this.hoverImage = newTexture;
     }
 
-    @Override
-    public void create() {
-        super.create();
-        shapeRenderer = new ShapeRenderer();
-        ServiceLocator.getRenderService().register(this);
+    /**
+     * Shows a shared texture acquired from the resource service, releasing the previous one.
+     * @param texturePath path of the texture to show
+     */
+    public void setTexture(String texturePath) {
+        if (hoverHandle != null && hoverHandle.getPath().equals(texturePath)) {
+            return;
+        }
+        TextureHandle newHandle = ServiceLocator.getResourceService().acquire(texturePath);
+        releaseHandle();
+        hoverHandle = newHandle;
+        hoverImage = newHandle.getTexture();
+    }
+
+    private void releaseHandle() {
+        if (hoverHandle != null) {
+            ServiceLocator.getResourceService().release(hoverHandle);
+            hoverHandle = null;
+        }
     }
 
     @Override
@@ -64,10 +87,7 @@ public class HoverBoxComponent extends RenderComponent {
     @Override
     public void dispose() {
         super.dispose();
-        ServiceLocator.getRenderService().unregister(this);
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
+        releaseHandle();
     }
 
     @Override
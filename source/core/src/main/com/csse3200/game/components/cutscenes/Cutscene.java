@@ -1,5 +1,7 @@
 package com.csse3200.game.components.cutscenes;
 
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.GdxGame;
@@ -7,7 +9,10 @@ import com.csse3200.game.components.Component;
 import com.csse3200.game.components.cutscenes.scenes.AnimatedScene;
 import com.csse3200.game.components.cutscenes.scenes.Scene;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.screens.CutsceneScreen;
+import com.csse3200.game.services.AssetManifest;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -63,6 +68,9 @@ public abstract class Cutscene extends Component {
 
     protected String[] images;
 
+    // Scope of the asset manifest loaded for the cutscene, if its assets are declared there
+    protected AssetManifest.Scope assetScope;
+
     // The index the text is under, after it increases too large, then it goes to the next scene
     protected int textIndex;
 
@@ -163,6 +171,11 @@ public abstract class Cutscene extends Component {
             logger.info("Loading scene {}", sceneIndex);
 
             loadAssetsForScene(currentScene);  // Load assets needed for the current scene
+            if (sceneIndex + 1 < scenes.size()) {
+                prefetchAssetsForScene(scenes.get(sceneIndex + 1));
+            } else {
+                prefetchNextScreen();
+            }
             createEntitiesForScene(currentScene);  // Create entities for the current scene
 
 
@@ -181,6 +194,11 @@ public abstract class Cutscene extends Component {
             logger.info("Loading scene {}", sceneIndex);
 
             loadAssetsForScene(currentAnimatedScene);  // Load assets needed for the current scene
+            if (sceneIndex + 1 < animatedScenes.size()) {
+                prefetchAssetsForScene(animatedScenes.get(sceneIndex + 1));
+            } else {
+                prefetchNextScreen();
+            }
 
             createEntitiesForScene(currentAnimatedScene);  // Create entities for the current scene
 
@@ -190,32 +208,57 @@ public abstract class Cutscene extends Component {
     }
 
     /**
-     * Loads the assets needed for a specific scene, including textures and animations.
+     * Loads the assets needed for a specific scene, including textures and animations. This only
+     * blocks for assets which weren't already prefetched while the previous scene played.
      * @param scene The scene for which to load assets
      */
     protected void loadAssetsForScene(Scene scene) {
         textures = new String[] {scene.getBackgroundImagePath()};
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(textures);
+        resourceService.load(textures, Texture.class, LoadPriority.CRITICAL);
+        resourceService.finishLoading(textures);
 
         // Load any animations specific to the scene
         if (scene.getAnimationImagePaths() != null) {
-            resourceService.loadTextures(scene.getAnimationImagePaths());
+            resourceService.load(scene.getAnimationImagePaths(), Texture.class, LoadPriority.CRITICAL);
+            resourceService.finishLoading(scene.getAnimationImagePaths());
         }
-
-        resourceService.loadAll();
     }
 
     /**
-     * Loads the assets needed for a specific scene, including textures and animations.
+     * Loads the assets needed for a specific scene, including textures and animations. This only
+     * blocks for assets which weren't already prefetched while the previous scene played.
      * @param scene The scene for which to load assets
      */
     protected void loadAssetsForScene(AnimatedScene scene) {
         textures = new String[] {scene.getAtlasFilePath()};
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextureAtlases(textures);
+        resourceService.load(textures, TextureAtlas.class, LoadPriority.CRITICAL);
+        resourceService.finishLoading(textures);
+    }
 
-        resourceService.loadAll();
+    /**
+     * Starts streaming in the assets for a scene which is coming up, so it doesn't have to wait
+     * for them when it is loaded.
+     * @param scene The upcoming scene
+     */
+    protected void prefetchAssetsForScene(Scene scene) {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        resourceService.load(new String[] {scene.getBackgroundImagePath()}, Texture.class,
+                LoadPriority.SOON);
+        if (scene.getAnimationImagePaths() != null) {
+            resourceService.load(scene.getAnimationImagePaths(), Texture.class, LoadPriority.SOON);
+        }
+    }
+
+    /**
+     * Starts streaming in the assets for a scene which is coming up, so it doesn't have to wait
+     * for them when it is loaded.
+     * @param scene The upcoming scene
+     */
+    protected void prefetchAssetsForScene(AnimatedScene scene) {
+        ServiceLocator.getResourceService().load(new String[] {scene.getAtlasFilePath()},
+                TextureAtlas.class, LoadPriority.SOON);
     }
 
     /**
@@ -323,11 +366,33 @@ public abstract class Cutscene extends Component {
      */
     protected abstract void setupScenes();
 
+    /**
+     * Prefetches the assets of the screen which follows the cutscene, while its last scene plays.
+     */
+    protected void prefetchNextScreen() {
+        CutsceneScreen screen = ServiceLocator.getCutsceneScreen();
+        if (screen != null) {
+            screen.prefetchNextScreen();
+        }
+    }
+
     /**
      * Abstract method to load the assets required for the cutscene. This should be implemented by subclasses.
      */
     protected abstract void loadAssets();
 
+    /**
+     * Loads the assets of a scope of the asset manifest, for cutscenes whose assets are declared
+     * there. The scope is released when the cutscene is disposed.
+     * @param scopeName name of the scope in the asset manifest
+     */
+    protected void loadAssetScope(String scopeName) {
+        assetScope = AssetManifest.get().getScope(scopeName);
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        resourceService.loadScope(assetScope, LoadPriority.CRITICAL);
+        resourceService.loadAll();
+    }
+
     /**
      * Starts the cutscene by creating the necessary entities.
      */
@@ -349,7 +414,12 @@ public abstract class Cutscene extends Component {
      */
     protected void unloadAssets() {
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(textures);
+        if (textures != null) {
+            resourceService.unloadAssets(textures);
+        }
+        if (assetScope != null) {
+            resourceService.unloadScope(assetScope);
+        }
     }
 
     /**
@@ -432,6 +502,14 @@ public abstract class Cutscene extends Component {
         this.images = images;
     }
 
+    /**
+     * Gets the scope of the asset manifest loaded for the cutscene
+     * @return the scope, or null if the cutscene's assets aren't declared in the manifest
+     */
+    public AssetManifest.Scope getAssetScope() {
+        return assetScope;
+    }
+
     /**
      * Gets the animations for the cutscene
      * @return the animations for the cutscenes
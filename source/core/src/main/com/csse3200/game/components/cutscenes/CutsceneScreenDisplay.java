@@ -1,6 +1,5 @@
 package com.csse3200.game.components.cutscenes;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -55,7 +54,7 @@ public class CutsceneScreenDisplay extends UIComponent {
         setupTextDisplay();
 
         if (skin == null) {
-            skin = new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
+            skin = getDefaultSkin();
         }
 
         // Positioning the table at the bottom-right of the screen
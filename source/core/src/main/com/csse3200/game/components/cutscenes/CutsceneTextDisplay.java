@@ -74,7 +74,7 @@ public class CutsceneTextDisplay extends UIComponent {
         stack.add(textboxImage);
 
         // Set up the label for text display
-        BitmapFont defaultFont = new BitmapFont();
+        BitmapFont defaultFont = getDefaultFont();
         Label.LabelStyle labelStyle = new Label.LabelStyle(defaultFont, Color.BLACK);
         label = new Label("Press Enter to continue", labelStyle);
         label.setFontScale(3.0f);
@@ -3,8 +3,6 @@ package com.csse3200.game.components.cutscenes;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.cutscenes.scenes.Scene;
-import com.csse3200.game.services.ResourceService;
-import com.csse3200.game.services.ServiceLocator;
 
 public class MoralDay4Cutscene extends Cutscene {
 
@@ -99,27 +97,7 @@ public class MoralDay4Cutscene extends Cutscene {
 
     @Override
     protected void loadAssets() {
-        // Load the background images for the cutscene
-        textures = new String[] {
-                DAY2_SCENE_PATH,
-        };
-
-        animations = new String[] {};
-
-        images = new String[] {
-                MAFIA_IMAGE_PATH,
-                RACOON_IMAGE_PATH,
-                ICON_IMAGE_PATH,
-                "images/Cutscenes/moral_icons/yes_ico.png",
-                "images/Cutscenes/moral_icons/no_ico.png"
-        };
-
-        // Get the resource service to load assets
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(textures);
-        resourceService.loadTextures(images);
-        resourceService.loadTextureAtlases(animations);
-        resourceService.loadAll();
+        loadAssetScope("moral4");
     }
 
     @Override
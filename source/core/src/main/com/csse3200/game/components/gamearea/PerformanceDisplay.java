@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.rendering.GpuMemoryTracker;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -28,6 +29,9 @@ public class PerformanceDisplay extends UIComponent {
   @Override
   public void draw(SpriteBatch batch) {
     if (ServiceLocator.getRenderService().getDebug().getActive()) {
+      if (ServiceLocator.getRenderService().shouldSkipNonCriticalTick()) {
+        return;
+      }
       profileLabel.setVisible(true);
       profileLabel.setText(getStats());
 
@@ -45,7 +49,10 @@ public class PerformanceDisplay extends UIComponent {
     message =
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000))
+            .concat(String.format("GPU: %.1f MB (%d)%n",
+                GpuMemoryTracker.toMegabytes(GpuMemoryTracker.getTotalBytes()),
+                GpuMemoryTracker.getLiveCount()));
     return message;
   }
 
@@ -4,7 +4,6 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.csse3200.game.entities.configs.CustomerPersonalityConfig;
 import com.csse3200.game.entities.configs.NPCConfigs;
-import com.csse3200.game.files.FileLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,8 +26,6 @@ import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.Timer.Task;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 import java.util.ArrayList;
 
 public class EndDayDisplay extends UIComponent {
@@ -52,7 +49,7 @@ public class EndDayDisplay extends UIComponent {
     private static final int STARTING_GOLD = ServiceLocator.getLevelService().getCurrGold();
     private static final String POINT_IMAGE_PATH = "images/point.png";
     private static final String TINY_5 = "flat-earth/skin/fonts/Tiny5-Regular.ttf";
-    private static final NPCConfigs configs = FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+    private static final NPCConfigs configs = ServiceLocator.getConfigService().getNPCs();
 
     /**
      * Constructor for the EndDayDisplay class.
@@ -178,12 +175,7 @@ public class EndDayDisplay extends UIComponent {
         Drawable coinDrawable = new TextureRegionDrawable(new TextureRegion(coinTexture));
         Image coinImage = new Image(coinDrawable);
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal(TINY_5));
-        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
-        parameter.size = 300;
-        parameter.gamma = 1.8f;
-        BitmapFont font = generator.generateFont(parameter);
-        generator.dispose();
+        BitmapFont font = getFont(TINY_5, 300, 1.8f);
         Label.LabelStyle style = new Label.LabelStyle(font, new Color(1.0f, 0.9f, 0.0f, 1.0f));
         goldLabel = new Label("0", style);
 
@@ -3,23 +3,35 @@ package com.csse3200.game.components.maingame;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.csse3200.game.services.DayNightService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Displays the background for the main game area.
+ *
+ * <p>The background changes with the time of day. Only a few keyframes of the day are loaded, and
+ * the background is a crossfade between the two either side of the current time, so it changes
+ * smoothly rather than every few seconds. Stepped mode instead loads every frame and shows them one
+ * at a time, as the background used to, for comparing against the crossfade.
  */
 public class GameBackgroundDisplay extends UIComponent {
     private Table table;
     private static final Logger logger = LoggerFactory.getLogger(GameBackgroundDisplay.class);
     protected float timePerFrame = 300/40f; //seconds spent on each frame (assuming
     // 5min day)
-    private boolean lastFrame;
     protected long timeSinceLastUpdate;
     protected String currentImage;
     protected int currentImageIndex;
@@ -60,21 +72,77 @@ public class GameBackgroundDisplay extends UIComponent {
             "images/background_images/18.0.png",
             "images/background_images/18.5.png"};
 
+    /**
+     * Frames of BACKGROUND_TEXTURES which are crossfaded between. These were chosen so that the
+     * crossfade is never further from the frame it replaces than neighbouring frames are from each
+     * other.
+     */
+    protected static final int[] KEYFRAMES = {0, 7, 20, 25, 30, 35};
+    private static final int LAST_FRAME = BACKGROUND_TEXTURES.length - 1;
+    private static boolean stepped = false;
 
-
+    private final Image baseImage = new Image();
+    private final Image blendImage = new Image();
+    private final Map<String, TextureRegionDrawable> drawables = new HashMap<>();
+    private String blendTarget;
+    private float blend;
 
     public GameBackgroundDisplay() {
         super();
-        this.lastFrame = false;
-        this.currentImage = "images/background_images/1.0.png";
+        this.currentImage = BACKGROUND_TEXTURES[0];
         this.currentImageIndex = 0;
         this.timeSinceLastUpdate = ServiceLocator.getTimeSource().getTime();
     }
 
+    /**
+     * Set whether every frame is loaded and shown in turn instead of crossfading between keyframes.
+     * Must be set before the screen loads its assets.
+     * @param steppedFrames true to show every frame without blending
+     */
+    public static void setStepped(boolean steppedFrames) {
+        stepped = steppedFrames;
+    }
+
+    /**
+     * @return true if every frame is shown in turn instead of crossfading between keyframes
+     */
+    public static boolean isStepped() {
+        return stepped;
+    }
+
+    /**
+     * Gets the background textures to load for the current mode.
+     * @return texture paths
+     */
+    public static String[] getBackgroundTextures() {
+        if (stepped) {
+            return BACKGROUND_TEXTURES;
+        }
+        String[] textures = new String[KEYFRAMES.length];
+        for (int i = 0; i < KEYFRAMES.length; i++) {
+            textures[i] = BACKGROUND_TEXTURES[KEYFRAMES[i]];
+        }
+        return textures;
+    }
+
     public String getCurrentImage() {
         return this.currentImage;
     }
 
+    /**
+     * @return image being faded in over the current image, or null if there is none
+     */
+    public String getBlendTarget() {
+        return blendTarget;
+    }
+
+    /**
+     * @return opacity of the blend target over the current image, from 0 to 1
+     */
+    public float getBlend() {
+        return blend;
+    }
+
     public Table getTable() {
         return this.table;
     }
@@ -92,18 +160,28 @@ public class GameBackgroundDisplay extends UIComponent {
         table.setVisible(true);
         stage.addActor(table);
 
+        Stack layers = new Stack(baseImage, blendImage);
+        table.add(layers).expand().fill();
         setBackground();
     }
 
     /**
-     * sets the background with the image currently stored in currentImage member variable
+     * sets the background with the image currently stored in currentImage member variable, and
+     * the image being faded in over it
      */
     public void setBackground() {
-        Texture texture = ServiceLocator.getResourceService().getAsset(currentImage,
-                Texture.class);
-        Image image = new Image(texture);
-        image.setFillParent(true);
-        table.add(image);
+        baseImage.setDrawable(getDrawable(currentImage));
+        if (blendTarget == null) {
+            blendImage.setVisible(false);
+        } else {
+            blendImage.setDrawable(getDrawable(blendTarget));
+            blendImage.setVisible(true);
+        }
+    }
+
+    private TextureRegionDrawable getDrawable(String path) {
+        return drawables.computeIfAbsent(path, p -> new TextureRegionDrawable(new TextureRegion(
+                ServiceLocator.getResourceService().getAsset(p, Texture.class))));
     }
 
     @Override
@@ -117,27 +195,62 @@ public class GameBackgroundDisplay extends UIComponent {
     }
 
     /**
-     * Updates the background image to the next frame in the cycle
+     * Gets how far through the day's frames the background is, following the day night cycle if
+     * there is one.
+     * @return frame position, where the whole number part is the frame index
+     */
+    protected float getFramePosition() {
+        float seconds;
+        DayNightService dayNightService = ServiceLocator.getDayNightService();
+        if (dayNightService != null) {
+            seconds = dayNightService.getDayProgress() * dayNightService.FIVE_MINUTES / 1000f;
+        } else {
+            seconds = ServiceLocator.getTimeSource().getTimeSince(timeSinceLastUpdate) / 1000f;
+        }
+        return Math.min(seconds / timePerFrame, LAST_FRAME);
+    }
+
+    /**
+     * Updates the background to the current time of day
      */
     @Override
     public void update() {
-        if (!lastFrame) {
-            long elapsedTime = ServiceLocator.getTimeSource().getTimeSince(timeSinceLastUpdate);
-            long elapsedTimeSecs = elapsedTime/1000;
-            //if time to update
-            if (elapsedTimeSecs >= this.timePerFrame) {
-                this.currentImageIndex++;
-                this.currentImage = BACKGROUND_TEXTURES[currentImageIndex];
-                this.timeSinceLastUpdate = ServiceLocator.getTimeSource().getTime();
-                table.clear(); //clears current background
-                setBackground(); //sets background to new image
-                String message = "Updated background to " + this.currentImage;
-                logger.debug(message);
-                if (currentImageIndex >= 35) {
-                    this.lastFrame = true; //stops updating when hits last frame of cycle
-                }
+        if (ServiceLocator.getRenderService().shouldSkipNonCriticalTick()) {
+            return;
+        }
+        float position = getFramePosition();
+
+        int baseIndex;
+        String target = null;
+        float targetBlend = 0f;
+        if (stepped) {
+            baseIndex = (int) position;
+        } else {
+            int segment = 0;
+            while (segment < KEYFRAMES.length - 2 && position >= KEYFRAMES[segment + 1]) {
+                segment++;
+            }
+            int from = KEYFRAMES[segment];
+            int to = KEYFRAMES[segment + 1];
+            baseIndex = from;
+            targetBlend = Math.min((position - from) / (to - from), 1f);
+            if (targetBlend > 0f) {
+                target = BACKGROUND_TEXTURES[to];
             }
         }
+
+        // Only the opacity changes between keyframes, so the images are only swapped on a new one
+        if (baseIndex != currentImageIndex || !Objects.equals(target, blendTarget)) {
+            currentImageIndex = baseIndex;
+            currentImage = BACKGROUND_TEXTURES[baseIndex];
+            blendTarget = target;
+            setBackground();
+            logger.debug("Updated background to {}", currentImage);
+        }
+        if (blend != targetBlend) {
+            blend = targetBlend;
+            blendImage.getColor().a = blend;
+        }
     }
 
 }
@@ -0,0 +1,62 @@
+package com.csse3200.game.components.maingame;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.ui.UIComponent;
+
+/**
+ * Displays how far through loading the main game's assets are, while they stream in.
+ */
+public class LoadingDisplay extends UIComponent {
+    private Table table;
+    private Label label;
+    private int shownProgress = -1;
+
+    @Override
+    public void create() {
+        super.create();
+        table = new Table();
+        table.setFillParent(true);
+        label = new Label("", skin);
+        table.add(label);
+        stage.addActor(table);
+        update();
+    }
+
+    /**
+     * Updates the progress shown, only changing the label when it has moved on.
+     */
+    @Override
+    public void update() {
+        int progress = ServiceLocator.getResourceService().getProgress();
+        if (progress != shownProgress) {
+            shownProgress = progress;
+            label.setText("Loading... " + progress + "%");
+        }
+    }
+
+    public int getShownProgress() {
+        return shownProgress;
+    }
+
+    @Override
+    protected void draw(SpriteBatch batch) {
+        // draw is handled by the stage
+    }
+
+    @Override
+    public void setStage(Stage mock) {
+        // setStage is handled
+    }
+
+    @Override
+    public void dispose() {
+        if (table != null) {
+            table.remove();
+        }
+        super.dispose();
+    }
+}
@@ -7,7 +7,6 @@ import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -21,6 +20,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.csse3200.game.rendering.GpuMemoryTracker;
 import com.csse3200.game.screens.MainGameScreen;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
@@ -35,6 +35,7 @@ public class MoralDisplayTemp extends UIComponent {
     private Table layout; // Layout manager
     private boolean isVisible;
     private final MainGameScreen game;
+    private Texture backgroundTexture;
     private static final Logger logger = LoggerFactory.getLogger(EndDayDisplay.class);
 
 
@@ -56,9 +57,10 @@ public class MoralDisplayTemp extends UIComponent {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.RED);
         pixmap.fill();
-        Texture pixmapTex = new Texture(pixmap);
+        backgroundTexture = new Texture(pixmap);
+        GpuMemoryTracker.track(backgroundTexture, "MoralDisplayTemp");
         pixmap.dispose();
-        Drawable whiteBackground = new TextureRegionDrawable(new TextureRegion(pixmapTex));
+        Drawable whiteBackground = new TextureRegionDrawable(new TextureRegion(backgroundTexture));
         layout.setBackground(whiteBackground);
 
         // Load the image
@@ -78,11 +80,11 @@ public class MoralDisplayTemp extends UIComponent {
     }
 
     private void initializeUI() {
-        Label titleLabel = new Label("MORAL DILEMMA", new Label.LabelStyle(new BitmapFont(), Color.BLACK));
+        Label titleLabel = new Label("MORAL DILEMMA", new Label.LabelStyle(getDefaultFont(), Color.BLACK));
         layout.add(titleLabel).pad(10).row();
 
         // Example event labels
-        Label eventLabel = new Label("WHAT WILL YOU DO", new Label.LabelStyle(new BitmapFont(), Color.BLACK));
+        Label eventLabel = new Label("WHAT WILL YOU DO", new Label.LabelStyle(getDefaultFont(), Color.BLACK));
         layout.add(eventLabel).pad(10).row();
 
         // Customer lists
@@ -138,6 +140,16 @@ public class MoralDisplayTemp extends UIComponent {
 
     }
 
+    @Override
+    public void dispose() {
+        if (backgroundTexture != null) {
+            GpuMemoryTracker.untrack(backgroundTexture);
+            backgroundTexture.dispose();
+            backgroundTexture = null;
+        }
+        super.dispose();
+    }
+
     @Override
     public void setStage(Stage mock) {
         // do nothing
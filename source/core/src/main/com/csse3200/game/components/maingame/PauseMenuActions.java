@@ -7,7 +7,6 @@ import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.csse3200.game.services.ServiceLocator;
-import com.badlogic.gdx.Gdx;
 import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.GdxGame;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -44,7 +43,7 @@ public class PauseMenuActions extends Component {
 
     private void onSave() {
         Stage stage = ServiceLocator.getRenderService().getStage();
-        Skin skin = new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
+        Skin skin = ServiceLocator.getSkinService().getSkin();
         if (ServiceLocator.getSaveLoadService().getSaveFile().length() == 0) {
             new TextPopup("New Save File", skin, stage, game);
         }
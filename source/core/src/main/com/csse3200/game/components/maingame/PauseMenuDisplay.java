@@ -210,7 +210,7 @@ public class PauseMenuDisplay extends UIComponent {
 
         stage.addActor(table);
 
-        table.setVisible(isVisible);
+        setPanelVisible(table, isVisible);
         displayScreen();
     }
 
@@ -254,7 +254,7 @@ public class PauseMenuDisplay extends UIComponent {
      */
     public void showMenu() {
         isVisible = true;
-        table.setVisible(true);
+        setPanelVisible(table, true);
         logger.info("PAUSE GAME");
         game.pause();
 
@@ -266,7 +266,7 @@ public class PauseMenuDisplay extends UIComponent {
      */
     public void hideMenu() {
         isVisible = false;
-        table.setVisible(false);
+        setPanelVisible(table, false);
         logger.info("RESUME GAME");
         game.resume();
     }
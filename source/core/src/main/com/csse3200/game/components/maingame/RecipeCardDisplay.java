@@ -51,8 +51,8 @@ public class RecipeCardDisplay extends UIComponent {
         table.setFillParent(true);
         backgroundImage = createRecipeCardBackground();
         table.add(backgroundImage).center().expand();
-        table.setVisible(isVisible);
         stage.addActor(table);
+        setPanelVisible(table, isVisible);
 
         stage.addListener(new InputListener() {
             @Override
@@ -76,7 +76,7 @@ public class RecipeCardDisplay extends UIComponent {
         logger.info("PAUSE GAME");
         game.pause();
 
-        table.setVisible(true);
+        setPanelVisible(table, true);
     }
 
     /**
@@ -88,7 +88,7 @@ public class RecipeCardDisplay extends UIComponent {
         game.resume();
 
         if (table != null) {
-            table.setVisible(false);
+            setPanelVisible(table, false);
         }
     }
 
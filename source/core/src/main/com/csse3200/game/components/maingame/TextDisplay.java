@@ -156,7 +156,7 @@ public class TextDisplay extends UIComponent {
         stack.add(textboxImage);
 
         // Create and add the label on top of the image in the stack
-        BitmapFont defaultFont = new BitmapFont();
+        BitmapFont defaultFont = getDefaultFont();
         Label.LabelStyle labelStyle = new Label.LabelStyle(defaultFont, Color.BLACK);
         label = new Label("\n" + "Press Enter to continue", labelStyle);  // Initializing with this text
         label.setFontScale(3.0f);
@@ -192,7 +192,7 @@ public class TextDisplay extends UIComponent {
     public void setText(String text) {
 
         if (this.label == null) {
-            BitmapFont defaultFont = new BitmapFont();
+            BitmapFont defaultFont = getDefaultFont();
             Label.LabelStyle labelStyle = new Label.LabelStyle(defaultFont, Color.BLACK);
             this.label = new Label("", labelStyle);
         }
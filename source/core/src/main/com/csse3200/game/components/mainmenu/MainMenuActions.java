@@ -1,6 +1,5 @@
 package com.csse3200.game.components.mainmenu;
 
-import com.badlogic.gdx.Gdx;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.tutorial.Confirmationpopup;
@@ -41,7 +40,7 @@ public class MainMenuActions extends Component {
   private void onStart() {
     logger.info("Start game");
     Stage stage = ServiceLocator.getRenderService().getStage();
-    Skin skin = new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
+    Skin skin = ServiceLocator.getSkinService().getSkin();
     ServiceLocator.getMainMenuDisplay().stopBackgroundTasks();
     new Confirmationpopup("Game Tuto Confirm", skin, stage, game);
     LocalDateTime currentDateTime = LocalDateTime.now();
@@ -1,7 +1,6 @@
 package com.csse3200.game.components.mainmenu;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -13,6 +12,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Timer;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -51,14 +51,12 @@ public class MainMenuDisplay extends UIComponent {
     private Timer.Task clearStage;
 
     private static final String BACKGROUND_MUSIC = "sounds/Main_Menu_BGM.mp3";
-    private static final String[] SCREEN_MUSIC = {BACKGROUND_MUSIC};
+    private static final float MUSIC_FADE_SECONDS = 1f;
 
     private Random rand = new Random(); // Reuse the Random instance as suggested
 
     @Override
     public void create() {
-        ServiceLocator.getResourceService().loadMusic(SCREEN_MUSIC);
-        ServiceLocator.getResourceService().loadAll();
         ServiceLocator.registerMainMenuDisplay(this);
         super.create();
 
@@ -209,10 +207,17 @@ public class MainMenuDisplay extends UIComponent {
     }
 
     private void playMusic() {
-        Music music = ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class);
-        music.setLooping(true);
-        music.setVolume(0.05f);
-        music.play();
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.playMusic(BACKGROUND_MUSIC, 0.05f, MUSIC_FADE_SECONDS);
+        }
+    }
+
+    private void stopMusic() {
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null && BACKGROUND_MUSIC.equals(audioService.getMusicId())) {
+            audioService.stopMusic(MUSIC_FADE_SECONDS);
+        }
     }
 
     @Override
@@ -229,8 +234,7 @@ public class MainMenuDisplay extends UIComponent {
     }
 
     public void stopBackgroundTasks() {
-        ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class).stop();
-        ServiceLocator.getResourceService().unloadAssets(SCREEN_MUSIC);
+        stopMusic();
 
         if (animalMoveTask != null) {
             animalMoveTask.cancel();
@@ -244,7 +248,6 @@ public class MainMenuDisplay extends UIComponent {
     public void dispose() {
         super.dispose();
         table.clear();
-        ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class).stop();
-        ServiceLocator.getResourceService().unloadAssets(SCREEN_MUSIC);
+        stopMusic();
     }
 }
@@ -30,6 +30,18 @@ public class Decision {
         this.decisionMade = MoralEnum.Value.Pending;
     }
 
+    /**
+     * Constructs a copy of a decision, e.g. to save it while the original can still be changed.
+     *
+     * @param decision the decision to copy
+     */
+    public Decision(Decision decision) {
+        this.statement = decision.statement;
+        this.isGood = decision.isGood;
+        this.decisionPoints = decision.decisionPoints;
+        this.decisionMade = decision.decisionMade;
+    }
+
     /**
      * Returns the statement of the decision.
      *
@@ -53,6 +65,15 @@ public class Decision {
         }
     }
 
+    /**
+     * Returns whether the decision has not been made yet.
+     *
+     * @return true if the decision is still pending
+     */
+    public boolean isPending() {
+        return this.decisionMade == MoralEnum.Value.Pending;
+    }
+
     /**
      * Returns the points associated with the decision.
      *
@@ -66,6 +87,16 @@ public class Decision {
         }
     }
 
+    /**
+     * Returns the points the decision was constructed or set with, which unlike
+     * {@link #getDecisionPoints()} aren't negated for bad decisions.
+     *
+     * @return the decision points as stored
+     */
+    public int getRawDecisionPoints() {
+        return this.decisionPoints;
+    }
+
     /**
      * Returns whether the decision is good.
      *
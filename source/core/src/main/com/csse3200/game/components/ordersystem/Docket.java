@@ -7,6 +7,8 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SkinService;
 import com.csse3200.game.ui.UIComponent;
 
 /**
@@ -14,19 +16,21 @@ import com.csse3200.game.ui.UIComponent;
  */
 public class Docket extends UIComponent {
     private Skin docketSkin;
+    private static final String DOCKET_ATLAS = "images/ordersystem/DocketStatusIndicator.atlas";
     private static final String[] textureNameArray = {"fresh_docket", "mild_docket", "old_docket", "expired_docket"};
     private Image docketImage;
     private int cellHash;
     private final long startTime;
     long totalRecipeTime;
     private boolean isPaused = false;
+    // Index into textureNameArray of the drawable shown, or -1 if none has been set from the skin
+    private int textureIndex = -1;
 
     /**
      * Constructs a docketImage component and initialises its skin.
      */
     public Docket(long totalRecipeTime) {
         // Initialize components here
-        this.docketSkin = new Skin();
         this.docketImage = new Image();
         this.startTime = TimeUtils.millis();
         this.totalRecipeTime = totalRecipeTime / 1000;
@@ -34,14 +38,22 @@ public class Docket extends UIComponent {
     }
 
     /**
-     * Sets up UI skin by loading a texture atlas and
-     * setting a drawable.
+     * Sets up UI skin from the docket status atlas and
+     * sets a drawable. The atlas skin is shared by all dockets
+     * when the skin service is available.
      */
     private void setupSkin() {
-        if (Gdx.files != null) {
-            TextureAtlas docketAtlas = new TextureAtlas(Gdx.files.internal("images/ordersystem/DocketStatusIndicator.atlas"));
-            docketSkin.addRegions(docketAtlas);
-            docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[0]));
+        SkinService skinService = ServiceLocator.getSkinService();
+        if (skinService != null) {
+            docketSkin = skinService.getAtlasSkin(DOCKET_ATLAS);
+            setTexture(0);
+        } else {
+            docketSkin = new Skin();
+            if (Gdx.files != null) {
+                TextureAtlas docketAtlas = new TextureAtlas(Gdx.files.internal(DOCKET_ATLAS));
+                docketSkin.addRegions(docketAtlas);
+                setTexture(0);
+            }
         }
     }
 
@@ -51,6 +63,7 @@ public class Docket extends UIComponent {
      */
     public void setSkin(Skin skin) {
         this.docketSkin = skin;
+        textureIndex = -1;
     }
 
     /**
@@ -64,6 +77,7 @@ public class Docket extends UIComponent {
      */
     public void setDocketImage(Image docketImage) {
         this.docketImage = docketImage;
+        textureIndex = -1;
     }
 
     /**
@@ -143,23 +157,33 @@ public class Docket extends UIComponent {
     /**
      * Updates the texture of the docketImage based on the remaining time before it disposes.
      * As the remaining time decreases, the texture changes to indicate the time state
-     * of the docketImage.
+     * of the docketImage. The drawable is only swapped when the time state changes.
      * @param remainingTimeSecs the remaining time in seconds
+     * @return true if the docketImage's drawable changed
      */
-    public void updateDocketTexture(double remainingTimeSecs) {
+    public boolean updateDocketTexture(double remainingTimeSecs) {
         if (isPaused){
-            return;
+            return false;
         }
 
         if (remainingTimeSecs >= this.totalRecipeTime * 0.6) {
-            docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[0]));
+            return setTexture(0);
         } else if (remainingTimeSecs >= this.totalRecipeTime * 0.3) {
-            docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[1]));
+            return setTexture(1);
         } else if (remainingTimeSecs > 0) {
-            docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[2]));
+            return setTexture(2);
         } else {
-            docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[3]));
+            return setTexture(3);
+        }
+    }
+
+    private boolean setTexture(int index) {
+        if (index == textureIndex) {
+            return false;
         }
+        docketImage.setDrawable(docketSkin.getDrawable(textureNameArray[index]));
+        textureIndex = index;
+        return true;
     }
 
     /**
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.csse3200.game.rendering.HudLayer;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -49,8 +50,9 @@ public class DocketLineDisplay extends UIComponent {
 		pinLine.setPosition(Gdx.graphics.getWidth() * 0f, Gdx.graphics.getHeight() * 0.938f);
 
 		table.add(pinLine);
-		stage.addActor(table);
-		stage.addActor(pinLine);
+		// The pin line never changes, so it is drawn from a cache
+		addToHud(table, HudLayer.STATIC);
+		addToHud(pinLine, HudLayer.STATIC);
 		setZIndexToActors();
 	}
 
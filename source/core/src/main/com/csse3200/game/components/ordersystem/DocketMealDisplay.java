@@ -2,24 +2,6 @@ package com.csse3200.game.components.ordersystem;
 
 
 public class DocketMealDisplay {
-    private static final String[] mealDocketTextures = {
-            "images/ordersystem/salad_docket.png",
-            "images/ordersystem/fruit_salad_docket.png",
-            "images/ordersystem/steak_meal_docket.png",
-            "images/ordersystem/acai_bowl_docket.png",
-            "images/ordersystem/banana_split_docket.png",
-            "images/ordersystem/salad_docket_vertical.png",
-            "images/ordersystem/fruit_salad_docket_vertical.png",
-            "images/ordersystem/steak_meal_docket_vertical.png",
-            "images/ordersystem/acai_bowl_docket_vertical.png",
-            "images/ordersystem/banana_split_docket_vertical.png"
-    };
-
-    public static String[] getMealDocketTextures() {
-        return mealDocketTextures;
-    }
-
-
     public String getMealImage(String mealName, String type) {
         String mealImage;
         if(type.equalsIgnoreCase("vertical")){
@@ -15,7 +15,6 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Scaling;
-import com.badlogic.gdx.utils.SnapshotArray;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
@@ -62,9 +61,13 @@ public class MainGameOrderTicketDisplay extends UIComponent {
     private static final ArrayList<Image> imageArrayList = new ArrayList<>();
     private static final ArrayList<String> stringArrayList = new ArrayList<>();
 
-    private static final Map<String, Texture> textureMap = new HashMap<>();
+    private final Map<String, TextureRegionDrawable> drawableMap = new HashMap<>();
+    private static final Map<Label, Long> displayedSecondsMap = new HashMap<>();
 
     private final String TIMER = "Timer: ";
+    private final StringBuilder timerText = new StringBuilder();
+    private boolean layoutDirty = true;
+    private boolean bigTicketDirty = true;
 
     /**
      * Constructs an MainGameOrderTicketDisplay instance
@@ -76,7 +79,6 @@ public class MainGameOrderTicketDisplay extends UIComponent {
 
         playerService.getEvents().addListener("playerCreated",
                 (Entity player) -> combatStatsComponent = player.getComponent(CombatStatsComponent.class));
-        loadTextures();
     }
 
     /**
@@ -184,12 +186,6 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         return false;
     }
 
-    private void loadTextures() {
-        for(String path : DocketMealDisplay.getMealDocketTextures()){
-            textureMap.put(path, new Texture(Gdx.files.local(path)));
-        }
-    }
-
     /**
      * Adds a new order ticket to the display and sets its initial position and size.
      * Initialises the background, labels, and countdown timer for the order.
@@ -221,6 +217,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         table.setBackground(background.getImage().getDrawable());
 
         String orderNumStr = "Order" + " " + ++orderNumb;
+        table.setUserObject(String.valueOf(orderNumb));
         Label orderNumbLabel = new Label(orderNumStr, skin);
         table.add(orderNumbLabel).padLeft(10f).row();
 
@@ -229,8 +226,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
 
         String s=getRecipe().getName();
         stringArrayList.add(s);
-        Texture texture= textureMap.get(mealDisplay.getMealImage(s,"vertical"));
-        mealImage=new Image(new TextureRegionDrawable(texture));
+        mealImage=new Image(getMealDrawable(mealDisplay.getMealImage(s,"vertical")));
         imageArrayList.add(mealImage);
         table.add(mealImage).row();
 
@@ -248,7 +244,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         ServiceLocator.getTicketDetails().onUpdateBigTicket(orderNumber, mealName, timeLeft);
 
         stage.addActor(table);
-        updateDocketSizes();
+        layoutDirty = true;
 
         table.setZIndex((int)getZIndex());
         printOrderList();
@@ -316,8 +312,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         String firstString = stringArrayList.removeFirst();
         stringArrayList.add(firstString);
 
-        updateDocketPositions();
-        updateDocketSizes();
+        layoutDirty = true;
     }
 
 
@@ -334,6 +329,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         table.clear();
         table.remove();
         docket.dispose();
+        displayedSecondsMap.remove(countdownLabelArrayList.get(i));
         tableArrayList.remove(i);
         backgroundArrayList.remove(i);
         startTimeArrayList.remove(i);
@@ -341,7 +337,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         recipeTimeArrayList.remove(i);
         stringArrayList.remove(i);
         imageArrayList.remove(i);
-
+        layoutDirty = true;
     }
 
     /**
@@ -374,8 +370,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         String lastString = stringArrayList.removeLast();
         stringArrayList.addFirst(lastString);
 
-        updateDocketPositions();
-        updateDocketSizes();
+        layoutDirty = true;
 
         // logger.info("Docket positions updated after right shift");
     }
@@ -411,6 +406,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         float yPosEnlarged = (graphicsHeight * 0.938f) - (enlargedDocketHeight - 15);
         float yPosNormal = (graphicsHeight * 0.938f) - (normalDocketHeight * 0.8f - 15);
         float leftHandSideDistance = graphicsWidth * 0.105f;
+        bigTicketDirty = true;
 
         for (int i = 0; i < tableArrayList.size(); i++) {
             Table table = tableArrayList.get(i);
@@ -456,8 +452,26 @@ public class MainGameOrderTicketDisplay extends UIComponent {
     private void updateMealImage(Table table, boolean isLastDocket, String mealId) {
         mealImage = (Image) table.getChildren().get(2);
         String orientation = isLastDocket ? "vertical" : "horizontal";
-        Texture texture = textureMap.get(mealDisplay.getMealImage(mealId, orientation));
-        mealImage.setDrawable(new TextureRegionDrawable(texture));
+        TextureRegionDrawable drawable = getMealDrawable(mealDisplay.getMealImage(mealId, orientation));
+        if (mealImage.getDrawable() != drawable) {
+            mealImage.setDrawable(drawable);
+        }
+    }
+
+    /**
+     * Gets the shared drawable for a meal docket texture, creating it the first time it is used.
+     * The textures themselves are preloaded by the game area.
+     * @param path: path of the meal docket texture
+     * @return the drawable for the texture
+     */
+    private TextureRegionDrawable getMealDrawable(String path) {
+        TextureRegionDrawable drawable = drawableMap.get(path);
+        if (drawable == null) {
+            drawable = new TextureRegionDrawable(
+                    ServiceLocator.getResourceService().getAsset(path, Texture.class));
+            drawableMap.put(path, drawable);
+        }
+        return drawable;
     }
 
     /**
@@ -505,6 +519,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
      */
     @Override
     public void update() {
+        layoutIfDirty();
         if (isPaused) {
             return;
         }
@@ -518,20 +533,59 @@ public class MainGameOrderTicketDisplay extends UIComponent {
             long remainingTime = recipeTimeArrayList.get(i) - elapsedTime;
 
             if (remainingTime > 0) {
-                currCountdown.setText(TIMER + (remainingTime / 1000));
-                currBackground.updateDocketTexture((double) remainingTime / 1000);
-                currTable.setBackground(currBackground.getImage().getDrawable());
+                updateCountdown(currCountdown, remainingTime / 1000, i == tableArrayList.size() - 1);
+                if (currBackground.updateDocketTexture((double) remainingTime / 1000)) {
+                    currTable.setBackground(currBackground.getImage().getDrawable());
+                }
             } else {
                 logger.info("Remaining time is 0");
                 stageDispose(currBackground, currTable, i);
             }
         }
-        if (!tableArrayList.isEmpty()) {
-            Table lastTable = tableArrayList.getLast();
-            updateBigTicketInfo(lastTable);
+        // Lay out again straight away if any dockets ran out
+        layoutIfDirty();
+        if (bigTicketDirty && !tableArrayList.isEmpty()) {
+            updateBigTicketInfo();
+        }
+    }
+
+    /**
+     * Lays the dockets out again on the next update, once the screen has been resized.
+     */
+    public void resize() {
+        layoutDirty = true;
+    }
+
+    /**
+     * Updates the docket positions and sizes if dockets have been added, removed or shifted, or
+     * the screen has been resized, since they were last laid out.
+     */
+    private void layoutIfDirty() {
+        if (layoutDirty) {
+            updateDocketPositions();
+            updateDocketSizes();
+            layoutDirty = false;
+        }
+    }
+
+    /**
+     * Updates a countdown label, only re-formatting its text when the displayed second changes
+     * @param countdown: the countdown label to update
+     * @param seconds: the remaining time in seconds
+     * @param isBigTicket: a flag to check if the label belongs to the big ticket
+     */
+    private void updateCountdown(Label countdown, long seconds, boolean isBigTicket) {
+        Long displayedSeconds = displayedSecondsMap.get(countdown);
+        if (displayedSeconds != null && displayedSeconds == seconds) {
+            return;
+        }
+        displayedSecondsMap.put(countdown, seconds);
+        timerText.setLength(0);
+        timerText.append(TIMER).append(seconds);
+        countdown.setText(timerText);
+        if (isBigTicket) {
+            bigTicketDirty = true;
         }
-        updateDocketPositions();
-        updateDocketSizes();
     }
 
     /**
@@ -556,31 +610,18 @@ public class MainGameOrderTicketDisplay extends UIComponent {
     /**
      * Updates the details of the current info from the big ticket. It gets the order, timer and meal as string values
      * and calls another function to save these values elsewhere.
-     * @param bigTicket The current ticket being prioritised by the user
-     *
      */
-    private void updateBigTicketInfo(Table bigTicket) {
-
-        SnapshotArray<Actor> children = bigTicket.getChildren();
-        String orderNum = "";
-        String meal = "";
-        String timeLeft = "";
-        boolean ingredientBool = false;
-        for (int i = 0; i < children.size; i++) {
-            Actor actor = children.get(i);
-            if (actor instanceof Label label) {
-                String text = label.getText().toString();
-                if (i == 0) {
-                    orderNum = text.replace("Order ", "");
-                } else if (text.startsWith("Timer:")) {
-                    timeLeft = text.replace(TIMER, "");
-                } else if (!ingredientBool) { // only handles the ingredient meal
-                        meal = text;
-                        ingredientBool = true;
-                }
-            }
+    private void updateBigTicketInfo() {
+        int index = tableArrayList.size() - 1;
+        Long seconds = displayedSecondsMap.get(countdownLabelArrayList.get(index));
+        if (seconds == null) {
+            // Countdown hasn't been shown yet, the details were set when the docket was added
+            return;
         }
-        ServiceLocator.getTicketDetails().onUpdateBigTicket(orderNum, meal, timeLeft);
+        String orderNum = String.valueOf(tableArrayList.get(index).getUserObject());
+        String meal = stringArrayList.get(index);
+        ServiceLocator.getTicketDetails().onUpdateBigTicket(orderNum, meal, String.valueOf(seconds));
+        bigTicketDirty = false;
     }
 
     /**
@@ -635,6 +676,7 @@ public class MainGameOrderTicketDisplay extends UIComponent {
         countdownLabelArrayList.clear();
         stringArrayList.clear();
         imageArrayList.clear();
+        displayedSecondsMap.clear();
         resetOrderNumb();
         //orderNumb = 0;
         super.dispose();
@@ -0,0 +1,137 @@
+package com.csse3200.game.components.player;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.rendering.AnimationLayer;
+import com.csse3200.game.rendering.AnimationRenderComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws the item the player is holding on top of the player animation. Each item is a small
+ * region per walk direction in a shared atlas, anchored to the current frame, so picking up an
+ * item only changes which regions are drawn instead of swapping the player's whole atlas.
+ * The regions are cropped from the item sheets by HeldItemAtlasGenerator.
+ */
+public class HeldItemOverlayComponent extends Component implements AnimationLayer {
+    public static final String HELD_ITEMS_ATLAS = "images/player/held_items.atlas";
+    private static final String ANIMATION_PREFIX = "Character_";
+    private static final String STAND_PREFIX = "Stand";
+    private static final float FRAME_SIZE = 32f;
+    private static final String[] DIRECTIONS = {
+            "Down", "Up", "Left", "Right", "DownLeft", "DownRight", "UpLeft", "UpRight"};
+
+    /**
+     * Pixel offset of the held item in each frame of each walk animation, relative to the
+     * first frame. These follow the bob of the hands up pose and are the same for every item.
+     */
+    private static final Map<String, int[][]> FRAME_OFFSETS = Map.of(
+            "Down", new int[][] {{0, 0}, {0, -1}, {0, 0}, {0, -1}},
+            "Up", new int[][] {{0, 0}, {0, 0}, {0, 0}, {0, 0}},
+            "Left", new int[][] {{0, 0}, {-1, -1}, {0, 0}, {-1, -1}},
+            "Right", new int[][] {{0, 0}, {1, -1}, {0, 0}, {1, -1}},
+            "DownLeft", new int[][] {{0, 0}, {1, 0}, {0, 0}, {1, -1}},
+            "DownRight", new int[][] {{0, 0}, {-1, 0}, {0, 0}, {-1, -1}},
+            "UpLeft", new int[][] {{0, 0}, {0, 0}, {0, 0}, {0, -1}},
+            "UpRight", new int[][] {{0, 0}, {0, 0}, {0, 0}, {0, -1}});
+    private static final int[] NO_OFFSET = {0, 0};
+
+    private final TextureAtlas atlas;
+    private final Map<String, AtlasRegion> itemRegions = new HashMap<>();
+    private final Map<String, String> animationDirections = new HashMap<>();
+    private AnimationRenderComponent animator;
+    private String item;
+
+    /**
+     * @param atlas shared atlas of held item regions, named [item]_[direction]
+     */
+    public HeldItemOverlayComponent(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    @Override
+    public void create() {
+        animator = entity.getComponent(AnimationRenderComponent.class);
+        animator.addLayer(this);
+        entity.getEvents().addListener("updateHeldItem", this::setItem);
+    }
+
+    /**
+     * Sets the item shown in the player's hands.
+     * @param item name of the item regions in the atlas, or null to show nothing
+     */
+    public void setItem(String item) {
+        this.item = item;
+        itemRegions.clear();
+        if (item == null) {
+            return;
+        }
+        for (String direction : DIRECTIONS) {
+            AtlasRegion region = atlas.findRegion(item + "_" + direction);
+            if (region != null) {
+                itemRegions.put(direction, region);
+            }
+        }
+    }
+
+    /**
+     * @return name of the item shown, or null if nothing is held
+     */
+    public String getItem() {
+        return item;
+    }
+
+    @Override
+    public void draw(SpriteBatch batch, String animation, int frameIndex, float x, float y,
+                     float width, float height) {
+        if (itemRegions.isEmpty() || animation == null) {
+            return;
+        }
+        String direction = animationDirections.computeIfAbsent(animation,
+                HeldItemOverlayComponent::getDirection);
+        AtlasRegion region = itemRegions.get(direction);
+        if (region == null) {
+            return;
+        }
+
+        int[][] offsets = FRAME_OFFSETS.get(direction);
+        int[] offset = frameIndex < offsets.length ? offsets[frameIndex] : NO_OFFSET;
+        float pixelWidth = width / FRAME_SIZE;
+        float pixelHeight = height / FRAME_SIZE;
+        batch.draw(region,
+                x + (region.offsetX + offset[0]) * pixelWidth,
+                y + (region.offsetY + offset[1]) * pixelHeight,
+                region.getRegionWidth() * pixelWidth,
+                region.getRegionHeight() * pixelHeight);
+    }
+
+    /**
+     * Gets the walk direction of a player animation, e.g. Character_StandLeft_Holding is Left.
+     * @param animation animation name
+     * @return direction
+     */
+    static String getDirection(String animation) {
+        String direction = animation;
+        if (direction.startsWith(ANIMATION_PREFIX)) {
+            direction = direction.substring(ANIMATION_PREFIX.length());
+        }
+        if (direction.endsWith(PlayerAnimationController.HOLDING_SUFFIX)) {
+            direction = direction.substring(0,
+                    direction.length() - PlayerAnimationController.HOLDING_SUFFIX.length());
+        }
+        if (direction.startsWith(STAND_PREFIX)) {
+            direction = direction.substring(STAND_PREFIX.length());
+        }
+        return direction;
+    }
+
+    @Override
+    public void dispose() {
+        if (animator != null) {
+            animator.removeLayer(this);
+        }
+    }
+}
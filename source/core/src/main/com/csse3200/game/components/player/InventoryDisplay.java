@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Stack;
+import com.csse3200.game.rendering.HudLayer;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import com.csse3200.game.components.items.ItemComponent;
@@ -24,6 +25,7 @@ public class InventoryDisplay extends UIComponent {
     private Table table;
     private final int slotSize;
     private ArrayList<Stack> slots;
+    private String[] shownTextures;
 
     /**
      * Creates an InventoryDisplay with a default background slot image and slot
@@ -59,7 +61,7 @@ public class InventoryDisplay extends UIComponent {
 
         if (entity != null) {
             // listener for when the InventoryComponent attached to this entity is updated
-            entity.getEvents().addListener("updateInventory", this::update);
+            entity.getEvents().addListener("updateInventory", this::updateDisplay);
         }
 
         addActors();
@@ -73,6 +75,7 @@ public class InventoryDisplay extends UIComponent {
         // Create table
         table = new Table();
         slots = new ArrayList<>();
+        shownTextures = new String[entity.getComponent(InventoryComponent.class).getCapacity()];
         table.bottom().left();
         table.padBottom(10f);
 
@@ -97,11 +100,13 @@ public class InventoryDisplay extends UIComponent {
                 itemPadding.add(itemImage).pad(20);
                 currentStack.add(itemPadding);
             }
+            shownTextures[i] = getShownTexture(item);
             table.add(currentStack).size(slotSize).padLeft(20);
 
         }
 
-        stage.addActor(table);
+        // Slots only change when the inventory does, so they are drawn from a cache
+        addToHud(table, HudLayer.SLOW);
     }
 
     /**
@@ -133,17 +138,37 @@ public class InventoryDisplay extends UIComponent {
                 itemPadding.add(itemImage).pad(20);
                 currentStack.add(itemPadding);
             }
+            shownTextures[i] = getShownTexture(item);
         }
 
         }
 
+    /**
+     * Gets the texture shown in a slot for an item.
+     * @param item item in the slot, or null if it is empty
+     * @return texture path, or null for an empty slot
+     */
+    private static String getShownTexture(ItemComponent item) {
+        if (item == null) {
+            return null;
+        }
+        return Objects.requireNonNullElse(item.getTexturePath(), "images/inventory_ui/null_image.png");
+    }
+
     /**
      * Updates this InventoryDisplay to reflect the current state of the InventoryComponent
-     * of this component's parent entity.
+     * of this component's parent entity. The slots are only rebuilt if an item's texture has
+     * changed since they were last shown, so this is cheap to call every frame.
      */
     @Override
     public void update() {
-        updateDisplay();
+        InventoryComponent inventory = entity.getComponent(InventoryComponent.class);
+        for (int i = 0; i < slots.size(); i++) {
+            if (!Objects.equals(shownTextures[i], getShownTexture(inventory.getItemAt(i)))) {
+                updateDisplay();
+                return;
+            }
+        }
     }
 
     @Override
@@ -1,14 +1,14 @@
 package com.csse3200.game.components.player;
 
 import com.badlogic.gdx.graphics.Texture;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.csse3200.game.rendering.RenderComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.services.HoverOverlayService;
+import com.csse3200.game.services.HoverProvider;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TextureHandle;
 
 import com.csse3200.game.components.items.IngredientComponent;
 import com.csse3200.game.components.items.ItemComponent;
@@ -32,12 +32,12 @@ import com.csse3200.game.physics.components.PhysicsComponent;
  * InventoryComponent. This component will NOT work if the entity
  * it is added to does not have a InventoryComponent.
  * The main use for this component is to show the inventories of the stations to the player.
+ * Drawing is done by the shared HoverOverlayService.
  */
-public class InventoryDisplayHoverComponent extends RenderComponent {
+public class InventoryDisplayHoverComponent extends Component implements HoverProvider {
     private ArrayList<Texture> itemImages;
-    private Texture backgroundImage;
-    private Texture selectedBackgroundImage;
-    private boolean showKeys = false;
+    private ArrayList<TextureHandle> itemHandles = new ArrayList<>();
+    private HoverOverlayService overlay;
     private boolean isMixingStation = false;
     private boolean isChoppingStation = false;
     private boolean isCollectionStation = false;
@@ -50,27 +50,21 @@ public class InventoryDisplayHoverComponent extends RenderComponent {
     private Texture combineKeyImage;
     private Texture rotateKeyImage;
     private Texture chopKeyImage;
-    private ShapeRenderer shapeRenderer;
     private Vector2 position;
     private Vector2 scale;
-    private static final float X_OFFSET = 0.2f;
-    private static final float Y_OFFSET = 1.0F;
-    private static final float SLOT_WIDTH = 0.6f;
-    private static final float SLOT_HEIGHT = 0.6f;
     private static final float KEY_WIDTH = 1.0f;
     private static final float KEY_HEIGHT = 0.3f;
 
     @Override
     public void create() {
         super.create();
-        backgroundImage = new Texture("images/inventory_ui/item_background.png");
-        selectedBackgroundImage = new Texture("images/inventory_ui/item_background_selected.png");
-        interactKeyImage = new Texture("images/inventory_ui/interact_key.png");
-        combineKeyImage = new Texture("images/inventory_ui/combine_key.png");
-        rotateKeyImage = new Texture("images/inventory_ui/rotate_key.png");
-        chopKeyImage = new Texture("images/inventory_ui/chop_key.png");
-        shapeRenderer = new ShapeRenderer();
-        ServiceLocator.getRenderService().register(this);
+        overlay = ServiceLocator.getHoverOverlayService();
+        if (overlay != null) {
+            interactKeyImage = overlay.getTexture("images/inventory_ui/interact_key.png");
+            combineKeyImage = overlay.getTexture("images/inventory_ui/combine_key.png");
+            rotateKeyImage = overlay.getTexture("images/inventory_ui/rotate_key.png");
+            chopKeyImage = overlay.getTexture("images/inventory_ui/chop_key.png");
+        }
 
         if (entity != null) {
             // listener for when the InventoryComponent attached to this entity is updated
@@ -100,21 +94,40 @@ public class InventoryDisplayHoverComponent extends RenderComponent {
      */
     private void updateImages() {
         itemImages = new ArrayList<>();
+        ArrayList<TextureHandle> newHandles = new ArrayList<>();
+        ResourceService resources = ServiceLocator.getResourceService();
 
-        if (entity != null) {
+        // If we have a basket don't preview the items
+        if (entity != null && !isBasket) {
             InventoryComponent inventoryComponent = entity.getComponent(InventoryComponent.class);
             for (ItemComponent item : inventoryComponent.getItems()) {
                 if (item != null ) {
                     String itemTexturePath = item.getTexturePath();
-                    Texture itemTexture;
                     // placeholder null image if item image cannot be found
-                    itemTexture = new Texture(Objects.requireNonNullElse(
+                    TextureHandle itemHandle = resources.acquire(Objects.requireNonNullElse(
                             itemTexturePath,
                             "images/inventory_ui/null_image.png"));
-                    itemImages.add(itemTexture);
+                    newHandles.add(itemHandle);
+                    itemImages.add(itemHandle.getTexture());
                 }
             }
         }
+
+        // release after acquiring so textures still in use aren't unloaded in between
+        releaseHandles(itemHandles);
+        itemHandles = newHandles;
+
+        if (overlay != null) {
+            overlay.setPreview(this, itemImages);
+        }
+    }
+
+    private static void releaseHandles(ArrayList<TextureHandle> handles) {
+        ResourceService resources = ServiceLocator.getResourceService();
+        for (TextureHandle handle : handles) {
+            resources.release(handle);
+        }
+        handles.clear();
     }
 
     public void updateDisplay() {
@@ -128,14 +141,18 @@ public class InventoryDisplayHoverComponent extends RenderComponent {
     private void showToolTip(ItemComponent item) {
         this.currentItem = item;
         this.hasItem = (item != null);
-        this.showKeys = true;
+        if (overlay != null) {
+            overlay.focus(this);
+        }
     }
 
     /**
      * Sets this component to hide keybind tooltip icons
      */
     private void hideToolTip() {
-        this.showKeys = false;
+        if (overlay != null) {
+            overlay.unfocus(this);
+        }
     }
 
     private boolean showChoppingKey() {
@@ -205,99 +222,61 @@ public class InventoryDisplayHoverComponent extends RenderComponent {
         return true;
     }
 
+    /**
+     * Draws the key tooltips for the interactions that can currently be done.
+     * Only called by the overlay while the player is focused on this entity.
+     * @param batch The SpriteBatch used for drawing
+     */
     @Override
-    public void draw(SpriteBatch batch)  {
-        if (entity == null || position == null || scale == null)
-            return;
-
-        if (showKeys) {
-
-            if (showInteractKey()) {
-                batch.draw(interactKeyImage,
-                        position.x,
-                        position.y + 0.7f,
-                        KEY_WIDTH,
-                        KEY_HEIGHT
-                );
-            }
-
-            if (showChoppingKey()) {
-                batch.draw(chopKeyImage,
-                        position.x,
-                        position.y + 0.4f,
-                        KEY_WIDTH,
-                        KEY_HEIGHT
-                );
-            }
-
-            if (showRotateKey()) {
-                batch.draw(rotateKeyImage,
-                        position.x,
-                        position.y + 0.4f,
-                        KEY_WIDTH,
-                        KEY_HEIGHT
-                );
-            }
-
-            if (showCombineKey()) {
-                batch.draw(combineKeyImage,
-                        position.x,
-                        position.y + 0.1f,
-                        KEY_WIDTH,
-                        KEY_HEIGHT
-                );
-            }
+    public void drawToolTips(SpriteBatch batch) {
+        if (showInteractKey()) {
+            batch.draw(interactKeyImage,
+                    position.x,
+                    position.y + 0.7f,
+                    KEY_WIDTH,
+                    KEY_HEIGHT
+            );
         }
 
-        // If we have a basked don't draw the images
-        if (isBasket) {
-            return;
+        if (showChoppingKey()) {
+            batch.draw(chopKeyImage,
+                    position.x,
+                    position.y + 0.4f,
+                    KEY_WIDTH,
+                    KEY_HEIGHT
+            );
         }
 
-        for (int i = 0; i < itemImages.size(); i++) {
-            // draw selected background image for the next item to be taken out
-            // (if there is more than 1 item displayed)
-            if (i == itemImages.size() - 1 && itemImages.size() > 1) {
-                batch.draw(selectedBackgroundImage,
-                    position.x + X_OFFSET,
-                    position.y + (i * SLOT_HEIGHT) + Y_OFFSET,
-                    SLOT_WIDTH,
-                    SLOT_HEIGHT
-                );
-            } else {
-                batch.draw(backgroundImage,
-                    position.x + X_OFFSET,
-                    position.y + (i * SLOT_HEIGHT) + Y_OFFSET,
-                    SLOT_WIDTH,
-                    SLOT_HEIGHT
-                );
-            }
-            batch.draw(itemImages.get(i),
-                position.x + X_OFFSET + 0.1f,
-                position.y + (i * SLOT_HEIGHT) + Y_OFFSET + 0.1f,
-                SLOT_WIDTH - 0.2f,
-                SLOT_HEIGHT - 0.2f
+        if (showRotateKey()) {
+            batch.draw(rotateKeyImage,
+                    position.x,
+                    position.y + 0.4f,
+                    KEY_WIDTH,
+                    KEY_HEIGHT
             );
         }
-    }
 
-    @Override
-    public void dispose() {
-        super.dispose();
-        ServiceLocator.getRenderService().unregister(this);
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
+        if (showCombineKey()) {
+            batch.draw(combineKeyImage,
+                    position.x,
+                    position.y + 0.1f,
+                    KEY_WIDTH,
+                    KEY_HEIGHT
+            );
         }
     }
 
     @Override
-    public int getLayer() {
-        return 3; // currently overlays the player, but decreasing this to 1 makes it hide behind the stations
+    public Vector2 getHoverPosition() {
+        return position;
     }
 
     @Override
-    public void setStage(Stage mock) {
-        // This function needed to exist but not needed to be implemented
+    public void dispose() {
+        super.dispose();
+        if (overlay != null) {
+            overlay.remove(this);
+        }
+        releaseHandles(itemHandles);
     }
-
-}
\ No newline at end of file
+}
@@ -1,11 +1,11 @@
 package com.csse3200.game.components.player;
 
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.components.SensorComponent;
 
@@ -17,6 +17,7 @@ public class PlayerActions extends Component {
   private static final Vector2 MAX_SPEED = new Vector2(3f, 3f); // Metres per second
   private static final float MIN_X_POSITION = 3.52f; // Minimum X position - where the separation border is at
   private static final float MAX_X_POSITION = 15.1f; // Maximum X position - where the right border is at
+  private static final String ATTACK_SOUND = "sounds/Impact4.ogg";
   private PhysicsComponent physicsComponent;
   private Vector2 walkDirection = Vector2.Zero.cpy();
   private boolean moving = false;
@@ -31,6 +32,10 @@ public class PlayerActions extends Component {
     sensor = entity.getComponent(SensorComponent.class);
     playerInventory = entity.getComponent(InventoryComponent.class);
     displayInventory = entity.getComponent(InventoryDisplay.class);
+    AudioService audioService = ServiceLocator.getAudioService();
+    if (audioService != null) {
+      audioService.preload(ATTACK_SOUND);
+    }
     entity.getEvents().addListener("walk", this::walk);
     entity.getEvents().addListener("walkStop", this::stopWalking);
     entity.getEvents().addListener("attack", this::attack);
@@ -131,7 +136,9 @@ public class PlayerActions extends Component {
    * Makes the player attack.
    */
   void attack() {
-    Sound attackSound = ServiceLocator.getResourceService().getAsset("sounds/Impact4.ogg", Sound.class);
-    attackSound.play();
+    AudioService audioService = ServiceLocator.getAudioService();
+    if (audioService != null) {
+      audioService.play(ATTACK_SOUND);
+    }
   }
 }
@@ -58,25 +58,25 @@ public class PlayerItemSpriteManager extends Component {
                 handleFishAnimation((IngredientComponent) item);
                 break;
             case ItemType.ACAIBOWL:
-                triggerAnimation("updateAnimationAcaiBowl");
+                triggerHeldItem("AcaiBowl");
                 break;
             case ItemType.BANANASPLIT:
-                triggerAnimation("updateAnimationBananaSplit");
+                triggerHeldItem("BananaSplit");
                 break;
             case ItemType.FRUITSALAD:
-                triggerAnimation("updateAnimationFruitSalad");
+                triggerHeldItem("FruitSalad");
                 break;
             case ItemType.SALAD:
-                triggerAnimation("updateAnimationSalad");
+                triggerHeldItem("Salad");
                 break;
             case ItemType.STEAKMEAL:
-                triggerAnimation("updateAnimationSteak");
+                triggerHeldItem("Steak");
                 break;
             case ItemType.PLATE:
-                triggerAnimation("updateAnimationPlate");
+                triggerHeldItem("Plate");
                 break;
             case ItemType.FIREEXTINGUISHER:
-                triggerAnimation("updateAnimationFireExtinguisher");
+                triggerHeldItem("FireExtinguisher");
                 break;
             default:
                 triggerDefaultAnimation();
@@ -89,37 +89,42 @@ public class PlayerItemSpriteManager extends Component {
         String itemType = item.getItemType().toString().toLowerCase();
         String itemState = item.getItemState();
         if (itemState.equals("raw")) {
-            triggerAnimation("updateAnimationRaw" + capitalize(itemType));
+            triggerHeldItem("Raw" + capitalize(itemType));
         } else {
-            triggerAnimation("updateAnimationChopped" + capitalize(itemType));
+            triggerHeldItem("Chopped" + capitalize(itemType));
         }
     }
 
     private void handleBeefAnimation(IngredientComponent item) {
         String itemState = item.getItemState();
         if (itemState.equals("raw")) {
-            triggerAnimation("updateAnimationRawBeef");
+            triggerHeldItem("RawBeef");
         } else if (itemState.equals("cooked")) {
-            triggerAnimation("updateAnimationCookedBeef");
+            triggerHeldItem("CookedBeef");
         } else {
-            triggerAnimation("updateAnimationBurntBeef");
+            triggerHeldItem("BurntBeef");
         }
     }
 
     private void handleFishAnimation(IngredientComponent item) {
         if (item.getItemState().equals("raw")) {
-            triggerAnimation("updateAnimationRawFish");
+            triggerHeldItem("RawFish");
         } else {
-            triggerAnimation("updateAnimationCookedFish");
+            triggerHeldItem("CookedFish");
         }
     }
 
-    private void triggerAnimation(String animation) {
-        entity.getEvents().trigger(animation);
+    /**
+     * Shows the player holding an item. The regions drawn over the player are named after
+     * the item, see {@link HeldItemOverlayComponent}.
+     * @param item name of the held item, or null if nothing is held
+     */
+    private void triggerHeldItem(String item) {
+        entity.getEvents().trigger("updateHeldItem", item);
     }
 
     private void triggerDefaultAnimation() {
-        triggerAnimation("updateAnimationEmptyInventory");
+        triggerHeldItem(null);
     }
 
     private String capitalize(String str) {
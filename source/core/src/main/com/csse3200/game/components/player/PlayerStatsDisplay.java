@@ -1,6 +1,7 @@
 package com.csse3200.game.components.player;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
@@ -10,8 +11,12 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.rendering.CachedGroup;
+import com.csse3200.game.rendering.HudLayer;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
+import com.csse3200.game.ui.binding.LabelBinding;
+import com.csse3200.game.ui.binding.ObservableProperty;
 import com.badlogic.gdx.utils.Timer;
 /**
  * AN ui component for displaying player stats, e.g. health.
@@ -32,6 +37,11 @@ public class PlayerStatsDisplay extends UIComponent {
   private static Label timerLabel;
   private static long timer;
   private static PlayerStatsDisplay instance;
+  private static Timer.Task flickerTask;
+  private LabelBinding<Integer> goldBinding;
+  private LabelBinding<Integer> dayBinding;
+  private ObservableProperty<Long> timeRemaining;
+  private final Consumer<Long> timeListener = PlayerStatsDisplay::updateTime;
 
 
 
@@ -45,10 +55,19 @@ public class PlayerStatsDisplay extends UIComponent {
     addActors();
     setTimer(ServiceLocator.getDayNightService().FIVE_MINUTES);
 
-
-    entity.getEvents().addListener("updateGold", this::updatePlayerGoldUI);
-    ServiceLocator.getDayNightService().getEvents().addListener("newday", this::updateDay);
-    ServiceLocator.getDayNightService().getEvents().addListener("Second", PlayerStatsDisplay::updateTime);
+    // Gold and day labels are only updated when their values change
+    goldBinding = LabelBinding.bind(goldLabel,
+        entity.getComponent(CombatStatsComponent.class).getGoldProperty(),
+        gold -> String.format("Cash: %d", gold));
+    dayBinding = LabelBinding.bind(dayLabel,
+        ServiceLocator.getDayNightService().getDayProperty(),
+        day -> String.format("Day: %d", day));
+    // The timer also changes colour and size, so it is bound to a listener rather than a LabelBinding
+    timeRemaining = ServiceLocator.getDayNightService().getTimeRemainingProperty();
+    timeRemaining.bind(timeListener);
+    // DayNightService only counts the next second once this one has been shown
+    ServiceLocator.getDayNightService().getEvents().addListener("Second", (Long time) ->
+        ServiceLocator.getDayNightService().getEvents().trigger("callpastsecond"));
   }
 
   /**
@@ -186,8 +205,8 @@ public class PlayerStatsDisplay extends UIComponent {
     table.row();
 
 
-    // Add the table to the stage
-    stage.addActor(table);
+    // Add the table to the stage. It only changes once a second, so it is drawn from a cache
+    addToHud(table, HudLayer.SLOW);
 
   }
 
@@ -196,15 +215,6 @@ public class PlayerStatsDisplay extends UIComponent {
     // draw is handled by the stage
   }
 
-  /**
-   * Updates the player's gold on the ui.
-   * @param gold player gold
-   */
-  public void updatePlayerGoldUI(int gold) {
-    CharSequence text = String.format("Cash: %d", gold);
-    goldLabel.setText(text);
-  }
-
   /**
    * Updates the displayed current day on the UI.
    */
@@ -220,6 +230,8 @@ public class PlayerStatsDisplay extends UIComponent {
   private static void updateTimeColor() {
     long timeInSeconds = TimeUnit.MILLISECONDS.toSeconds(timer);
 
+    // Colour doesn't affect layout, so the cached HUD needs to be told about it
+    CachedGroup.invalidateCache(getTimerLabel());
     if (timeInSeconds <= 60) {
       getTimerLabel().setColor(Color.RED);  // Critical - red when below 1 minute
     } else if (timeInSeconds <= 150) {
@@ -230,8 +242,8 @@ public class PlayerStatsDisplay extends UIComponent {
   }
 
   /**
-   * Updates the remaining time for the current day on the UI. Decreases the timer by one second
-   * and updates the displayed time.
+   * Updates the remaining time for the current day on the UI. Called whenever the time remaining
+   * changes.
    */
 
   public static void updateTime(long time) {
@@ -245,30 +257,45 @@ public class PlayerStatsDisplay extends UIComponent {
       flickerTimer();
       increaseTimerSize();
     } else {
+      stopFlicker();
       resetTimerSize();  // Reset the size when the time is above 1 minute
     }
 
     // Format and update the timer label with the remaining time
     CharSequence timerText = String.format("Time Left: %n   %s", convertDigital(time));
     getTimerLabel().setText(timerText);
-
-    // Trigger other events if necessary
-    ServiceLocator.getDayNightService().getEvents().trigger("callpastsecond");
   }
 
   /**
-   * Flickers the timer by toggling its visibility every 0.5 seconds.
+   * Flickers the timer by toggling its visibility every 0.5 seconds. Only one flicker task is
+   * scheduled, however many times this is called.
    */
   private static void flickerTimer() {
-    Timer.schedule(new Timer.Task() {
+    if (flickerTask != null && flickerTask.isScheduled()) {
+      return;
+    }
+    flickerTask = Timer.schedule(new Timer.Task() {
       @Override
       public void run() {
         boolean isVisible = getTimerLabel().isVisible();
         getTimerLabel().setVisible(!isVisible);  // Toggle visibility
+        CachedGroup.invalidateCache(getTimerLabel());
       }
     }, 0, 0.5f);  // Flicker every 0.5 seconds
   }
 
+  /**
+   * Stops the timer flickering and makes sure it is left visible.
+   */
+  private static void stopFlicker() {
+    if (flickerTask != null) {
+      flickerTask.cancel();
+      flickerTask = null;
+      getTimerLabel().setVisible(true);
+      CachedGroup.invalidateCache(getTimerLabel());
+    }
+  }
+
   /**
    * Increases the size of the timer as it approaches zero.
    */
@@ -288,6 +315,13 @@ public class PlayerStatsDisplay extends UIComponent {
   @Override
   public void dispose() {
     super.dispose();
+    goldBinding.unbind();
+    dayBinding.unbind();
+    timeRemaining.unbind(timeListener);
+    if (flickerTask != null) {
+      flickerTask.cancel();
+      flickerTask = null;
+    }
     goldImage.remove();
     goldLabel.remove();
     getDayLabel().remove();
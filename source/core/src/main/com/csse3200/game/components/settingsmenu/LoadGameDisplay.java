@@ -1,21 +1,22 @@
 package com.csse3200.game.components.settingsmenu;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.csse3200.game.files.GameState;
+import com.csse3200.game.files.SaveFile;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.SaveLoadService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TextureHandle;
 import com.csse3200.game.ui.UIComponent;
-import com.csse3200.game.files.FileLoader;
-import com.csse3200.game.files.FileLoader.Location;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.io.File;
+import java.util.List;
 
 public class LoadGameDisplay extends UIComponent {
     private static final Logger logger = LoggerFactory.getLogger(LoadGameDisplay.class);
@@ -23,17 +24,20 @@ public class LoadGameDisplay extends UIComponent {
     private Table rootTable;
     private Table savesTable;
     private Texture coinTexture;
+    private TextureHandle coinHandle;
+    private TextureHandle backgroundHandle;
 
     @Override
     public void create() {
         super.create();
-        coinTexture = new Texture("images/coin.png"); // Load the money icon texture
+        coinHandle = ServiceLocator.getResourceService().acquire("images/coin.png"); // Load the money icon texture
+        coinTexture = coinHandle.getTexture();
         addActors();
     }
     private void addActors() {
         // Load the background texture
-        Texture backgroundTexture = new Texture("images/background_images/1.0.png");
-        Image backgroundImage = new Image(backgroundTexture);
+        backgroundHandle = ServiceLocator.getResourceService().acquire("images/background_images/1.0.png");
+        Image backgroundImage = new Image(backgroundHandle.getTexture());
 
         // Set the background image to fill the entire screen
         backgroundImage.setFillParent(true);
@@ -50,8 +54,11 @@ public class LoadGameDisplay extends UIComponent {
 
         // Instruction label based on the number of saved games
         Label instructionLabel;
-        FileHandle[] saves = FileLoader.getFiles("saves", Location.LOCAL);
-        if (saves.length > 0) {
+        // Only the saves' headers are read, mostly from the save index
+        SaveLoadService saveLoadService = ServiceLocator.getSaveLoadService();
+        List<SaveFile.Header> saves = (saveLoadService == null ? new SaveLoadService() : saveLoadService)
+                .listSaves();
+        if (!saves.isEmpty()) {
             instructionLabel = new Label("Click on a saved game to load it!", skin);
             instructionLabel.setFontScale(2);
         } else {
@@ -63,12 +70,12 @@ public class LoadGameDisplay extends UIComponent {
         // Saves table
         savesTable = new Table();
         for (int i = 1; i < 7; i++) {
-            if (i - 1 < saves.length) {
-                String save = saves[i - 1].name().split("[.]")[0];
+            if (i - 1 < saves.size()) {
+                SaveFile.Header state = saves.get(i - 1);
+                String save = state.getName();
                 Table load = new Table();
                 load.add(new Label(save, skin)).row();
 
-                GameState state = FileLoader.readClass(GameState.class, "saves" + File.separator + save + ".json", Location.LOCAL);
                 try {
                     load.add(new Label("Last Modified: " + state.getModTime(), skin)).row();
                     load.add(new Label("Day " + state.getDay(), skin));
@@ -77,7 +84,7 @@ public class LoadGameDisplay extends UIComponent {
                     load.addListener(new InputListener() {
                         @Override
                         public boolean touchDown(InputEvent event, float x, float y, int pointer, int button) {
-                            entity.getEvents().trigger("start", save + ".json");
+                            entity.getEvents().trigger("start", state.getFileName());
                             return true;
                         }
                     });
@@ -111,6 +118,17 @@ public class LoadGameDisplay extends UIComponent {
 
     @Override
     public void draw(SpriteBatch batch) {}
+
+    @Override
+    public void dispose() {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        resourceService.release(coinHandle);
+        resourceService.release(backgroundHandle);
+        coinHandle = null;
+        backgroundHandle = null;
+        super.dispose();
+    }
+
     @Override
     public void setStage(Stage mock) {}
 }
\ No newline at end of file
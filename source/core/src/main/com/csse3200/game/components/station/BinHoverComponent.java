@@ -27,11 +27,7 @@ public class BinHoverComponent extends StationHoverComponent {
     }
 
     @Override
-    public void draw(SpriteBatch batch)  {
-        if (entity == null || position == null || scale == null)
-            return;
-        if (this.showKeys) {
-            drawToolTips(batch);
-        }
+    protected boolean showsInventory() {
+        return false;
     }
 }
\ No newline at end of file
@@ -5,10 +5,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.csse3200.game.rendering.RenderComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.services.HoverOverlayService;
+import com.csse3200.game.services.HoverProvider;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.TextureHandle;
 
 import com.csse3200.game.components.items.ItemComponent;
 import com.csse3200.game.components.player.InventoryComponent;
@@ -33,13 +35,15 @@ import com.csse3200.game.physics.components.PhysicsComponent;
  * Concrete classes should be made for each station type, extending this
  * class and implement the drawToolTips() method to match the relevant
  * key tooltips for the station.
+ * Drawing is done by the shared HoverOverlayService, which shows the
+ * inventory while it holds items and the key tooltips while the player
+ * is focused on this station.
  */
-public abstract class StationHoverComponent extends RenderComponent {
+public abstract class StationHoverComponent extends Component implements HoverProvider {
     private static final Logger logger = LoggerFactory.getLogger(StationHoverComponent.class);
     private ArrayList<Texture> itemImages;
-    private Texture backgroundImage;
-    private Texture selectedBackgroundImage;
-    protected boolean showKeys = false;
+    private ArrayList<TextureHandle> itemHandles = new ArrayList<>();
+    private HoverOverlayService overlay;
     protected InventoryComponent inventory = null;
     protected ItemComponent currentItem = null;
     protected boolean hasItem = false;
@@ -54,32 +58,24 @@ public abstract class StationHoverComponent extends RenderComponent {
     protected Texture cookKeyImage;
     protected Vector2 position;
     protected Vector2 scale;
-    private static final float X_OFFSET = 0.2f;
-    private static final float Y_OFFSET = 1.0F;
-    private static final float SLOT_WIDTH = 0.6f;
-    private static final float SLOT_HEIGHT = 0.6f;
     protected final float KEY_WIDTH = 1.0f;
     protected static final float KEY_HEIGHT = 0.3f;
 
     @Override
     public void create() {
         super.create();
-        backgroundImage = new Texture("images/inventory_ui/item_background.png");
-        selectedBackgroundImage = new Texture("images/inventory_ui/item_background_selected.png");
-
-        ResourceService resources = ServiceLocator.getResourceService();
-
-        // images used by subclasses
-        combineKeyImage = resources.getAsset("images/inventory_ui/combine_key.png", Texture.class);
-        rotateKeyImage = resources.getAsset("images/inventory_ui/rotate_key.png", Texture.class);
-        chopKeyImage = resources.getAsset("images/inventory_ui/chop_key.png", Texture.class);
-        placeKeyImage = resources.getAsset("images/inventory_ui/place_key.png", Texture.class);
-        takeKeyImage = resources.getAsset("images/inventory_ui/take_key.png", Texture.class);
-        submitKeyImage = resources.getAsset("images/inventory_ui/submit_key.png", Texture.class);
-        disposeKeyImage = resources.getAsset("images/inventory_ui/dispose_key.png", Texture.class);
-        cookKeyImage = resources.getAsset("images/inventory_ui/cook_key.png", Texture.class);
-
-        ServiceLocator.getRenderService().register(this);
+        overlay = ServiceLocator.getHoverOverlayService();
+        if (overlay != null) {
+            // images used by subclasses, shared by every station through the overlay
+            combineKeyImage = overlay.getTexture("images/inventory_ui/combine_key.png");
+            rotateKeyImage = overlay.getTexture("images/inventory_ui/rotate_key.png");
+            chopKeyImage = overlay.getTexture("images/inventory_ui/chop_key.png");
+            placeKeyImage = overlay.getTexture("images/inventory_ui/place_key.png");
+            takeKeyImage = overlay.getTexture("images/inventory_ui/take_key.png");
+            submitKeyImage = overlay.getTexture("images/inventory_ui/submit_key.png");
+            disposeKeyImage = overlay.getTexture("images/inventory_ui/dispose_key.png");
+            cookKeyImage = overlay.getTexture("images/inventory_ui/cook_key.png");
+        }
 
         if (entity != null) {
             // listener for when the InventoryComponent attached to this entity is updated
@@ -97,7 +93,7 @@ public abstract class StationHoverComponent extends RenderComponent {
             scale = entity.getScale();
             updateImages();
         }
-        logger.info("Created InventoryDisplayHoverComponent");
+        logger.debug("Created {}", getClass().getSimpleName());
     }
 
     /**
@@ -106,20 +102,47 @@ public abstract class StationHoverComponent extends RenderComponent {
      */
     private void updateImages() {
         itemImages = new ArrayList<>();
+        ArrayList<TextureHandle> newHandles = new ArrayList<>();
+        ResourceService resources = ServiceLocator.getResourceService();
 
-        if (entity != null && inventory != null) {
+        if (entity != null && inventory != null && showsInventory()) {
             for (ItemComponent item : inventory.getItems()) {
                 if (item != null ) {
                     String itemTexturePath = item.getTexturePath();
-                    Texture itemTexture;
                     // placeholder null image if item image cannot be found
-                    itemTexture = new Texture(Objects.requireNonNullElse(
+                    TextureHandle itemHandle = resources.acquire(Objects.requireNonNullElse(
                             itemTexturePath,
                             "images/inventory_ui/null_image.png"));
-                    itemImages.add(itemTexture);
+                    newHandles.add(itemHandle);
+                    itemImages.add(itemHandle.getTexture());
                 }
             }
         }
+
+        // release after acquiring so textures still in use aren't unloaded in between
+        releaseItemHandles();
+        itemHandles = newHandles;
+
+        if (overlay != null) {
+            overlay.setPreview(this, itemImages);
+        }
+    }
+
+    /**
+     * Whether the items in this station's inventory are previewed above it.
+     * Override to return false for stations which only show key tooltips.
+     * @return true to preview the inventory
+     */
+    protected boolean showsInventory() {
+        return true;
+    }
+
+    private void releaseItemHandles() {
+        ResourceService resources = ServiceLocator.getResourceService();
+        for (TextureHandle handle : itemHandles) {
+            resources.release(handle);
+        }
+        itemHandles.clear();
     }
 
     /**
@@ -136,14 +159,18 @@ public abstract class StationHoverComponent extends RenderComponent {
     private void showToolTip(ItemComponent item) {
         this.currentItem = item;
         this.hasItem = (item != null);
-        this.showKeys = true;
+        if (overlay != null) {
+            overlay.focus(this);
+        }
     }
 
     /**
      * Sets this component to hide keybind tooltip icons
      */
     private void hideToolTip() {
-        this.showKeys = false;
+        if (overlay != null) {
+            overlay.unfocus(this);
+        }
     }
 
     /**
@@ -152,58 +179,20 @@ public abstract class StationHoverComponent extends RenderComponent {
      * based on station type
      * @param batch The SpriteBatch used for drawing
      */
+    @Override
     public abstract void drawToolTips(SpriteBatch batch);
 
     @Override
-    public void draw(SpriteBatch batch)  {
-        if (entity == null || position == null || scale == null)
-            return;
-
-        for (int i = 0; i < itemImages.size(); i++) {
-            // draw selected background image for the next item to be taken out
-            // (if there is more than 1 item displayed)
-            if (i == itemImages.size() - 1 && itemImages.size() > 1) {
-                batch.draw(selectedBackgroundImage,
-                        position.x + X_OFFSET,
-                        position.y + (i * SLOT_HEIGHT) + Y_OFFSET,
-                        SLOT_WIDTH,
-                        SLOT_HEIGHT
-                );
-            } else {
-                batch.draw(backgroundImage,
-                        position.x + X_OFFSET,
-                        position.y + (i * SLOT_HEIGHT) + Y_OFFSET,
-                        SLOT_WIDTH,
-                        SLOT_HEIGHT
-                );
-            }
-            batch.draw(itemImages.get(i),
-                    position.x + X_OFFSET + 0.1f,
-                    position.y + (i * SLOT_HEIGHT) + Y_OFFSET + 0.1f,
-                    SLOT_WIDTH - 0.2f,
-                    SLOT_HEIGHT - 0.2f
-            );
-        }
-
-        if (this.showKeys) {
-            drawToolTips(batch);
-        }
+    public Vector2 getHoverPosition() {
+        return position;
     }
 
     @Override
     public void dispose() {
         super.dispose();
-        ServiceLocator.getRenderService().unregister(this);
-    }
-
-    @Override
-    public int getLayer() {
-        return 3; // currently overlays the player, but decreasing this to 1 makes it hide behind the stations
-    }
-
-    @Override
-    public void setStage(Stage mock) {
-        // This function needed to exist but not needed to be implemented
+        if (overlay != null) {
+            overlay.remove(this);
+        }
+        releaseItemHandles();
     }
-
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.csse3200.game.rendering.GpuMemoryTracker;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.components.items.ItemComponent;
@@ -34,6 +35,8 @@ public class StationProgressDisplay extends RenderComponent {
     private Vector2 scale;
     private float barPercentage;
     private boolean displayBar;
+    // Whole percent last logged, so progress is only logged when it changes rather than every frame
+    private int progressPercent;
     private static final float X_OFFSET = 0.0f;
     private static final float Y_OFFSET = 0.05F;
     private static final float barMaxWidth = 1.0f;
@@ -46,6 +49,8 @@ public class StationProgressDisplay extends RenderComponent {
         //ServiceLocator.getRenderService().register(this);
         barOutline = new Texture("images/inventory_ui/station_progress_bar_outline.png");
         barFill = new Texture("images/inventory_ui/station_progress_bar_fill.png");
+        GpuMemoryTracker.track(barOutline, "StationProgressDisplay");
+        GpuMemoryTracker.track(barFill, "StationProgressDisplay");
         barPercentage = 0.0f;
         displayBar = false;
 
@@ -76,7 +81,11 @@ public class StationProgressDisplay extends RenderComponent {
         }
 
         barPercentage = timerItem.getCompletionPercent() / 100;
-        logger.info(String.valueOf(barPercentage));
+        int percent = Math.round(barPercentage * 100);
+        if (percent != progressPercent) {
+            progressPercent = percent;
+            logger.debug("Station progress {}%", percent);
+        }
         if (barPercentage < 1.0f) {
             // if completion percent is less than 100%, then display the
             // progress bar
@@ -94,6 +103,7 @@ public class StationProgressDisplay extends RenderComponent {
     private void resetBar() {
         displayBar = false;
         barPercentage = 0.0f;
+        progressPercent = 0;
     }
 
 
@@ -122,9 +132,11 @@ public class StationProgressDisplay extends RenderComponent {
     public void dispose() {
         super.dispose();
         if (barOutline != null) {
+            GpuMemoryTracker.untrack(barOutline);
             barOutline.dispose();
         }
         if (barFill != null) {
+            GpuMemoryTracker.untrack(barFill);
             barFill.dispose();
         }
         // ServiceLocator.getRenderService().unregister(this);
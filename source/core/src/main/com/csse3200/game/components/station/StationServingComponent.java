@@ -2,6 +2,7 @@ package com.csse3200.game.components.station;
 
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.ai.tasks.Task;
+import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ScoreSystem.HoverBoxComponent;
 import com.csse3200.game.components.ScoreSystem.ScoreSystem;
@@ -18,12 +19,10 @@ import com.csse3200.game.components.ordersystem.Recipe;
 import com.csse3200.game.components.ordersystem.TicketDetails;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.player.InventoryDisplay;
-import com.csse3200.game.components.player.PlayerStatsDisplay;
 import com.csse3200.game.components.tasks.PathFollowTask;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
-import com.badlogic.gdx.graphics.Texture;
 import com.csse3200.game.components.npc.CustomerManager;
 
 import org.slf4j.Logger;
@@ -281,11 +280,16 @@ public class StationServingComponent extends Component {
         if (hoverBox == null) return;
 
         String faceImagePath = getFaceImagePath(finalScore);
-        int gold = updateGoldBasedOnScore(ServiceLocator.getLevelService().getCurrGold(), finalScore, mealPrice);
+        int currentGold = ServiceLocator.getLevelService().getCurrGold();
+        int gold = updateGoldBasedOnScore(currentGold, finalScore, mealPrice);
+        if (IsExtortion && gold > currentGold) {
+            // Extortion doubles what each customer pays
+            gold += gold - currentGold;
+        }
 
-        hoverBox.setTexture(new Texture(faceImagePath));
+        hoverBox.setTexture(faceImagePath);
         ServiceLocator.getLevelService().setCurrGold(gold);
-        updateGoldUI(gold);
+        updatePlayerGold(gold);
     }
 
     /**
@@ -336,21 +340,18 @@ public class StationServingComponent extends Component {
 
 
     /**
-         * Function that is called to player gold UI.
-         * Calls another method from PlayerStatsDisplay.java to update the gold.
-         * @param gold - the amount of gold the player currently have after serving the customer.
-         */
-        private void updateGoldUI(int gold) {
-        PlayerStatsDisplay playerStatsDisplay = PlayerStatsDisplay.getInstance();
-        if (playerStatsDisplay != null) {
-            if(IsExtortion){
-                playerStatsDisplay.updatePlayerGoldUI(2*gold);
-            }
-            else{
-                playerStatsDisplay.updatePlayerGoldUI(gold);
-            }
+     * Function that is called to update the player's gold. The gold label is bound to the player's
+     * gold, so it updates itself.
+     * @param gold - the amount of gold the player currently have after serving the customer.
+     */
+    private void updatePlayerGold(int gold) {
+        Entity player = ServiceLocator.getPlayerService() == null
+                ? null : ServiceLocator.getPlayerService().getPlayer();
+        CombatStatsComponent stats = player == null ? null : player.getComponent(CombatStatsComponent.class);
+        if (stats != null) {
+            stats.setGold(gold);
         } else {
-            logger.error("PlayerStatsDisplay instance is null");
+            logger.error("Player gold could not be updated");
         }
     }
 
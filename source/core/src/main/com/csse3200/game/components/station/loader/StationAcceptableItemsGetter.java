@@ -2,8 +2,7 @@ package com.csse3200.game.components.station.loader;
 
 import java.util.ArrayList;
 
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * StationAcceptableItems is a class used to both load and retrieve items from
@@ -15,15 +14,9 @@ import com.badlogic.gdx.utils.Json;
  * do it.
  */
 public class StationAcceptableItemsGetter {
-    // String for the name of the file where recipies are stored
-    private static final String filePath = 
-            "configs/station.json";
-
-    // For some reason the class loader isn't working so this is it for now
-    // TODO: Get the class loader working with this
-    private static Json json = new Json();
-    private static FileHandle handle = new FileHandle(filePath);
-    private static StationAcceptableItemsConfig configs = json.fromJson(StationAcceptableItemsConfig.class, handle);
+    // Station configs, read from configs/station.json by the config service
+    private static final StationAcceptableItemsConfig configs =
+            ServiceLocator.getConfigService().getStationItems();
 
     /**
      * Function to read the acceptable items file and calculate acceptable items
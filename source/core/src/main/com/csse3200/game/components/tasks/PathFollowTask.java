@@ -1,6 +1,5 @@
 package com.csse3200.game.components.tasks;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
@@ -96,7 +95,7 @@ public class PathFollowTask extends DefaultTask implements PriorityTask {
         if (!hasMovedToPredefined && elapsedTime >= makingTime) {
             Entity customer = owner.getEntity();
             HoverBoxComponent hoverBox = customer.getComponent(HoverBoxComponent.class);
-            hoverBox.setTexture(new Texture("images/customer_faces/angry_face.png"));
+            hoverBox.setTexture("images/customer_faces/angry_face.png");
             triggerMoveToPredefinedPosition();
             hasMovedToPredefined = true;
         }
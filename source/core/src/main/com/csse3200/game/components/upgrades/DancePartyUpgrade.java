@@ -1,6 +1,5 @@
 package com.csse3200.game.components.upgrades;
 
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -11,11 +10,12 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.ordersystem.OrderManager;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.AudioService;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ServiceLocator;
 
 import com.csse3200.game.ui.UIComponent;
 import com.csse3200.game.services.GameTime;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.csse3200.game.components.CombatStatsComponent;
 
@@ -39,7 +39,7 @@ public class DancePartyUpgrade extends UIComponent implements Upgrade {
     public Table layout;
     public Label text; // the "Upgrade" text above the meter
     public ProgressBar meter; // the meter that show the remaining time
-    private Sound bgEffect;
+    private static final String COUNTDOWN_SOUND = "sounds/dance_party.mp3";
     private boolean playSound = false;
 
 
@@ -80,11 +80,14 @@ public class DancePartyUpgrade extends UIComponent implements Upgrade {
     @Override
     public void create() {
         super.create();
-        ServiceLocator.getResourceService().loadTextures(whiteBgTexture);
-        ServiceLocator.getResourceService().loadTextures(greenTexture);
-        ServiceLocator.getResourceService().loadAll();
+        // Only needed once the upgrade is used, so these stream in rather than blocking the game
+        ServiceLocator.getResourceService().load(whiteBgTexture, Texture.class, LoadPriority.SOON);
+        ServiceLocator.getResourceService().load(greenTexture, Texture.class, LoadPriority.SOON);
 
-        bgEffect = Gdx.audio.newSound(Gdx.files.internal("sounds/dance_party.mp3"));
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.preload(COUNTDOWN_SOUND);
+        }
 
         layout = new Table();
         layout.setFillParent(true);
@@ -192,8 +195,10 @@ public class DancePartyUpgrade extends UIComponent implements Upgrade {
             meter.setValue((activeTimeRemaining / (float) UPGRADE_DURATION));
 
             if (activeTimeRemaining <= 800 && !playSound) {
-                long countDownId = bgEffect.play();
-                bgEffect.setVolume(countDownId, 0.2f);
+                AudioService audioService = ServiceLocator.getAudioService();
+                if (audioService != null) {
+                    audioService.play(COUNTDOWN_SOUND, 0.2f);
+                }
                 playSound = true;
             }
 
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.upgrades;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -12,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
@@ -33,7 +32,7 @@ public class ExtortionUpgrade extends UIComponent implements Upgrade {
     public Label text; // the "Upgrade" text above the meter
     public ProgressBar meter; // the meter that show the remaining time
     private boolean isVisible;
-    private Sound bgEffect;
+    private static final String COUNTDOWN_SOUND = "sounds/extortion.mp3";
     private boolean playSound = false;
     private float activateTimeRemaining;
 
@@ -65,7 +64,10 @@ public class ExtortionUpgrade extends UIComponent implements Upgrade {
         ServiceLocator.getResourceService().loadAll(); // Ensures the texture is loaded
 
         // https://pixabay.com/sound-effects/fx-mario-brothers-coin-grab-236423/
-        bgEffect = Gdx.audio.newSound(Gdx.files.internal("sounds/extortion.mp3"));
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.preload(COUNTDOWN_SOUND);
+        }
         layout = new Table();
         layout.setFillParent(true);
         layout.setVisible(isVisible);
@@ -168,8 +170,10 @@ public class ExtortionUpgrade extends UIComponent implements Upgrade {
             meter.setValue((activateTimeRemaining / (float) upgradeDuration)); // Update progress bar
 
             if (activateTimeRemaining <= 800 && !playSound) {
-                long countDownId = bgEffect.play();
-                bgEffect.setVolume(countDownId, 0.2f);
+                AudioService audioService = ServiceLocator.getAudioService();
+                if (audioService != null) {
+                    audioService.play(COUNTDOWN_SOUND, 0.2f);
+                }
                 playSound = true;
             }
 
@@ -1,10 +1,9 @@
 package com.csse3200.game.components.upgrades;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.audio.Sound;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -12,6 +11,8 @@ import com.csse3200.game.services.ServiceLocator;
  * to receive additional gold under certain conditions.
  */
 public class LoanUpgrade extends Component implements Upgrade {
+    // https://pixabay.com/sound-effects/cha-ching-7053/
+    private static final String MONEY_SOUND = "sounds/loan.mp3";
     private CombatStatsComponent combatStatsComponent;
 
 
@@ -21,6 +22,10 @@ public class LoanUpgrade extends Component implements Upgrade {
             this.combatStatsComponent = player.getComponent(CombatStatsComponent.class);
         });
         ServiceLocator.getRandomComboService().getEvents().addListener("Loan", this::activate); 
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.preload(MONEY_SOUND);
+        }
     }
 
     /**
@@ -28,10 +33,10 @@ public class LoanUpgrade extends Component implements Upgrade {
      * at least 20 gold
      */
     public void activate() { 
-        // https://pixabay.com/sound-effects/cha-ching-7053/
-        Sound moneySound = Gdx.audio.newSound(Gdx.files.internal("sounds/loan.mp3"));
-        long moneySoundId = moneySound.play();
-        moneySound.setVolume(moneySoundId, 0.2f);
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.play(MONEY_SOUND, 0.2f);
+        }
         combatStatsComponent.addGold(100);
     }
 
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.upgrades;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -13,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
@@ -40,8 +39,10 @@ public class RageUpgrade extends UIComponent implements Upgrade {
     private static final float rageFillTime = 90f;
     private boolean isRageFilling = false;
 
-    private Sound rageSound;
-    private Sound powerDownSound;
+    // https://freesound.org/people/Timbre/sounds/86241/
+    private static final String RAGE_SOUND = "sounds/rage_sound.wav";
+    // https://freesound.org/people/noirenex/sounds/159399/
+    private static final String POWER_DOWN_SOUND = "sounds/power_down.wav";
 
     public RageUpgrade() {
         super();
@@ -62,11 +63,10 @@ public class RageUpgrade extends UIComponent implements Upgrade {
         setupRageMeter();
         setupInputListener();
 
-        // https://freesound.org/people/Timbre/sounds/86241/
-        rageSound = Gdx.audio.newSound(Gdx.files.internal("sounds/rage_sound.wav"));
-
-        // https://freesound.org/people/noirenex/sounds/159399/
-        powerDownSound = Gdx.audio.newSound(Gdx.files.internal("sounds/power_down.wav"));
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.preload(RAGE_SOUND, POWER_DOWN_SOUND);
+        }
         ServiceLocator.getRandomComboService().getEvents().addListener("Rage", this::activateRageMode);
     }
 
@@ -134,8 +134,10 @@ public class RageUpgrade extends UIComponent implements Upgrade {
     public void activateRageMode() {
         if (rageMeter.getValue() == 1f) {
             ServiceLocator.getEntityService().getEvents().trigger("rageModeOn");
-            long rageSoundId = rageSound.play();
-            rageSound.setVolume(rageSoundId, 0.25f);
+            AudioService audioService = ServiceLocator.getAudioService();
+            if (audioService != null) {
+                audioService.play(RAGE_SOUND, 0.25f);
+            }
 
             isRageActive = true;
             isOverlayVisible = true;
@@ -153,8 +155,10 @@ public class RageUpgrade extends UIComponent implements Upgrade {
      */
     public void deactivateRageMode() {
         ServiceLocator.getEntityService().getEvents().trigger("rageModeOff");
-        long powerDownId = powerDownSound.play();
-        powerDownSound.setVolume(powerDownId, 0.25f);
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.play(POWER_DOWN_SOUND, 0.25f);
+        }
 
         isRageActive = false;
         isOverlayVisible = false;
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.upgrades;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -13,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.AudioService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
@@ -38,7 +37,7 @@ public class SpeedBootsUpgrade extends UIComponent implements Upgrade {
     public ProgressBar speedMeter; // the meter that show the remaining time
     private boolean isVisible;
     private float activeTimeRemaining;
-    private Sound countDown;
+    private static final String COUNTDOWN_SOUND = "sounds/mouth_lightening_1sec.mp3";
     private boolean playSound = false;
 
 
@@ -67,7 +66,10 @@ public class SpeedBootsUpgrade extends UIComponent implements Upgrade {
         ServiceLocator.getResourceService().loadTextures(greenTexture);
         ServiceLocator.getResourceService().loadAll(); // Ensures the texture is loaded
         // https://pixabay.com/sound-effects/mouth-lightening-89463/
-        countDown = Gdx.audio.newSound(Gdx.files.internal("sounds/mouth_lightening_1sec.mp3"));
+        AudioService audioService = ServiceLocator.getAudioService();
+        if (audioService != null) {
+            audioService.preload(COUNTDOWN_SOUND);
+        }
         layout = new Table();
         layout.setFillParent(true);
         layout.setVisible(isVisible);
@@ -127,8 +129,10 @@ public class SpeedBootsUpgrade extends UIComponent implements Upgrade {
             speedMeter.setValue((activeTimeRemaining /  BOOST_DURATION)); // Update progress bar
 
             if (activeTimeRemaining <= 800 && !playSound) {
-                long countDownId = countDown.play();
-                countDown.setVolume(countDownId, 0.2f);
+                AudioService audioService = ServiceLocator.getAudioService();
+                if (audioService != null) {
+                    audioService.play(COUNTDOWN_SOUND, 0.2f);
+                }
                 playSound = true;
             }
 
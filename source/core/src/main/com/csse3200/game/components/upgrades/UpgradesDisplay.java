@@ -110,7 +110,8 @@ public class UpgradesDisplay extends UIComponent {
 
         upgradesTable.top().left();
         stage.addActor(upgradesTable);
-        upgradesTable.setVisible(false);
+        setPanelVisible(upgradesMenuImage, false);
+        setPanelVisible(upgradesTable, false);
 
 
         ServiceLocator.getRandomComboService().getEvents().addListener("notenoughmoney", this::displayNotEnoughGoldUI);
@@ -205,7 +206,7 @@ public class UpgradesDisplay extends UIComponent {
      */
     public void toggleVisibility() {
         isVisible = !isVisible;
-        upgradesMenuImage.setVisible(isVisible);
+        setPanelVisible(upgradesMenuImage, isVisible);
 
         if (isVisible) {
             logger.info("Upgrades menu is now visible.");
@@ -213,11 +214,11 @@ public class UpgradesDisplay extends UIComponent {
 
             // Add a random upgrade image each time if th emenu is shown
 
-            upgradesTable.setVisible(true);
+            setPanelVisible(upgradesTable, true);
         } else {
             logger.info("Upgrades menu is now hidden.");
             game.resume();
-            upgradesTable.setVisible(false);
+            setPanelVisible(upgradesTable, false);
         }
     }
 
@@ -14,7 +14,6 @@ import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.physics.components.InteractionComponent;
-import com.csse3200.game.components.TooltipsDisplay;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.station.*;
 
@@ -45,7 +44,6 @@ public class Bench extends Entity{
         addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody));
         addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE));
 
-        addComponent(new TooltipsDisplay());
         addComponent(new InventoryComponent(4));
         addComponent(new MixingBenchHoverComponent());
         addComponent(new StationMealComponent("combining", new ArrayList<>()));
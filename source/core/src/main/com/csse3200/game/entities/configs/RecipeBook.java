@@ -0,0 +1,85 @@
+package com.csse3200.game.entities.configs;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The recipes from a {@link CookingConfig}, keyed by recipe name, with the ingredients of each
+ * recipe as a set so that lookups don't need to copy them. Built once when the config is read and
+ * shared from then on, so it can't be changed.
+ */
+public class RecipeBook {
+    private final Map<String, SingleStationRecipeConfig> singleStationRecipes;
+    private final Map<String, MultiStationRecipeConfig> multiStationRecipes;
+    private final Map<String, SingleStationRecipeConfig> recipes;
+    private final Map<String, Set<String>> ingredients;
+
+    /**
+     * @param config recipes read from a config file, or null for no recipes
+     */
+    public RecipeBook(CookingConfig config) {
+        Map<String, SingleStationRecipeConfig> single = new HashMap<>();
+        Map<String, MultiStationRecipeConfig> multi = new HashMap<>();
+        if (config != null) {
+            single.put("salad", config.salad);
+            single.put("fruitSalad", config.fruitSalad);
+            single.put("bananaSplit", config.bananaSplit);
+
+            multi.put("steakMeal", config.steakMeal);
+            multi.put("acaiBowl", config.acaiBowl);
+        }
+        Map<String, SingleStationRecipeConfig> all = new HashMap<>(single);
+        all.putAll(multi);
+
+        Map<String, Set<String>> ingredientSets = new HashMap<>();
+        for (Map.Entry<String, SingleStationRecipeConfig> entry : all.entrySet()) {
+            Set<String> set = new HashSet<>();
+            for (String ingredient : entry.getValue().ingredient) {
+                // Ingredient names repeat across every recipe, so only keep one copy of each
+                set.add(ingredient.intern());
+            }
+            ingredientSets.put(entry.getKey(), Collections.unmodifiableSet(set));
+        }
+
+        singleStationRecipes = Collections.unmodifiableMap(single);
+        multiStationRecipes = Collections.unmodifiableMap(multi);
+        recipes = Collections.unmodifiableMap(all);
+        ingredients = Collections.unmodifiableMap(ingredientSets);
+    }
+
+    /**
+     * @return recipes which only need one station
+     */
+    public Map<String, SingleStationRecipeConfig> getSingleStationRecipes() {
+        return singleStationRecipes;
+    }
+
+    /**
+     * @return recipes which need more than one station
+     */
+    public Map<String, MultiStationRecipeConfig> getMultiStationRecipes() {
+        return multiStationRecipes;
+    }
+
+    /**
+     * @return every recipe
+     */
+    public Map<String, SingleStationRecipeConfig> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * @param recipeName recipe name
+     * @return ingredients of the recipe, or an empty set if there is no such recipe
+     */
+    public Set<String> getIngredients(String recipeName) {
+        return ingredients.getOrDefault(recipeName, Collections.emptySet());
+    }
+
+    public boolean isEmpty() {
+        return recipes.isEmpty();
+    }
+}
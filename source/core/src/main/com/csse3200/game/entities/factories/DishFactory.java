@@ -1,9 +1,9 @@
 package com.csse3200.game.entities.factories;
 
-import com.csse3200.game.entities.configs.CookingConfig;
+import com.csse3200.game.entities.configs.RecipeBook;
 import com.csse3200.game.entities.configs.SingleStationRecipeConfig;
 import com.csse3200.game.entities.configs.MultiStationRecipeConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.services.ServiceLocator;
 
 import java.util.*;
 
@@ -13,30 +13,14 @@ import java.util.*;
  * the properties stores in 'CookingConfig'.
  */
 public class DishFactory {
-    // read in recipe configs
-    private static final CookingConfig configs =
-            FileLoader.readClass(CookingConfig.class, "configs/recipe.json");
-    private static final Map<String, SingleStationRecipeConfig> singleStationRecipes =
-            new HashMap<>();    // all single-station recipes
-    private static final Map<String, MultiStationRecipeConfig> multiStationRecipes =
-            new HashMap<>();      // all multi-station recipes
-    private static final Map<String, SingleStationRecipeConfig> recipes = new HashMap<>();// all recipes
+    // recipe configs, shared with every other user of recipe.json
+    private static final RecipeBook recipes = ServiceLocator.getConfigService().getRecipes();
 
     /**
      * Constructor for the DishFactory class, no parameters required.
      */
     public DishFactory() {
-        // populate single-station recipes
-        DishFactory.singleStationRecipes.put("salad", configs.salad);
-        DishFactory.singleStationRecipes.put("fruitSalad", configs.fruitSalad);
-        DishFactory.singleStationRecipes.put("bananaSplit", configs.bananaSplit);
-
-        // populate multi-station recipes
-        DishFactory.multiStationRecipes.put("steakMeal", configs.steakMeal);
-        DishFactory.multiStationRecipes.put("acaiBowl", configs.acaiBowl);
-
-        // generate all recipes
-        this.generateAllRecipes();
+        // Recipes are read once by the config service, so there is nothing to set up per station
     }
 
     /**
@@ -45,7 +29,7 @@ public class DishFactory {
      * @return - dictionary that only need one station when making the meal
      */
     private static Map<String, SingleStationRecipeConfig> getSingleStationRecipes() {
-        return singleStationRecipes;
+        return recipes.getSingleStationRecipes();
     }
 
     /**
@@ -54,7 +38,7 @@ public class DishFactory {
      * @return - dictionary of recipes that need more than one station when making the meal
      */
     private static Map<String, MultiStationRecipeConfig> getMultiStationRecipes() {
-        return multiStationRecipes;
+        return recipes.getMultiStationRecipes();
     }
 
     /**
@@ -64,32 +48,24 @@ public class DishFactory {
      * @return - list of recipes that contain associated ingredients
      */
     public static List<String> getPossibleRecipes(List<String> ingredients) {
-        List<String> recipes = new ArrayList<>();
+        List<String> possibleRecipes = new ArrayList<>();
 
-        if (configs == null) {
-            return recipes;
-        }
+        for (String recipe : getSingleStationRecipes().keySet()) {
+            Set<String> recipeIngredients = recipes.getIngredients(recipe);
 
-        for (Map.Entry<String, SingleStationRecipeConfig> entry : getSingleStationRecipes().entrySet()) {
-            String recipe = entry.getKey();
-            SingleStationRecipeConfig recipeConfig = entry.getValue();
-
-            if (!recipeConfig.ingredient.isEmpty() &&
-                    new HashSet<>(recipeConfig.ingredient).containsAll(ingredients)) {
-                recipes.add(recipe);
+            if (!recipeIngredients.isEmpty() && recipeIngredients.containsAll(ingredients)) {
+                possibleRecipes.add(recipe);
             }
         }
 
-        for (Map.Entry<String, MultiStationRecipeConfig> entry : getMultiStationRecipes().entrySet()) {
-            String recipe = entry.getKey();
-            MultiStationRecipeConfig recipeConfig = entry.getValue();
+        for (String recipe : getMultiStationRecipes().keySet()) {
+            Set<String> recipeIngredients = recipes.getIngredients(recipe);
 
-            if (!recipeConfig.ingredient.isEmpty() &&
-                    new HashSet<>(recipeConfig.ingredient).containsAll(ingredients)) {
-                recipes.add(recipe);
+            if (!recipeIngredients.isEmpty() && recipeIngredients.containsAll(ingredients)) {
+                possibleRecipes.add(recipe);
             }
         }
-        return recipes;
+        return possibleRecipes;
     }
 
     /**
@@ -104,7 +80,7 @@ public class DishFactory {
                 String recipe = entry.getKey();
                 SingleStationRecipeConfig recipeConfig = entry.getValue();
 
-                if (new HashSet<>(recipeConfig.ingredient).containsAll(ingredients)
+                if (recipes.getIngredients(recipe).containsAll(ingredients)
                         && recipeConfig.ingredient.size() == ingredients.size()) {
                     return Optional.of(recipe);
                 }
@@ -114,7 +90,7 @@ public class DishFactory {
                 String recipe = entry.getKey();
                 MultiStationRecipeConfig recipeConfig = entry.getValue();
 
-                if (new HashSet<>(recipeConfig.ingredient).containsAll(ingredients)
+                if (recipes.getIngredients(recipe).containsAll(ingredients)
                         && recipeConfig.ingredient.size() == ingredients.size()) {
                     return Optional.of(recipe);
                 }
@@ -154,21 +130,12 @@ public class DishFactory {
           getMultiStationRecipes().containsKey(recipeName);
     }
 
-    /**
-     * Populates all possible recipes from the dish factory configs.
-     */
-    private void generateAllRecipes() {
-        recipes.putAll(getSingleStationRecipes());
-
-        recipes.putAll(getMultiStationRecipes());
-    }
-
     /**
      * Get all the recipes from the dish factory
      * @return the recipes from the dish factory
      */
     public Map<String, SingleStationRecipeConfig> getAllRecipes() {
-        return recipes;
+        return recipes.getRecipes();
     }
 
     /**
@@ -177,10 +144,10 @@ public class DishFactory {
      * @return The recipe made from the ingredients
      */
     public Optional<String> getRealRecipe(List<String> ingredients) {
-        for (Map.Entry<String, SingleStationRecipeConfig> entry : getAllRecipes().entrySet()) {
-            List<String> recipeIngredients = entry.getValue().getIngredient();
-            if (new HashSet<>(recipeIngredients).equals(new HashSet<>(ingredients))) {
-                return Optional.of(entry.getKey());
+        Set<String> ingredientSet = new HashSet<>(ingredients);
+        for (String recipe : getAllRecipes().keySet()) {
+            if (recipes.getIngredients(recipe).equals(ingredientSet)) {
+                return Optional.of(recipe);
             }
         }
 
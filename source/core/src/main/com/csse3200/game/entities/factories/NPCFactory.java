@@ -1,7 +1,6 @@
 package com.csse3200.game.entities.factories;
 
 import com.csse3200.game.components.ScoreSystem.HoverBoxComponent;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
@@ -20,7 +19,6 @@ import com.csse3200.game.components.tasks.TurnTask;
 import com.csse3200.game.components.upgrades.UpgradesDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.*;
-import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -40,7 +38,7 @@ import org.slf4j.LoggerFactory;
  * components.
  */
 public class NPCFactory {
-    private static final NPCConfigs configs = FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+    private static final NPCConfigs configs = ServiceLocator.getConfigService().getNPCs();
     private static final Logger logger = LoggerFactory.getLogger(NPCFactory.class);
     private static int customerCount = 0;
     private static int orderID = 1;
@@ -89,7 +87,7 @@ public class NPCFactory {
             .addComponent(aiComponent);
 
         final boolean[] isHoverBox = {false};
-        HoverBoxComponent hoverBox = new HoverBoxComponent(new Texture("images/special_NPCs/upgrade_sign.png"));
+        HoverBoxComponent hoverBox = new HoverBoxComponent("images/special_NPCs/upgrade_sign.png");
         hoverBox.setEnabled(false);  // Disable hover box visibility initially
         penguin.addComponent(hoverBox);
 
@@ -178,7 +176,7 @@ public class NPCFactory {
         logger.debug("Created customer {} with initial position: {}", name, customer.getPosition());
 
         if (customer.getComponent(HoverBoxComponent.class) == null) {
-                customer.addComponent(new HoverBoxComponent(new Texture(imagePath)));
+                customer.addComponent(new HoverBoxComponent(imagePath));
         }
         customerCount++;
         orderID++;
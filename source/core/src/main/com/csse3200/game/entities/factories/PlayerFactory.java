@@ -5,6 +5,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.SensorComponent;
 import com.csse3200.game.components.maingame.CheckWinLoseComponent;
+import com.csse3200.game.components.player.HeldItemOverlayComponent;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.player.InventoryDisplay;
 import com.csse3200.game.components.player.PlayerActions;
@@ -13,7 +14,6 @@ import com.csse3200.game.components.player.PlayerItemSpriteManager;
 import com.csse3200.game.components.player.PlayerStatsDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.PlayerConfig;
-import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
@@ -30,8 +30,7 @@ import com.csse3200.game.services.ServiceLocator;
  * the properties stores in 'PlayerConfig'.
  */
 public class PlayerFactory {
-  private static final PlayerConfig config =
-      FileLoader.readClass(PlayerConfig.class, "configs/player.json");
+  private static final PlayerConfig config = ServiceLocator.getConfigService().getPlayer();
 
   public static Entity createPlayer(){
     return createPlayer(config);
@@ -49,19 +48,22 @@ public class PlayerFactory {
             new AnimationRenderComponent(ServiceLocator.getResourceService().getAsset(
                     "images/player/" + "player.atlas", TextureAtlas.class));
 
-    animator.addAnimation("Character_StandDown", 0.2f);
-    animator.addAnimation("Character_StandUp", 0.2f);
-    animator.addAnimation("Character_StandLeft", 0.2f);
-    animator.addAnimation("Character_StandRight", 0.2f);
+    // Each animation has a hands up version, played while an item is held
+    for (String suffix : new String[] {"", PlayerAnimationController.HOLDING_SUFFIX}) {
+      animator.addAnimation("Character_StandDown" + suffix, 0.2f);
+      animator.addAnimation("Character_StandUp" + suffix, 0.2f);
+      animator.addAnimation("Character_StandLeft" + suffix, 0.2f);
+      animator.addAnimation("Character_StandRight" + suffix, 0.2f);
 
-    animator.addAnimation("Character_DownLeft", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_UpRight", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_Up", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_Left", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_DownRight", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_Down", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_UpLeft", 0.2f, Animation.PlayMode.LOOP);
-    animator.addAnimation("Character_Right", 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_DownLeft" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_UpRight" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_Up" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_Left" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_DownRight" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_Down" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_UpLeft" + suffix, 0.2f, Animation.PlayMode.LOOP);
+      animator.addAnimation("Character_Right" + suffix, 0.2f, Animation.PlayMode.LOOP);
+    }
 
     Entity player =
         new Entity()
@@ -75,6 +77,8 @@ public class PlayerFactory {
                 .addComponent(new PlayerItemSpriteManager())
             .addComponent(inputComponent)
             .addComponent(animator)
+            .addComponent(new HeldItemOverlayComponent(ServiceLocator.getResourceService().getAsset(
+                    HeldItemOverlayComponent.HELD_ITEMS_ATLAS, TextureAtlas.class)))
             .addComponent(new PlayerAnimationController())
             .addComponent(new PlayerStatsDisplay())
             .addComponent(new SensorComponent())
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.components.FlameComponent;
-import com.csse3200.game.components.TooltipsDisplay;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.station.*;
 import com.csse3200.game.entities.Entity;
@@ -41,7 +40,6 @@ public class StationFactory {
         .addComponent(new PhysicsComponent())
         .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
         .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-        .addComponent(new TooltipsDisplay())
         .addComponent(new StationCookingComponent())
         .addComponent(new StationItemHandlerComponent("oven"))
         .addComponent(new InventoryComponent(1))
@@ -75,7 +73,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new InventoryComponent(1))
             .addComponent(new ChoppingBoardHoverComponent())
             .addComponent(new StationProgressDisplay())
@@ -105,7 +102,6 @@ public class StationFactory {
         .addComponent(new PhysicsComponent())
         .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
         .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-        .addComponent(new TooltipsDisplay())
         .addComponent(new InventoryComponent(1))
         .addComponent(new CookingHoverComponent())
         .addComponent(new StationCookingComponent())  
@@ -153,7 +149,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new FireExtinguisherHandlerComponent());
     fireExtinguisher.getComponent(InteractionComponent.class).setAsBox(fireExtinguisher.getScale());
     fireExtinguisher.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
@@ -175,7 +170,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -204,7 +198,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -232,7 +225,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -260,7 +252,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -288,7 +279,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new StationCollectionComponent())
             .addComponent(new BasketHoverComponent())
             .addComponent(new InventoryComponent(1))
@@ -317,7 +307,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new StationCollectionComponent())
             .addComponent(new BasketHoverComponent())
             .addComponent(new InventoryComponent(1))
@@ -345,7 +334,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -373,7 +361,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -401,7 +388,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new BasketHoverComponent())
             .addComponent(new StationCollectionComponent())
             .addComponent(new InventoryComponent(1))
@@ -429,8 +415,7 @@ public class StationFactory {
             .addComponent(new TextureRenderComponent("images/stations/bench_legs.png"))
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
-            .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay());
+            .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE));
 
     benchTable.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
     benchTable.getComponent(TextureRenderComponent.class).scaleEntity();
@@ -450,7 +435,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new InventoryComponent(1));
             // Change this handler to the combining one
             //.addComponent(new StationItemHandlerComponent("benchTop", new ArrayList<>()));
@@ -477,7 +461,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new InventoryComponent(4))
             .addComponent(new MixingBenchHoverComponent())
             .addComponent(new StationMealComponent("combining", new ArrayList<>()));
@@ -507,7 +490,6 @@ public class StationFactory {
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
             .addComponent(new InteractionComponent(PhysicsLayer.INTERACTABLE))
-            .addComponent(new TooltipsDisplay())
             .addComponent(new InventoryComponent(1))
             .addComponent(new SubmitHoverComponent())
             .addComponent(new StationServingComponent());
@@ -0,0 +1,250 @@
+package com.csse3200.game.files;
+
+import com.csse3200.game.components.moral.Decision;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary save file format. Saves start with a small fixed size header, so that the load menu can
+ * list saves by reading only their headers:
+ * <pre>
+ *   int   magic ("SAVE")
+ *   short version
+ *   int   day
+ *   int   money
+ *   long  modification time, in seconds since the epoch of the local date and time
+ *   int   decision count
+ * </pre>
+ * followed by each decision:
+ * <pre>
+ *   short statement length, then the statement in UTF-8
+ *   byte  1 if the decision is good
+ *   byte  decision made: 0 pending, 1 yes, 2 no
+ *   int   points, as stored, before they are negated for bad decisions
+ * </pre>
+ */
+public class SaveFile {
+    public static final int MAGIC = 0x53415645;
+    public static final short VERSION = 1;
+    public static final String EXTENSION = ".sav";
+    public static final String JSON_EXTENSION = ".json";
+    public static final int HEADER_BYTES = 26;
+    /** Format of {@link GameState#getModTime()} */
+    public static final DateTimeFormatter MOD_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("dd-MM-yyyy_HH-mm-ss");
+    private static final byte PENDING = 0;
+    private static final byte YES = 1;
+    private static final byte NO = 2;
+
+    private SaveFile() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * @param state game state to save
+     * @return the save, ready to be written
+     */
+    public static byte[] write(GameState state) {
+        List<Decision> decisions = state.getDecisions() == null ? List.of() : state.getDecisions();
+        List<byte[]> statements = new ArrayList<>(decisions.size());
+        int size = HEADER_BYTES;
+        for (Decision decision : decisions) {
+            byte[] statement = decision.getStatement().getBytes(StandardCharsets.UTF_8);
+            statements.add(statement);
+            size += 2 + statement.length + 2 + 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putInt(state.getDay())
+                .putInt(state.getMoney())
+                .putLong(toSeconds(state.getModTime()))
+                .putInt(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            Decision decision = decisions.get(i);
+            byte made = decision.isPending() ? PENDING : decision.getDecision() ? YES : NO;
+            buffer.putShort((short) statements.get(i).length)
+                    .put(statements.get(i))
+                    .put((byte) (decision.isGood() ? 1 : 0))
+                    .put(made)
+                    .putInt(decision.getRawDecisionPoints());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Read a whole save.
+     *
+     * @param file save file
+     * @return saved game state
+     * @throws IOException if the file can't be read or isn't a save of this version
+     */
+    public static GameState read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        Header header = readHeader(file.getFileName().toString(), buffer);
+        GameState state = new GameState();
+        state.setDay(header.getDay());
+        state.setMoney(header.getMoney());
+        state.setModTime(header.getModTime());
+        List<Decision> decisions = new ArrayList<>(header.getDecisionCount());
+        try {
+            for (int i = 0; i < header.getDecisionCount(); i++) {
+                byte[] statement = new byte[buffer.getShort()];
+                buffer.get(statement);
+                boolean good = buffer.get() == 1;
+                byte made = buffer.get();
+                Decision decision = new Decision(new String(statement, StandardCharsets.UTF_8), good,
+                        buffer.getInt());
+                if (made != PENDING) {
+                    decision.setDecision(made == YES);
+                }
+                decisions.add(decision);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new EOFException(file + " ended early");
+        }
+        state.setDecisions(decisions);
+        return state;
+    }
+
+    /**
+     * Read only the header of a save.
+     *
+     * @param file save file
+     * @return header
+     * @throws IOException if the file can't be read or isn't a save of this version
+     */
+    public static Header readHeader(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException(file + " ended early");
+                }
+            }
+        }
+        return readHeader(file.getFileName().toString(), buffer.flip());
+    }
+
+    private static Header readHeader(String fileName, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException(fileName + " is not a save");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException(fileName + " is save version " + version + ", not " + VERSION);
+        }
+        return new Header(fileName, buffer.getInt(), buffer.getInt(), buffer.getLong(),
+                buffer.getInt());
+    }
+
+    /**
+     * @param fileName save file name, with or without an extension
+     * @return name of the save, without its extension
+     */
+    public static String getSaveName(String fileName) {
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
+    /**
+     * @param fileName file name
+     * @return true if it is a binary or JSON save
+     */
+    public static boolean isSave(String fileName) {
+        return fileName.endsWith(EXTENSION) || fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * @param modTime modification time, formatted as in {@link GameState#getModTime()}
+     * @return seconds since the epoch of the local date and time, or 0 if it can't be parsed
+     */
+    static long toSeconds(String modTime) {
+        if (modTime == null) {
+            return 0;
+        }
+        try {
+            return LocalDateTime.parse(modTime, MOD_TIME_FORMAT).toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    /** What the load menu shows of a save, read from the start of its file. */
+    public static class Header {
+        private final String fileName;
+        private final int day;
+        private final int money;
+        private final long modTime;
+        private final int decisionCount;
+
+        public Header(String fileName, int day, int money, long modTime, int decisionCount) {
+            this.fileName = fileName;
+            this.day = day;
+            this.money = money;
+            this.modTime = modTime;
+            this.decisionCount = decisionCount;
+        }
+
+        /**
+         * @param fileName save file name
+         * @param state    saved game state
+         */
+        public Header(String fileName, GameState state) {
+            this(fileName, state.getDay(), state.getMoney(), toSeconds(state.getModTime()),
+                    state.getDecisions() == null ? 0 : state.getDecisions().size());
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * @return name of the save, without its extension
+         */
+        public String getName() {
+            return getSaveName(fileName);
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        public int getMoney() {
+            return money;
+        }
+
+        /**
+         * @return modification time, in seconds since the epoch of the local date and time
+         */
+        public long getModTimeSeconds() {
+            return modTime;
+        }
+
+        /**
+         * @return modification time, formatted as in {@link GameState#getModTime()}
+         */
+        public String getModTime() {
+            return LocalDateTime.ofEpochSecond(modTime, 0, ZoneOffset.UTC).format(MOD_TIME_FORMAT);
+        }
+
+        public int getDecisionCount() {
+            return decisionCount;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of the headers of every save in a directory, kept in a file alongside them so that the
+ * load menu doesn't need to open every save to list them. Each header is stored with the size and
+ * modification time of its save, and is only read from the save again once those change. Saves
+ * without an entry, e.g. old JSON saves, have their header read once and added.
+ *
+ * <p>The index file is:
+ * <pre>
+ *   int   magic ("SIDX")
+ *   short version
+ *   int   entry count
+ * </pre>
+ * followed by each entry:
+ * <pre>
+ *   short file name length, then the file name in UTF-8
+ *   long  file size
+ *   long  file modification time, in milliseconds
+ *   int   day
+ *   int   money
+ *   long  modification time, as in the save's header
+ *   int   decision count
+ * </pre>
+ */
+public class SaveIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SaveIndex.class);
+    public static final int MAGIC = 0x53494458;
+    public static final short VERSION = 1;
+    public static final String FILE_NAME = "index.bin";
+    private static final int ENTRY_BYTES = 2 + 8 + 8 + 4 + 4 + 8 + 4;
+
+    private final Path directory;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean changed;
+    private int headerReads;
+
+    private SaveIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read the index of a save directory. A missing or unreadable index is treated as empty, so
+     * every save's header is read again.
+     *
+     * @param directory save directory
+     * @return index
+     */
+    public static SaveIndex read(Path directory) {
+        SaveIndex index = new SaveIndex(directory);
+        Path file = index.getPath();
+        try {
+            index.readEntries(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (NoSuchFileException e) {
+            index.changed = true;
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warn("Rebuilding save index {}: {}", file, e.getMessage());
+            index.entries.clear();
+            index.changed = true;
+        }
+        return index;
+    }
+
+    /**
+     * List the saves in the directory, reading the headers of saves which aren't in the index or
+     * have changed since they were added. Where a save has both a binary and a JSON file, only the
+     * binary one is listed.
+     *
+     * @return headers of the saves, in order of their names
+     */
+    public synchronized List<SaveFile.Header> list() {
+        Map<String, SaveFile.Header> saves = new TreeMap<>();
+        Map<String, Entry> found = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!SaveFile.isSave(fileName)) {
+                    continue;
+                }
+                Entry entry = getEntry(file, fileName);
+                if (entry == null) {
+                    continue;
+                }
+                found.put(fileName, entry);
+                String name = entry.header.getName();
+                if (fileName.endsWith(SaveFile.EXTENSION) || !saves.containsKey(name)) {
+                    saves.put(name, entry.header);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // No saves yet
+        } catch (IOException e) {
+            logger.error("Could not list saves in {}", directory, e);
+        }
+        if (!found.keySet().equals(entries.keySet())) {
+            changed = true;
+        }
+        entries.clear();
+        entries.putAll(found);
+        return new ArrayList<>(saves.values());
+    }
+
+    /**
+     * Add or update the entry of a save which has just been written, reading its header back from
+     * the file so that the entry always matches what is on disk.
+     *
+     * @param fileName save file name
+     */
+    public synchronized void put(String fileName) {
+        Entry entry = getEntry(directory.resolve(fileName), fileName);
+        if (entry != null) {
+            entries.put(fileName, entry);
+        }
+    }
+
+    /**
+     * @return the index, ready to be written to {@link #getPath()}
+     */
+    public synchronized byte[] toBytes() {
+        List<byte[]> names = new ArrayList<>(entries.size());
+        int size = 4 + 2 + 4;
+        for (String fileName : entries.keySet()) {
+            byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            size += ENTRY_BYTES + name.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION).putInt(entries.size());
+        int i = 0;
+        for (Entry entry : entries.values()) {
+            byte[] name = names.get(i++);
+            SaveFile.Header header = entry.header;
+            buffer.putShort((short) name.length)
+                    .put(name)
+                    .putLong(entry.size)
+                    .putLong(entry.lastModified)
+                    .putInt(header.getDay())
+                    .putInt(header.getMoney())
+                    .putLong(header.getModTimeSeconds())
+                    .putInt(header.getDecisionCount());
+        }
+        changed = false;
+        return buffer.array();
+    }
+
+    /**
+     * @return true if the index has changed since it was read or last written
+     */
+    public synchronized boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * @return number of save headers read from the saves themselves, rather than the index
+     */
+    public synchronized int getHeaderReads() {
+        return headerReads;
+    }
+
+    public Path getPath() {
+        return directory.resolve(FILE_NAME);
+    }
+
+    private Entry getEntry(Path file, String fileName) {
+        try {
+            long size = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            Entry entry = entries.get(fileName);
+            if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+                return entry;
+            }
+            headerReads++;
+            changed = true;
+            SaveFile.Header header = fileName.endsWith(SaveFile.EXTENSION)
+                    ? SaveFile.readHeader(file) : readJsonHeader(file, fileName);
+            return new Entry(header, size, lastModified);
+        } catch (Exception e) {
+            logger.warn("Couldn't read save {}: {}", fileName, e.getMessage());
+            return null;
+        }
+    }
+
+    /** Read the header fields of a JSON save, without reading its decisions into objects. */
+    private static SaveFile.Header readJsonHeader(Path file, String fileName) throws IOException {
+        JsonValue save = new JsonReader().parse(Files.readString(file, StandardCharsets.UTF_8));
+        if (save == null) {
+            throw new IOException(fileName + " is empty");
+        }
+        JsonValue decisions = save.get("decisions");
+        return new SaveFile.Header(fileName, save.getInt("day", 0), save.getInt("money", 0),
+                SaveFile.toSeconds(save.getString("ModTime", null)),
+                decisions == null ? 0 : decisions.size);
+    }
+
+    private void readEntries(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+            throw new IOException("not a save index of version " + VERSION);
+        }
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            String fileName = new String(name, StandardCharsets.UTF_8);
+            long size = buffer.getLong();
+            long lastModified = buffer.getLong();
+            SaveFile.Header header = new SaveFile.Header(fileName, buffer.getInt(), buffer.getInt(),
+                    buffer.getLong(), buffer.getInt());
+            entries.put(fileName, new Entry(header, size, lastModified));
+        }
+    }
+
+    /** A save's header, and the size and modification time of the save it was read from. */
+    private static class Entry {
+        private final SaveFile.Header header;
+        private final long size;
+        private final long lastModified;
+
+        private Entry(SaveFile.Header header, long size, long lastModified) {
+            this.header = header;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.csse3200.game.files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Writes save files on a background thread, so that saving doesn't hold up the frame.
+ *
+ * <p>Each save is written to a temporary file next to it, synced to disk, then renamed over the
+ * save, so a crash or failure part way through a write leaves the previous save as it was. A save
+ * which is written again before its last write has started is only written once, with the newest
+ * contents.
+ */
+public class SaveWriter {
+    private static final Logger logger = LoggerFactory.getLogger(SaveWriter.class);
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    private final ExecutorService executor;
+    private final Map<Path, PendingWrite> pending = new HashMap<>();
+    private int coalescedCount;
+    // Writes queued or being written, including any queued by others as they complete
+    private int unfinished;
+
+    public SaveWriter() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            // Saves are synced as they are written, so the game can exit without waiting for them
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a save to be written.
+     *
+     * @param file     file to write
+     * @param contents serializes the save, called on the writer thread, so it must only use a
+     *                 snapshot of the game's state
+     * @return future completed once the save is on disk, or completed exceptionally if it couldn't
+     *         be written
+     */
+    public synchronized CompletableFuture<Void> write(Path file, Supplier<byte[]> contents) {
+        PendingWrite write = pending.get(file);
+        if (write != null) {
+            // Not started yet, so it can write the newer contents instead
+            write.contents = contents;
+            coalescedCount++;
+            return write.future;
+        }
+        write = new PendingWrite(contents);
+        pending.put(file, write);
+        unfinished++;
+        executor.execute(() -> run(file));
+        return write.future;
+    }
+
+    /**
+     * Block until every queued save has been written, including saves queued as others complete.
+     */
+    public void flush() {
+        while (hasUnfinished()) {
+            try {
+                executor.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Could not wait for saves to be written", e);
+                return;
+            }
+        }
+    }
+
+    private synchronized boolean hasUnfinished() {
+        return unfinished > 0;
+    }
+
+    /**
+     * @return number of saves which were replaced by a newer one before they were written
+     */
+    public synchronized int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Write any queued saves and stop the writer thread.
+     */
+    public void dispose() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void run(Path file) {
+        PendingWrite write;
+        synchronized (this) {
+            write = pending.remove(file);
+        }
+        try {
+            writeAtomically(file, write.contents.get());
+            logger.debug("Wrote save {}", file);
+            write.future.complete(null);
+        } catch (Exception e) {
+            logger.error("Could not write save {}", file, e);
+            write.future.completeExceptionally(e);
+        } finally {
+            // A write interrupted part way through shouldn't stop the next one
+            Thread.interrupted();
+            synchronized (this) {
+                unfinished--;
+            }
+        }
+    }
+
+    private void writeAtomically(Path file, byte[] contents) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(file.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                write(channel, buffer);
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * Write part of a save to its temporary file.
+     *
+     * @param channel temporary file
+     * @param buffer  contents left to write
+     * @throws IOException if the write fails
+     */
+    protected void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        channel.write(buffer);
+    }
+
+    /** Sync the rename to disk, where the platform allows a directory to be opened. */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.debug("Could not sync {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /** A save waiting to be written, and the future completed once it is. */
+    private static class PendingWrite {
+        private Supplier<byte[]> contents;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingWrite(Supplier<byte[]> contents) {
+            this.contents = contents;
+        }
+    }
+}
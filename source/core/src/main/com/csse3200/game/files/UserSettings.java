@@ -89,6 +89,24 @@ public class UserSettings {
      * ui Scale. Currently unused, but can be implemented.
      */
     public float uiScale = 1f;
+    /**
+     * Draw the world from a captured snapshot of the simulation rather than directly from entities.
+     */
+    public boolean doubleBufferedRendering = false;
+    /**
+     * Lower the world render resolution while frames are taking longer than the FPS cap allows.
+     */
+    public boolean dynamicResolution = true;
+    /**
+     * Keep decoded images in a cache on disk, so later launches can skip decoding them.
+     */
+    public boolean textureCache = false;
+    /**
+     * Megabytes of textures which can stay loaded, including those in use. Over it, textures nothing
+     * is using are unloaded. 0 for no budget, which unloads released textures straight away but keeps
+     * the previous screen's assets loaded for the next one.
+     */
+    public int textureResidencyMegabytes = 0;
     public DisplaySettings displayMode = null;
     /**
      * Play input key binds
@@ -0,0 +1,73 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares animations between every {@link AnimationRenderComponent} using the same atlas. An
+ * animation is only read from the atlas the first time it is requested with a given name, frame
+ * duration and play mode, so spawning the hundredth customer of a type doesn't search the atlas
+ * and allocate its frames again.
+ *
+ * <p>Animations are immutable once built, and the play time is kept by each component. Atlases
+ * are held weakly, so unloading an atlas from the resource service also drops its animations.
+ */
+public class AnimationCache {
+  private static final Map<TextureAtlas, Map<Key, Animation<TextureRegion>>> animations =
+      new WeakHashMap<>();
+  private static int builds = 0;
+
+  /**
+   * Get the shared animation for a name in an atlas, building it on first use.
+   *
+   * @param atlas atlas containing the animation frames
+   * @param name name of the animation regions in the atlas
+   * @param frameDuration how long, in seconds, each frame is shown for
+   * @param playMode how the animation is played
+   * @return shared animation, or null if the atlas has no regions with that name
+   */
+  public static Animation<TextureRegion> get(
+      TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    Map<Key, Animation<TextureRegion>> atlasAnimations =
+        animations.computeIfAbsent(atlas, a -> new HashMap<>());
+    Key key = new Key(name, frameDuration, playMode);
+    Animation<TextureRegion> animation = atlasAnimations.get(key);
+    if (animation != null) {
+      return animation;
+    }
+
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    animation = new Animation<>(frameDuration, regions, playMode);
+    atlasAnimations.put(key, animation);
+    builds++;
+    return animation;
+  }
+
+  /** @return number of animations built from an atlas so far, for profiling */
+  public static int getBuildCount() {
+    return builds;
+  }
+
+  /** Forget every cached animation. */
+  public static void clear() {
+    animations.clear();
+    builds = 0;
+  }
+
+  private record Key(String name, float frameDuration, PlayMode playMode) {}
+
+  private AnimationCache() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -0,0 +1,24 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * An extra layer drawn on top of each frame of an {@link AnimationRenderComponent}, e.g. an item
+ * held by a character. Layers are told which animation and frame is showing so they can anchor
+ * themselves to it, instead of every combination being baked into its own atlas.
+ */
+public interface AnimationLayer {
+  /**
+   * Draw the layer over the frame that was just drawn.
+   *
+   * @param batch batch to draw to
+   * @param animation name of the playing animation
+   * @param frameIndex index of the frame within the animation
+   * @param x x position of the frame
+   * @param y y position of the frame
+   * @param width width the frame was drawn at
+   * @param height height the frame was drawn at
+   */
+  void draw(SpriteBatch batch, String animation, int frameIndex, float x, float y, float width,
+      float height);
+}
@@ -4,17 +4,17 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +29,11 @@ import java.util.Map;
  *   animator.startAnimation("attack");
  * </pre>
  *
+ * Animations are shared through {@link AnimationCache}, so each component only holds references to
+ * them and the time its current animation started. Play time comes from the shared animation clock
+ * in {@link GameTime}, which stops while the game is paused, so animations keep time whether or
+ * not they are drawn.
+ *
  * Texture atlases can be created using: <br>
  * - libgdx texture packer (included in External Libraries/gdx-tools) <br>
  * - gdx-texture-packer-gui (recommended) https://github.com/crashinvaders/gdx-texture-packer-gui <br>
@@ -39,9 +44,10 @@ public class AnimationRenderComponent extends RenderComponent {
   private final GameTime timeSource;
   private TextureAtlas atlas;
   private final Map<String, Animation<TextureRegion>> animations;
+  private final List<AnimationLayer> layers = new ArrayList<>(1);
   private Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
-  private float animationPlayTime;
+  private float animationStartTime;
 
   /**
    * Create the component for a given texture atlas.
@@ -73,18 +79,18 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
-      logger.warn("Animation {} not found in texture atlas", name);
-      return false;
-    } else if (animations.containsKey(name)) {
+    if (animations.containsKey(name)) {
       logger.warn(
           "Animation {} already added in texture atlas. Animations should only be added once.",
           name);
       return false;
     }
+    Animation<TextureRegion> animation = AnimationCache.get(atlas, name, frameDuration, playMode);
+    if (animation == null) {
+      logger.warn("Animation {} not found in texture atlas", name);
+      return false;
+    }
 
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
     animations.put(name, animation);
     logger.debug("Adding animation {}", name);
     return true;
@@ -130,7 +136,7 @@ public class AnimationRenderComponent extends RenderComponent {
 
     currentAnimation = animation;
     currentAnimationName = name;
-    animationPlayTime = 0f;
+    animationStartTime = getAnimationTime();
     logger.debug("Starting animation {}", name);
   }
 
@@ -146,7 +152,6 @@ public class AnimationRenderComponent extends RenderComponent {
     logger.debug("Stopping animation {}", currentAnimationName);
     currentAnimation = null;
     currentAnimationName = null;
-    animationPlayTime = 0f;
     return true;
   }
 
@@ -163,7 +168,39 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if animation was playing and has now finished, false otherwise.
    */
   public boolean isFinished() {
-    return currentAnimation != null && currentAnimation.isAnimationFinished(animationPlayTime);
+    return currentAnimation != null && currentAnimation.isAnimationFinished(getPlayTime());
+  }
+
+  /**
+   * How long the current animation has been playing for, not counting time paused.
+   * @return play time in seconds, or 0 if not playing
+   */
+  public float getPlayTime() {
+    if (currentAnimation == null) {
+      return 0f;
+    }
+    return getAnimationTime() - animationStartTime;
+  }
+
+  private float getAnimationTime() {
+    return timeSource != null ? timeSource.getAnimationTime() : 0f;
+  }
+
+  /**
+   * Add a layer to draw on top of every frame, e.g. a held item.
+   * @param layer layer to add
+   */
+  public void addLayer(AnimationLayer layer) {
+    layers.add(layer);
+  }
+
+  /**
+   * Remove a previously added layer.
+   * @param layer layer to remove
+   * @return true if the layer was removed
+   */
+  public boolean removeLayer(AnimationLayer layer) {
+    return layers.remove(layer);
   }
 
   @Override
@@ -171,11 +208,33 @@ public class AnimationRenderComponent extends RenderComponent {
     if (currentAnimation == null) {
       return;
     }
-    TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
+    float playTime = getPlayTime();
+    TextureRegion region = currentAnimation.getKeyFrame(playTime);
     Vector2 pos = entity.getPosition();
     Vector2 scale = entity.getScale();
     batch.draw(region, pos.x, pos.y, scale.x, scale.y);
-    animationPlayTime += timeSource.getDeltaTime();
+    if (!layers.isEmpty()) {
+      int frameIndex = currentAnimation.getKeyFrameIndex(playTime);
+      for (AnimationLayer layer : layers) {
+        layer.draw(batch, currentAnimationName, frameIndex, pos.x, pos.y, scale.x, scale.y);
+      }
+    }
+  }
+
+  @Override
+  public boolean capture(RenderSnapshot snapshot) {
+    if (currentAnimation == null) {
+      return true;
+    }
+    if (!layers.isEmpty()) {
+      // Layers draw more than one quad, so this is drawn live
+      return false;
+    }
+    TextureRegion region = currentAnimation.getKeyFrame(getPlayTime());
+    Vector2 pos = entity.getPosition();
+    Vector2 scale = entity.getScale();
+    snapshot.add().set(region, pos.x, pos.y, scale.x, scale.y).setOrder(getZIndex(), getLayer());
+    return true;
   }
 
   @Override
@@ -202,13 +261,5 @@ public class AnimationRenderComponent extends RenderComponent {
     return 2;
   }
 
-  public String getAtlasString() {
-    if (this.atlas.equals(ServiceLocator.getResourceService().getAsset(
-            "images/player/" + "rawTomato.atlas", TextureAtlas.class))) {
-      return "rawTomato";
-    }
-    return "player";
-  }
-
   public TextureAtlas getAtlas() {return this.atlas;}
 }
@@ -0,0 +1,203 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.FloatBuffer;
+
+/**
+ * A group covering the whole stage which draws its children into a frame buffer, then draws that
+ * buffer each frame instead of its children. The buffer is only redrawn when the group is dirty.
+ *
+ * <p>Anything which changes a child's layout (text, size, adding or removing actors) marks the group
+ * dirty automatically. Changes which don't affect layout, such as colour or visibility, need {@link
+ * #invalidateCache(Actor)}. While any child has actions running, e.g. a fade, the children are drawn
+ * live instead.
+ */
+public class CachedGroup extends WidgetGroup implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(CachedGroup.class);
+  private static final String OWNER = "HUD";
+  private final FloatBuffer clearColor = BufferUtils.newFloatBuffer(16);
+  private FrameBuffer buffer;
+  private boolean dirty = true;
+  private boolean caching = true;
+  private int redrawCount = 0;
+
+  public CachedGroup() {
+    setFillParent(true);
+    setTouchable(Touchable.childrenOnly);
+  }
+
+  /**
+   * Mark the cached group containing an actor as needing a redraw, for changes which don't affect
+   * layout. Does nothing if the actor isn't in a cached group.
+   *
+   * @param actor changed actor
+   */
+  public static void invalidateCache(Actor actor) {
+    for (Actor current = actor; current != null; current = current.getParent()) {
+      if (current instanceof CachedGroup) {
+        ((CachedGroup) current).markDirty();
+        return;
+      }
+    }
+  }
+
+  /** Mark this group as needing a redraw. */
+  public void markDirty() {
+    dirty = true;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  /** Used by tests to check what marks the group dirty. */
+  void markClean() {
+    dirty = false;
+  }
+
+  /**
+   * Set whether the children are drawn from the cache, or live every frame as a normal group.
+   *
+   * @param caching true to cache
+   */
+  public void setCaching(boolean caching) {
+    this.caching = caching;
+    if (!caching) {
+      disposeBuffer();
+    }
+    dirty = true;
+  }
+
+  public boolean isCaching() {
+    return caching;
+  }
+
+  /**
+   * @return number of times the cache has been redrawn
+   */
+  public int getRedrawCount() {
+    return redrawCount;
+  }
+
+  @Override
+  public void invalidate() {
+    super.invalidate();
+    dirty = true;
+  }
+
+  @Override
+  public void draw(Batch batch, float parentAlpha) {
+    validate();
+    Stage stage = getStage();
+    if (!caching || stage == null || hasActions(this)) {
+      // Whatever is animating will have changed by the time caching resumes
+      dirty = true;
+      super.draw(batch, parentAlpha);
+      return;
+    }
+
+    int width = Math.max(1, Gdx.graphics.getBackBufferWidth());
+    int height = Math.max(1, Gdx.graphics.getBackBufferHeight());
+    if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+      disposeBuffer();
+      buffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+      GpuMemoryTracker.track(buffer, OWNER);
+      dirty = true;
+    }
+    if (dirty) {
+      redraw(batch, stage);
+    }
+
+    int srcFunc = batch.getBlendSrcFunc();
+    int dstFunc = batch.getBlendDstFunc();
+    int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+    int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+    float color = batch.getPackedColor();
+
+    // The buffer holds premultiplied alpha, so it's tinted and blended as such
+    float alpha = getColor().a * parentAlpha;
+    batch.setColor(alpha, alpha, alpha, alpha);
+    batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    Camera camera = stage.getCamera();
+    float viewWidth = stage.getViewport().getWorldWidth();
+    float viewHeight = stage.getViewport().getWorldHeight();
+    // Frame buffer textures are upside down
+    batch.draw(buffer.getColorBufferTexture(), camera.position.x - viewWidth / 2,
+        camera.position.y - viewHeight / 2, viewWidth, viewHeight, 0, 1, 1, 0);
+
+    batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+    batch.setPackedColor(color);
+  }
+
+  private void redraw(Batch batch, Stage stage) {
+    dirty = false;
+    redrawCount++;
+    int srcFunc = batch.getBlendSrcFunc();
+    int dstFunc = batch.getBlendDstFunc();
+    int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+    int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+    float color = batch.getPackedColor();
+    Gdx.gl.glGetFloatv(GL20.GL_COLOR_CLEAR_VALUE, clearColor);
+
+    batch.end();
+    buffer.begin();
+    Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+    Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    // Accumulate alpha as well as colour, so the buffer can be drawn premultiplied afterwards
+    batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+        GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    batch.begin();
+    super.draw(batch, 1f);
+    batch.end();
+    buffer.end();
+
+    stage.getViewport().apply();
+    Gdx.gl.glClearColor(clearColor.get(0), clearColor.get(1), clearColor.get(2), clearColor.get(3));
+    batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+    batch.setPackedColor(color);
+    batch.begin();
+    logger.trace("Redrew cached HUD layer ({} redraws)", redrawCount);
+  }
+
+  private static boolean hasActions(Actor actor) {
+    if (actor.hasActions()) {
+      return true;
+    }
+    if (actor instanceof Group) {
+      for (Actor child : ((Group) actor).getChildren()) {
+        if (hasActions(child)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private void disposeBuffer() {
+    if (buffer != null) {
+      GpuMemoryTracker.untrack(buffer);
+      buffer.dispose();
+      buffer = null;
+    }
+  }
+
+  @Override
+  public void dispose() {
+    disposeBuffer();
+  }
+}
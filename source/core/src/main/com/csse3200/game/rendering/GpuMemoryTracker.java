@@ -0,0 +1,240 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps an account of live GPU resources (textures, frame buffers and font pages) so texture memory
+ * can be inspected and leaks found. Each resource is recorded with its dimensions, format, an
+ * estimate of the bytes it occupies and an owner used to group the report. The acquiring call site
+ * is also recorded when {@link #setRecordCallSites(boolean)} is on, since capturing it is costly.
+ *
+ * <p>Estimates assume uncompressed storage at the resource's pixel format, plus a third for mipmap
+ * chains, which is roughly what desktop drivers allocate.
+ */
+public class GpuMemoryTracker {
+  private static final Logger logger = LoggerFactory.getLogger(GpuMemoryTracker.class);
+  private static final Map<Object, Entry> live = new IdentityHashMap<>();
+  private static long totalBytes;
+  private static boolean recordCallSites = false;
+
+  private GpuMemoryTracker() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Start tracking a texture. Tracking a texture that is already tracked does nothing.
+   *
+   * @param texture texture to track
+   * @param owner owner to group the texture under in reports, e.g. an asset directory or class
+   */
+  public static void track(Texture texture, String owner) {
+    if (texture == null) {
+      return;
+    }
+    Pixmap.Format format = texture.getTextureData() == null
+        ? Pixmap.Format.RGBA8888 : texture.getTextureData().getFormat();
+    boolean mipMaps = texture.getTextureData() != null && texture.getTextureData().useMipMaps();
+    track(texture, owner, texture.getWidth(), texture.getHeight(), format, mipMaps);
+  }
+
+  /**
+   * Start tracking a frame buffer's colour attachment.
+   *
+   * @param frameBuffer frame buffer to track
+   * @param owner owner to group the frame buffer under in reports
+   */
+  public static void track(FrameBuffer frameBuffer, String owner) {
+    if (frameBuffer == null) {
+      return;
+    }
+    track(frameBuffer, owner, frameBuffer.getWidth(), frameBuffer.getHeight(),
+        Pixmap.Format.RGBA8888, false);
+  }
+
+  /**
+   * Start tracking a GPU resource.
+   *
+   * @param resource resource to track, compared by identity
+   * @param owner owner to group the resource under in reports
+   * @param width width in pixels
+   * @param height height in pixels
+   * @param format pixel format, null if unknown (assumed RGBA8888)
+   * @param mipMaps whether the resource has a mipmap chain
+   */
+  public static synchronized void track(
+      Object resource, String owner, int width, int height, Pixmap.Format format, boolean mipMaps) {
+    if (live.containsKey(resource)) {
+      return;
+    }
+    long bytes = estimateBytes(width, height, format, mipMaps);
+    String callSite = recordCallSites ? findCallSite() : null;
+    live.put(resource, new Entry(owner, width, height, format, bytes, callSite));
+    totalBytes += bytes;
+  }
+
+  /**
+   * Stop tracking a resource, normally when it is disposed.
+   *
+   * @param resource previously tracked resource, ignored if not tracked
+   */
+  public static synchronized void untrack(Object resource) {
+    Entry entry = live.remove(resource);
+    if (entry != null) {
+      totalBytes -= entry.bytes;
+    }
+  }
+
+  /**
+   * @param resource resource to check
+   * @return true if the resource is tracked
+   */
+  public static synchronized boolean isTracked(Object resource) {
+    return live.containsKey(resource);
+  }
+
+  /** @return number of live tracked resources */
+  public static synchronized int getLiveCount() {
+    return live.size();
+  }
+
+  /** @return estimated bytes used by all live tracked resources */
+  public static synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /** @return estimated live bytes grouped by owner, sorted by owner */
+  public static synchronized Map<String, Long> getBytesByOwner() {
+    Map<String, Long> byOwner = new TreeMap<>();
+    for (Entry entry : live.values()) {
+      byOwner.merge(entry.owner, entry.bytes, Long::sum);
+    }
+    return byOwner;
+  }
+
+  /**
+   * Sets whether the call site that created each resource is recorded. Off by default as it walks
+   * the stack for every tracked resource.
+   *
+   * @param record true to record call sites
+   */
+  public static void setRecordCallSites(boolean record) {
+    recordCallSites = record;
+  }
+
+  /**
+   * Build a report of live GPU memory by owner, listing each resource under its owner.
+   *
+   * @return human readable report
+   */
+  public static synchronized String report() {
+    Map<String, List<Entry>> byOwner = new TreeMap<>();
+    for (Entry entry : live.values()) {
+      byOwner.computeIfAbsent(entry.owner, key -> new ArrayList<>()).add(entry);
+    }
+
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("GPU memory: %d resources, %.1f MB%n", live.size(), toMegabytes(totalBytes)));
+    for (Map.Entry<String, List<Entry>> owner : byOwner.entrySet()) {
+      long ownerBytes = 0;
+      for (Entry entry : owner.getValue()) {
+        ownerBytes += entry.bytes;
+      }
+      report.append(String.format("  %s: %d resources, %.1f MB%n",
+          owner.getKey(), owner.getValue().size(), toMegabytes(ownerBytes)));
+      for (Entry entry : owner.getValue()) {
+        report.append(String.format("    %dx%d %s %d KB", entry.width, entry.height, entry.format,
+            entry.bytes / 1024));
+        if (entry.callSite != null) {
+          report.append(" at ").append(entry.callSite);
+        }
+        report.append(System.lineSeparator());
+      }
+    }
+    return report.toString();
+  }
+
+  /** Log the report at info level. */
+  public static void logReport() {
+    logger.info(report());
+  }
+
+  /** Forget every tracked resource, e.g. between tests. */
+  public static synchronized void clear() {
+    live.clear();
+    totalBytes = 0;
+  }
+
+  /**
+   * Estimate the bytes a resource occupies on the GPU.
+   *
+   * @param width width in pixels
+   * @param height height in pixels
+   * @param format pixel format, null for RGBA8888
+   * @param mipMaps whether the resource has a mipmap chain
+   * @return estimated bytes
+   */
+  public static long estimateBytes(int width, int height, Pixmap.Format format, boolean mipMaps) {
+    long bytes = (long) width * height * bytesPerPixel(format);
+    return mipMaps ? bytes * 4 / 3 : bytes;
+  }
+
+  /**
+   * @param bytes byte count
+   * @return bytes in megabytes
+   */
+  public static float toMegabytes(long bytes) {
+    return bytes / (1024f * 1024f);
+  }
+
+  private static int bytesPerPixel(Pixmap.Format format) {
+    if (format == null) {
+      return 4;
+    }
+    return switch (format) {
+      case Alpha, Intensity -> 1;
+      case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+      case RGB888 -> 3;
+      default -> 4;
+    };
+  }
+
+  private static String findCallSite() {
+    for (StackTraceElement element : new Throwable().getStackTrace()) {
+      String className = element.getClassName();
+      if (!className.equals(GpuMemoryTracker.class.getName())
+          && !className.startsWith("com.csse3200.game.services.ResourceService")) {
+        return element.toString();
+      }
+    }
+    return null;
+  }
+
+  private static class Entry {
+    private final String owner;
+    private final int width;
+    private final int height;
+    private final Pixmap.Format format;
+    private final long bytes;
+    private final String callSite;
+
+    private Entry(String owner, int width, int height, Pixmap.Format format, long bytes,
+        String callSite) {
+      this.owner = owner;
+      this.width = width;
+      this.height = height;
+      this.format = format == null ? Pixmap.Format.RGBA8888 : format;
+      this.bytes = bytes;
+      this.callSite = callSite;
+    }
+  }
+}
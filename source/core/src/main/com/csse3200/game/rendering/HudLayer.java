@@ -0,0 +1,16 @@
+package com.csse3200.game.rendering;
+
+/**
+ * Layers of the HUD, from bottom to top. Actors are grouped by how often they change so that the
+ * ones which rarely change don't need to be drawn again every frame.
+ *
+ * @see RenderService#getHudLayer(HudLayer)
+ */
+public enum HudLayer {
+  /** Chrome which never changes once created, e.g. the docket pin line. Cached. */
+  STATIC,
+  /** Panels which change a few times a second at most, e.g. the stats and inventory. Cached. */
+  SLOW,
+  /** Widgets which change every frame or are animated. Drawn straight onto the stage. */
+  DYNAMIC
+}
@@ -43,6 +43,18 @@ public abstract class RenderComponent extends Component implements Renderable, D
     return -entity.getPosition().y;
   }
 
+  /**
+   * Write this renderable's current state into a render snapshot instead of drawing it. Components
+   * which can describe themselves as a single quad should override this so they can be drawn from a
+   * {@link RenderSnapshot}; the default draws live.
+   *
+   * @param snapshot snapshot to write into
+   * @return true if the state was captured, false if the component must be drawn live
+   */
+  public boolean capture(RenderSnapshot snapshot) {
+    return false;
+  }
+
   /**
    * Draw the renderable. Should be called only by the renderer, not manually.
    *
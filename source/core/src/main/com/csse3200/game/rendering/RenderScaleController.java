@@ -0,0 +1,138 @@
+package com.csse3200.game.rendering;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapts the world render resolution to the measured frame time. When frames take longer than the
+ * budget for a sustained period, the scale is stepped down towards a minimum; once frames are
+ * comfortably under budget again it is stepped back up. Separate thresholds and frame counts for
+ * each direction give hysteresis, so the scale doesn't oscillate on a noisy frame time.
+ *
+ * <p>While over budget, non-critical systems can also ask {@link #shouldSkipNonCriticalTick()} to
+ * run at a reduced tick rate.
+ *
+ * <p>The controller has no libGDX dependencies so it can be driven by a synthetic frame-time feed.
+ */
+public class RenderScaleController {
+  private static final Logger logger = LoggerFactory.getLogger(RenderScaleController.class);
+  /** Frame time above budget * this is considered over budget. */
+  private static final float OVER_BUDGET_RATIO = 1.1f;
+  /** Frame time below budget * this is considered to have headroom to scale back up. */
+  private static final float UNDER_BUDGET_RATIO = 0.75f;
+  /** Weight of the newest sample in the frame time moving average. */
+  private static final float SMOOTHING = 0.1f;
+  /** Non-critical systems tick once every this many frames while over budget. */
+  private static final int REDUCED_TICK_INTERVAL = 4;
+
+  private final float budgetMs;
+  private final float minScale;
+  private final float maxScale;
+  private final float step;
+  private final int framesToDecrease;
+  private final int framesToIncrease;
+
+  private float scale;
+  private float averageMs;
+  private int overBudgetFrames;
+  private int underBudgetFrames;
+  private long frame;
+
+  /**
+   * Create a controller with default limits and hysteresis.
+   *
+   * @param budgetMs target frame time in milliseconds, e.g. 16.7 for 60 fps
+   */
+  public RenderScaleController(float budgetMs) {
+    this(budgetMs, 0.5f, 1f, 0.125f, 30, 120);
+  }
+
+  /**
+   * Create a controller.
+   *
+   * @param budgetMs target frame time in milliseconds
+   * @param minScale smallest render scale, as a fraction of native resolution
+   * @param maxScale largest render scale, normally 1
+   * @param step amount the scale changes by on each adjustment
+   * @param framesToDecrease consecutive over budget frames before scaling down
+   * @param framesToIncrease consecutive under budget frames before scaling up
+   * @requires 0 < minScale <= maxScale, step > 0, framesToDecrease > 0, framesToIncrease > 0
+   */
+  public RenderScaleController(
+      float budgetMs,
+      float minScale,
+      float maxScale,
+      float step,
+      int framesToDecrease,
+      int framesToIncrease) {
+    this.budgetMs = budgetMs;
+    this.minScale = minScale;
+    this.maxScale = maxScale;
+    this.step = step;
+    this.framesToDecrease = framesToDecrease;
+    this.framesToIncrease = framesToIncrease;
+    this.scale = maxScale;
+    this.averageMs = budgetMs;
+  }
+
+  /**
+   * Feed the time taken by the last frame. Should be called once per frame.
+   *
+   * @param frameTimeMs last frame time in milliseconds
+   * @return render scale to use for the next frame
+   */
+  public float update(float frameTimeMs) {
+    frame++;
+    averageMs += (frameTimeMs - averageMs) * SMOOTHING;
+
+    if (averageMs > budgetMs * OVER_BUDGET_RATIO) {
+      overBudgetFrames++;
+      underBudgetFrames = 0;
+      if (overBudgetFrames >= framesToDecrease && scale > minScale) {
+        setScale(Math.max(minScale, scale - step));
+        overBudgetFrames = 0;
+      }
+    } else if (averageMs < budgetMs * UNDER_BUDGET_RATIO) {
+      underBudgetFrames++;
+      overBudgetFrames = 0;
+      if (underBudgetFrames >= framesToIncrease && scale < maxScale) {
+        setScale(Math.min(maxScale, scale + step));
+        underBudgetFrames = 0;
+      }
+    } else {
+      overBudgetFrames = 0;
+      underBudgetFrames = 0;
+    }
+    return scale;
+  }
+
+  /** @return current render scale, as a fraction of native resolution */
+  public float getScale() {
+    return scale;
+  }
+
+  /** @return smoothed frame time in milliseconds */
+  public float getAverageFrameTime() {
+    return averageMs;
+  }
+
+  /** @return true if the smoothed frame time is over budget */
+  public boolean isOverBudget() {
+    return averageMs > budgetMs * OVER_BUDGET_RATIO;
+  }
+
+  /**
+   * Whether a non-critical system (background frames, hover UIs, debug text) should skip its update
+   * this frame. While over budget these only run every {@value #REDUCED_TICK_INTERVAL} frames.
+   *
+   * @return true to skip this frame's update
+   */
+  public boolean shouldSkipNonCriticalTick() {
+    return isOverBudget() && frame % REDUCED_TICK_INTERVAL != 0;
+  }
+
+  private void setScale(float newScale) {
+    logger.debug("Changing render scale from {} to {} ({} ms/frame)", scale, newScale, averageMs);
+    scale = newScale;
+  }
+}
@@ -1,20 +1,32 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.csse3200.game.utils.SortedIntMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
  */
 public class RenderService implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(RenderService.class);
   private static final int INITIAL_LAYER_CAPACITY = 4;
   private static final int INITIAL_CAPACITY = 4;
   private Stage stage;
   private DebugRenderer debugRenderer;
+  private RenderScaleController scaleController;
 
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
@@ -22,12 +34,32 @@ public class RenderService implements Disposable {
   private final SortedIntMap<Array<Renderable>> renderables =
       new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
 
+  /** Every registered renderable, to catch ones registered more than once */
+  private final ObjectSet<Renderable> registered = new ObjectSet<>();
+  private int duplicateRegistrations = 0;
+
+  /** Draws in the last frame, only kept while draw counting is on */
+  private boolean countingDraws = false;
+  private final ObjectIntMap<Renderable> drawsByRenderable = new ObjectIntMap<>();
+  private final ObjectIntMap<Class<?>> drawsByClass = new ObjectIntMap<>();
+  private final IntIntMap drawsByLayer = new IntIntMap();
+
+  /** Cached HUD layers on the stage, created when first asked for */
+  private final Map<HudLayer, CachedGroup> hudLayers = new EnumMap<>(HudLayer.class);
+
   /**
-   * Register a new renderable.
+   * Register a new renderable. Registering a renderable which is already registered is ignored,
+   * since it would otherwise be drawn twice every frame.
    *
    * @param renderable new renderable.
    */
   public void register(Renderable renderable) {
+    if (!registered.add(renderable)) {
+      duplicateRegistrations++;
+      logger.warn("{} is already registered, ignoring duplicate registration",
+          renderable.getClass().getSimpleName());
+      return;
+    }
     int layerIndex = renderable.getLayer();
     if (!renderables.containsKey(layerIndex)) {
       renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
@@ -42,6 +74,7 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
+    registered.remove(renderable);
     Array<Renderable> layer = renderables.get(renderable.getLayer());
     if (layer != null) {
       layer.removeValue(renderable, true);
@@ -54,14 +87,152 @@ public class RenderService implements Disposable {
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
+    clearDrawCounts();
     for (Array<Renderable> layer : renderables) {
       // Sort into rendering order
       layer.sort();
 
       for (Renderable renderable : layer) {
         renderable.render(batch);
+        countDraw(renderable);
+      }
+    }
+  }
+
+  /**
+   * Capture the render state of every renderable into a snapshot, in the same order they would be
+   * drawn by {@link #render(SpriteBatch)}. Renderables which can't be captured are recorded so that
+   * they are drawn live when the snapshot is replayed.
+   *
+   * @param snapshot snapshot to write into. Cleared before capturing.
+   */
+  public void capture(RenderSnapshot snapshot) {
+    snapshot.clear();
+    clearDrawCounts();
+    for (Array<Renderable> layer : renderables) {
+      layer.sort();
+
+      for (Renderable renderable : layer) {
+        countDraw(renderable);
+        if (!(renderable instanceof RenderComponent)
+            || !((RenderComponent) renderable).capture(snapshot)) {
+          snapshot.addLive(renderable);
+        }
+      }
+    }
+  }
+
+  /**
+   * Draw a previously captured snapshot on the given batch. This should be called only from the
+   * main renderer.
+   *
+   * @param batch batch to render to.
+   * @param snapshot snapshot to draw.
+   */
+  public void render(SpriteBatch batch, RenderSnapshot snapshot) {
+    snapshot.draw(batch);
+  }
+
+  /**
+   * Set whether draws are counted per renderable, per renderable class and per layer. Counts cover
+   * the last frame drawn, or captured when drawing from snapshots. Off by default.
+   *
+   * @param counting true to count draws
+   */
+  public void setDrawCounting(boolean counting) {
+    countingDraws = counting;
+    clearDrawCounts();
+  }
+
+  public boolean isDrawCounting() {
+    return countingDraws;
+  }
+
+  /**
+   * @param renderable renderable
+   * @return number of times the renderable was drawn in the last frame, if counting draws
+   */
+  public int getDrawCount(Renderable renderable) {
+    return drawsByRenderable.get(renderable, 0);
+  }
+
+  /**
+   * @return number of draws in the last frame by renderable class name, if counting draws
+   */
+  public Map<String, Integer> getDrawCountsByClass() {
+    Map<String, Integer> counts = new TreeMap<>();
+    for (ObjectIntMap.Entry<Class<?>> entry : drawsByClass) {
+      counts.merge(entry.key.getSimpleName(), entry.value, Integer::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * @return number of draws in the last frame by layer, if counting draws
+   */
+  public Map<Integer, Integer> getDrawCountsByLayer() {
+    Map<Integer, Integer> counts = new TreeMap<>();
+    for (IntIntMap.Entry entry : drawsByLayer) {
+      counts.put(entry.key, entry.value);
+    }
+    return counts;
+  }
+
+  /**
+   * @return number of renderables drawn more than once in the last frame, if counting draws
+   */
+  public int getOverdrawnCount() {
+    int overdrawn = 0;
+    for (ObjectIntMap.Entry<Renderable> entry : drawsByRenderable) {
+      if (entry.value > 1) {
+        overdrawn++;
       }
     }
+    return overdrawn;
+  }
+
+  /**
+   * @return number of registrations ignored because the renderable was already registered
+   */
+  public int getDuplicateRegistrationCount() {
+    return duplicateRegistrations;
+  }
+
+  /**
+   * @return number of registered renderables
+   */
+  public int getRegisteredCount() {
+    return registered.size;
+  }
+
+  private void clearDrawCounts() {
+    if (countingDraws || drawsByRenderable.notEmpty()) {
+      drawsByRenderable.clear();
+      drawsByClass.clear();
+      drawsByLayer.clear();
+    }
+  }
+
+  private void countDraw(Renderable renderable) {
+    if (countingDraws) {
+      drawsByRenderable.getAndIncrement(renderable, 0, 1);
+      drawsByClass.getAndIncrement(renderable.getClass(), 0, 1);
+      drawsByLayer.getAndIncrement(renderable.getLayer(), 0, 1);
+    }
+  }
+
+  public void setScaleController(RenderScaleController scaleController) {
+    this.scaleController = scaleController;
+  }
+
+  /**
+   * Whether non-critical systems (background frames, hover UIs, debug text) should skip updating
+   * this frame because the game is running over its frame time budget.
+   *
+   * @return true to skip this frame's update
+   */
+  public boolean shouldSkipNonCriticalTick() {
+    return scaleController != null && scaleController.shouldSkipNonCriticalTick();
   }
 
   public void setStage(Stage stage) {
@@ -72,6 +243,40 @@ public class RenderService implements Disposable {
     return stage;
   }
 
+  /**
+   * Get the group on the stage which HUD actors of the given layer should be added to. Cached
+   * layers are added to the stage the first time they are asked for, so they sit above anything
+   * added to the stage before then.
+   *
+   * @param layer HUD layer
+   * @return group to add actors to, or null if there is no stage
+   */
+  public Group getHudLayer(HudLayer layer) {
+    if (stage == null) {
+      return null;
+    }
+    if (layer == HudLayer.DYNAMIC) {
+      return stage.getRoot();
+    }
+
+    CachedGroup group = hudLayers.get(layer);
+    if (group != null && group.getStage() == stage) {
+      return group;
+    }
+    if (group != null) {
+      group.dispose();
+    }
+    group = new CachedGroup();
+    stage.addActor(group);
+    // Keep static chrome beneath slow panels, whichever was asked for first
+    CachedGroup slow = hudLayers.get(HudLayer.SLOW);
+    if (layer == HudLayer.STATIC && slow != null && slow.getStage() == stage) {
+      group.setZIndex(slow.getZIndex());
+    }
+    hudLayers.put(layer, group);
+    return group;
+  }
+
   public void setDebug(DebugRenderer debugRenderer) {
     this.debugRenderer = debugRenderer;
   }
@@ -83,6 +288,12 @@ public class RenderService implements Disposable {
   @Override
   public void dispose() {
     renderables.clear();
+    registered.clear();
+    for (CachedGroup group : hudLayers.values()) {
+      group.remove();
+      group.dispose();
+    }
+    hudLayers.clear();
   }
 
   public <T> void getStage(T mock) {
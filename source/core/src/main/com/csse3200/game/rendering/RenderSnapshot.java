@@ -0,0 +1,224 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A flat, ordered list of everything that needs to be drawn for one frame. The simulation writes
+ * per-entity render state (texture or region, position, size, tint, z index) into a snapshot, and
+ * the renderer later replays it without touching any entity. Entries are pooled and reused between
+ * frames, so capturing a snapshot does not allocate once the pool has grown to the scene size.
+ *
+ * <p>Renderables which cannot describe themselves as a single quad (terrain, UI, hover boxes) are
+ * recorded as a "live" entry and drawn directly when the snapshot is replayed, which keeps the
+ * original draw order.
+ */
+public class RenderSnapshot {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Array<Entry> entries = new Array<>(INITIAL_CAPACITY);
+  private int size = 0;
+
+  /** Remove every entry from the snapshot, keeping the pooled entries for reuse. */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      entries.get(i).reset();
+    }
+    size = 0;
+  }
+
+  /**
+   * Get the next free entry, growing the pool if required. The entry is reset and must be filled
+   * in by the caller.
+   *
+   * @return entry to write render state into
+   */
+  public Entry add() {
+    if (size == entries.size) {
+      entries.add(new Entry());
+    }
+    return entries.get(size++);
+  }
+
+  /**
+   * Record a renderable which should be drawn directly when the snapshot is replayed.
+   *
+   * @param renderable renderable to draw live
+   */
+  public void addLive(Renderable renderable) {
+    add().live = renderable;
+  }
+
+  /** @return number of entries in the snapshot */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index entry index, in draw order
+   * @return entry at the given index
+   */
+  public Entry get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+    }
+    return entries.get(index);
+  }
+
+  /**
+   * Draw every entry in order onto the given batch.
+   *
+   * @param batch batch to draw to. Must already have begun.
+   */
+  public void draw(SpriteBatch batch) {
+    for (int i = 0; i < size; i++) {
+      entries.get(i).draw(batch);
+    }
+  }
+
+  /** Render state for a single quad, or a reference to a renderable which is drawn live. */
+  public static class Entry {
+    private final Color tint = new Color(Color.WHITE);
+    private Renderable live;
+    private Texture texture;
+    private TextureRegion region;
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+    private float zIndex;
+    private int layer;
+
+    /**
+     * Describe a textured quad.
+     *
+     * @param texture texture to draw
+     * @param x x position in world units
+     * @param y y position in world units
+     * @param width width in world units
+     * @param height height in world units
+     * @return this entry
+     */
+    public Entry set(Texture texture, float x, float y, float width, float height) {
+      this.texture = texture;
+      this.region = null;
+      setBounds(x, y, width, height);
+      return this;
+    }
+
+    /**
+     * Describe a quad drawn from a texture region.
+     *
+     * @param region region to draw
+     * @param x x position in world units
+     * @param y y position in world units
+     * @param width width in world units
+     * @param height height in world units
+     * @return this entry
+     */
+    public Entry set(TextureRegion region, float x, float y, float width, float height) {
+      this.region = region;
+      this.texture = null;
+      setBounds(x, y, width, height);
+      return this;
+    }
+
+    /**
+     * @param zIndex z index of the renderable which produced this entry
+     * @param layer layer of the renderable which produced this entry
+     * @return this entry
+     */
+    public Entry setOrder(float zIndex, int layer) {
+      this.zIndex = zIndex;
+      this.layer = layer;
+      return this;
+    }
+
+    /**
+     * @param color tint to apply when drawing
+     * @return this entry
+     */
+    public Entry setTint(Color color) {
+      tint.set(color);
+      return this;
+    }
+
+    public Renderable getLive() {
+      return live;
+    }
+
+    public Texture getTexture() {
+      return texture;
+    }
+
+    public TextureRegion getRegion() {
+      return region;
+    }
+
+    public float getX() {
+      return x;
+    }
+
+    public float getY() {
+      return y;
+    }
+
+    public float getWidth() {
+      return width;
+    }
+
+    public float getHeight() {
+      return height;
+    }
+
+    public float getZIndex() {
+      return zIndex;
+    }
+
+    public int getLayer() {
+      return layer;
+    }
+
+    public Color getTint() {
+      return tint;
+    }
+
+    void draw(SpriteBatch batch) {
+      if (live != null) {
+        live.render(batch);
+        return;
+      }
+
+      boolean tinted = !tint.equals(Color.WHITE);
+      if (tinted) {
+        batch.setColor(tint);
+      }
+      if (region != null) {
+        batch.draw(region, x, y, width, height);
+      } else if (texture != null) {
+        batch.draw(texture, x, y, width, height);
+      }
+      if (tinted) {
+        batch.setColor(Color.WHITE);
+      }
+    }
+
+    private void setBounds(float x, float y, float width, float height) {
+      this.live = null;
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+    }
+
+    private void reset() {
+      live = null;
+      texture = null;
+      region = null;
+      tint.set(Color.WHITE);
+    }
+  }
+}
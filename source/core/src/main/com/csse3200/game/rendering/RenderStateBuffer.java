@@ -0,0 +1,38 @@
+package com.csse3200.game.rendering;
+
+/**
+ * Double buffer of {@link RenderSnapshot}s. The simulation captures into the back buffer while the
+ * renderer draws from the front buffer, and the two are swapped at the frame boundary. Since the
+ * front buffer holds everything needed to draw a frame, drawing no longer reads entity state and
+ * can be decoupled from the update.
+ */
+public class RenderStateBuffer {
+  private RenderSnapshot front = new RenderSnapshot();
+  private RenderSnapshot back = new RenderSnapshot();
+
+  /**
+   * Capture the current state of every renderable in the render service into the back buffer.
+   *
+   * @param renderService render service to capture
+   */
+  public void capture(RenderService renderService) {
+    renderService.capture(back);
+  }
+
+  /** Swap the front and back buffers. Should be called once per frame, between update and draw. */
+  public void swap() {
+    RenderSnapshot previous = front;
+    front = back;
+    back = previous;
+  }
+
+  /** @return snapshot to draw from */
+  public RenderSnapshot getFront() {
+    return front;
+  }
+
+  /** @return snapshot being written by the simulation */
+  public RenderSnapshot getBack() {
+    return back;
+  }
+}
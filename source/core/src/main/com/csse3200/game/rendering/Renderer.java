@@ -2,8 +2,13 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -26,6 +31,15 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private RenderStateBuffer stateBuffer;
+  private RenderScaleController scaleController;
+  private FrameBuffer worldBuffer;
+  private float worldBufferScale;
+  private final Matrix4 screenMatrix = new Matrix4();
+  private boolean renderOnDemand;
+  private boolean worldFrozen;
+  private FrameBuffer frozenWorld;
+  private long framesRendered;
 
   /**
    * Create a new renderer with default settings
@@ -92,17 +106,229 @@ public class Renderer implements Disposable {
 
   /** Render everything to the render service. */
   public void render() {
+    float scale = 1f;
+    if (scaleController != null && !renderOnDemand && !worldFrozen) {
+      // Frame times are meaningless when idling between requested frames
+      scale = scaleController.update(Gdx.graphics.getDeltaTime() * 1000f);
+    }
+    Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+    if (worldFrozen) {
+      renderWorldFrozen();
+    } else if (scale < 1f) {
+      renderWorldScaled(scale);
+    } else {
+      renderWorld();
+    }
+
+    stage.act();
+    stage.draw();
+    framesRendered++;
+
+    if (renderOnDemand && hasActions(stage.getRoot())) {
+      // Keep drawing until running UI animations have finished
+      Gdx.graphics.requestRendering();
+    }
+  }
+
+  private void renderWorld() {
     Matrix4 projMatrix = camera.getProjectionMatrix();
     batch.setProjectionMatrix(projMatrix);
-    Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
     batch.begin();
-    renderService.render(batch);
+    if (stateBuffer != null) {
+      renderService.render(batch, stateBuffer.getFront());
+    } else {
+      renderService.render(batch);
+    }
     batch.end();
     debugRenderer.render(projMatrix);
+  }
 
-    stage.act();
-    stage.draw();
+  /**
+   * Render the world into an off-screen buffer at a fraction of the screen resolution, then stretch
+   * it over the screen. The UI stage is still drawn at native resolution afterwards.
+   */
+  private void renderWorldScaled(float scale) {
+    int screenWidth = Gdx.graphics.getWidth();
+    int screenHeight = Gdx.graphics.getHeight();
+    FrameBuffer buffer = getWorldBuffer(scale, screenWidth, screenHeight);
+
+    buffer.begin();
+    Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    renderWorld();
+    buffer.end();
+
+    drawToScreen(buffer, screenWidth, screenHeight);
+  }
+
+  /**
+   * Render the world once into an off-screen buffer, then keep drawing that buffer until the world
+   * is unfrozen. Used while the game is paused, when nothing in the world can change.
+   */
+  private void renderWorldFrozen() {
+    int screenWidth = Gdx.graphics.getWidth();
+    int screenHeight = Gdx.graphics.getHeight();
+    if (frozenWorld == null) {
+      frozenWorld = new FrameBuffer(
+          Pixmap.Format.RGBA8888, Math.max(1, screenWidth), Math.max(1, screenHeight), false);
+      GpuMemoryTracker.track(frozenWorld, "Renderer");
+      frozenWorld.begin();
+      Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+      renderWorld();
+      frozenWorld.end();
+    }
+    drawToScreen(frozenWorld, screenWidth, screenHeight);
+  }
+
+  private void drawToScreen(FrameBuffer buffer, int screenWidth, int screenHeight) {
+    Texture texture = buffer.getColorBufferTexture();
+    batch.setProjectionMatrix(screenMatrix.setToOrtho2D(0, 0, screenWidth, screenHeight));
+    batch.begin();
+    // Frame buffer textures are upside down
+    batch.draw(texture, 0, 0, screenWidth, screenHeight, 0, 1, 1, 0);
+    batch.end();
+  }
+
+  private static boolean hasActions(Actor actor) {
+    if (actor == null) {
+      return false;
+    }
+    if (actor.hasActions()) {
+      return true;
+    }
+    if (actor instanceof Group) {
+      for (Actor child : ((Group) actor).getChildren()) {
+        if (hasActions(child)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private FrameBuffer getWorldBuffer(float scale, int screenWidth, int screenHeight) {
+    int width = Math.max(1, Math.round(screenWidth * scale));
+    int height = Math.max(1, Math.round(screenHeight * scale));
+    if (worldBuffer != null
+        && worldBufferScale == scale
+        && worldBuffer.getWidth() == width
+        && worldBuffer.getHeight() == height) {
+      return worldBuffer;
+    }
+
+    disposeWorldBuffer();
+    logger.debug("Creating {}x{} world buffer (scale {})", width, height, scale);
+    worldBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+    GpuMemoryTracker.track(worldBuffer, "Renderer");
+    worldBuffer.getColorBufferTexture()
+        .setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    worldBufferScale = scale;
+    return worldBuffer;
+  }
+
+  private void disposeWorldBuffer() {
+    if (worldBuffer != null) {
+      GpuMemoryTracker.untrack(worldBuffer);
+      worldBuffer.dispose();
+      worldBuffer = null;
+    }
+  }
+
+  /**
+   * Only render when something asks for a new frame, instead of continuously. Input events and
+   * posted runnables (e.g. timers) request a frame automatically, and the renderer keeps requesting
+   * frames while any UI actor has running actions. Use for static screens such as menus.
+   *
+   * @param renderOnDemand true to render on demand, false to render continuously
+   */
+  public void setRenderOnDemand(boolean renderOnDemand) {
+    this.renderOnDemand = renderOnDemand;
+    Gdx.graphics.setContinuousRendering(!renderOnDemand);
+    Gdx.graphics.requestRendering();
+  }
+
+  /** @return true if the renderer only draws when a frame is requested */
+  public boolean isRenderOnDemand() {
+    return renderOnDemand;
+  }
+
+  /**
+   * Freeze the world. While frozen, the world is rendered once and that image is reused every frame;
+   * the UI stage is still drawn normally on top.
+   *
+   * @param frozen true to freeze the world, false to render it live again
+   */
+  public void setWorldFrozen(boolean frozen) {
+    worldFrozen = frozen;
+    if (!frozen) {
+      disposeFrozenWorld();
+    }
+  }
+
+  /** @return true if the world is frozen */
+  public boolean isWorldFrozen() {
+    return worldFrozen;
+  }
+
+  /** @return number of frames rendered since this renderer was created */
+  public long getFramesRendered() {
+    return framesRendered;
+  }
+
+  private void disposeFrozenWorld() {
+    if (frozenWorld != null) {
+      GpuMemoryTracker.untrack(frozenWorld);
+      frozenWorld.dispose();
+      frozenWorld = null;
+    }
+  }
+
+  /**
+   * Adapt the world render resolution to the measured frame time. The UI stage always renders at
+   * native resolution.
+   *
+   * @param scaleController controller deciding the render scale, or null for native resolution
+   */
+  public void setScaleController(RenderScaleController scaleController) {
+    this.scaleController = scaleController;
+    renderService.setScaleController(scaleController);
+    if (scaleController == null) {
+      disposeWorldBuffer();
+    }
+  }
+
+  /** @return the render scale controller, or null if rendering at native resolution */
+  public RenderScaleController getScaleController() {
+    return scaleController;
+  }
+
+  /**
+   * Enable or disable double-buffered rendering. When enabled, the world is drawn from the front
+   * buffer of a {@link RenderStateBuffer} which must be filled by {@link #captureState()} after
+   * each simulation step, instead of directly from the renderables.
+   *
+   * @param doubleBuffered true to draw from captured snapshots
+   */
+  public void setDoubleBuffered(boolean doubleBuffered) {
+    stateBuffer = doubleBuffered ? new RenderStateBuffer() : null;
+  }
+
+  /** @return true if the world is drawn from captured snapshots */
+  public boolean isDoubleBuffered() {
+    return stateBuffer != null;
+  }
+
+  /**
+   * Capture the state of all renderables into the back buffer and swap it to the front, ready to be
+   * drawn by the next {@link #render()}. Does nothing when double buffering is disabled.
+   */
+  public void captureState() {
+    if (stateBuffer == null) {
+      return;
+    }
+    stateBuffer.capture(renderService);
+    stateBuffer.swap();
   }
 
   /**
@@ -112,6 +338,8 @@ public class Renderer implements Disposable {
    * @param height new screen height
    */
   public void resize(int width, int height) {
+    // Re-capture the frozen world at the new size
+    disposeFrozenWorld();
     resizeCamera(width, height);
     resizeStage(width, height);
     logger.debug("Resizing to ({}x{})", width, height);
@@ -132,6 +360,11 @@ public class Renderer implements Disposable {
 
   @Override
   public void dispose() {
+    disposeWorldBuffer();
+    disposeFrozenWorld();
+    if (renderOnDemand) {
+      Gdx.graphics.setContinuousRendering(true);
+    }
     stage.dispose();
     batch.dispose();
   }
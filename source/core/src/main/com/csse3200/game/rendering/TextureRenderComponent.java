@@ -87,6 +87,16 @@ public class TextureRenderComponent extends RenderComponent {
     batch.draw(texture, position.x, position.y, scale.x, scale.y);
   }
 
+  @Override
+  public boolean capture(RenderSnapshot snapshot) {
+    Vector2 position = entity.getPosition();
+    Vector2 scale = entity.getScale();
+    snapshot.add()
+        .set(texture, position.x, position.y, scale.x, scale.y)
+        .setOrder(getZIndex(), getLayer());
+    return true;
+  }
+
   @Override
   public void setStage(Stage mock) {
 
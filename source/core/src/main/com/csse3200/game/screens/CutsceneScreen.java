@@ -1,5 +1,6 @@
 package com.csse3200.game.screens;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -44,8 +45,8 @@ public class CutsceneScreen extends ScreenAdapter {
     private final GdxGame.CutsceneType[] moralEnums = {GdxGame.CutsceneType.MORAL_1, GdxGame.CutsceneType.MORAL_2,
                                             GdxGame.CutsceneType.MORAL_3, GdxGame.CutsceneType.MORAL_4};
 
-    // Textures used for the cutscene screen
-    private static final String[] cutsceneScreenTextures = {"images/textbox.png"};
+    // Manifest scope of the textures used for the cutscene screen
+    private static final String ASSET_SCOPE = "cutscene";
 
     private CutsceneScreenDisplay cutsceneScreenDisplay;
 
@@ -76,6 +77,10 @@ public class CutsceneScreen extends ScreenAdapter {
         // Initialize renderer and set the camera position
         renderer = RenderFactory.createRenderer();
         renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
+        if (Arrays.asList(moralEnums).contains(cutsceneVal)) {
+            // Moral scenes are still images which only change when the player presses a key
+            renderer.setRenderOnDemand(true);
+        }
 
         loadAssets();  // Load assets required for the cutscene
         createUI();  // Create and set up the user interface
@@ -92,6 +97,10 @@ public class CutsceneScreen extends ScreenAdapter {
      */
     @Override
     public void render(float delta) {
+        // Stream in the assets prefetched for upcoming scenes, drawing frames until they are in
+        if (!ServiceLocator.getResourceService().update()) {
+            Gdx.graphics.requestRendering();
+        }
         renderer.render();  // Render the screen using the renderer
     }
 
@@ -130,17 +139,33 @@ public class CutsceneScreen extends ScreenAdapter {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(cutsceneScreenTextures);  // Load cutscene screen textures
+        resourceService.loadScope(AssetManifest.get().getScope(ASSET_SCOPE), LoadPriority.CRITICAL);
         resourceService.loadAll();  // Load all queued assets
     }
 
+    /**
+     * Starts loading the assets of the screen shown after this cutscene in the background. Endings
+     * go back to the main menu, and every other cutscene leads into the main game.
+     */
+    public void prefetchNextScreen() {
+        AssetManifest manifest = AssetManifest.get();
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (cutsceneVal == GdxGame.CutsceneType.GOOD_END || cutsceneVal == GdxGame.CutsceneType.BAD_END
+                || cutsceneVal == GdxGame.CutsceneType.LOSE) {
+            resourceService.prefetchScope(manifest.getScope("mainMenu"));
+        } else {
+            resourceService.prefetchScope(manifest.getScope("mainGame"));
+            resourceService.prefetchScope(manifest.getScope("forest"));
+        }
+    }
+
     /**
      * Unloads the assets used by the cutscene screen.
      */
     private void unloadAssets() {
         logger.debug("Unloading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(cutsceneScreenTextures);  // Unload cutscene screen textures
+        resourceService.unloadScope(AssetManifest.get().getScope(ASSET_SCOPE));  // Release cutscene screen textures
     }
 
     /**
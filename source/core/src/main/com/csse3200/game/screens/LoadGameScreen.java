@@ -35,6 +35,7 @@ public class LoadGameScreen extends ScreenAdapter {
         logger.warn("Is SaveService null? " + (ServiceLocator.getSaveLoadService() == null));
 
         renderer = RenderFactory.createRenderer();
+        renderer.setRenderOnDemand(true);
         createUI();
     }
 
@@ -67,6 +68,7 @@ public class LoadGameScreen extends ScreenAdapter {
         renderer.dispose();
         ServiceLocator.getRenderService().dispose();
         ServiceLocator.getEntityService().dispose();
+        ServiceLocator.getResourceService().dispose();
 
         ServiceLocator.clear();
     }
@@ -23,11 +23,13 @@ import com.csse3200.game.entities.factories.LevelFactory;
 import com.csse3200.game.entities.factories.NPCFactory;
 import com.csse3200.game.entities.factories.RenderFactory;
 import com.csse3200.game.entities.factories.UIFactory;
+import com.csse3200.game.files.UserSettings;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.RenderScaleController;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.*;
@@ -37,8 +39,12 @@ import com.csse3200.game.components.maingame.MainGameExitDisplay;
 import com.csse3200.game.components.gamearea.PerformanceDisplay;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.badlogic.gdx.graphics.Texture;
 import com.csse3200.game.components.ordersystem.DocketLineDisplay;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.HoverOverlayService;
+
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -48,71 +54,11 @@ import com.csse3200.game.services.GameTime;
  */
 public class MainGameScreen extends ScreenAdapter {
 	private static final Logger logger = LoggerFactory.getLogger(MainGameScreen.class);
-	private static final String[] mainGameTextures = {
-			"images/heart.png",
-			"images/textbox.png",
-			// order system assets
-			"images/ordersystem/docket_background.png",
-			"images/ordersystem/pin_line2.png",
-			"images/ordersystem/pin_line.png",
-			"images/endday.png",
-			"images/bird.png",
-			"images/point.png",
-			"images/coin.png",
-			"images/finish.png",
-			"images/red_overlay.jpg",
-			"images/red_fill.png",
-			"images/white_background.png",
-			"images/box_background.png",
-			"images/box_background2.png",
-			"images/box_background3.png",
-			"images/box_background4.png",
-			"images/calendar.png",
-			"images/Upgrade_display.png",
-			"images/pause_menu2.png",
-			"images/pause_menu.png",
-			"images/recipe_card.png",
-			"images/textbox.png",
-			//background daylight cycle assets
-			"images/background_images/1.0.png",
-			"images/background_images/1.5.png",
-			"images/background_images/2.0.png",
-			"images/background_images/2.5.png",
-			"images/background_images/3.0.png",
-			"images/background_images/3.5.png",
-			"images/background_images/4.0.png",
-			"images/background_images/4.5.png",
-			"images/background_images/5.0.png",
-			"images/background_images/5.5.png",
-			"images/background_images/6.0.png",
-			"images/background_images/6.5.png",
-			"images/background_images/7.0.png",
-			"images/background_images/7.5.png",
-			"images/background_images/8.0.png",
-			"images/background_images/8.5.png",
-			"images/background_images/9.0.png",
-			"images/background_images/9.5.png",
-			"images/background_images/10.0.png",
-			"images/background_images/10.5.png",
-			"images/background_images/11.0.png",
-			"images/background_images/11.5.png",
-			"images/background_images/12.0.png",
-			"images/background_images/12.5.png",
-			"images/background_images/13.0.png",
-			"images/background_images/13.5.png",
-			"images/background_images/14.0.png",
-			"images/background_images/14.5.png",
-			"images/background_images/15.0.png",
-			"images/background_images/15.5.png",
-			"images/background_images/16.0.png",
-			"images/background_images/16.5.png",
-			"images/background_images/17.0.png",
-			"images/background_images/17.5.png",
-			"images/background_images/18.0.png",
-			"images/background_images/18.5.png"
-	};
+	private static final String ASSET_SCOPE = "mainGame";
 	// Modified the camera position to fix layout
 	private static final Vector2 CAMERA_POSITION = new Vector2(7f, 4.5f);
+	// Time spent loading each frame while the loading display is up
+	private static final int LOADING_FRAME_MILLIS = 16;
 
 	public final GdxGame game;
 	public Renderer renderer;
@@ -120,6 +66,9 @@ public class MainGameScreen extends ScreenAdapter {
 	public boolean isPaused = false;
 	public DocketLineDisplay docketLineDisplay;
 	public MainGameOrderTicketDisplay orderTicketDisplay;
+	private final ForestGameArea forestGameArea;
+	private final CompletableFuture<Void> assetsLoaded;
+	private Entity loadingScreen;
 
 	/**
 	 * Constructs the main game screen
@@ -142,6 +91,9 @@ public class MainGameScreen extends ScreenAdapter {
 
 		ServiceLocator.registerEntityService(new EntityService());
 		ServiceLocator.registerRenderService(new RenderService());
+		HoverOverlayService hoverOverlayService = new HoverOverlayService();
+		ServiceLocator.registerHoverOverlayService(hoverOverlayService);
+		ServiceLocator.getRenderService().register(hoverOverlayService);
 		ServiceLocator.registerDocketService(new DocketService());
 
 		ServiceLocator.registerDayNightService(new DayNightService());
@@ -158,16 +110,58 @@ public class MainGameScreen extends ScreenAdapter {
 		renderer = RenderFactory.createRenderer();
 		renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
 		renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
+		UserSettings.Settings settings = UserSettings.get();
+		renderer.setDoubleBuffered(settings.doubleBufferedRendering);
+		if (settings.dynamicResolution) {
+			renderer.setScaleController(new RenderScaleController(1000f / Math.max(1, settings.fps)));
+		}
+
+		TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
+		GdxGame.LevelType currLevel = ServiceLocator.getLevelService().getCurrLevel();
+		UpgradesDisplay upgradesDisplay = new UpgradesDisplay(this);
+		forestGameArea = new ForestGameArea(terrainFactory, currLevel, upgradesDisplay);
 
-		loadAssets();
+		// Assets are loaded over the next frames while the loading display is shown, rather than
+		// blocking here
+		assetsLoaded = CompletableFuture.allOf(loadAssets(), forestGameArea.requestAssets());
+		loadingScreen = new Entity().addComponent(new LoadingDisplay());
+		ServiceLocator.getEntityService().register(loadingScreen);
+
+		ServiceLocator.getDayNightService().getEvents().addListener("endOfDay", this::prefetchMoralScene);
+	}
+
+	/**
+	 * Removes the loading display, for screens which create the game straight away rather than
+	 * once loading finishes in {@link #render(float)}.
+	 */
+	void hideLoadingDisplay() {
+		if (loadingScreen != null) {
+			loadingScreen.dispose();
+			loadingScreen = null;
+		}
+	}
+
+	/**
+	 * Starts loading the moral scene which follows the end of day display in the background, so
+	 * that it is ready by the time the player has read the day's results.
+	 */
+	private void prefetchMoralScene() {
+		String scope = "moral" + ServiceLocator.getDayNightService().getDay();
+		AssetManifest manifest = AssetManifest.get();
+		if (manifest.hasScope(scope)) {
+			ServiceLocator.getResourceService().prefetchScope(manifest.getScope(scope));
+		}
+	}
+
+	/**
+	 * Creates the UI and game area once their assets have loaded.
+	 */
+	private void createGame() {
+		hideLoadingDisplay();
 		createUI();
 
 		logger.debug("Initialising main game screen entities");
-		TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
-
 		GdxGame.LevelType currLevel = ServiceLocator.getLevelService().getCurrLevel();
-		UpgradesDisplay upgradesDisplay = new UpgradesDisplay(this);
-		ForestGameArea forestGameArea = new ForestGameArea(terrainFactory, currLevel, upgradesDisplay);
 		forestGameArea.create();
 
 		Entity spawnControllerEntity = LevelFactory.createSpawnControllerEntity();
@@ -185,12 +179,26 @@ public class MainGameScreen extends ScreenAdapter {
 	 */
 	@Override
 	public void render(float delta) {
+		if (loadingScreen != null) {
+			if (!assetsLoaded.isDone()) {
+				ServiceLocator.getResourceService().update(LOADING_FRAME_MILLIS);
+				ServiceLocator.getEntityService().update();
+				renderer.render();
+				return;
+			}
+			createGame();
+		}
+		// Stream in anything requested at a lower priority, drawing frames until it is in while paused
+		if (!ServiceLocator.getResourceService().update()) {
+			Gdx.graphics.requestRendering();
+		}
 		if (!isPaused) {
 			physicsEngine.update();
 			ServiceLocator.getDayNightService().update();
 
 			ServiceLocator.getEntityService().update();
 		}
+		renderer.captureState();
 		renderer.render();
 		Gdx.gl.glClearColor(0f/255f, 0f/255f, 0f/255f, 1);
 	}
@@ -210,9 +218,11 @@ public class MainGameScreen extends ScreenAdapter {
 			height = 1;
 		}
 		renderer.resize(width, height);
-		docketLineDisplay.resize();
+		if (docketLineDisplay != null) {
+			docketLineDisplay.resize();
+		}
 		if (orderTicketDisplay != null) {
-			orderTicketDisplay.updateDocketSizes();
+			orderTicketDisplay.resize();
 		}
 		logger.warn("Resized renderer: ({} x {})", width, height);
 	}
@@ -224,6 +234,8 @@ public class MainGameScreen extends ScreenAdapter {
 	public void pause() {
 		logger.info("Game paused");
 		isPaused = true;
+		renderer.setWorldFrozen(true);
+		renderer.setRenderOnDemand(true);
 		ServiceLocator.getTimeSource().pause();
 		for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
 			AITaskComponent aiComponent = entity.getComponent(AITaskComponent.class);
@@ -240,6 +252,8 @@ public class MainGameScreen extends ScreenAdapter {
 	public void resume() {
 		logger.info("Game resumed");
 		isPaused = false;
+		renderer.setWorldFrozen(false);
+		renderer.setRenderOnDemand(false);
 		ServiceLocator.getTimeSource().resume();
 		for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
 			AITaskComponent aiComponent = entity.getComponent(AITaskComponent.class);
@@ -261,6 +275,7 @@ public class MainGameScreen extends ScreenAdapter {
 
 		ServiceLocator.getEntityService().dispose();
 		ServiceLocator.getRenderService().dispose();
+		ServiceLocator.getHoverOverlayService().dispose();
 		ServiceLocator.getResourceService().dispose();
 
 		ServiceLocator.clear();
@@ -278,14 +293,17 @@ public class MainGameScreen extends ScreenAdapter {
 	}
 
 	/**
-	 * Loads assets to resourceService
+	 * Requests the screen's assets from resourceService
+	 * @return future completed once they have loaded
 	 */
-	void loadAssets() {
+	CompletableFuture<Void> loadAssets() {
 		logger.debug("Loading assets");
 		ResourceService resourceService = ServiceLocator.getResourceService();
-		resourceService.loadTextures(mainGameTextures);
-		resourceService.loadTextures(DocketMealDisplay.getMealDocketTextures());
-		ServiceLocator.getResourceService().loadAll();
+		return CompletableFuture.allOf(
+				resourceService.loadScope(AssetManifest.get().getScope(ASSET_SCOPE),
+						LoadPriority.CRITICAL),
+				resourceService.load(GameBackgroundDisplay.getBackgroundTextures(), Texture.class,
+						LoadPriority.CRITICAL));
 	}
 
 	/**
@@ -294,8 +312,8 @@ public class MainGameScreen extends ScreenAdapter {
 	void unloadAssets() {
 		logger.debug("Unloading assets");
 		ResourceService resourceService = ServiceLocator.getResourceService();
-		resourceService.unloadAssets(mainGameTextures);
-		resourceService.unloadAssets(DocketMealDisplay.getMealDocketTextures());
+		resourceService.unloadScope(AssetManifest.get().getScope(ASSET_SCOPE));
+		resourceService.releaseAssets(GameBackgroundDisplay.getBackgroundTextures());
 	}
 
 	/**
@@ -316,13 +334,16 @@ public class MainGameScreen extends ScreenAdapter {
 		InputComponent inputComponent =
 				ServiceLocator.getInputService().getInputFactory().createForTerminal();
 
+		Entity docketUI = UIFactory.createDocketUI();
+		orderTicketDisplay = docketUI.getComponent(MainGameOrderTicketDisplay.class);
+
 		Entity ui = new Entity();
 		ui.addComponent(new GameBackgroundDisplay())
 				.addComponent(new InputDecorator(stage, 10))
 				.addComponent(docketLineDisplay = new DocketLineDisplay())
 				.addComponent(new DocketLineDisplay())
 				.addComponent(new PerformanceDisplay())
-				.addComponent(new MainGameActions(this.game, UIFactory.createDocketUI()))
+				.addComponent(new MainGameActions(this.game, docketUI))
 				.addComponent(new MainGameExitDisplay())
 				.addComponent(new Terminal())
 				.addComponent(inputComponent)
@@ -30,20 +30,7 @@ public class MainMenuScreen extends ScreenAdapter {
   private final GdxGame game;
   private final Renderer renderer;
 
-  private static final String[] mainMenuTextures = {"images/Logo.png",
-  "images/main_menu_animals/goos.png",
-  "images/main_menu_animals/gorill.png",
-  "images/main_menu_animals/monki.png",
-  "images/main_menu_animals/wolf.png",
-  "images/main_menu_animals/thegoat.png",
-  "images/main_menu_animals/raw_acai.png",
-  "images/main_menu_animals/raw_banana.png",
-  "images/main_menu_animals/chopped_strawb.png",
-  "images/main_menu_animals/chopped_chocolate.png",
-  "images/main_menu_animals/acai_bowl.png",
-  "images/main_menu_animals/salad.png",
-          "images/Cutscenes/bg.png"
-  };
+  private static final String ASSET_SCOPE = "mainMenu";
 
 
   public MainMenuScreen(GdxGame game) {
@@ -62,6 +49,7 @@ public class MainMenuScreen extends ScreenAdapter {
 
 
     renderer = RenderFactory.createRenderer();
+    renderer.setRenderOnDemand(true);
     loadAssets();
     createUI();
   }
@@ -99,6 +87,7 @@ public class MainMenuScreen extends ScreenAdapter {
     unloadAssets();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
 
 
@@ -108,14 +97,14 @@ public class MainMenuScreen extends ScreenAdapter {
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(mainMenuTextures);
-    ServiceLocator.getResourceService().loadAll();
+    resourceService.loadScope(AssetManifest.get().getScope(ASSET_SCOPE), LoadPriority.CRITICAL);
+    resourceService.loadAll();
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainMenuTextures);
+    resourceService.unloadScope(AssetManifest.get().getScope(ASSET_SCOPE));
   }
 
   /**
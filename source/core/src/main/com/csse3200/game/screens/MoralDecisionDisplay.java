@@ -1,6 +1,5 @@
 package com.csse3200.game.screens;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -10,12 +9,13 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.csse3200.game.rendering.GpuMemoryTracker;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TextureHandle;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.TimeUtils;
 
 
@@ -31,6 +31,8 @@ public class MoralDecisionDisplay extends UIComponent {
 
     private static final long DEFAULT_TIMER = 10000; // 10 seconds (in milliseconds)
     private long remainingTime; // Remaining time in milliseconds
+    private Texture backgroundTexture;
+    private TextureHandle characterHandle;
 
 //    public MoralDecisionDisplay(MainGameScreen game) {
 //        super();
@@ -67,9 +69,10 @@ public class MoralDecisionDisplay extends UIComponent {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.GRAY);
         pixmap.fill();
-        Texture pixmapTex = new Texture(pixmap);
+        backgroundTexture = new Texture(pixmap);
+        GpuMemoryTracker.track(backgroundTexture, "MoralDecisionDisplay");
         pixmap.dispose();
-        Drawable blackBackground = new TextureRegionDrawable(new TextureRegion(pixmapTex));
+        Drawable blackBackground = new TextureRegionDrawable(new TextureRegion(backgroundTexture));
         layout.setBackground(blackBackground);
 
         // set up the label using table layout
@@ -78,8 +81,8 @@ public class MoralDecisionDisplay extends UIComponent {
         layout.add(titleLabel).pad(10).row();
 
         // load and position the raccoon image slightly to the left
-        Texture imgTexture = new Texture(Gdx.files.internal("images/racoon.png"));
-        Drawable imgDrawable = new TextureRegionDrawable(imgTexture);
+        characterHandle = ServiceLocator.getResourceService().acquire("images/racoon.png");
+        Drawable imgDrawable = new TextureRegionDrawable(characterHandle.getTexture());
         Image characterImage = new Image(imgDrawable); // Declared as local variable to avoid unused field warning
 
         // add raccoon image to the table and shift it left by adjusting padding
@@ -144,7 +147,7 @@ public class MoralDecisionDisplay extends UIComponent {
      * Initialise the User Interface
      */
     private void initialiseUI() {
-        Label titleLabel = new Label("moral deiciosn", new Label.LabelStyle(new BitmapFont(), Color.PINK));
+        Label titleLabel = new Label("moral deiciosn", new Label.LabelStyle(getDefaultFont(), Color.PINK));
         layout.add(titleLabel).pad(10).row();
     }
 
@@ -249,6 +252,20 @@ public class MoralDecisionDisplay extends UIComponent {
         // draw is handled by the stage
     }
 
+    @Override
+    public void dispose() {
+        if (characterHandle != null) {
+            ServiceLocator.getResourceService().release(characterHandle);
+            characterHandle = null;
+        }
+        if (backgroundTexture != null) {
+            GpuMemoryTracker.untrack(backgroundTexture);
+            backgroundTexture.dispose();
+            backgroundTexture = null;
+        }
+        super.dispose();
+    }
+
     @Override
     public void setStage(Stage stage) {
         // Method intentionally left empty (to handle empty method warning)
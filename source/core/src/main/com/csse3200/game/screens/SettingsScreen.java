@@ -36,6 +36,7 @@ public class SettingsScreen extends ScreenAdapter {
     ServiceLocator.registerTimeSource(new GameTime());
 
     renderer = RenderFactory.createRenderer();
+    renderer.setRenderOnDemand(true);
     renderer.getCamera().getEntity().setPosition(5f, 5f);
 
     createUI();
@@ -58,6 +59,7 @@ public class SettingsScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
     ServiceLocator.clear();
   }
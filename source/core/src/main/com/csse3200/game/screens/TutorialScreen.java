@@ -34,75 +34,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.csse3200.game.components.ordersystem.DocketLineDisplay;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The game screen containing the tutorial.
  *
  */
 public class TutorialScreen extends MainGameScreen {
     private static final Logger logger = LoggerFactory.getLogger(TutorialScreen.class);
-    private static final String[] mainGameTextures = {
-            "images/heart.png",
-            "images/textbox.png",
-            // order system assets
-            "images/ordersystem/docket_background.png",
-            "images/ordersystem/pin_line2.png",
-            "images/ordersystem/pin_line.png",
-            "images/endday.png",
-            "images/bird.png",
-            "images/point.png",
-            "images/coin.png",
-            "images/finish.png",
-            "images/red_overlay.jpg",
-            "images/red_fill.png",
-            "images/white_background.png",
-            "images/box_background.png",
-            "images/box_background2.png",
-            "images/box_background3.png",
-            "images/box_background4.png",
-            "images/calendar.png",
-            "images/Upgrade_display.png",
-            "images/pause_menu2.png",
-            "images/recipe_card.png",
-            "images/textbox.png",
-            "images/pause_menu.png",
-            //background daylight cycle assets
-            "images/background_images/1.0.png",
-            "images/background_images/1.5.png",
-            "images/background_images/2.0.png",
-            "images/background_images/2.5.png",
-            "images/background_images/3.0.png",
-            "images/background_images/3.5.png",
-            "images/background_images/4.0.png",
-            "images/background_images/4.5.png",
-            "images/background_images/5.0.png",
-            "images/background_images/5.5.png",
-            "images/background_images/6.0.png",
-            "images/background_images/6.5.png",
-            "images/background_images/7.0.png",
-            "images/background_images/7.5.png",
-            "images/background_images/8.0.png",
-            "images/background_images/8.5.png",
-            "images/background_images/9.0.png",
-            "images/background_images/9.5.png",
-            "images/background_images/10.0.png",
-            "images/background_images/10.5.png",
-            "images/background_images/11.0.png",
-            "images/background_images/11.5.png",
-            "images/background_images/12.0.png",
-            "images/background_images/12.5.png",
-            "images/background_images/13.0.png",
-            "images/background_images/13.5.png",
-            "images/background_images/14.0.png",
-            "images/background_images/14.5.png",
-            "images/background_images/15.0.png",
-            "images/background_images/15.5.png",
-            "images/background_images/16.0.png",
-            "images/background_images/16.5.png",
-            "images/background_images/17.0.png",
-            "images/background_images/17.5.png",
-            "images/background_images/18.0.png",
-            "images/background_images/18.5.png"
-    };
+    private static final String ASSET_SCOPE = "mainGame";
 
     private static final Vector2 CAMERA_POSITION = new Vector2(7f, 4.5f);
 
@@ -122,6 +62,7 @@ public class TutorialScreen extends MainGameScreen {
         renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
 
         loadAssets();
+        hideLoadingDisplay();
         createUI();
 
         logger.debug("Initialising main game screen entities");
@@ -182,17 +123,21 @@ public class TutorialScreen extends MainGameScreen {
         ServiceLocator.clear();
     }
 
-    void loadAssets() {
+    @Override
+    CompletableFuture<Void> loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(mainGameTextures);
+        resourceService.loadScope(AssetManifest.get().getScope(ASSET_SCOPE), LoadPriority.CRITICAL);
+        resourceService.loadTextures(GameBackgroundDisplay.getBackgroundTextures());
         resourceService.loadAll();
+        return CompletableFuture.completedFuture(null);
     }
 
     void unloadAssets() {
         logger.debug("Unloading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(mainGameTextures);
+        resourceService.unloadScope(AssetManifest.get().getScope(ASSET_SCOPE));
+        resourceService.releaseAssets(GameBackgroundDisplay.getBackgroundTextures());
     }
 
     /**
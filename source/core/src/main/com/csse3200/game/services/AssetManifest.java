@@ -0,0 +1,212 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.files.FileLoader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The assets needed by each screen and scene, declared as named scopes in
+ * {@value #DEFAULT_FILE} rather than as arrays in each screen.
+ *
+ * <p>A scope can include other scopes, so that assets used by several screens are declared once in
+ * a shared scope. Every asset should be declared in exactly one scope; {@link #getProblems()} lists
+ * any which are declared twice, and is checked by the tests so that duplicates fail the build.
+ *
+ * <p>Scopes are loaded with {@link ResourceService#loadScope(Scope, LoadPriority)}, which lets
+ * assets shared with the next screen stay loaded across the transition.
+ */
+public class AssetManifest {
+    public static final String DEFAULT_FILE = "configs/asset_manifest.json";
+    private static AssetManifest defaultManifest;
+
+    private final Map<String, ScopeConfig> configs = new LinkedHashMap<>();
+    private final Map<String, Scope> scopes = new HashMap<>();
+    private final Array<String> problems = new Array<>();
+
+    /**
+     * @param config scopes read from a manifest file
+     */
+    public AssetManifest(Config config) {
+        for (ScopeConfig scope : config.scopes) {
+            if (configs.put(scope.name, scope) != null) {
+                problems.add("Scope " + scope.name + " is declared more than once");
+            }
+        }
+        checkDuplicates();
+    }
+
+    /**
+     * @return the game's manifest, read from {@value #DEFAULT_FILE} the first time it is needed
+     */
+    public static AssetManifest get() {
+        if (defaultManifest == null) {
+            defaultManifest = read(DEFAULT_FILE);
+        }
+        return defaultManifest;
+    }
+
+    /**
+     * Read a manifest from a file.
+     *
+     * @param filename internal path of the manifest
+     * @return manifest
+     * @throws GdxRuntimeException if the file can't be read
+     */
+    public static AssetManifest read(String filename) {
+        Config config = FileLoader.readClass(Config.class, filename);
+        if (config == null) {
+            throw new GdxRuntimeException("Could not read asset manifest " + filename);
+        }
+        return new AssetManifest(config);
+    }
+
+    /**
+     * Get a scope, with the assets of every scope it includes.
+     *
+     * @param name scope name
+     * @return scope
+     * @throws IllegalArgumentException if there is no such scope
+     */
+    public Scope getScope(String name) {
+        Scope scope = scopes.get(name);
+        if (scope == null) {
+            scope = resolve(name, new LinkedHashSet<>());
+            scopes.put(name, scope);
+        }
+        return scope;
+    }
+
+    public boolean hasScope(String name) {
+        return configs.containsKey(name);
+    }
+
+    public Set<String> getScopeNames() {
+        return configs.keySet();
+    }
+
+    /**
+     * @return assets declared more than once, scopes declared more than once, and includes of
+     *         scopes which don't exist; empty if the manifest is valid
+     */
+    public Array<String> getProblems() {
+        return problems;
+    }
+
+    private Scope resolve(String name, Set<String> including) {
+        ScopeConfig config = configs.get(name);
+        if (config == null) {
+            throw new IllegalArgumentException("No asset scope named " + name);
+        }
+        if (!including.add(name)) {
+            throw new IllegalArgumentException("Asset scope " + name + " includes itself");
+        }
+        Scope scope = new Scope(name);
+        for (String include : config.includes) {
+            scope.add(resolve(include, including));
+        }
+        scope.add(config);
+        including.remove(name);
+        return scope;
+    }
+
+    private void checkDuplicates() {
+        Map<String, String> declaredIn = new HashMap<>();
+        for (ScopeConfig scope : configs.values()) {
+            for (String include : scope.includes) {
+                if (!configs.containsKey(include)) {
+                    problems.add("Scope " + scope.name + " includes missing scope " + include);
+                }
+            }
+            for (String[] assets : new String[][] {scope.textures, scope.atlases, scope.sounds,
+                    scope.music}) {
+                for (String asset : assets) {
+                    String previous = declaredIn.put(asset, scope.name);
+                    if (previous != null) {
+                        problems.add(asset + " is declared in " + previous
+                                + (previous.equals(scope.name) ? " twice" : " and " + scope.name));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Manifest file contents. */
+    public static class Config {
+        public ScopeConfig[] scopes = {};
+    }
+
+    /** A scope as declared in the manifest file, without its includes. */
+    public static class ScopeConfig {
+        public String name;
+        public String[] includes = {};
+        public String[] textures = {};
+        public String[] atlases = {};
+        public String[] sounds = {};
+        public String[] music = {};
+    }
+
+    /** The assets of a scope and every scope it includes. */
+    public static class Scope {
+        private final String name;
+        private final Set<String> textures = new LinkedHashSet<>();
+        private final Set<String> atlases = new LinkedHashSet<>();
+        private final Set<String> sounds = new LinkedHashSet<>();
+        private final Set<String> music = new LinkedHashSet<>();
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        private void add(Scope scope) {
+            textures.addAll(scope.textures);
+            atlases.addAll(scope.atlases);
+            sounds.addAll(scope.sounds);
+            music.addAll(scope.music);
+        }
+
+        private void add(ScopeConfig config) {
+            textures.addAll(Arrays.asList(config.textures));
+            atlases.addAll(Arrays.asList(config.atlases));
+            sounds.addAll(Arrays.asList(config.sounds));
+            music.addAll(Arrays.asList(config.music));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String[] getTextures() {
+            return textures.toArray(new String[0]);
+        }
+
+        public String[] getAtlases() {
+            return atlases.toArray(new String[0]);
+        }
+
+        public String[] getSounds() {
+            return sounds.toArray(new String[0]);
+        }
+
+        public String[] getMusic() {
+            return music.toArray(new String[0]);
+        }
+
+        /**
+         * @return every asset in the scope
+         */
+        public String[] getAssetNames() {
+            Set<String> all = new LinkedHashSet<>(textures);
+            all.addAll(atlases);
+            all.addAll(sounds);
+            all.addAll(music);
+            return all.toArray(new String[0]);
+        }
+    }
+}
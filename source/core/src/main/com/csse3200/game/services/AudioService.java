@@ -0,0 +1,483 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Method;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Service that plays the game's sound effects and music. Like skins and fonts, sounds are shared
+ * across screens, so they are loaded once through this service's own {@link ResourceService} and
+ * cached by their asset path for the rest of the game, rather than each component decoding its own
+ * copy.
+ *
+ * <p>Sounds should be {@link #preload(String...) preloaded} when the component which plays them is
+ * created, so that they stream in before they are first played. A sound which isn't loaded yet is
+ * loaded when it is played, which blocks while it decodes.
+ *
+ * <p>The number of voices playing at once is limited per sound and overall. Once a limit is
+ * reached, playing another voice stops the oldest, so a sound triggered every frame can't pile up
+ * voices. Voices which have finished on their own no longer count towards the limits. The Sound API
+ * doesn't give a sound's length, so it is read from the backend's sound where it has one (as the
+ * desktop backend does); voices of sounds whose length isn't known count until they are stopped.
+ *
+ * <p>One music track plays at a time. Starting another fades the current one out while the new one
+ * fades in. {@link #update(float)} must be called every frame for fades and preloads to progress,
+ * and on screens which render on demand, frames must be requested while {@link #isBusy()}.
+ */
+public class AudioService implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(AudioService.class);
+  public static final int DEFAULT_VOICES_PER_SOUND = 4;
+  public static final int DEFAULT_MAX_VOICES = 16;
+
+  private final ResourceService resourceService;
+  private final ObjectMap<String, Sound> sounds = new ObjectMap<>();
+  private final ObjectMap<String, Music> music = new ObjectMap<>();
+  private final ObjectSet<String> requested = new ObjectSet<>();
+  private final ObjectSet<String> missing = new ObjectSet<>();
+  private final ObjectIntMap<String> voiceLimits = new ObjectIntMap<>();
+  // Length of each sound in seconds, or 0 if it isn't known
+  private final ObjectFloatMap<String> durations = new ObjectFloatMap<>();
+  private final ArrayDeque<Voice> voices = new ArrayDeque<>();
+  private int voicesPerSound = DEFAULT_VOICES_PER_SOUND;
+  private int maxVoices = DEFAULT_MAX_VOICES;
+  private int stolenVoices;
+  private boolean loading;
+  // Seconds passed, as given to update(float)
+  private float time;
+
+  private Track currentTrack;
+  private final ArrayDeque<Track> fadingTracks = new ArrayDeque<>();
+
+  public AudioService() {
+    // Sounds live for the whole game, so they don't share the screens' asset manager
+    this(new ResourceService(new AssetManager()));
+  }
+
+  /**
+   * Create an audio service which loads through the given resource service. The resource service is
+   * owned by this service from then on.
+   *
+   * @param resourceService resource service to load sounds and music with
+   */
+  public AudioService(ResourceService resourceService) {
+    this.resourceService = resourceService;
+  }
+
+  /**
+   * Start loading sounds in the background, so that they are ready by the time they are played.
+   * Sounds which are already loaded or loading are skipped.
+   *
+   * @param soundIds sound asset paths
+   */
+  public void preload(String... soundIds) {
+    int count = 0;
+    String[] toLoad = new String[soundIds.length];
+    for (String id : soundIds) {
+      if (requested.add(id)) {
+        toLoad[count++] = id;
+      }
+    }
+    if (count > 0) {
+      String[] ids = new String[count];
+      System.arraycopy(toLoad, 0, ids, 0, count);
+      resourceService.load(ids, Sound.class, LoadPriority.SOON);
+      loading = true;
+    }
+  }
+
+  /**
+   * Play a sound at full volume.
+   *
+   * @param soundId sound asset path
+   * @return id of the voice playing the sound, or -1 if it couldn't be played
+   * @see #play(String, float)
+   */
+  public long play(String soundId) {
+    return play(soundId, 1f);
+  }
+
+  /**
+   * Play a sound, stopping the oldest voice of the sound, or of any sound, if that is needed to keep
+   * within the voice limits.
+   *
+   * @param soundId sound asset path
+   * @param volume  volume from 0 to 1
+   * @return id of the voice playing the sound, or -1 if it couldn't be played
+   */
+  public long play(String soundId, float volume) {
+    Sound sound = getSound(soundId);
+    if (sound == null) {
+      return -1;
+    }
+    removeFinishedVoices();
+    if (getVoiceCount(soundId) >= getVoiceLimit(soundId)) {
+      stopOldest(soundId);
+    }
+    if (voices.size() >= maxVoices) {
+      stopOldest(null);
+    }
+    long voiceId = sound.play(volume);
+    if (voiceId == -1) {
+      logger.debug("No voice available to play {}", soundId);
+      return -1;
+    }
+    float duration = durations.get(soundId, 0f);
+    voices.add(new Voice(soundId, sound, voiceId, duration > 0 ? time + duration : Float.MAX_VALUE));
+    return voiceId;
+  }
+
+  /**
+   * Stop every voice of a sound.
+   *
+   * @param soundId sound asset path
+   */
+  public void stop(String soundId) {
+    Iterator<Voice> iterator = voices.iterator();
+    while (iterator.hasNext()) {
+      Voice voice = iterator.next();
+      if (voice.soundId.equals(soundId)) {
+        voice.sound.stop(voice.id);
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Play a music track on loop, fading out whatever track is playing while it fades in.
+   *
+   * @param musicId     music asset path
+   * @param volume      volume from 0 to 1 to fade in to
+   * @param fadeSeconds how long the crossfade takes, or 0 to switch straight away
+   */
+  public void playMusic(String musicId, float volume, float fadeSeconds) {
+    if (currentTrack != null && currentTrack.musicId.equals(musicId)) {
+      currentTrack.fadeTo(volume, fadeSeconds);
+      return;
+    }
+    Music track = getMusic(musicId);
+    if (track == null) {
+      return;
+    }
+    stopMusic(fadeSeconds);
+    // A track still fading out from before carries on from its current volume
+    Iterator<Track> fading = fadingTracks.iterator();
+    while (fading.hasNext()) {
+      Track previous = fading.next();
+      if (previous.music == track) {
+        fading.remove();
+      }
+    }
+    currentTrack = new Track(musicId, track);
+    track.setLooping(true);
+    if (!track.isPlaying()) {
+      track.setVolume(fadeSeconds > 0 ? 0f : volume);
+      track.play();
+    }
+    currentTrack.fadeTo(volume, fadeSeconds);
+  }
+
+  /**
+   * Fade out and stop the music track which is playing.
+   *
+   * @param fadeSeconds how long the fade takes, or 0 to stop straight away
+   */
+  public void stopMusic(float fadeSeconds) {
+    if (currentTrack == null) {
+      return;
+    }
+    currentTrack.fadeTo(0f, fadeSeconds);
+    fadingTracks.add(currentTrack);
+    currentTrack = null;
+    updateFades(0f);
+  }
+
+  /**
+   * @return asset path of the music track playing, or null if none is
+   */
+  public String getMusicId() {
+    return currentTrack == null ? null : currentTrack.musicId;
+  }
+
+  /**
+   * Advance music fades and stream in preloaded sounds. Call once a frame.
+   *
+   * @param delta time since the last frame, in seconds
+   */
+  public void update(float delta) {
+    time += delta;
+    removeFinishedVoices();
+    updateFades(delta);
+    loading = !resourceService.update();
+  }
+
+  /**
+   * @return true while music is fading or sounds are streaming in, i.e. while {@link #update(float)}
+   *         still has work to do
+   */
+  public boolean isBusy() {
+    return loading || !fadingTracks.isEmpty() || (currentTrack != null && currentTrack.isFading());
+  }
+
+  /**
+   * Set how many voices of a sound can play at once, overriding the default for that sound.
+   *
+   * @param soundId sound asset path
+   * @param limit   maximum voices of the sound
+   */
+  public void setVoiceLimit(String soundId, int limit) {
+    voiceLimits.put(soundId, Math.max(1, limit));
+  }
+
+  /**
+   * @param limit maximum voices of each sound without its own limit
+   */
+  public void setVoicesPerSound(int limit) {
+    voicesPerSound = Math.max(1, limit);
+  }
+
+  /**
+   * @param limit maximum voices of all sounds together
+   */
+  public void setMaxVoices(int limit) {
+    maxVoices = Math.max(1, limit);
+    removeFinishedVoices();
+    while (voices.size() > maxVoices) {
+      stopOldest(null);
+    }
+  }
+
+  public int getMaxVoices() {
+    return maxVoices;
+  }
+
+  /**
+   * @return number of voices still playing, as of the last {@link #update(float)}, including voices
+   *         of sounds whose length isn't known which haven't been stopped
+   */
+  public int getVoiceCount() {
+    return voices.size();
+  }
+
+  /**
+   * @param soundId sound asset path
+   * @return number of voices of the sound still playing, as for {@link #getVoiceCount()}
+   */
+  public int getVoiceCount(String soundId) {
+    int count = 0;
+    for (Voice voice : voices) {
+      if (voice.soundId.equals(soundId)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return number of voices which were stopped while still playing to keep within the voice limits
+   */
+  public int getStolenVoices() {
+    return stolenVoices;
+  }
+
+  /**
+   * @return number of sounds loaded and cached
+   */
+  public int getLoadedSoundCount() {
+    return sounds.size;
+  }
+
+  @Override
+  public void dispose() {
+    for (Voice voice : voices) {
+      voice.sound.stop(voice.id);
+    }
+    voices.clear();
+    durations.clear();
+    fadingTracks.clear();
+    currentTrack = null;
+    sounds.clear();
+    music.clear();
+    requested.clear();
+    resourceService.dispose();
+  }
+
+  private int getVoiceLimit(String soundId) {
+    return voiceLimits.get(soundId, voicesPerSound);
+  }
+
+  /**
+   * Stop the oldest voice of a sound, or of any sound if soundId is null. Finished voices should
+   * be removed first, so that only a voice which is still playing is stopped.
+   */
+  private void stopOldest(String soundId) {
+    Iterator<Voice> iterator = voices.iterator();
+    while (iterator.hasNext()) {
+      Voice voice = iterator.next();
+      if (soundId == null || voice.soundId.equals(soundId)) {
+        voice.sound.stop(voice.id);
+        iterator.remove();
+        stolenVoices++;
+        return;
+      }
+    }
+  }
+
+  /** Forget voices whose sound has played to the end. */
+  private void removeFinishedVoices() {
+    Iterator<Voice> iterator = voices.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().endTime <= time) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void updateFades(float delta) {
+    if (currentTrack != null) {
+      currentTrack.update(delta);
+    }
+    Iterator<Track> fading = fadingTracks.iterator();
+    while (fading.hasNext()) {
+      Track track = fading.next();
+      if (track.update(delta)) {
+        track.music.stop();
+        fading.remove();
+      }
+    }
+  }
+
+  private Sound getSound(String soundId) {
+    Sound sound = sounds.get(soundId);
+    if (sound == null) {
+      sound = load(soundId, Sound.class);
+      if (sound != null) {
+        sounds.put(soundId, sound);
+        durations.put(soundId, getDuration(sound));
+      }
+    }
+    return sound;
+  }
+
+  /**
+   * Get the length of a sound from the backend's duration() method, e.g. the desktop backend's
+   * OpenALSound, which isn't part of the Sound interface.
+   *
+   * @return length in seconds, or 0 if the backend doesn't give it
+   */
+  static float getDuration(Sound sound) {
+    try {
+      Method duration = ClassReflection.getMethod(sound.getClass(), "duration");
+      duration.setAccessible(true);
+      Object seconds = duration.invoke(sound);
+      return seconds instanceof Float length ? Math.max(0f, length) : 0f;
+    } catch (ReflectionException e) {
+      return 0f;
+    }
+  }
+
+  private Music getMusic(String musicId) {
+    Music track = music.get(musicId);
+    if (track == null) {
+      track = load(musicId, Music.class);
+      if (track != null) {
+        music.put(musicId, track);
+      }
+    }
+    return track;
+  }
+
+  /**
+   * Load an asset now, unless it already failed to load, in which case it isn't tried again.
+   */
+  private <T> T load(String assetName, Class<T> type) {
+    if (missing.contains(assetName)) {
+      return null;
+    }
+    String[] names = {assetName};
+    if (requested.add(assetName)) {
+      logger.debug("Loading {} when first played; it should be preloaded", assetName);
+      resourceService.load(names, type, LoadPriority.CRITICAL);
+    }
+    resourceService.finishLoading(names);
+    try {
+      return resourceService.getAsset(assetName, type);
+    } catch (Exception e) {
+      logger.error("Could not load {}: {}", assetName, e.getMessage());
+      missing.add(assetName);
+      return null;
+    }
+  }
+
+  /** A voice of a sound which was started by this service. */
+  private static class Voice {
+    private final String soundId;
+    private final Sound sound;
+    private final long id;
+    // Time the voice finishes playing, or Float.MAX_VALUE if it isn't known
+    private final float endTime;
+
+    private Voice(String soundId, Sound sound, long id, float endTime) {
+      this.soundId = soundId;
+      this.sound = sound;
+      this.id = id;
+      this.endTime = endTime;
+    }
+  }
+
+  /** A music track, and the volume it is fading to. */
+  private static class Track {
+    private final String musicId;
+    private final Music music;
+    private float targetVolume;
+    private float volumePerSecond;
+
+    private Track(String musicId, Music music) {
+      this.musicId = musicId;
+      this.music = music;
+    }
+
+    private void fadeTo(float volume, float seconds) {
+      targetVolume = volume;
+      if (seconds <= 0) {
+        music.setVolume(volume);
+        volumePerSecond = 0;
+      } else {
+        volumePerSecond = Math.abs(volume - music.getVolume()) / seconds;
+      }
+    }
+
+    private boolean isFading() {
+      return music.getVolume() != targetVolume;
+    }
+
+    /**
+     * @return true once the track has faded out completely
+     */
+    private boolean update(float delta) {
+      float volume = music.getVolume();
+      if (volume != targetVolume) {
+        float step = volumePerSecond * delta;
+        if (volumePerSecond == 0 || Math.abs(targetVolume - volume) <= step) {
+          volume = targetVolume;
+        } else {
+          volume += Math.signum(targetVolume - volume) * step;
+        }
+        music.setVolume(volume);
+      }
+      return volume <= 0f && targetVolume <= 0f;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.components.station.loader.StationAcceptableItemsConfig;
+import com.csse3200.game.entities.configs.CookingConfig;
+import com.csse3200.game.entities.configs.NPCConfigs;
+import com.csse3200.game.entities.configs.PlayerConfig;
+import com.csse3200.game.entities.configs.RecipeBook;
+import com.csse3200.game.files.FileLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service that reads the game's JSON config files. Each file is parsed the first time it is asked
+ * for and the result is shared from then on, rather than every factory and component parsing its
+ * own copy. How long each file took to parse is kept for {@link #getParseTimes()}.
+ *
+ * <p>Configs are shared, so they must not be changed once read.
+ */
+public class ConfigService {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigService.class);
+    public static final String RECIPES_FILE = "configs/recipe.json";
+    public static final String NPCS_FILE = "configs/NPCs.json";
+    public static final String PLAYER_FILE = "configs/player.json";
+    public static final String STATIONS_FILE = "configs/station.json";
+
+    private final Map<String, Object> configs = new HashMap<>();
+    private final Map<String, Long> parseTimes = new LinkedHashMap<>();
+    private RecipeBook recipes;
+
+    /**
+     * Get a config, parsing it if this is the first time it has been asked for.
+     *
+     * @param type     config class
+     * @param filename internal path of the config file
+     * @param <T>      config type
+     * @return config, or null if it couldn't be read
+     * @throws IllegalArgumentException if the file was already read as a different type
+     */
+    public synchronized <T> T get(Class<T> type, String filename) {
+        if (configs.containsKey(filename)) {
+            Object config = configs.get(filename);
+            if (config != null && !type.isInstance(config)) {
+                throw new IllegalArgumentException(filename + " was read as "
+                        + config.getClass().getSimpleName() + ", not " + type.getSimpleName());
+            }
+            return type.cast(config);
+        }
+        long start = System.nanoTime();
+        T config = FileLoader.readClass(type, filename);
+        long time = System.nanoTime() - start;
+        configs.put(filename, config);
+        parseTimes.put(filename, time);
+        logger.info("Parsed {} in {}ms", filename, time / 1_000_000f);
+        return config;
+    }
+
+    /**
+     * @return recipes, with their ingredients looked up ahead of time
+     */
+    public synchronized RecipeBook getRecipes() {
+        if (recipes == null) {
+            recipes = new RecipeBook(get(CookingConfig.class, RECIPES_FILE));
+        }
+        return recipes;
+    }
+
+    public NPCConfigs getNPCs() {
+        return get(NPCConfigs.class, NPCS_FILE);
+    }
+
+    public PlayerConfig getPlayer() {
+        return get(PlayerConfig.class, PLAYER_FILE);
+    }
+
+    public StationAcceptableItemsConfig getStationItems() {
+        return get(StationAcceptableItemsConfig.class, STATIONS_FILE);
+    }
+
+    /**
+     * @return how long each config file took to parse, in nanoseconds, in the order they were read
+     */
+    public synchronized Map<String, Long> getParseTimes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(parseTimes));
+    }
+}
@@ -6,6 +6,7 @@ import com.csse3200.game.components.moral.MoralDecision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.csse3200.game.events.EventHandler; 
+import com.csse3200.game.ui.binding.ObservableProperty;
 import java.util.Random;
 
 
@@ -34,6 +35,8 @@ public class DayNightService {
     private int randomChoice;
     private static int day = 0;
     private int highQualityMeals = 0;
+    private final ObservableProperty<Integer> dayProperty = new ObservableProperty<>(0);
+    private final ObservableProperty<Long> timeRemainingProperty = new ObservableProperty<>(0L);
 
 
     /**
@@ -71,6 +74,8 @@ public class DayNightService {
         }
 
         randomChoice = random.nextInt(60) * 1000;
+        dayProperty.set(day);
+        timeRemainingProperty.set(timeRemaining);
 
         create();
     }
@@ -133,6 +138,7 @@ public class DayNightService {
         if (currentTime - lastSecondCheck >= 1000 && !pastSecond) {
             pastSecond = true;
             this.timeRemaining -= 1000;
+            timeRemainingProperty.set(this.timeRemaining);
             enddayEventHandler.trigger("Second", this.timeRemaining);
             lastSecondCheck = currentTime;
         }
@@ -148,6 +154,7 @@ public class DayNightService {
             endOfDayTriggered = true;
             gameTime.setTimeScale(0);
             this.timeRemaining = FIVE_MINUTES;
+            timeRemainingProperty.set(this.timeRemaining);
             docketServiceEventHandler.trigger("Dispose");
             enddayEventHandler.trigger("endOfDay"); // Trigger the end of the day event
         }
@@ -211,6 +218,7 @@ public class DayNightService {
 
         // transition to new day
         day += 1;
+        dayProperty.set(day);
         logger.info("Next/new day is: " + day);
 
         resetHighQualityMealCount(); // Reset count for next day
@@ -218,6 +226,7 @@ public class DayNightService {
 
         // Reset the time for the new day
         this.timeRemaining = FIVE_MINUTES;
+        timeRemainingProperty.set(this.timeRemaining);
         endOfDayTriggered = false;
         pastUpgrade = false;
 
@@ -244,6 +253,41 @@ public class DayNightService {
      */
     public void setDay(int day) {
         this.day = day;
+        dayProperty.set(day);
+    }
+
+    /**
+     * Gets an observable view of the current day, for UI that should only update on change.
+     *
+     * @return the current day property
+     */
+    public ObservableProperty<Integer> getDayProperty() {
+        return dayProperty;
+    }
+
+    /**
+     * Gets an observable view of the time remaining in the day, in milliseconds. This changes once
+     * per game second.
+     *
+     * @return the time remaining property
+     */
+    public ObservableProperty<Long> getTimeRemainingProperty() {
+        return timeRemainingProperty;
+    }
+
+    /**
+     * Gets how far through the day it is, for things which change smoothly over the day. Unlike
+     * the time remaining, this keeps moving between game seconds, and stops while paused.
+     *
+     * @return fraction of the day passed, from 0 at the start of the day to 1 at the end
+     */
+    public float getDayProgress() {
+        if (endOfDayTriggered) {
+            return 1f;
+        }
+        long sinceLastSecond = Math.max(0, Math.min(gameTime.getTime() - lastSecondCheck, 1000));
+        float passed = FIVE_MINUTES - timeRemaining + sinceLastSecond;
+        return Math.max(0f, Math.min(passed / FIVE_MINUTES, 1f));
     }
 
     /**
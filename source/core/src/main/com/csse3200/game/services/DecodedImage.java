@@ -0,0 +1,185 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An image decoded ahead of being uploaded as a texture. Either a pixmap decoded from the source
+ * image, or raw pixels mapped straight from the {@link TextureCache}.
+ */
+final class DecodedImage {
+    private final Pixmap pixmap;
+    private final ByteBuffer pixels;
+    private final int width;
+    private final int height;
+    private final Pixmap.Format format;
+
+    private DecodedImage(Pixmap pixmap, ByteBuffer pixels, int width, int height,
+                         Pixmap.Format format) {
+        this.pixmap = pixmap;
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+    }
+
+    static DecodedImage of(Pixmap pixmap) {
+        return new DecodedImage(pixmap, null, pixmap.getWidth(), pixmap.getHeight(),
+                pixmap.getFormat());
+    }
+
+    static DecodedImage mapped(ByteBuffer pixels, int width, int height, Pixmap.Format format) {
+        return new DecodedImage(null, pixels, width, height, format);
+    }
+
+    boolean isMapped() {
+        return pixmap == null;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    Pixmap.Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the pixel data, which is only a view of it and mustn't be kept past dispose
+     */
+    ByteBuffer getPixels() {
+        ByteBuffer buffer = (isMapped() ? pixels : pixmap.getPixels()).duplicate();
+        buffer.position(0);
+        return buffer;
+    }
+
+    /**
+     * @return size of the pixel data in bytes
+     */
+    long getByteCount() {
+        return isMapped() ? pixels.capacity() : pixmap.getPixels().capacity();
+    }
+
+    /**
+     * Convert to another pixel format. This image is disposed, and can't be used afterwards.
+     *
+     * @param newFormat format to convert to
+     * @return converted image
+     */
+    DecodedImage convert(Pixmap.Format newFormat) {
+        Pixmap source = pixmap;
+        if (isMapped()) {
+            source = new Pixmap(width, height, format);
+            source.getPixels().put(getPixels());
+            source.getPixels().position(0);
+        }
+        Pixmap converted = new Pixmap(width, height, newFormat);
+        converted.setBlending(Pixmap.Blending.None);
+        converted.drawPixmap(source, 0, 0);
+        source.dispose();
+        return of(converted);
+    }
+
+    /**
+     * Wrap the image for uploading. The texture data takes ownership of the pixels.
+     *
+     * @param useMipMaps whether to generate mipmaps
+     * @return texture data to upload
+     */
+    TextureData toTextureData(boolean useMipMaps) {
+        if (isMapped()) {
+            return new MappedTextureData(this, useMipMaps);
+        }
+        return new PixmapTextureData(pixmap, format, useMipMaps, true);
+    }
+
+    void dispose() {
+        if (pixmap != null) {
+            pixmap.dispose();
+        }
+    }
+
+    /**
+     * Texture data uploaded straight from mapped pixels, without copying them into a pixmap.
+     */
+    private static class MappedTextureData implements TextureData {
+        private final DecodedImage image;
+        private final boolean useMipMaps;
+
+        private MappedTextureData(DecodedImage image, boolean useMipMaps) {
+            this.image = image;
+            this.useMipMaps = useMipMaps;
+        }
+
+        @Override
+        public TextureDataType getType() {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared() {
+            return true;
+        }
+
+        @Override
+        public void prepare() {
+            // The pixels are mapped already
+        }
+
+        @Override
+        public Pixmap consumePixmap() {
+            throw new GdxRuntimeException("Mapped texture data doesn't have a pixmap");
+        }
+
+        @Override
+        public boolean disposePixmap() {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData(int target) {
+            int glFormat = Pixmap.Format.toGlFormat(image.format);
+            Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+            Gdx.gl.glTexImage2D(target, 0, glFormat, image.width, image.height, 0, glFormat,
+                    Pixmap.Format.toGlType(image.format), image.getPixels());
+            if (useMipMaps) {
+                Gdx.gl.glGenerateMipmap(target);
+            }
+        }
+
+        @Override
+        public int getWidth() {
+            return image.width;
+        }
+
+        @Override
+        public int getHeight() {
+            return image.height;
+        }
+
+        @Override
+        public Pixmap.Format getFormat() {
+            return image.format;
+        }
+
+        @Override
+        public boolean useMipMaps() {
+            return useMipMaps;
+        }
+
+        @Override
+        public boolean isManaged() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.rendering.GpuMemoryTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Function;
+
+/**
+ * Service that generates and caches fonts. Each (face, size) pair is rasterised once with FreeType
+ * and the same {@link BitmapFont} is returned for every later request. Fonts are generated
+ * incrementally, so glyphs are only rasterised the first time they are drawn rather than packing the
+ * whole character set up front, which matters for very large sizes.
+ *
+ * <p>The service owns every font and generator it creates and disposes them centrally, so callers
+ * must not dispose fonts they get from it.
+ */
+public class FontService implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(FontService.class);
+
+  private final Function<FileHandle, FreeTypeFontGenerator> generatorFactory;
+  private final ObjectMap<String, FreeTypeFontGenerator> generators = new ObjectMap<>();
+  private final ObjectMap<String, BitmapFont> fonts = new ObjectMap<>();
+  private BitmapFont defaultFont;
+
+  public FontService() {
+    this(FreeTypeFontGenerator::new);
+  }
+
+  /**
+   * Create a font service with a custom generator factory, e.g. for tests.
+   *
+   * @param generatorFactory creates a FreeType generator for a font face file
+   */
+  public FontService(Function<FileHandle, FreeTypeFontGenerator> generatorFactory) {
+    this.generatorFactory = generatorFactory;
+  }
+
+  /**
+   * Get a font with the given face and pixel size, generating it on first use.
+   *
+   * @param face path to the TrueType font file
+   * @param size font size in pixels
+   * @return shared font
+   */
+  public BitmapFont getFont(String face, int size) {
+    return getFont(face, size, 1f);
+  }
+
+  /**
+   * Get a font with the given face, pixel size and gamma, generating it on first use.
+   *
+   * @param face path to the TrueType font file
+   * @param size font size in pixels
+   * @param gamma glyph gamma, 1 for FreeType's default
+   * @return shared font
+   */
+  public BitmapFont getFont(String face, int size, float gamma) {
+    String key = face + ":" + size + ":" + gamma;
+    BitmapFont font = fonts.get(key);
+    if (font == null) {
+      logger.debug("Generating font {} at size {}", face, size);
+      FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+      parameter.size = size;
+      parameter.gamma = gamma;
+      // Generator must stay alive for incremental glyphs, it is disposed with the service
+      parameter.incremental = true;
+      font = getGenerator(face).generateFont(parameter);
+      fonts.put(key, font);
+      trackPages(font);
+    }
+    return font;
+  }
+
+  /**
+   * Get the shared copy of libGDX's built in font, for UI that used {@code new BitmapFont()}.
+   *
+   * @return shared default font
+   */
+  public BitmapFont getDefaultFont() {
+    if (defaultFont == null) {
+      defaultFont = new BitmapFont();
+      trackPages(defaultFont);
+    }
+    return defaultFont;
+  }
+
+  /** @return number of distinct fonts generated by this service */
+  public int getFontCount() {
+    return fonts.size;
+  }
+
+  private static void trackPages(BitmapFont font) {
+    if (font.getRegions() == null) {
+      return;
+    }
+    for (TextureRegion page : font.getRegions()) {
+      GpuMemoryTracker.track(page.getTexture(), "fonts");
+    }
+  }
+
+  private static void untrackPages(BitmapFont font) {
+    if (font.getRegions() == null) {
+      return;
+    }
+    for (TextureRegion page : font.getRegions()) {
+      GpuMemoryTracker.untrack(page.getTexture());
+    }
+  }
+
+  private FreeTypeFontGenerator getGenerator(String face) {
+    FreeTypeFontGenerator generator = generators.get(face);
+    if (generator == null) {
+      generator = generatorFactory.apply(Gdx.files.internal(face));
+      generators.put(face, generator);
+    }
+    return generator;
+  }
+
+  @Override
+  public void dispose() {
+    logger.debug("Disposing {} fonts", fonts.size);
+    for (BitmapFont font : fonts.values()) {
+      untrackPages(font);
+      font.dispose();
+    }
+    fonts.clear();
+    for (FreeTypeFontGenerator generator : generators.values()) {
+      generator.dispose();
+    }
+    generators.clear();
+    if (defaultFont != null) {
+      untrackPages(defaultFont);
+      defaultFont.dispose();
+      defaultFont = null;
+    }
+  }
+}
@@ -13,6 +13,9 @@ public class GameTime {
   private boolean isPaused = false;
   private long pausedAt;
   private long totalPauseTime;
+  private float animationTime;
+  private long animationTimeUpdatedAt;
+  private long animationFrame = -1;
 
   public GameTime() {
     startTime = TimeUtils.millis();
@@ -78,6 +81,24 @@ public class GameTime {
     return TimeUtils.timeSinceMillis(startTime) - totalPauseTime;
   }
 
+  /**
+   * Time shared by every animation. It advances once per frame by the game time passed since the
+   * last frame, scaled by time scale, so it stops while paused and every animation drawn in a frame
+   * sees the same time.
+   *
+   * @return animation time in seconds
+   */
+  public float getAnimationTime() {
+    long frame = Gdx.graphics.getFrameId();
+    if (frame != animationFrame) {
+      animationFrame = frame;
+      long now = getTime();
+      animationTime += (now - animationTimeUpdatedAt) / 1000f * timeScale;
+      animationTimeUpdatedAt = now;
+    }
+    return animationTime;
+  }
+
   public long getTimeSince(long lastTime) {
     return getTime() - lastTime;
   }
@@ -0,0 +1,176 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.rendering.Renderable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws hover information for every interactable as a single renderable: the inventory previews
+ * of interactables which hold items, and the key tooltips of the one the player is focused on.
+ * Interactables provide their data through {@link HoverProvider} instead of each registering
+ * their own renderable and holding their own copies of the UI textures, so the render list and
+ * GPU memory don't grow with the number of stations.
+ */
+public class HoverOverlayService implements Renderable, Disposable {
+  public static final String ITEM_BACKGROUND = "images/inventory_ui/item_background.png";
+  public static final String SELECTED_ITEM_BACKGROUND =
+      "images/inventory_ui/item_background_selected.png";
+  private static final int LAYER = 3;
+  private static final float X_OFFSET = 0.2f;
+  private static final float Y_OFFSET = 1.0f;
+  private static final float SLOT_WIDTH = 0.6f;
+  private static final float SLOT_HEIGHT = 0.6f;
+  private static final float ITEM_PADDING = 0.1f;
+
+  private final Map<String, TextureHandle> sharedTextures = new HashMap<>();
+  private final Map<HoverProvider, List<Texture>> previews = new LinkedHashMap<>();
+  private HoverProvider focused;
+
+  /**
+   * Get a UI texture shared by all providers. It is acquired from the resource service the first
+   * time it is requested and held until this service is disposed.
+   *
+   * @param path texture path
+   * @return shared texture
+   */
+  public Texture getTexture(String path) {
+    TextureHandle handle = sharedTextures.get(path);
+    if (handle == null) {
+      handle = ServiceLocator.getResourceService().acquire(path);
+      sharedTextures.put(path, handle);
+    }
+    return handle.getTexture();
+  }
+
+  /**
+   * Set the item images previewed above a provider, bottom first. The last image is highlighted
+   * as the next to be taken out when there is more than one.
+   *
+   * @param provider provider the preview belongs to
+   * @param images item images, empty to show no preview
+   */
+  public void setPreview(HoverProvider provider, List<Texture> images) {
+    if (images == null || images.isEmpty()) {
+      previews.remove(provider);
+    } else {
+      previews.put(provider, new ArrayList<>(images));
+    }
+  }
+
+  /**
+   * Show the key tooltips of a provider, replacing any previously focused provider.
+   *
+   * @param provider provider the player is focused on
+   */
+  public void focus(HoverProvider provider) {
+    focused = provider;
+  }
+
+  /**
+   * Stop showing the key tooltips of a provider. Ignored if another provider has since been
+   * focused.
+   *
+   * @param provider provider the player is no longer focused on
+   */
+  public void unfocus(HoverProvider provider) {
+    if (focused == provider) {
+      focused = null;
+    }
+  }
+
+  /**
+   * Remove a provider's preview and focus, e.g. when its entity is disposed.
+   *
+   * @param provider provider to remove
+   */
+  public void remove(HoverProvider provider) {
+    previews.remove(provider);
+    unfocus(provider);
+  }
+
+  /** @return provider whose key tooltips are shown, or null if none */
+  public HoverProvider getFocused() {
+    return focused;
+  }
+
+  /** @return number of providers currently showing an inventory preview */
+  public int getPreviewCount() {
+    return previews.size();
+  }
+
+  @Override
+  public void render(SpriteBatch batch) {
+    for (Map.Entry<HoverProvider, List<Texture>> preview : previews.entrySet()) {
+      Vector2 position = preview.getKey().getHoverPosition();
+      if (position != null) {
+        drawPreview(batch, position, preview.getValue());
+      }
+    }
+
+    if (focused != null && focused.getHoverPosition() != null) {
+      focused.drawToolTips(batch);
+    }
+  }
+
+  private void drawPreview(SpriteBatch batch, Vector2 position, List<Texture> images) {
+    Texture background = getTexture(ITEM_BACKGROUND);
+    Texture selectedBackground = getTexture(SELECTED_ITEM_BACKGROUND);
+
+    for (int i = 0; i < images.size(); i++) {
+      float y = position.y + (i * SLOT_HEIGHT) + Y_OFFSET;
+      // draw selected background image for the next item to be taken out
+      // (if there is more than 1 item displayed)
+      boolean selected = i == images.size() - 1 && images.size() > 1;
+      batch.draw(selected ? selectedBackground : background,
+          position.x + X_OFFSET, y, SLOT_WIDTH, SLOT_HEIGHT);
+      batch.draw(images.get(i),
+          position.x + X_OFFSET + ITEM_PADDING,
+          y + ITEM_PADDING,
+          SLOT_WIDTH - 2 * ITEM_PADDING,
+          SLOT_HEIGHT - 2 * ITEM_PADDING);
+    }
+  }
+
+  @Override
+  public float getZIndex() {
+    // Drawn above everything else in its layer
+    return Float.MAX_VALUE;
+  }
+
+  @Override
+  public int getLayer() {
+    return LAYER;
+  }
+
+  @Override
+  public int compareTo(Renderable o) {
+    return Float.compare(getZIndex(), o.getZIndex());
+  }
+
+  @Override
+  public void setStage(Stage mock) {
+    // The overlay draws in world space, not on the stage
+  }
+
+  @Override
+  public void dispose() {
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService != null) {
+      for (TextureHandle handle : sharedTextures.values()) {
+        resourceService.release(handle);
+      }
+    }
+    sharedTextures.clear();
+    previews.clear();
+    focused = null;
+  }
+}
@@ -0,0 +1,24 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * An interactable which shows hover information through the {@link HoverOverlayService}: an
+ * inventory preview while it holds items, and key tooltips while the player is focused on it.
+ */
+public interface HoverProvider {
+  /**
+   * @return world position the preview and tooltips are drawn relative to, or null if the
+   *     provider has no position yet
+   */
+  Vector2 getHoverPosition();
+
+  /**
+   * Draw the key tooltips for the interactions currently available. Only called by the overlay
+   * while this provider is focused.
+   *
+   * @param batch batch to draw to
+   */
+  void drawToolTips(SpriteBatch batch);
+}
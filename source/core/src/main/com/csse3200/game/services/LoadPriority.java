@@ -0,0 +1,17 @@
+package com.csse3200.game.services;
+
+/**
+ * How urgently requested assets are needed, from most to least urgent. Assets of a lower priority
+ * aren't given to the asset manager until every request of a higher priority has been, so they
+ * never hold up more urgent loads.
+ *
+ * @see ResourceService#load(String[], Class, LoadPriority)
+ */
+public enum LoadPriority {
+  /** Needed before the screen can be shown. Screens show loading progress until these are done. */
+  CRITICAL,
+  /** Needed shortly, e.g. the next scene of a cutscene. Streamed in within the frame budget. */
+  SOON,
+  /** Nice to have ready ahead of time. Streamed in once nothing more urgent is waiting. */
+  BACKGROUND
+}
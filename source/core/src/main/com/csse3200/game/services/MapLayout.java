@@ -3,6 +3,7 @@ package com.csse3200.game.services;
 
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.areas.map.BenchGenerator;
+import com.csse3200.game.areas.map.CompiledMap;
 import com.csse3200.game.areas.map.Map;
 import com.csse3200.game.entities.benches.Bench;
 import com.csse3200.game.entities.Entity;
@@ -12,10 +13,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 /**
- * Class to load the map layout from a text file
+ * Class to load the map layout from a text file, or from the file it was compiled to if that is up
+ * to date (see {@link CompiledMap}).
  */
 public class MapLayout {
     private EventHandler mapEventHandler;
@@ -31,7 +35,9 @@ public class MapLayout {
     private int mapWidth;
     private int mapHeight;
     private String mapSeparator;
-    private final String[] validStations = {"b", "s", "u", "t", "c", "a", "E", "O", "B", "C", "G", "N", "S", "F", "Z"};
+    private boolean useCompiledMaps = true;
+    // Reused to read each compiled map, so that loading a map doesn't allocate
+    private ByteBuffer mapBuffer;
 
     private static final Logger logger = LoggerFactory.getLogger(MapLayout.class);
 
@@ -53,21 +59,79 @@ public class MapLayout {
      * Xab -> spawn horizontal bench starting at column `a` that is `b` cells long
      * []a  -> for any station, spawns a station based on [] at column `a`
      * the row of the object depends on what line it's on in the file.
+     * The compiled map is loaded instead if it is at least as new as the text file.
      *
      * @param level - integer 1-5 corresponding to level
      */
     public Map load(GdxGame.LevelType level) {
+        String mapLevel = getMapFile(level);
+        if (!useCompiledMaps || !CompiledMap.isUpToDate(mapLevel)
+                || !loadCompiled(CompiledMap.getCompiledPath(mapLevel))) {
+            loadText(mapLevel);
+        }
+        return new Map(benches, stations);
+    }
 
-        String mapLevel = MAPBASE;
-        BufferedReader reader = null;
-        switch (level) {
-            case LEVEL_1 -> mapLevel = MAPLEVEL1;
-            case LEVEL_2 -> mapLevel = MAPLEVEL2;
-            case LEVEL_3 -> mapLevel = MAPLEVEL3;
-            case LEVEL_4 -> mapLevel = MAPLEVEL4;
-            case LEVEL_5 -> mapLevel = MAPLEVEL5;
+    /**
+     * Get the text file of a level's map.
+     *
+     * @param level level
+     * @return path of the map's text file
+     */
+    public static String getMapFile(GdxGame.LevelType level) {
+        return switch (level) {
+            case LEVEL_1 -> MAPLEVEL1;
+            case LEVEL_2 -> MAPLEVEL2;
+            case LEVEL_3 -> MAPLEVEL3;
+            case LEVEL_4 -> MAPLEVEL4;
+            case LEVEL_5 -> MAPLEVEL5;
+            default -> MAPBASE;
+        };
+    }
+
+    /**
+     * Set whether compiled maps are loaded when they are up to date, rather than the text files.
+     *
+     * @param useCompiledMaps false to always load the text files
+     */
+    public void setUseCompiledMaps(boolean useCompiledMaps) {
+        this.useCompiledMaps = useCompiledMaps;
+    }
+
+    /**
+     * Load the map layout from a compiled map file.
+     *
+     * @param path path of the compiled map
+     * @return true if it was loaded, false if it couldn't be read, in which case nothing was placed
+     */
+    public boolean loadCompiled(String path) {
+        long start = ServiceLocator.getTimeSource().getTime();
+        CompiledMap map;
+        try {
+            map = CompiledMap.read(Path.of(path), mapBuffer);
+        } catch (IOException e) {
+            logger.warn("Could not read compiled map {}, reading its text file: {}", path, e.getMessage());
+            return false;
         }
+        mapBuffer = map.getBuffer();
+        mapName = map.getName();
+        mapWidth = map.getWidth();
+        mapHeight = map.getHeight();
+        for (int cell = 0; cell < map.getCellCount(); cell++) {
+            benches.addAll(place(map.getType(cell), map.getColumn(cell), map.getLength(cell),
+                    map.getRow(cell)));
+        }
+        logger.info("Compiled map {} read: {}ms", mapName, ServiceLocator.getTimeSource().getTime() - start);
+        return true;
+    }
 
+    /**
+     * Load the map layout from its text file.
+     *
+     * @param mapLevel path of the text file
+     */
+    public void loadText(String mapLevel) {
+        BufferedReader reader = null;
         try {
             reader = new BufferedReader(new FileReader(mapLevel));
             String line;
@@ -76,22 +140,22 @@ public class MapLayout {
             logger.info("Reading the grid...");
             if ((line = reader.readLine()) != null) {
                 mapName = line; // 1st line is the map name
-                logger.info("Map Name: {0}", mapName);
+                logger.debug("Map Name: {}", mapName);
             }
 
             if ((line = reader.readLine()) != null) {
                 mapWidth = Integer.parseInt(line); // 2nd line is the width
-                logger.info("Map Width: {0}", mapWidth);
+                logger.debug("Map Width: {}", mapWidth);
             }
 
             if ((line = reader.readLine()) != null) {
                 mapHeight = Integer.parseInt(line); // 3rd line is the height
-                logger.info("Map Height: {0}", mapHeight);
+                logger.debug("Map Height: {}", mapHeight);
             }
 
             if ((line = reader.readLine()) != null) {
                 mapSeparator = line; // 4th line is a separator (e.g., "===")
-                logger.info("Map Separator: {0}", mapSeparator);
+                logger.debug("Map Separator: {}", mapSeparator);
             }
             int row = 4;
 
@@ -111,14 +175,14 @@ public class MapLayout {
                     //logger.info("Col " + col + " (" + (ServiceLocator.getTimeSource().getTime() - colTime) + "ms)" + ": " + line);
                 }
                 // Log the entire line
-                logger.info("Line {0} ( {1} ms) : {2}", row, (ServiceLocator.getTimeSource().getTime() - lineTime),line);
+                logger.debug("Line {} ({} ms): {}", row, ServiceLocator.getTimeSource().getTime() - lineTime, line);
 
                 row++;
             }
             long time2 = ServiceLocator.getTimeSource().getTime();
             logger.info("Map file read: {}ms", time2 - time1);
         } catch (IOException e) {
-            logger.warn("An error occurred while reading the file: {0}", e.getMessage());
+            logger.warn("An error occurred while reading the file: {}", e.getMessage());
         } finally {
             try {
                 if (reader != null) {
@@ -129,7 +193,6 @@ public class MapLayout {
                 logger.warn(logMessage);
             }
         }
-        return new Map(benches, stations);
     }
 
     /**
@@ -147,34 +210,47 @@ public class MapLayout {
         // Log the current square being processed a
         // logger.info("Checking square at row " + row + ", column " + col + ": " + square);
 
-        // Spawn single bench row when 'X'
-        if (type.equals("X")) {
-            int strToNum = Integer.parseInt(parts[col + 1]);
-            int strToNum2 = Integer.parseInt(parts[col + 2] );
-            return BenchGenerator.createBenchRow(strToNum + 4, strToNum + 3 + strToNum2, row - 4);
-        }
-        // Spawn bench column when 'Y'
-        else if (type.equals("Y")) {
+        // Bench rows and columns have a length after their column
+        if (type.equals("X") || type.equals("Y")) {
             int strToNum = Integer.parseInt(parts[col + 1]);
             int strToNum2 = Integer.parseInt(parts[col + 2]);
-            return BenchGenerator.createBenchColumn(strToNum + 4, row - 4, row + strToNum2 - 4);
-        }
-        else if (type.equals("Q")) {
-            int strToNum = Integer.parseInt(parts[col + 1]);
-            return BenchGenerator.singleShadowBench(strToNum + 4, row - 4);
-        }
-        else if (type.equals("P")) {
-            int strToNum = Integer.parseInt(parts[col + 1]);
-            return BenchGenerator.singleBlocker(strToNum + 4, row - 4);
+            return place(type.charAt(0), strToNum, strToNum2, row);
         }
-        // Spawn a station
-        else if (validateStation(type)) {
+        else if (type.equals("Q") || type.equals("P") || validateStation(type)) {
             int strToNum = Integer.parseInt(parts[col + 1]);
-            stations.add(readStation(type, strToNum, row));
+            return place(type.charAt(0), strToNum, 0, row);
         }
         return new ArrayList<>();
     }
 
+    /**
+     * Place a bench or station from a cell of the map, whether it was read from the text file or
+     * the compiled map.
+     * @param type - the character of the cell
+     * @param col - the column of the cell
+     * @param length - the length of a bench row or column
+     * @param row - the row of the cell, counting the header lines of the text file
+     * @return the list of benches placed, which is empty for a station
+     */
+    public ArrayList<Bench> place(char type, int col, int length, int row) {
+        switch (type) {
+            // Spawn single bench row when 'X'
+            case 'X':
+                return BenchGenerator.createBenchRow(col + 4, col + 3 + length, row - 4);
+            // Spawn bench column when 'Y'
+            case 'Y':
+                return BenchGenerator.createBenchColumn(col + 4, row - 4, row + length - 4);
+            case 'Q':
+                return BenchGenerator.singleShadowBench(col + 4, row - 4);
+            case 'P':
+                return BenchGenerator.singleBlocker(col + 4, row - 4);
+            // Spawn a station
+            default:
+                stations.add(readStation(String.valueOf(type), col, row));
+                return new ArrayList<>();
+        }
+    }
+
     /**
      * Read a station from the map file
      * @param type - the type of station
@@ -214,12 +290,7 @@ public class MapLayout {
      * @return - a boolean indicating if the station is valid
      */
     public boolean validateStation(String str) {
-        for (String station : validStations) {
-            if (str.equals(station)) {
-                return true;
-            }
-        }
-        return false;
+        return str.length() == 1 && CompiledMap.isStation(str.charAt(0));
     }
 
     /**
@@ -0,0 +1,381 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.concurrency.JobSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Texture loader which decodes images on {@link JobSystem} workers instead of the asset manager's
+ * single loading thread.
+ *
+ * <p>The asset manager only works on one asset at a time, so on its own it decodes every image one
+ * after another. Images which are about to be loaded are passed to {@link #decode(String)} as they
+ * are queued, which decodes them ahead across every core. When the asset manager gets to them, it
+ * only has to wait for the decode that is already running, then upload the texture on the GL thread.
+ * Only a few images are decoded ahead at once, so that the decoded pixels waiting to be uploaded
+ * don't take up more memory than is needed to keep the workers busy.
+ *
+ * <p>Images which weren't decoded ahead, and formats other than PNG, JPEG and BMP, are decoded on
+ * the asset manager's thread as before. With a {@link TextureCache}, images are read from the cache
+ * instead of being decoded whenever they haven't changed since they were cached.
+ *
+ * <p>Atlas pages are found on a worker, which may only finish once the asset manager has started
+ * on a page, or after the atlas was cancelled. Pages being loaded are skipped, and cancelling an
+ * atlas drops the pages it queued and any it finds later, so that a late worker can't leave a
+ * decode behind which is never taken.
+ */
+public class ParallelTextureLoader extends AsynchronousAssetLoader<Texture, TextureParameter> {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTextureLoader.class);
+
+    private final AssetManager assetManager;
+    private final Object lock = new Object();
+    private final Map<String, CompletableFuture<DecodedImage>> decodes = new HashMap<>();
+    private final ArrayDeque<String> waiting = new ArrayDeque<>();
+    // Images taken by the asset manager which haven't been uploaded yet
+    private final Set<String> loading = new HashSet<>();
+    // Atlases having their pages decoded ahead, until they are cancelled
+    private final Map<String, AtlasJob> atlasJobs = new HashMap<>();
+    private int maxDecodesAhead = Runtime.getRuntime().availableProcessors() * 2;
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicLong decodedBytes = new AtomicLong();
+    private volatile TextureCache cache;
+
+    // Only one texture is loaded at a time by the asset manager, as in libGDX's TextureLoader
+    private TextureData data;
+    private long dataBytes;
+
+    /**
+     * @param assetManager asset manager the loader is used by, to find files and skip images which
+     *                     are already loaded
+     */
+    public ParallelTextureLoader(AssetManager assetManager) {
+        super(assetManager.getFileHandleResolver());
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Start decoding an image which is going to be loaded, if it isn't being decoded already.
+     *
+     * @param fileName image path, as it is given to the asset manager
+     */
+    public void decode(String fileName) {
+        decode(fileName, null);
+    }
+
+    /**
+     * Start decoding an image, unless it was found by an atlas job which has since been dropped.
+     */
+    private void decode(String fileName, String atlasName) {
+        if (!isDecodable(fileName)) {
+            return;
+        }
+        // Textures are uploaded and added to the asset manager while it is locked, so an image can't
+        // finish loading between checking it isn't loaded and queueing it
+        synchronized (assetManager) {
+            if (assetManager.isLoaded(fileName)) {
+                return;
+            }
+            synchronized (lock) {
+                AtlasJob atlasJob = atlasName == null ? null : atlasJobs.get(atlasName);
+                if (decodes.containsKey(fileName) || waiting.contains(fileName)
+                        || loading.contains(fileName) || (atlasName != null && atlasJob == null)) {
+                    return;
+                }
+                waiting.add(fileName);
+                if (atlasJob != null) {
+                    atlasJob.pages.add(fileName);
+                }
+            }
+        }
+        launchWaiting();
+    }
+
+    /**
+     * Start decoding the page images of a texture atlas which is going to be loaded. The atlas file
+     * is read on a worker too, since this is called as the atlas is queued.
+     *
+     * @param atlasName atlas path, as it is given to the asset manager
+     */
+    public void decodeAtlasPages(String atlasName) {
+        AtlasJob job = new AtlasJob();
+        synchronized (lock) {
+            if (atlasJobs.containsKey(atlasName)) {
+                return;
+            }
+            atlasJobs.put(atlasName, job);
+        }
+        JobSystem.launch(() -> {
+            FileHandle packFile = resolve(atlasName);
+            TextureAtlasData atlasData = new TextureAtlasData(packFile, packFile.parent(), false);
+            for (TextureAtlasData.Page page : atlasData.getPages()) {
+                // Pages are loaded as dependencies named after their file's path
+                decode(page.textureFile.path().replace('\\', '/'), atlasName);
+            }
+            return null;
+        }).exceptionally(e -> {
+            logger.debug("Could not decode pages of {} ahead: {}", atlasName, e.getMessage());
+            return null;
+        }).thenRun(() -> job.found.complete(null));
+    }
+
+    /**
+     * Wait for every atlas which is having its pages found to finish queueing them.
+     */
+    void awaitAtlasPages() {
+        List<CompletableFuture<Void>> jobs = new ArrayList<>();
+        synchronized (lock) {
+            for (AtlasJob job : atlasJobs.values()) {
+                jobs.add(job.found);
+            }
+        }
+        CompletableFuture.allOf(jobs.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Drop an image which was decoded ahead but is no longer going to be loaded, or stop an atlas'
+     * pages from being decoded ahead.
+     *
+     * @param fileName image or atlas path
+     */
+    public void cancel(String fileName) {
+        CompletableFuture<DecodedImage> decode;
+        AtlasJob atlasJob;
+        synchronized (lock) {
+            atlasJob = atlasJobs.remove(fileName);
+            waiting.remove(fileName);
+            decode = decodes.remove(fileName);
+        }
+        if (decode != null) {
+            decode.thenAccept(DecodedImage::dispose);
+            launchWaiting();
+        }
+        if (atlasJob != null) {
+            List<String> pages;
+            synchronized (lock) {
+                pages = new ArrayList<>(atlasJob.pages);
+            }
+            for (String page : pages) {
+                cancel(page);
+            }
+        }
+    }
+
+    /**
+     * Drop every image which was decoded ahead.
+     */
+    public void clear() {
+        synchronized (lock) {
+            for (CompletableFuture<DecodedImage> decode : decodes.values()) {
+                decode.thenAccept(DecodedImage::dispose);
+            }
+            decodes.clear();
+            waiting.clear();
+            loading.clear();
+            atlasJobs.clear();
+        }
+    }
+
+    /**
+     * Set how many images can be decoded ahead of being loaded at once.
+     *
+     * @param maxDecodes maximum images decoded ahead
+     */
+    public void setMaxDecodesAhead(int maxDecodes) {
+        synchronized (lock) {
+            maxDecodesAhead = Math.max(1, maxDecodes);
+        }
+        launchWaiting();
+    }
+
+    /**
+     * Set the cache to read decoded images from and add them to.
+     *
+     * @param cache texture cache, or null to always decode images
+     */
+    public void setCache(TextureCache cache) {
+        this.cache = cache;
+    }
+
+    public TextureCache getCache() {
+        return cache;
+    }
+
+    public int getMaxDecodesAhead() {
+        return maxDecodesAhead;
+    }
+
+    /**
+     * @return number of images decoded or being decoded ahead which haven't been loaded yet
+     */
+    public int getDecodesAhead() {
+        synchronized (lock) {
+            return decodes.size();
+        }
+    }
+
+    /**
+     * @return bytes of texture data uploaded since the count was last reset
+     */
+    public long getUploadedBytes() {
+        return uploadedBytes.get();
+    }
+
+    public void resetUploadedBytes() {
+        uploadedBytes.set(0);
+    }
+
+    /**
+     * @return total bytes of pixels decoded, or read from the cache, by this loader
+     */
+    public long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+                          TextureParameter parameter) {
+        Pixmap.Format format = parameter == null ? null : parameter.format;
+        boolean genMipMaps = parameter != null && parameter.genMipMaps;
+
+        if (parameter != null && parameter.textureData != null) {
+            data = parameter.textureData;
+        } else if (isDecodable(fileName)) {
+            DecodedImage image;
+            try {
+                image = takeImage(fileName, file);
+            } catch (RuntimeException e) {
+                finishLoading(fileName);
+                throw e;
+            }
+            if (format != null && image.getFormat() != format) {
+                image = image.convert(format);
+            }
+            dataBytes = image.getByteCount();
+            data = image.toTextureData(genMipMaps);
+        } else {
+            data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
+        }
+        if (!data.isPrepared()) {
+            data.prepare();
+        }
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file,
+                            TextureParameter parameter) {
+        TextureData textureData = data;
+        data = null;
+        Texture texture;
+        if (parameter != null && parameter.texture != null) {
+            texture = parameter.texture;
+            texture.load(textureData);
+        } else {
+            texture = new Texture(textureData);
+        }
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        uploadedBytes.addAndGet(dataBytes);
+        dataBytes = 0;
+        finishLoading(fileName);
+        return texture;
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+                                                  TextureParameter parameter) {
+        return null;
+    }
+
+    /**
+     * Get the decoded image for a file, waiting for it if it was decoded ahead and decoding it now
+     * if it wasn't.
+     */
+    private DecodedImage takeImage(String fileName, FileHandle file) {
+        CompletableFuture<DecodedImage> decode;
+        synchronized (lock) {
+            decode = decodes.remove(fileName);
+            waiting.remove(fileName);
+            loading.add(fileName);
+        }
+        if (decode == null) {
+            return decodeNow(fileName, file);
+        }
+        launchWaiting();
+        try {
+            return decode.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stop skipping an image which has been uploaded, or failed to load. Called while the asset
+     * manager is locked, so the image is seen as loaded by the time it can be decoded again.
+     */
+    private void finishLoading(String fileName) {
+        synchronized (lock) {
+            loading.remove(fileName);
+        }
+    }
+
+    /** Launch waiting decodes until as many are decoded ahead as allowed. */
+    private void launchWaiting() {
+        synchronized (lock) {
+            while (decodes.size() < maxDecodesAhead && !waiting.isEmpty()) {
+                String fileName = waiting.poll();
+                decodes.put(fileName, JobSystem.launch(() -> decodeNow(fileName, resolve(fileName))));
+            }
+        }
+    }
+
+    private DecodedImage decodeNow(String fileName, FileHandle file) {
+        TextureCache textureCache = cache;
+        DecodedImage image = textureCache != null
+                ? textureCache.load(fileName, file)
+                : DecodedImage.of(new Pixmap(file));
+        decodedBytes.addAndGet(image.getByteCount());
+        return image;
+    }
+
+    /** An atlas whose pages are being, or have been, queued to be decoded ahead. */
+    private static class AtlasJob {
+        private final CompletableFuture<Void> found = new CompletableFuture<>();
+        private final List<String> pages = new ArrayList<>();
+    }
+
+    /**
+     * @param fileName image path
+     * @return true if the image is a format which can be decoded into a pixmap
+     */
+    static boolean isDecodable(String fileName) {
+        String name = fileName.toLowerCase();
+        return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")
+                || name.endsWith(".bmp");
+    }
+}
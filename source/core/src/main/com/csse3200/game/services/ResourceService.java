@@ -5,21 +5,103 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.rendering.GpuMemoryTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>Assets can either be queued and loaded all at once with {@link #loadAll()}, or requested with a
+ * {@link LoadPriority} and streamed in by calling {@link #update()} once a frame, which only loads
+ * for up to the frame budget so that loading doesn't cause hitches.
+ *
+ * <p>Images are decoded across every core by a {@link ParallelTextureLoader} as they are queued,
+ * leaving only the texture uploads to the GL thread, which are also limited per frame when
+ * streaming.
+ *
+ * <p>Services created for screens with {@link #ResourceService()} share one asset manager. Assets
+ * they release, by unloading an {@link AssetManifest.Scope} or being disposed, are kept loaded for
+ * one more screen, so that a transition to a screen using the same assets (e.g. from the main game
+ * to a moral scene and back) doesn't unload and load them again. Each service only unloads the
+ * references it took itself.
+ *
+ * <p>Textures loaded by {@link #acquire(String)} are unloaded when their last handle is released,
+ * unless a residency budget is set with {@link #setResidencyBudgetBytes(long)}. The budget covers
+ * every texture the asset manager has loaded, including screens' textures and atlas pages. Within
+ * it, acquired textures stay resident after their last release, so a texture which is acquired
+ * again soon after doesn't have to be loaded again. Once over it, textures nothing is using are
+ * unloaded until the rest fit: first assets released by earlier screens, oldest first, then
+ * acquired textures without handles, least recently used first. Either are loaded again the next
+ * time they are needed.
  */
 public class ResourceService implements Disposable {
 
     private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
     private final AssetManager assetManager;
+    private final ObjectMap<String, TextureRef> textureRefs = new ObjectMap<>();
+    private boolean strictRefCounting = false;
+    private final ObjectSet<Texture> trackedTextures = new ObjectSet<>();
+    private final Array<Texture> loadedTextures = new Array<>(false, 64);
+
+    /** Default time spent loading each frame when streaming requests, in milliseconds */
+    public static final int DEFAULT_FRAME_BUDGET_MILLIS = 4;
+    private int frameBudgetMillis = DEFAULT_FRAME_BUDGET_MILLIS;
+    // Time in milliseconds, for timing the frame budget
+    private LongSupplier clock = TimeUtils::millis;
+    private final Map<LoadPriority, ArrayDeque<LoadRequest>> waitingRequests =
+            new EnumMap<>(LoadPriority.class);
+    private final Array<LoadRequest> submittedRequests = new Array<>(false, 16);
+
+    /** Default texture data uploaded each frame when streaming requests, in bytes */
+    public static final long DEFAULT_UPLOAD_BUDGET_BYTES = 16L * 1024 * 1024;
+    private long uploadBudgetBytes = DEFAULT_UPLOAD_BUDGET_BYTES;
+    private final ParallelTextureLoader textureLoader;
+    private static TextureCache sharedTextureCache;
 
+    private static AssetManager sharedAssetManager;
+    private static int sharedServices;
+    private static final Array<ReleasedAsset> releasedAssets = new Array<>(false, 64);
+    private final boolean shared;
+    private final int generation;
+    private final ObjectIntMap<String> ownedRefs = new ObjectIntMap<>();
+
+    private static long defaultResidencyBudgetBytes;
+    private long residencyBudgetBytes = defaultResidencyBudgetBytes;
+    // Incremented on every acquire and release, to order textures by when they were last used
+    private long useClock;
+    private int textureHits;
+    private int textureMisses;
+    private int textureEvictions;
+    private final Array<TextureRef> idleRefs = new Array<>(false, 16);
+    private static final Comparator<TextureRef> LEAST_RECENTLY_USED =
+            Comparator.comparingLong(ref -> ref.lastUsed);
+    private final Array<ReleasedAsset> idleReleased = new Array<>(false, 16);
+    private static final Comparator<ReleasedAsset> OLDEST_RELEASED =
+            Comparator.comparingInt(released -> released.generation);
+
+    /**
+     * Initialise this ResourceService to use the asset manager shared by every screen.
+     */
     public ResourceService() {
-        this(new AssetManager());
+        this(getSharedAssetManager(), true);
     }
 
     /**
@@ -28,7 +110,19 @@ public class ResourceService implements Disposable {
      * @requires assetManager != null
      */
     public ResourceService(AssetManager assetManager) {
+        this(assetManager, false);
+    }
+
+    private ResourceService(AssetManager assetManager, boolean shared) {
         this.assetManager = assetManager;
+        this.shared = shared;
+        generation = shared ? ++sharedServices : 0;
+        textureLoader = new ParallelTextureLoader(assetManager);
+        textureLoader.setCache(sharedTextureCache);
+        assetManager.setLoader(Texture.class, textureLoader);
+        for (LoadPriority priority : LoadPriority.values()) {
+            waitingRequests.put(priority, new ArrayDeque<>());
+        }
     }
 
     /**
@@ -71,11 +165,16 @@ public class ResourceService implements Disposable {
      */
     public void loadAll() {
         logger.debug("Loading all assets");
+        submitRequests(LoadPriority.BACKGROUND);
         try {
             assetManager.finishLoading();
         } catch (Exception e) {
             logger.error(e.getMessage());
         }
+        unloadReleasedAssets();
+        syncTrackedTextures();
+        evictOverBudget();
+        completeRequests();
     }
 
     /**
@@ -87,12 +186,332 @@ public class ResourceService implements Disposable {
      */
     public boolean loadForMillis(int duration) {
         logger.debug("Loading assets for {} ms", duration);
+        boolean finished;
         try {
-            return assetManager.update(duration);
+            // As AssetManager.update(int), but also stopping once enough texture data is uploaded
+            long endTime = clock.getAsLong() + duration;
+            textureLoader.resetUploadedBytes();
+            finished = assetManager.update();
+            while (!finished && clock.getAsLong() <= endTime
+                    && textureLoader.getUploadedBytes() < uploadBudgetBytes) {
+                finished = assetManager.update();
+            }
         } catch (Exception e) {
             logger.error(e.getMessage());
+            finished = assetManager.isFinished();
+        }
+        if (finished) {
+            unloadReleasedAssets();
+            syncTrackedTextures();
+            evictOverBudget();
+        }
+        completeRequests();
+        return finished;
+    }
+
+    /**
+     * Request assets to be loaded with a priority. Critical requests are given to the asset manager
+     * straight away; lower priorities wait until nothing more urgent is waiting. Requests are only
+     * loaded by {@link #update()}, {@link #loadForMillis(int)}, {@link #loadAll()} or
+     * {@link #finishLoading(String...)}.
+     *
+     * @param assetNames asset paths
+     * @param type       asset type
+     * @param priority   how urgently the assets are needed
+     * @return future completed once every asset is loaded, or completed exceptionally if any of
+     *         them could not be loaded
+     */
+    public CompletableFuture<Void> load(String[] assetNames, Class<?> type, LoadPriority priority) {
+        LoadRequest request = new LoadRequest(assetNames, type, priority);
+        logger.debug("Requested {} {} assets at {} priority", assetNames.length,
+                type.getSimpleName(), priority);
+        if (priority == LoadPriority.CRITICAL || request.isLoaded(assetManager)) {
+            // Already loaded assets only need their reference counts taking, which is instant
+            request.submit();
+            if (request.isLoaded(assetManager)) {
+                submittedRequests.removeValue(request, true);
+                request.future.complete(null);
+            }
+        } else {
+            waitingRequests.get(priority).add(request);
+        }
+        return request.future;
+    }
+
+    /**
+     * Stream in requested assets for up to the frame budget. Call once a frame.
+     *
+     * @return true if there is nothing left to load
+     */
+    public boolean update() {
+        return update(frameBudgetMillis);
+    }
+
+    /**
+     * Stream in requested assets for up to the given time, e.g. for a loading screen which has
+     * nothing else to do with the frame.
+     *
+     * @param budgetMillis time to spend loading in milliseconds
+     * @return true if there is nothing left to load
+     */
+    public boolean update(int budgetMillis) {
+        if (assetManager.isFinished()) {
+            submitNextRequests();
+        }
+        if (submittedRequests.isEmpty() && assetManager.isFinished()) {
+            unloadReleasedAssets();
+            return !hasWaitingRequests();
+        }
+        return loadForMillis(budgetMillis) && !hasWaitingRequests();
+    }
+
+    /**
+     * Block until the given assets are loaded, for when they are needed right now. Assets which are
+     * still waiting in a request are loaded straight away, ahead of anything else waiting.
+     *
+     * @param assetNames asset paths
+     */
+    public void finishLoading(String... assetNames) {
+        for (ArrayDeque<LoadRequest> waiting : waitingRequests.values()) {
+            Iterator<LoadRequest> requests = waiting.iterator();
+            while (requests.hasNext()) {
+                LoadRequest request = requests.next();
+                if (request.contains(assetNames)) {
+                    requests.remove();
+                    request.submit();
+                }
+            }
+        }
+        for (String assetName : assetNames) {
+            try {
+                if (assetManager.contains(assetName) || assetManager.isLoaded(assetName)) {
+                    assetManager.finishLoadingAsset(assetName);
+                }
+            } catch (Exception e) {
+                logger.error("Could not load {}: {}", assetName, e.getMessage());
+            }
+        }
+        syncTrackedTextures();
+        completeRequests();
+    }
+
+    /**
+     * Request every asset in a scope of the {@link AssetManifest}.
+     *
+     * @param scope    scope to load
+     * @param priority how urgently the assets are needed
+     * @return future completed once every asset is loaded
+     * @see #load(String[], Class, LoadPriority)
+     */
+    public CompletableFuture<Void> loadScope(AssetManifest.Scope scope, LoadPriority priority) {
+        logger.debug("Requested scope {} at {} priority", scope.getName(), priority);
+        return CompletableFuture.allOf(
+                load(scope.getTextures(), Texture.class, priority),
+                load(scope.getAtlases(), TextureAtlas.class, priority),
+                load(scope.getSounds(), Sound.class, priority),
+                load(scope.getMusic(), Music.class, priority));
+    }
+
+    /**
+     * Load the assets of the screen which is likely to come next in the background, so that they are
+     * ready when it starts. If it doesn't come next, they are unloaded a screen later like any other
+     * released assets.
+     *
+     * @param scope scope of the next screen
+     * @return future completed once every asset is loaded
+     */
+    public CompletableFuture<Void> prefetchScope(AssetManifest.Scope scope) {
+        return loadScope(scope, LoadPriority.BACKGROUND);
+    }
+
+    /**
+     * Block until every asset in a scope is loaded.
+     *
+     * @param scope scope to finish loading
+     * @see #finishLoading(String...)
+     */
+    public void finishLoading(AssetManifest.Scope scope) {
+        finishLoading(scope.getAssetNames());
+    }
+
+    /**
+     * Release the assets of a scope.
+     *
+     * @param scope scope to release
+     * @see #releaseAssets(String[])
+     */
+    public void unloadScope(AssetManifest.Scope scope) {
+        logger.debug("Releasing scope {}", scope.getName());
+        releaseAssets(scope.getAssetNames());
+    }
+
+    /**
+     * Release assets which a screen is done with. Services sharing the screens' asset manager keep
+     * them loaded until a screen after the next one has loaded, unless they are requested again
+     * first; other services unload them straight away.
+     *
+     * @param assetNames asset paths
+     */
+    public void releaseAssets(String[] assetNames) {
+        if (!shared) {
+            unloadAssets(assetNames);
+            return;
+        }
+        for (String assetName : assetNames) {
+            if (releaseRef(assetName)) {
+                releasedAssets.add(new ReleasedAsset(assetName, generation));
+            }
+        }
+        evictOverBudget();
+    }
+
+    /**
+     * Dispose of the asset manager shared by the screens' services, when the game exits.
+     */
+    public static void disposeSharedAssets() {
+        releasedAssets.clear();
+        if (sharedAssetManager != null) {
+            sharedAssetManager.dispose();
+            sharedAssetManager = null;
+        }
+    }
+
+    /**
+     * @return number of released assets being kept loaded in case the next screens need them
+     */
+    public static int getReleasedCount() {
+        return releasedAssets.size;
+    }
+
+    /**
+     * Set how long {@link #update()} spends loading each frame. The longest frame while streaming is
+     * this plus the time taken by the slowest single asset, since assets aren't split across frames.
+     *
+     * @param millis time to load for each frame, in milliseconds
+     */
+    public void setFrameBudgetMillis(int millis) {
+        frameBudgetMillis = Math.max(1, millis);
+    }
+
+    public int getFrameBudgetMillis() {
+        return frameBudgetMillis;
+    }
+
+    /**
+     * Set the clock {@link #loadForMillis(int)} and {@link #update()} are timed by, so that tests
+     * don't depend on how fast the machine is.
+     *
+     * @param clock current time in milliseconds
+     */
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Set how much texture data {@link #loadForMillis(int)} and {@link #update()} upload before
+     * leaving the rest for the next frame. At least one asset is always loaded.
+     *
+     * @param bytes texture data to upload each frame, in bytes
+     */
+    public void setUploadBudgetBytes(long bytes) {
+        uploadBudgetBytes = Math.max(1, bytes);
+    }
+
+    public long getUploadBudgetBytes() {
+        return uploadBudgetBytes;
+    }
+
+    /**
+     * Set the texture cache used by resource services created from now on, so that images which
+     * haven't changed since they were last loaded are read from it instead of being decoded.
+     *
+     * @param cache texture cache, or null to always decode images
+     */
+    public static void setSharedTextureCache(TextureCache cache) {
+        sharedTextureCache = cache;
+    }
+
+    public static TextureCache getSharedTextureCache() {
+        return sharedTextureCache;
+    }
+
+    /**
+     * @return loader which decodes this service's textures
+     */
+    public ParallelTextureLoader getTextureLoader() {
+        return textureLoader;
+    }
+
+    /**
+     * @param priority priority to check
+     * @return true if there are requests of at least this priority which haven't finished loading
+     */
+    public boolean isLoading(LoadPriority priority) {
+        for (LoadRequest request : submittedRequests) {
+            if (request.priority.compareTo(priority) <= 0) {
+                return true;
+            }
+        }
+        for (LoadPriority waiting : LoadPriority.values()) {
+            if (waiting.compareTo(priority) <= 0 && !waitingRequests.get(waiting).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Give the asset manager the next waiting requests: every critical request, otherwise the
+     * requests of the most urgent priority which has any.
+     */
+    private void submitNextRequests() {
+        for (LoadPriority priority : LoadPriority.values()) {
+            if (!waitingRequests.get(priority).isEmpty()) {
+                submitRequests(priority);
+                return;
+            }
+        }
+    }
+
+    /** Give the asset manager every waiting request of at least the given priority. */
+    private void submitRequests(LoadPriority lowest) {
+        for (LoadPriority priority : LoadPriority.values()) {
+            if (priority.compareTo(lowest) > 0) {
+                return;
+            }
+            ArrayDeque<LoadRequest> waiting = waitingRequests.get(priority);
+            while (!waiting.isEmpty()) {
+                waiting.poll().submit();
+            }
+        }
+    }
+
+    private boolean hasWaitingRequests() {
+        for (ArrayDeque<LoadRequest> waiting : waitingRequests.values()) {
+            if (!waiting.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Complete the futures of submitted requests which have loaded, or which have failed to once the
+     * asset manager has nothing left to load.
+     */
+    private void completeRequests() {
+        boolean idle = assetManager.isFinished();
+        for (int i = submittedRequests.size - 1; i >= 0; i--) {
+            LoadRequest request = submittedRequests.get(i);
+            if (request.isLoaded(assetManager)) {
+                submittedRequests.removeIndex(i);
+                request.future.complete(null);
+            } else if (idle) {
+                submittedRequests.removeIndex(i);
+                request.future.completeExceptionally(new GdxRuntimeException(
+                        "Could not load " + request.getMissing(assetManager)));
+            }
         }
-        return assetManager.isFinished();
     }
 
     /**
@@ -102,7 +521,15 @@ public class ResourceService implements Disposable {
      */
     public void clearAllAssets() {
         logger.debug("Clearing all assets");
+        cancelRequests();
+        textureLoader.clear();
+        textureRefs.clear();
+        ownedRefs.clear();
+        if (shared) {
+            releasedAssets.clear();
+        }
         assetManager.clear();
+        syncTrackedTextures();
     }
 
     /**
@@ -118,6 +545,16 @@ public class ResourceService implements Disposable {
             assetManager.load(assetName, type);
         } catch (Exception e) {
             logger.error("Could not load {}: {}", type.getSimpleName(), assetName);
+            return;
+        }
+        ownedRefs.getAndIncrement(assetName, 0, 1);
+        // Decode images now, rather than when the asset manager reaches them
+        if (assetManager.getLoader(Texture.class) == textureLoader) {
+            if (type == Texture.class) {
+                textureLoader.decode(assetName);
+            } else if (type == TextureAtlas.class && !assetManager.isLoaded(assetName)) {
+                textureLoader.decodeAtlasPages(assetName);
+            }
         }
     }
 
@@ -152,6 +589,16 @@ public class ResourceService implements Disposable {
         loadAssets(textureAtlasNames, TextureAtlas.class);
     }
 
+    /**
+     * Loads a list of Scene2D skin assets into the asset manager. Each skin's texture atlas is
+     * expected next to its json file with the same name.
+     *
+     * @param skinNames skin json filenames
+     */
+    public void loadSkins(String[] skinNames) {
+        loadAssets(skinNames, Skin.class);
+    }
+
     /**
      * Loads a list of sounds into the asset manager.
      *
@@ -173,17 +620,561 @@ public class ResourceService implements Disposable {
     public void unloadAssets(String[] assetNames) {
         for (String assetName : assetNames) {
             logger.debug("Unloading {}", assetName);
+            if (!releaseRef(assetName) && shared) {
+                // Another screen's reference, which isn't this service's to unload
+                continue;
+            }
             try {
                 assetManager.unload(assetName);
             } catch (Exception e) {
                 logger.error("Could not unload {}", assetName);
             }
+            if (!assetManager.contains(assetName)) {
+                textureLoader.cancel(assetName);
+            }
+        }
+        syncTrackedTextures();
+    }
+
+    /**
+     * Acquire a shared reference to a texture. Textures already loaded by the current screen, or
+     * still resident from an earlier acquire, are shared directly. Otherwise the texture is queued
+     * and decoded in the background, and only waited for if the handle's texture is needed before
+     * it has loaded (so paths used in hot paths should be in the screen's preload list).
+     *
+     * @param path texture path
+     * @return handle to the texture, to be given back with {@link #release(TextureHandle)}
+     */
+    public TextureHandle acquire(String path) {
+        TextureRef ref = textureRefs.get(path);
+        if (ref == null) {
+            boolean owned = !assetManager.isLoaded(path, Texture.class);
+            if (owned) {
+                logger.debug("Loading acquired texture {}", path);
+                textureMisses++;
+                loadAsset(path, Texture.class);
+                ref = new TextureRef(path, null, true);
+            } else {
+                textureHits++;
+                ref = new TextureRef(path, assetManager.get(path, Texture.class), false);
+            }
+            textureRefs.put(path, ref);
+        } else {
+            textureHits++;
+        }
+        ref.count++;
+        ref.lastUsed = ++useClock;
+        return new TextureHandle(path, ref.texture, this);
+    }
+
+    /**
+     * Get the texture of an acquired handle, waiting for it to load if it hasn't yet.
+     *
+     * @param path texture path
+     * @return loaded texture
+     * @throws IllegalStateException if the texture isn't acquired
+     */
+    Texture getAcquiredTexture(String path) {
+        TextureRef ref = textureRefs.get(path);
+        if (ref == null) {
+            throw new IllegalStateException("Texture " + path + " is not acquired");
+        }
+        if (ref.texture == null) {
+            assetManager.finishLoadingAsset(path);
+            updateResident(ref);
+            syncTrackedTextures();
+            evictOverBudget();
         }
+        return ref.texture;
+    }
+
+    /**
+     * @param path texture path
+     * @return true if the texture is loaded, so getting it from a handle won't wait
+     */
+    boolean isAcquiredTextureLoaded(String path) {
+        TextureRef ref = textureRefs.get(path);
+        return ref != null && (ref.texture != null || assetManager.isLoaded(path, Texture.class));
+    }
+
+    /**
+     * Release a handle returned by {@link #acquire(String)}. Releasing a handle twice, or one this
+     * service didn't hand out, is logged as an error, or throws in strict mode.
+     *
+     * @param handle handle to release, ignored if null
+     */
+    public void release(TextureHandle handle) {
+        if (handle == null) {
+            return;
+        }
+        TextureRef ref = textureRefs.get(handle.getPath());
+        if (handle.isReleased() || ref == null || ref.count == 0 || !handle.isFrom(this)) {
+            unbalancedRelease(handle.getPath());
+            return;
+        }
+        handle.markReleased();
+        ref.count--;
+        ref.lastUsed = ++useClock;
+        if (ref.count > 0) {
+            return;
+        }
+        if (!ref.owned) {
+            textureRefs.remove(handle.getPath());
+        } else if (residencyBudgetBytes <= 0) {
+            logger.debug("Unloading released texture {}", handle.getPath());
+            unloadRef(ref);
+        } else {
+            // Kept resident in case it is acquired again, until the budget is needed for others
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * Set how many bytes of textures can stay resident. Once the textures loaded by the asset
+     * manager, including those still in use, go over the budget, assets released by earlier screens
+     * and acquired textures without handles are unloaded until they fit again.
+     *
+     * @param bytes budget in bytes, or 0 to unload acquired textures as soon as their last handle is
+     *              released, and released screens' assets once the screen after them has loaded
+     */
+    public void setResidencyBudgetBytes(long bytes) {
+        residencyBudgetBytes = Math.max(bytes, 0);
+        evictOverBudget();
+    }
+
+    public long getResidencyBudgetBytes() {
+        return residencyBudgetBytes;
+    }
+
+    /**
+     * Set the residency budget that services are created with.
+     *
+     * @param bytes budget in bytes, or 0 to unload acquired textures as soon as they are released
+     * @see #setResidencyBudgetBytes(long)
+     */
+    public static void setDefaultResidencyBudgetBytes(long bytes) {
+        defaultResidencyBudgetBytes = Math.max(bytes, 0);
+    }
+
+    /**
+     * @return estimated bytes of every texture loaded by the asset manager, including atlas pages,
+     *         whether or not they are in use
+     */
+    public long getResidentTextureBytes() {
+        loadedTextures.clear();
+        assetManager.getAll(Texture.class, loadedTextures);
+        long total = 0;
+        for (Texture texture : loadedTextures) {
+            total += estimateBytes(texture);
+        }
+        loadedTextures.clear();
+        return total;
+    }
+
+    /**
+     * @return number of acquires which shared a texture that was already loaded
+     */
+    public int getTextureHits() {
+        return textureHits;
+    }
+
+    /**
+     * @return number of acquires which had to load their texture
+     */
+    public int getTextureMisses() {
+        return textureMisses;
+    }
+
+    /**
+     * @return number of released textures and assets unloaded to stay within the residency budget
+     */
+    public int getTextureEvictions() {
+        return textureEvictions;
+    }
+
+    /**
+     * Unload textures nothing is using until the resident textures fit in the budget, or there are
+     * none left to unload. Assets released by earlier screens go first, oldest first, then acquired
+     * textures without handles, least recently used first.
+     */
+    private void evictOverBudget() {
+        if (residencyBudgetBytes <= 0) {
+            return;
+        }
+        long resident = getResidentTextureBytes();
+        if (resident <= residencyBudgetBytes) {
+            return;
+        }
+        resident = evictReleasedAssets(resident);
+        if (resident <= residencyBudgetBytes) {
+            return;
+        }
+        for (TextureRef ref : textureRefs.values()) {
+            if (ref.owned && ref.count == 0) {
+                updateResident(ref);
+                idleRefs.add(ref);
+            }
+        }
+        idleRefs.sort(LEAST_RECENTLY_USED);
+        for (int i = 0; i < idleRefs.size && resident > residencyBudgetBytes; i++) {
+            TextureRef ref = idleRefs.get(i);
+            logger.debug("Evicting texture {} to stay within the residency budget", ref.path);
+            resident -= ref.bytes;
+            textureEvictions++;
+            unloadRef(ref);
+        }
+        idleRefs.clear();
+    }
+
+    /**
+     * Unload assets released by earlier screens which no screen has taken a reference to since,
+     * oldest first, until the resident textures fit in the budget.
+     *
+     * @param resident estimated bytes of the resident textures
+     * @return estimated bytes of the resident textures left
+     */
+    private long evictReleasedAssets(long resident) {
+        if (!shared || releasedAssets.isEmpty() || !assetManager.isFinished()) {
+            return resident;
+        }
+        idleReleased.addAll(releasedAssets);
+        idleReleased.sort(OLDEST_RELEASED);
+        boolean unloaded = false;
+        for (int i = 0; i < idleReleased.size && resident > residencyBudgetBytes; i++) {
+            String assetName = idleReleased.get(i).assetName;
+            long bytes = getIdleTextureBytes(assetName);
+            if (bytes == 0) {
+                continue;
+            }
+            logger.debug("Evicting released {} to stay within the residency budget", assetName);
+            for (int j = releasedAssets.size - 1; j >= 0; j--) {
+                if (releasedAssets.get(j).assetName.equals(assetName)) {
+                    releasedAssets.removeIndex(j);
+                    assetManager.unload(assetName);
+                }
+            }
+            resident -= bytes;
+            textureEvictions++;
+            unloaded = true;
+        }
+        idleReleased.clear();
+        if (unloaded) {
+            syncTrackedTextures();
+        }
+        return resident;
+    }
+
+    /**
+     * Get the texture bytes a released asset would free, if every reference to it is a released one.
+     *
+     * @param assetName asset path
+     * @return estimated bytes of the asset's textures, or 0 if it isn't loaded, has no textures, or
+     *         is still used by a screen, an acquired handle or a waiting request
+     */
+    private long getIdleTextureBytes(String assetName) {
+        if (!assetManager.isLoaded(assetName) || textureRefs.containsKey(assetName)
+                || isWaiting(assetName)) {
+            return 0;
+        }
+        int released = 0;
+        for (ReleasedAsset asset : releasedAssets) {
+            if (asset.assetName.equals(assetName)) {
+                released++;
+            }
+        }
+        if (released < assetManager.getReferenceCount(assetName)) {
+            return 0;
+        }
+        Class<?> type = assetManager.getAssetType(assetName);
+        if (type == Texture.class) {
+            return estimateBytes(assetManager.get(assetName, Texture.class));
+        }
+        if (type == TextureAtlas.class) {
+            long bytes = 0;
+            for (Texture page : assetManager.get(assetName, TextureAtlas.class).getTextures()) {
+                bytes += estimateBytes(page);
+            }
+            return bytes;
+        }
+        return 0;
+    }
+
+    /** Pick up the texture of a ref once the asset manager has loaded it. */
+    private void updateResident(TextureRef ref) {
+        if (ref.texture == null && assetManager.isLoaded(ref.path, Texture.class)) {
+            ref.texture = assetManager.get(ref.path, Texture.class);
+            ref.bytes = estimateBytes(ref.texture);
+        }
+    }
+
+    private static long estimateBytes(Texture texture) {
+        return texture.getTextureData() == null
+                ? GpuMemoryTracker.estimateBytes(texture.getWidth(), texture.getHeight(), null, false)
+                : GpuMemoryTracker.estimateBytes(texture.getWidth(), texture.getHeight(),
+                texture.getTextureData().getFormat(), texture.getTextureData().useMipMaps());
+    }
+
+    /** Remove a ref this service loaded and unload its texture. */
+    private void unloadRef(TextureRef ref) {
+        textureRefs.remove(ref.path);
+        releaseRef(ref.path);
+        assetManager.unload(ref.path);
+        if (!assetManager.contains(ref.path)) {
+            textureLoader.cancel(ref.path);
+        }
+        syncTrackedTextures();
+    }
+
+    /**
+     * Get the number of outstanding handles to a texture.
+     *
+     * @param path texture path
+     * @return number of acquired and not yet released handles
+     */
+    public int getRefCount(String path) {
+        TextureRef ref = textureRefs.get(path);
+        return ref == null ? 0 : ref.count;
+    }
+
+    /**
+     * @return total number of acquired and not yet released handles, across all textures
+     */
+    public int getAcquiredCount() {
+        int total = 0;
+        for (TextureRef ref : textureRefs.values()) {
+            total += ref.count;
+        }
+        return total;
+    }
+
+    /**
+     * Sets whether unbalanced releases throw instead of being logged.
+     *
+     * @param strict true to throw on unbalanced releases
+     */
+    public void setStrictRefCounting(boolean strict) {
+        strictRefCounting = strict;
+    }
+
+    private void unbalancedRelease(String path) {
+        String message = "Unbalanced release of texture " + path;
+        if (strictRefCounting) {
+            throw new IllegalStateException(message);
+        }
+        logger.error(message);
     }
 
     @Override
     public void dispose() {
-        assetManager.clear();
+        for (ObjectMap.Entry<String, TextureRef> entry : textureRefs) {
+            if (entry.value.count == 0) {
+                // Resident without handles, unloaded with the rest of this service's assets
+                continue;
+            }
+            logger.warn("Texture {} still has {} handles at dispose", entry.key, entry.value.count);
+        }
+        textureRefs.clear();
+        cancelRequests();
+        textureLoader.clear();
+        if (!shared) {
+            assetManager.clear();
+            syncTrackedTextures();
+            return;
+        }
+        // Leave this service's assets for the next screens to pick up or unload
+        for (ObjectIntMap.Entry<String> ref : ownedRefs) {
+            for (int i = 0; i < ref.value; i++) {
+                releasedAssets.add(new ReleasedAsset(ref.key, generation));
+            }
+        }
+        ownedRefs.clear();
+        for (Texture texture : trackedTextures) {
+            GpuMemoryTracker.untrack(texture);
+        }
+        trackedTextures.clear();
+    }
+
+    /**
+     * Give up one of this service's references to an asset.
+     *
+     * @return true if this service had a reference to give up
+     */
+    private boolean releaseRef(String assetName) {
+        int refs = ownedRefs.get(assetName, 0);
+        if (refs == 0) {
+            return false;
+        }
+        if (refs == 1) {
+            ownedRefs.remove(assetName, 0);
+        } else {
+            ownedRefs.put(assetName, refs - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Unload assets released by screens before the previous one, once nothing is loading. By then
+     * the current screen has taken its own references to any of them it needs, so only the assets it
+     * doesn't need are actually unloaded. Assets still waiting in one of its requests are kept.
+     */
+    private void unloadReleasedAssets() {
+        if (!shared || releasedAssets.isEmpty() || !assetManager.isFinished()) {
+            return;
+        }
+        boolean unloaded = false;
+        for (int i = releasedAssets.size - 1; i >= 0; i--) {
+            ReleasedAsset released = releasedAssets.get(i);
+            if (released.generation >= sharedServices - 1 || isWaiting(released.assetName)) {
+                continue;
+            }
+            releasedAssets.removeIndex(i);
+            if (assetManager.isLoaded(released.assetName)) {
+                logger.debug("Unloading released {}", released.assetName);
+                assetManager.unload(released.assetName);
+                unloaded = true;
+            }
+        }
+        if (unloaded) {
+            syncTrackedTextures();
+        }
+    }
+
+    private boolean isWaiting(String assetName) {
+        String[] names = {assetName};
+        for (ArrayDeque<LoadRequest> waiting : waitingRequests.values()) {
+            for (LoadRequest request : waiting) {
+                if (request.contains(names)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static AssetManager getSharedAssetManager() {
+        if (sharedAssetManager == null) {
+            sharedAssetManager = new AssetManager();
+        }
+        return sharedAssetManager;
+    }
+
+    private void cancelRequests() {
+        for (ArrayDeque<LoadRequest> waiting : waitingRequests.values()) {
+            for (LoadRequest request : waiting) {
+                request.future.cancel(false);
+            }
+            waiting.clear();
+        }
+        for (LoadRequest request : submittedRequests) {
+            request.future.cancel(false);
+        }
+        submittedRequests.clear();
+    }
+
+    /**
+     * Brings the GPU memory tracker in line with the textures currently loaded by the asset manager,
+     * including pages loaded as dependencies of atlases and skins. Textures are grouped by their
+     * asset directory.
+     */
+    private void syncTrackedTextures() {
+        loadedTextures.clear();
+        assetManager.getAll(Texture.class, loadedTextures);
+
+        ObjectSet.ObjectSetIterator<Texture> tracked = trackedTextures.iterator();
+        while (tracked.hasNext()) {
+            Texture texture = tracked.next();
+            if (!loadedTextures.contains(texture, true)) {
+                GpuMemoryTracker.untrack(texture);
+                tracked.remove();
+            }
+        }
+        for (Texture texture : loadedTextures) {
+            if (trackedTextures.add(texture)) {
+                String path = assetManager.getAssetFileName(texture);
+                int slash = path == null ? -1 : path.lastIndexOf('/');
+                GpuMemoryTracker.track(texture, slash < 0 ? "assets" : path.substring(0, slash));
+            }
+        }
+        loadedTextures.clear();
+    }
+
+    /** Assets requested together with a priority, and the future completed once they load. */
+    private class LoadRequest {
+        private final String[] assetNames;
+        private final Class<?> type;
+        private final LoadPriority priority;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private LoadRequest(String[] assetNames, Class<?> type, LoadPriority priority) {
+            this.assetNames = assetNames;
+            this.type = type;
+            this.priority = priority;
+        }
+
+        private void submit() {
+            for (String assetName : assetNames) {
+                loadAsset(assetName, type);
+            }
+            submittedRequests.add(this);
+        }
+
+        private boolean contains(String[] names) {
+            for (String name : names) {
+                for (String assetName : assetNames) {
+                    if (assetName.equals(name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean isLoaded(AssetManager manager) {
+            for (String assetName : assetNames) {
+                if (!manager.isLoaded(assetName, type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String getMissing(AssetManager manager) {
+            StringBuilder missing = new StringBuilder();
+            for (String assetName : assetNames) {
+                if (!manager.isLoaded(assetName, type)) {
+                    missing.append(missing.length() == 0 ? "" : ", ").append(assetName);
+                }
+            }
+            return missing.toString();
+        }
+    }
+
+    /** A reference to an asset given up by a screen, and which screen gave it up. */
+    private static class ReleasedAsset {
+        private final String assetName;
+        private final int generation;
+
+        private ReleasedAsset(String assetName, int generation) {
+            this.assetName = assetName;
+            this.generation = generation;
+        }
+    }
+
+    /** Reference count for an acquired texture. */
+    private static class TextureRef {
+        private final String path;
+        // Null until an owned texture has loaded
+        private Texture texture;
+        private final boolean owned;
+        private int count;
+        private long lastUsed;
+        private long bytes;
+
+        private TextureRef(String path, Texture texture, boolean owned) {
+            this.path = path;
+            this.texture = texture;
+            this.owned = owned;
+        }
     }
 
 
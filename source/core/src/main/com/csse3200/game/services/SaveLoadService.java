@@ -1,53 +1,151 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Json;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.files.GameState;
 import com.csse3200.game.files.FileLoader.Location;
 import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.SaveFile;
+import com.csse3200.game.files.SaveIndex;
+import com.csse3200.game.files.SaveWriter;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.moral.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.File;
 import com.csse3200.game.events.EventHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+/**
+ * Saves and loads the game. The state is snapshotted when the game is saved, then written by a
+ * {@link SaveWriter} in the background, so saving doesn't hold up the frame and a crash while it
+ * is being written leaves the previous save whole.
+ *
+ * <p>Saves are written in the binary {@link SaveFile} format, and can be exported as JSON with
+ * {@link #exportJson()}. Saves from before the binary format, which are only JSON, can still be
+ * loaded. A {@link SaveIndex} of every save's header is updated with each save, so that the load
+ * menu can list them without opening each one.
+ */
 public class SaveLoadService {
     private static final Logger logger = LoggerFactory.getLogger(SaveLoadService.class);
     private final EventHandler eventHandler;
     private static final String ROOT_DIR = "saves";
+    private static SaveWriter sharedWriter;
+    // Only used on the writer thread
+    private static final Json json = new Json();
+    private final SaveWriter writer;
+    private final Path rootDir;
     private String saveFile = "";
+    private SaveIndex index;
 
     public SaveLoadService() {
+        this(getSharedWriter(), null);
+    }
+
+    /**
+     * Create a service which writes saves to the given directory.
+     *
+     * @param writer  writer to write saves with
+     * @param rootDir directory to write saves to, or null for the saves directory in local storage
+     */
+    public SaveLoadService(SaveWriter writer, Path rootDir) {
         this.eventHandler = new EventHandler();
+        this.writer = writer;
+        this.rootDir = rootDir;
     }
 
     /**
      * Saves the current state of the game into a GameState and writes to the path given
+     *
+     * @return future completed once the save is on disk
+     */
+    public CompletableFuture<Void> save() {
+        GameState state = snapshot();
+        return write(SaveFile.getSaveName(saveFile) + SaveFile.EXTENSION, () -> SaveFile.write(state));
+    }
+
+    /**
+     * Saves the current state of the game as JSON, next to the binary save of the same name
+     *
+     * @return future completed once the export is on disk
+     */
+    public CompletableFuture<Void> exportJson() {
+        GameState state = snapshot();
+        return write(SaveFile.getSaveName(saveFile) + SaveFile.JSON_EXTENSION,
+                () -> json.prettyPrint(state).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * List the saves which can be loaded, from the save index, only reading the headers of saves
+     * which have changed since they were indexed
+     *
+     * @return headers of the saves, in order of their names
      */
-    public void save() {
+    public List<SaveFile.Header> listSaves() {
+        SaveIndex saves = getIndex();
+        List<SaveFile.Header> headers = saves.list();
+        if (saves.isChanged()) {
+            writer.write(saves.getPath(), saves::toBytes);
+        }
+        return headers;
+    }
+
+    /** Snapshot the current state of the game, naming the save after the time if it has no name */
+    private GameState snapshot() {
         GameState state = new GameState();
         Entity player = ServiceLocator.getPlayerService().getPlayer();
         state.setMoney(player.getComponent(CombatStatsComponent.class).getGold());
         state.setDay(ServiceLocator.getDayNightService().getDay());
-        state.setDecisions(ServiceLocator.getEntityService().getMoralSystem().getComponent(MoralDecision.class).getListOfDecisions());
+        state.setDecisions(copyDecisions(ServiceLocator.getEntityService().getMoralSystem().getComponent(MoralDecision.class).getListOfDecisions()));
         LocalDateTime currentDateTime = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy_HH-mm-ss");
-        String formattedDateTime = currentDateTime.format(formatter);
+        String formattedDateTime = currentDateTime.format(SaveFile.MOD_TIME_FORMAT);
         state.setModTime(formattedDateTime);
         if (saveFile.equals("")) {
-            setSaveFile(formattedDateTime + ".json");
+            setSaveFile(formattedDateTime + SaveFile.EXTENSION);
         }
+        return state;
+    }
 
-        FileLoader.writeClass(state, (ROOT_DIR + File.separator + saveFile), Location.LOCAL);
+    /**
+     * Write a save in the background, then update its entry in the index
+     */
+    private CompletableFuture<Void> write(String fileName, Supplier<byte[]> contents) {
+        SaveIndex saves = getIndex();
+        CompletableFuture<Void> saved = writer.write(getSaveDirectory().resolve(fileName), contents);
+        // Queued once the save is written, so the index is never written without it
+        saved.thenRun(() -> {
+            saves.put(fileName);
+            writer.write(saves.getPath(), saves::toBytes);
+        });
+        return saved;
     }
 
     /**
-     * Loads a gamestate given the file for said gamestate
+     * Loads a gamestate given the file for said gamestate, once any save still being written has
+     * finished
      */
     public void load() {
-        GameState state = FileLoader.readClass(GameState.class, ROOT_DIR + File.separator + saveFile, Location.LOCAL);
+        writer.flush();
+        String name = SaveFile.getSaveName(saveFile);
+        Path binary = getSaveDirectory().resolve(name + SaveFile.EXTENSION);
+        GameState state;
+        if (Files.exists(binary)) {
+            state = readBinary(binary);
+        } else if (rootDir == null) {
+            state = FileLoader.readClass(GameState.class, ROOT_DIR + File.separator + name + SaveFile.JSON_EXTENSION, Location.LOCAL);
+        } else {
+            state = FileLoader.readClass(GameState.class, rootDir.resolve(name + SaveFile.JSON_EXTENSION).toString(), Location.ABSOLUTE);
+        }
 
         if (state != null) { // if the file exists
             Entity player = ServiceLocator.getPlayerService().getPlayer();
@@ -64,6 +162,15 @@ public class SaveLoadService {
 
     }
 
+    /**
+     * Block until every save has been written, e.g. before the game exits.
+     */
+    public static void flushSaves() {
+        if (sharedWriter != null) {
+            sharedWriter.flush();
+        }
+    }
+
     public String getSaveFile() {
         return saveFile;
     }
@@ -75,4 +182,43 @@ public class SaveLoadService {
     public void setSaveFile(String filename) {
         saveFile = filename;
     }
-}
\ No newline at end of file
+
+    private Path getSaveDirectory() {
+        if (rootDir == null) {
+            return Gdx.files.local(ROOT_DIR).file().toPath();
+        }
+        return rootDir;
+    }
+
+    private SaveIndex getIndex() {
+        if (index == null) {
+            index = SaveIndex.read(getSaveDirectory());
+        }
+        return index;
+    }
+
+    private static GameState readBinary(Path file) {
+        try {
+            return SaveFile.read(file);
+        } catch (IOException e) {
+            logger.error("Could not load save {}", file, e);
+            return null;
+        }
+    }
+
+    /** Copy decisions, so that changes after the game is saved aren't written to the save. */
+    private static List<Decision> copyDecisions(List<Decision> decisions) {
+        List<Decision> copies = new ArrayList<>(decisions.size());
+        for (Decision decision : decisions) {
+            copies.add(new Decision(decision));
+        }
+        return copies;
+    }
+
+    private static synchronized SaveWriter getSharedWriter() {
+        if (sharedWriter == null) {
+            sharedWriter = new SaveWriter();
+        }
+        return sharedWriter;
+    }
+}
@@ -43,8 +43,14 @@ public class ServiceLocator {
   private static MapLayout map;
   private static MainMenuDisplay mainMenuDisplay;
   private static InteractableService interactableService;
+  private static HoverOverlayService hoverOverlayService;
 
   private static ResourceService resourceService;
+  private static SkinService skinService;
+  private static FontService fontService;
+  private static AudioService audioService;
+  // Configs are read from static initialisers, so there is always a config service to read them
+  private static ConfigService configService = new ConfigService();
 
   private static TicketDetails ticketDetails;
   private static SaveLoadService saveLoadService;
@@ -91,6 +97,22 @@ public class ServiceLocator {
   public static PhysicsEngine getPhysicsEngine() {
     return physicsService.getPhysics();
   }
+  public static SkinService getSkinService() {
+    return skinService;
+  }
+
+  public static FontService getFontService() {
+    return fontService;
+  }
+
+  public static AudioService getAudioService() {
+    return audioService;
+  }
+
+  public static ConfigService getConfigService() {
+    return configService;
+  }
+
   public static DocketService getDocketService() {
     return docketService;
   }
@@ -109,6 +131,10 @@ public class ServiceLocator {
     return interactableService;
   }
 
+  public static HoverOverlayService getHoverOverlayService() {
+    return hoverOverlayService;
+  }
+
 
 
   public static OrderActions getOrderActions() {
@@ -220,6 +246,59 @@ public class ServiceLocator {
   }
 
 
+  /**
+   * Register the skin service. Skins are shared across screens, so unlike most services this is
+   * registered once by the game and is not removed by {@link #clear()}.
+   *
+   * @param service skin service
+   */
+  public static void registerSkinService(SkinService service) {
+    if (skinService != null && skinService != service) {
+      logger.warn("Skin service is being overwritten!");
+    }
+    logger.debug("Registering skin service {}", service);
+    skinService = service;
+  }
+
+  /**
+   * Register the font service. Like the skin service, fonts are shared across screens so this is
+   * not removed by {@link #clear()}.
+   *
+   * @param service font service
+   */
+  public static void registerFontService(FontService service) {
+    if (fontService != null && fontService != service) {
+      logger.warn("Font service is being overwritten!");
+    }
+    logger.debug("Registering font service {}", service);
+    fontService = service;
+  }
+
+  /**
+   * Register the audio service. Sounds are shared across screens, so like skins and fonts this is
+   * not removed by {@link #clear()}.
+   *
+   * @param service audio service
+   */
+  public static void registerAudioService(AudioService service) {
+    if (audioService != null && audioService != service) {
+      logger.warn("Audio service is being overwritten!");
+    }
+    logger.debug("Registering audio service {}", service);
+    audioService = service;
+  }
+
+  /**
+   * Replace the config service, e.g. with one whose configs are already read. Configs are parsed
+   * once for the whole game, so this is not removed by {@link #clear()}.
+   *
+   * @param service config service
+   */
+  public static void registerConfigService(ConfigService service) {
+    logger.debug("Registering config service {}", service);
+    configService = service;
+  }
+
   public static void registerDayNightService(DayNightService service) { //new
     logger.debug("Registering day-night service: {}", service);
     dayNightService = service;
@@ -268,6 +347,11 @@ public class ServiceLocator {
     interactableService = service;
   }
 
+  public static void registerHoverOverlayService(HoverOverlayService service) {
+    logger.debug("Registering hover overlay service {}", service);
+    hoverOverlayService = service;
+  }
+
 
   public static void registerMainMenuDisplay(MainMenuDisplay display) {
     mainMenuDisplay = display;
@@ -325,6 +409,7 @@ public class ServiceLocator {
     saveLoadService = null;
     randomComboService = null;
     interactableService = null;
+    hoverOverlayService = null;
   }
 
   private ServiceLocator() {
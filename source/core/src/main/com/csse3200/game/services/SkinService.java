@@ -0,0 +1,91 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Service that owns the game's Scene2D skins. Each skin (and the texture atlas behind it) is loaded
+ * once and shared by every UI component that asks for it, instead of each component parsing its own
+ * copy. Skins are loaded through a dedicated {@link ResourceService}, since they outlive the
+ * per-screen resource services, and are only disposed when this service is.
+ */
+public class SkinService implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(SkinService.class);
+  public static final String DEFAULT_SKIN = "flat-earth/skin/flat-earth-ui.json";
+
+  private final ResourceService resourceService;
+  private final ObjectMap<String, Skin> atlasSkins = new ObjectMap<>();
+
+  public SkinService() {
+    // Skins live for the whole game, so they don't share the screens' asset manager
+    this(new ResourceService(new AssetManager()));
+  }
+
+  /**
+   * Create a skin service which loads through the given resource service. The resource service is
+   * owned by this service from then on.
+   *
+   * @param resourceService resource service to load skins with
+   */
+  public SkinService(ResourceService resourceService) {
+    this.resourceService = resourceService;
+  }
+
+  /**
+   * Get the default game skin.
+   *
+   * @return shared default skin
+   */
+  public Skin getSkin() {
+    return getSkin(DEFAULT_SKIN);
+  }
+
+  /**
+   * Get a skin from its json file, loading it on first use.
+   *
+   * @param skinPath path to the skin json
+   * @return shared skin
+   */
+  public Skin getSkin(String skinPath) {
+    if (!resourceService.containsAsset(skinPath, Skin.class)) {
+      logger.debug("Loading skin {}", skinPath);
+      resourceService.loadSkins(new String[] {skinPath});
+      resourceService.loadAll();
+    }
+    return resourceService.getAsset(skinPath, Skin.class);
+  }
+
+  /**
+   * Get a skin containing the regions of a texture atlas, so they can be looked up as drawables.
+   * The atlas is loaded on first use.
+   *
+   * @param atlasPath path to the texture atlas
+   * @return shared skin wrapping the atlas
+   */
+  public Skin getAtlasSkin(String atlasPath) {
+    Skin skin = atlasSkins.get(atlasPath);
+    if (skin == null) {
+      if (!resourceService.containsAsset(atlasPath, TextureAtlas.class)) {
+        logger.debug("Loading skin atlas {}", atlasPath);
+        resourceService.loadTextureAtlases(new String[] {atlasPath});
+        resourceService.loadAll();
+      }
+      skin = new Skin(resourceService.getAsset(atlasPath, TextureAtlas.class));
+      atlasSkins.put(atlasPath, skin);
+    }
+    return skin;
+  }
+
+  @Override
+  public void dispose() {
+    logger.debug("Disposing skins");
+    // The atlases belong to the resource service, so only the skin wrappers are cleared here
+    atlasSkins.clear();
+    resourceService.dispose();
+  }
+}
@@ -0,0 +1,260 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk cache of decoded images, so that they don't have to be decoded again on every launch.
+ *
+ * <p>Each image is stored as its raw pixels, in the format it decodes to (RGBA8888 for most of the
+ * game's PNGs), in a file named after its asset path. The file starts with the length and CRC of
+ * the source image it was decoded from. When the source changes, its entry no longer matches, so it
+ * is decoded again and the entry is replaced. Entries are read with {@link FileChannel#map}, so a
+ * cached image is uploaded straight from the mapped file without being decoded or copied.
+ *
+ * <p>Entries are written as images are first loaded, or ahead of time for every image in the
+ * assets with {@code ./gradlew :desktop:buildTextureCache}.
+ */
+public class TextureCache {
+    private static final Logger logger = LoggerFactory.getLogger(TextureCache.class);
+    private static final int MAGIC = 0x54584331; // "TXC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final String ENTRY_SUFFIX = ".pixels";
+    private static final Pixmap.Format[] FORMATS = Pixmap.Format.values();
+
+    private final Path directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger writeFailures = new AtomicInteger();
+
+    /**
+     * @param directory directory to keep the cache in, which is created when needed
+     */
+    public TextureCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the directory the game keeps its cache in, next to the user's settings
+     */
+    public static Path defaultDirectory() {
+        return Path.of(System.getProperty("user.home"), "CSSE3200Game", "texture-cache");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Load an image from the cache, or decode it and add it to the cache if it isn't there or is
+     * out of date. Safe to call from any thread.
+     *
+     * @param fileName asset path of the image, which names its entry
+     * @param file     source image
+     * @return decoded image
+     */
+    DecodedImage load(String fileName, FileHandle file) {
+        byte[] source = file.readBytes();
+        long sourceCrc = crc(source);
+        Path entry = getEntryPath(fileName);
+        DecodedImage cached = map(entry, source.length, sourceCrc);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        DecodedImage decoded = DecodedImage.of(new Pixmap(source, 0, source.length));
+        write(entry, source.length, sourceCrc, decoded);
+        return decoded;
+    }
+
+    /**
+     * Make sure the cache has an up to date entry for an image.
+     *
+     * @param fileName asset path of the image, which names its entry
+     * @param file     source image
+     * @return true if the entry had to be written
+     */
+    public boolean build(String fileName, FileHandle file) {
+        int missesBefore = misses.get();
+        DecodedImage image = load(fileName, file);
+        image.dispose();
+        return misses.get() != missesBefore;
+    }
+
+    /**
+     * Delete entries for images other than the given ones, e.g. for images removed from the assets,
+     * and any left over from writes which failed part way.
+     *
+     * @param fileNames asset paths of the images to keep
+     * @return number of entries deleted
+     */
+    public int prune(Collection<String> fileNames) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        Set<Path> keep = new HashSet<>();
+        for (String fileName : fileNames) {
+            keep.add(getEntryPath(fileName));
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*.{pixels,tmp}")) {
+            for (Path entry : entries) {
+                if (!keep.contains(entry)) {
+                    Files.deleteIfExists(entry);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not prune texture cache: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    /**
+     * @param fileName asset path of an image
+     * @return path of the image's entry
+     */
+    public Path getEntryPath(String fileName) {
+        return directory.resolve(fileName.replaceAll("[^A-Za-z0-9._-]", "_") + ENTRY_SUFFIX);
+    }
+
+    /**
+     * @return number of images loaded from the cache
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of images which had to be decoded, because they weren't cached or had changed
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of entries which couldn't be written
+     */
+    public int getWriteFailures() {
+        return writeFailures.get();
+    }
+
+    /**
+     * Map an entry's pixels, if it is a complete entry for the given source.
+     *
+     * @return the mapped image, or null if the entry is missing or out of date
+     */
+    private DecodedImage map(Path entry, long sourceLength, long sourceCrc) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return null;
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getLong() != sourceLength || buffer.getInt() != (int) sourceCrc) {
+                return null;
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int formatIndex = buffer.getInt();
+            if (formatIndex < 0 || formatIndex >= FORMATS.length) {
+                return null;
+            }
+            Pixmap.Format format = FORMATS[formatIndex];
+            if (size != HEADER_BYTES + (long) width * height * bytesPerPixel(format)) {
+                return null;
+            }
+            buffer.position(HEADER_BYTES);
+            return DecodedImage.mapped(buffer.slice(), width, height, format);
+        } catch (IOException e) {
+            logger.debug("Could not read texture cache entry {}: {}", entry, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write an entry, replacing any old one in a single move so that a partly written entry is never
+     * read. Failures are logged, since the image can still be used without being cached.
+     */
+    private void write(Path entry, long sourceLength, long sourceCrc, DecodedImage image) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(sourceLength).putInt((int) sourceCrc)
+                    .putInt(image.getWidth()).putInt(image.getHeight())
+                    .putInt(image.getFormat().ordinal());
+            header.position(0);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, image.getPixels()};
+                while (buffers[1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            writeFailures.incrementAndGet();
+            logger.warn("Could not write texture cache entry {}: {}", entry, e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next prune
+                }
+            }
+        }
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.Texture;
+
+/**
+ * A reference to a shared texture acquired from {@link ResourceService#acquire(String)}. Each
+ * acquire returns a new handle, which must be given back exactly once with
+ * {@link ResourceService#release(TextureHandle)}.
+ *
+ * <p>A texture which wasn't loaded when it was acquired is loaded in the background. Getting it
+ * before then waits for it to finish, which {@link #isLoaded()} can be used to avoid.
+ */
+public class TextureHandle {
+  private final String path;
+  private final ResourceService owner;
+  private Texture texture;
+  private boolean released;
+
+  TextureHandle(String path, Texture texture) {
+    this(path, texture, null);
+  }
+
+  TextureHandle(String path, Texture texture, ResourceService owner) {
+    this.path = path;
+    this.texture = texture;
+    this.owner = owner;
+  }
+
+  /** @return path the texture was acquired from */
+  public String getPath() {
+    return path;
+  }
+
+  /** @return the shared texture, which must not be disposed by the holder */
+  public Texture getTexture() {
+    if (texture == null && owner != null && !released) {
+      texture = owner.getAcquiredTexture(path);
+    }
+    return texture;
+  }
+
+  /** @return true if the texture has loaded, so {@link #getTexture()} won't wait for it */
+  public boolean isLoaded() {
+    return texture != null || owner == null || owner.isAcquiredTextureLoaded(path);
+  }
+
+  /** @return true if this handle has been released */
+  public boolean isReleased() {
+    return released;
+  }
+
+  boolean isFrom(ResourceService service) {
+    return owner == service;
+  }
+
+  void markReleased() {
+    released = true;
+  }
+}
@@ -1,11 +1,19 @@
 package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.csse3200.game.rendering.HudLayer;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.rendering.Renderable;
+import com.csse3200.game.services.FontService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SkinService;
 
 /**
  * A generic component for rendering onto the UI.
@@ -17,12 +25,12 @@ public abstract class UIComponent extends RenderComponent implements Renderable
 
   /**
    * Constructor that allows injecting the Skin object.
-   * If no Skin is provided, a default Skin is loaded.
+   * If no Skin is provided, the shared default Skin from the skin service is used.
    *
    * @param skin the Skin to use for the component, or null to use the default.
    */
   public UIComponent(Skin skin) {
-    this.skin = skin != null ? skin : new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
+    this.skin = skin != null ? skin : getDefaultSkin();
   }
 
   public UIComponent() {
@@ -35,6 +43,89 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     stage = ServiceLocator.getRenderService().getStage();
   }
 
+  /**
+   * Adds an actor to a layer of the HUD, so that it is only drawn again when it changes if the
+   * layer is cached. Falls back to adding it straight to the stage when there are no HUD layers.
+   *
+   * @param actor actor to add
+   * @param layer layer to add it to
+   */
+  protected void addToHud(Actor actor, HudLayer layer) {
+    Group group = ServiceLocator.getRenderService().getHudLayer(layer);
+    if (group != null && group.getStage() == stage) {
+      group.addActor(actor);
+    } else {
+      stage.addActor(actor);
+    }
+  }
+
+  /**
+   * Shows or hides a panel. Hidden panels are taken off the stage rather than just made invisible,
+   * so the stage doesn't visit them every frame, and are put back on top when shown again.
+   *
+   * @param panel panel to show or hide
+   * @param visible true to show the panel
+   */
+  protected void setPanelVisible(Actor panel, boolean visible) {
+    panel.setVisible(visible);
+    if (!visible) {
+      panel.remove();
+    } else if (panel.getStage() == null && stage != null) {
+      stage.addActor(panel);
+    }
+  }
+
+  /**
+   * Gets the shared default skin. Falls back to loading a private copy when no skin service is
+   * registered, e.g. when a component is created in isolation.
+   *
+   * @return default skin
+   */
+  protected static Skin getDefaultSkin() {
+    SkinService skinService = ServiceLocator.getSkinService();
+    if (skinService != null) {
+      return skinService.getSkin();
+    }
+    return new Skin(Gdx.files.internal(SkinService.DEFAULT_SKIN));
+  }
+
+  /**
+   * Gets the shared copy of libGDX's built in font. Falls back to a private copy when no font
+   * service is registered.
+   *
+   * @return default font
+   */
+  protected static BitmapFont getDefaultFont() {
+    FontService fontService = ServiceLocator.getFontService();
+    if (fontService != null) {
+      return fontService.getDefaultFont();
+    }
+    return new BitmapFont();
+  }
+
+  /**
+   * Gets a shared FreeType font. Falls back to generating a private copy when no font service is
+   * registered.
+   *
+   * @param face path to the TrueType font file
+   * @param size font size in pixels
+   * @param gamma glyph gamma
+   * @return font
+   */
+  protected static BitmapFont getFont(String face, int size, float gamma) {
+    FontService fontService = ServiceLocator.getFontService();
+    if (fontService != null) {
+      return fontService.getFont(face, size, gamma);
+    }
+    FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal(face));
+    FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+    parameter.size = size;
+    parameter.gamma = gamma;
+    BitmapFont font = generator.generateFont(parameter);
+    generator.dispose();
+    return font;
+  }
+
   @Override
   public int getLayer() {
     return UI_LAYER;
@@ -0,0 +1,58 @@
+package com.csse3200.game.ui.binding;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps a label's text in sync with an {@link ObservableProperty}. The label is only given new text
+ * (and so only invalidates its layout) when the property changes.
+ *
+ * @param <T> type of the bound property
+ */
+public class LabelBinding<T> {
+  private final Label label;
+  private final ObservableProperty<T> property;
+  private final Function<T, CharSequence> formatter;
+  private final Consumer<T> listener = this::onChanged;
+  private int updateCount;
+
+  private LabelBinding(Label label, ObservableProperty<T> property,
+      Function<T, CharSequence> formatter) {
+    this.label = label;
+    this.property = property;
+    this.formatter = formatter;
+  }
+
+  /**
+   * Bind a label to a property. The label text is set immediately from the current value.
+   *
+   * @param label label to update
+   * @param property property to observe
+   * @param formatter converts the property value to label text
+   * @param <T> type of the bound property
+   * @return the binding, which should be unbound when the label is disposed
+   */
+  public static <T> LabelBinding<T> bind(Label label, ObservableProperty<T> property,
+      Function<T, CharSequence> formatter) {
+    LabelBinding<T> binding = new LabelBinding<>(label, property, formatter);
+    property.bind(binding.listener);
+    return binding;
+  }
+
+  /** Stop updating the label. */
+  public void unbind() {
+    property.unbind(listener);
+  }
+
+  /** @return number of times the label text has been set by this binding */
+  public int getUpdateCount() {
+    return updateCount;
+  }
+
+  private void onChanged(T value) {
+    updateCount++;
+    label.setText(formatter.apply(value));
+  }
+}
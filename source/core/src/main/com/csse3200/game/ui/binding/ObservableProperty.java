@@ -0,0 +1,81 @@
+package com.csse3200.game.ui.binding;
+
+import com.badlogic.gdx.utils.SnapshotArray;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A value that notifies its listeners when it changes. Setting the value it already holds does
+ * nothing, so UI bound to a property only does work (text updates, re-layouts) when the underlying
+ * state actually changes rather than every frame.
+ *
+ * @param <T> type of the held value
+ */
+public class ObservableProperty<T> {
+  // Snapshotted while notifying, so listeners can bind or unbind from inside a notification
+  private final SnapshotArray<Consumer<T>> listeners = new SnapshotArray<>(false, 2);
+  private T value;
+
+  /**
+   * Create a property with an initial value.
+   *
+   * @param initialValue initial value, may be null
+   */
+  public ObservableProperty(T initialValue) {
+    this.value = initialValue;
+  }
+
+  /** @return current value */
+  public T get() {
+    return value;
+  }
+
+  /**
+   * Set the value, notifying listeners if it differs from the current value.
+   *
+   * @param newValue new value, may be null
+   * @return true if the value changed and listeners were notified
+   */
+  public boolean set(T newValue) {
+    if (Objects.equals(value, newValue)) {
+      return false;
+    }
+    value = newValue;
+    Object[] snapshot = listeners.begin();
+    try {
+      for (int i = 0, n = listeners.size; i < n; i++) {
+        @SuppressWarnings("unchecked")
+        Consumer<T> listener = (Consumer<T>) snapshot[i];
+        listener.accept(newValue);
+      }
+    } finally {
+      listeners.end();
+    }
+    return true;
+  }
+
+  /**
+   * Add a listener, which is called straight away with the current value and then on every change.
+   *
+   * @param listener listener to add
+   */
+  public void bind(Consumer<T> listener) {
+    listeners.add(listener);
+    listener.accept(value);
+  }
+
+  /**
+   * Remove a previously added listener.
+   *
+   * @param listener listener to remove
+   */
+  public void unbind(Consumer<T> listener) {
+    listeners.removeValue(listener, true);
+  }
+
+  /** @return number of bound listeners */
+  public int getListenerCount() {
+    return listeners.size;
+  }
+}
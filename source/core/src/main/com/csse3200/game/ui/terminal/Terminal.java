@@ -29,6 +29,7 @@ public class Terminal extends Component {
     this.commands = commands;
     addCommand("question", new MoralCommands());
     addCommand("debug", new DebugCommand());
+    addCommand("draws", new DrawsCommand());
     addCommand("spawn",new SpawnRecipeCommands());
     addCommand("cutscene", new CutsceneCommand());
   }
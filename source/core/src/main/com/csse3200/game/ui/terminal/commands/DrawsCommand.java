@@ -0,0 +1,57 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for counting draws per renderable, to find renderables which are drawn more than once
+ * a frame. 'draws on' starts counting, 'draws log' logs the last frame's counts and 'draws off'
+ * stops counting.
+ */
+public class DrawsCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(DrawsCommand.class);
+
+  /**
+   * Toggles draw counting or logs the counts if the corresponding argument is received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'draws' command: {}", args);
+      return false;
+    }
+
+    RenderService renderService = ServiceLocator.getRenderService();
+    String arg = args.get(0);
+    switch (arg) {
+      case "on":
+        renderService.setDrawCounting(true);
+        return true;
+      case "off":
+        renderService.setDrawCounting(false);
+        return true;
+      case "log":
+        logger.info("Draws by class: {}", renderService.getDrawCountsByClass());
+        logger.info("Draws by layer: {}", renderService.getDrawCountsByLayer());
+        logger.info("{} renderables drawn more than once, {} duplicate registrations ignored",
+            renderService.getOverdrawnCount(), renderService.getDuplicateRegistrationCount());
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'draws' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1;
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.cutscenes.scenes.AnimatedScene;
 import com.csse3200.game.components.cutscenes.scenes.Scene;
@@ -14,6 +15,7 @@ import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.events.listeners.EventListener0;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.After;
@@ -207,7 +209,9 @@ public class CutsceneTest {
         cutscene.animatedScenes.add(animatedScene);
         cutscene.loadScene(0);
 
-        verify(resourceService, times(1)).loadTextureAtlases(new String[]{"atlas.atlas"});
+        verify(resourceService, times(1))
+                .load(new String[]{"atlas.atlas"}, TextureAtlas.class, LoadPriority.CRITICAL);
+        verify(resourceService, times(1)).finishLoading(new String[]{"atlas.atlas"});
     }
 
     @Test
@@ -1,31 +1,30 @@
 package com.csse3200.game.components.cutscenes;
 
 import com.csse3200.game.components.cutscenes.scenes.Scene;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetManifest;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+@ExtendWith(GameExtension.class)
 class MoralDay1CutsceneTest {
 
     private MoralDay1Cutscene moralDay1Cutscene;
-
-    @BeforeAll
-    static void setUp() {
-        ServiceLocator.clear();
-        ResourceService mockResourceService = mock(ResourceService.class);
-        ServiceLocator.registerResourceService(mockResourceService);
-    }
+    private ResourceService resourceService;
 
     @BeforeEach
     void setUpEach() {
+        resourceService = mock(ResourceService.class);
+        ServiceLocator.registerResourceService(resourceService);
         moralDay1Cutscene = new MoralDay1Cutscene();
-
     }
 
     @Test
@@ -39,11 +38,9 @@ class MoralDay1CutsceneTest {
 
     @Test
     void testLoadAssets() {
-        moralDay1Cutscene.loadAssets();
-
-        assertNotNull(moralDay1Cutscene.getTextures());
-        assertNotNull(moralDay1Cutscene.getImages());
-        assertNotNull(moralDay1Cutscene.getAnimations());
+        AssetManifest.Scope scope = AssetManifest.get().getScope("moral1");
+        assertSame(scope, moralDay1Cutscene.getAssetScope());
+        verify(resourceService).loadScope(scope, LoadPriority.CRITICAL);
     }
 
     @Test
@@ -1,34 +1,35 @@
 package com.csse3200.game.components.cutscenes;
 
 import com.csse3200.game.components.cutscenes.scenes.Scene;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetManifest;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.List;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
+@ExtendWith(GameExtension.class)
 class MoralDay2CutsceneTest {
 
     private MoralDay2Cutscene moralDay2Cutscene;
-
-    @BeforeAll
-    static void setUp() {
-        ServiceLocator.clear();
-        ResourceService mockResourceService = mock(ResourceService.class);
-        ServiceLocator.registerResourceService(mockResourceService);
-    }
+    private ResourceService resourceService;
 
     @BeforeEach
     void setUpEach() {
+        resourceService = mock(ResourceService.class);
+        ServiceLocator.registerResourceService(resourceService);
         moralDay2Cutscene = new MoralDay2Cutscene();
-
     }
 
     @Test
@@ -42,11 +43,9 @@ class MoralDay2CutsceneTest {
 
     @Test
     void testLoadAssets() {
-        moralDay2Cutscene.loadAssets();
-
-        assertNotNull(moralDay2Cutscene.getTextures());
-        assertNotNull(moralDay2Cutscene.getImages());
-        assertNotNull(moralDay2Cutscene.getAnimations());
+        AssetManifest.Scope scope = AssetManifest.get().getScope("moral2");
+        assertSame(scope, moralDay2Cutscene.getAssetScope());
+        verify(resourceService).loadScope(scope, LoadPriority.CRITICAL);
     }
 
     @Test
@@ -1,35 +1,36 @@
 package com.csse3200.game.components.cutscenes;
 
 import com.csse3200.game.components.cutscenes.scenes.Scene;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetManifest;
+import com.csse3200.game.services.LoadPriority;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.List;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
+@ExtendWith(GameExtension.class)
 class MoralDay4CutsceneTest {
 
     private MoralDay4Cutscene moralDay4Cutscene;
-
-    @BeforeAll
-    static void setUp() {
-        ServiceLocator.clear();
-        ResourceService mockResourceService = mock(ResourceService.class);
-        ServiceLocator.registerResourceService(mockResourceService);
-    }
+    private ResourceService resourceService;
 
     @BeforeEach
     void setUpEach() {
+        resourceService = mock(ResourceService.class);
+        ServiceLocator.registerResourceService(resourceService);
         moralDay4Cutscene = new MoralDay4Cutscene();
-
     }
 
     @Test
@@ -43,11 +44,9 @@ class MoralDay4CutsceneTest {
 
     @Test
     void testLoadAssets() {
-        moralDay4Cutscene.loadAssets();
-
-        assertNotNull(moralDay4Cutscene.getTextures());
-        assertNotNull(moralDay4Cutscene.getImages());
-        assertNotNull(moralDay4Cutscene.getAnimations());
+        AssetManifest.Scope scope = AssetManifest.get().getScope("moral4");
+        assertSame(scope, moralDay4Cutscene.getAssetScope());
+        verify(resourceService).loadScope(scope, LoadPriority.CRITICAL);
     }
 
     @Test
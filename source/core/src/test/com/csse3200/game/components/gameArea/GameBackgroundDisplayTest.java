@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
 public class GameBackgroundDisplayTest {
+    private static final long FRAME_TIME = 7500;
     private AutoCloseable mocks;
     private Entity entity;
     private GameBackgroundDisplay gameBackgroundDisplay;
@@ -63,6 +64,7 @@ public class GameBackgroundDisplayTest {
     @AfterEach
     void end() throws Exception{
         mocks.close();
+        GameBackgroundDisplay.setStepped(false);
         ServiceLocator.clear();
     }
 
@@ -80,82 +82,87 @@ public class GameBackgroundDisplayTest {
     }
 
     @Test
-    public void noChangesAfter1Sec() {
-        when(gameTime.getTimeSince(anyLong())).thenReturn(1L); //simulates time passed
-        gameBackgroundDisplay.update();
-        verify(gameBackgroundDisplay, never()).setBackground();
+    public void onlyLoadsKeyframes() {
+        String[] textures = GameBackgroundDisplay.getBackgroundTextures();
+        Assertions.assertEquals(6, textures.length);
+        Assertions.assertEquals("images/background_images/1.0.png", textures[0]);
+        Assertions.assertEquals("images/background_images/18.5.png", textures[textures.length - 1]);
+
+        GameBackgroundDisplay.setStepped(true);
+        Assertions.assertEquals(36, GameBackgroundDisplay.getBackgroundTextures().length);
     }
 
     @Test
-    public void changesAfter10Sec() {
-        when(gameTime.getTimeSince(anyLong())).thenReturn(10000L);  //simulates time passed
-        gameBackgroundDisplay.update();
+    public void fadesTowardsNextKeyframe() {
+        // Halfway between the first two keyframes, 1.0 and 4.5
+        updateAt(FRAME_TIME * 7 / 2);
+        Assertions.assertEquals("images/background_images/1.0.png", gameBackgroundDisplay.getCurrentImage());
+        Assertions.assertEquals("images/background_images/4.5.png", gameBackgroundDisplay.getBlendTarget());
+        Assertions.assertEquals(0.5f, gameBackgroundDisplay.getBlend(), 0.001f);
+    }
+
+    @Test
+    public void onlySwapsImagesOnNewKeyframe() {
+        updateAt(1000);
         verify(gameBackgroundDisplay).setBackground();
+
+        // Only the opacity changes until the next keyframe is reached
+        for (long time = 2000; time < FRAME_TIME * 7; time += 1000) {
+            updateAt(time);
+        }
+        verify(gameBackgroundDisplay, times(1)).setBackground();
+
+        updateAt(FRAME_TIME * 7);
+        verify(gameBackgroundDisplay, times(2)).setBackground();
+        Assertions.assertEquals("images/background_images/4.5.png", gameBackgroundDisplay.getCurrentImage());
     }
 
     @Test
-    public void correctChangeAfter10Sec() {
-        when(gameTime.getTimeSince(anyLong())).thenReturn(10000L);  //simulates time passed
-        gameBackgroundDisplay.update();
-        String secondImage = "images/background_images/1.5.png";
-        String currentImage = gameBackgroundDisplay.getCurrentImage();
-        Assertions.assertEquals(secondImage, currentImage);
+    public void noChangesAfter1SecStepped() {
+        GameBackgroundDisplay.setStepped(true);
+        updateAt(1000);
+        verify(gameBackgroundDisplay, never()).setBackground();
     }
 
     @Test
-    public void correctNumberChangesAfter102Sec() {
-        long timeLapsed = 102000; //102 seconds
-        //until 100 seconds has passed, update gameBackgroundDisplay
-        while(timeLapsed > 0) {
-            when(gameTime.getTimeSince(anyLong())).thenReturn(timeLapsed);
-            gameBackgroundDisplay.update();
-            timeLapsed -= 300000/36;
-        }
-        verify(gameBackgroundDisplay, times(12)).setBackground();
+    public void correctChangeAfter10SecStepped() {
+        GameBackgroundDisplay.setStepped(true);
+        updateAt(10000);
+        verify(gameBackgroundDisplay).setBackground();
+        Assertions.assertEquals("images/background_images/1.5.png", gameBackgroundDisplay.getCurrentImage());
+        Assertions.assertNull(gameBackgroundDisplay.getBlendTarget());
     }
 
     @Test
-    public void correctChangeAfter102Sec() {
-        long timeLapsed = 102000; //102 seconds
-        //until 100 seconds has passed, update gameBackgroundDisplay
-        while(timeLapsed > 0) {
-            when(gameTime.getTimeSince(anyLong())).thenReturn(timeLapsed);
-            gameBackgroundDisplay.update();
-            timeLapsed -= 300000/36;
-        }
-        String nthImage = "images/background_images/7.0.png";
-        String currentImage = gameBackgroundDisplay.getCurrentImage();
-        Assertions.assertEquals(nthImage, currentImage);
+    public void correctChangeAfter102SecStepped() {
+        GameBackgroundDisplay.setStepped(true);
+        updateAt(102000);
+        Assertions.assertEquals("images/background_images/7.5.png", gameBackgroundDisplay.getCurrentImage());
     }
 
     @Test
     public void stopsUpdating() {
-        long oneMinute = 360000;
         long fiveMinutes = 300000;
+        updateAt(fiveMinutes);
+        verify(gameBackgroundDisplay).setBackground();
+        Assertions.assertEquals("images/background_images/18.5.png", gameBackgroundDisplay.getBlendTarget());
+        Assertions.assertEquals(1f, gameBackgroundDisplay.getBlend());
 
-        updateBackground(fiveMinutes);
-        //has 35 updates (reaches final frame)
-        verify(gameBackgroundDisplay, times(35)).setBackground();
-
-        updateBackground(oneMinute); //total time = 6 minutes
-        //no further updates
-        verify(gameBackgroundDisplay, times(35)).setBackground();
+        updateAt(fiveMinutes + 60000);
+        verify(gameBackgroundDisplay, times(1)).setBackground();
     }
 
     @Test
-    public void correctFinalUpdate() {
-        long fiveMinutes = 300000;
-        updateBackground(fiveMinutes);
+    public void correctFinalUpdateStepped() {
+        GameBackgroundDisplay.setStepped(true);
+        updateAt(300000);
         String finalImage = "images/background_images/18.5.png";
-        Assertions.assertEquals(gameBackgroundDisplay.getCurrentImage(), finalImage);
+        Assertions.assertEquals(finalImage, gameBackgroundDisplay.getCurrentImage());
     }
 
-    public void updateBackground(long time) {
-        while (time > 0) {
-            when(gameTime.getTimeSince(anyLong())).thenReturn(time);
-            gameBackgroundDisplay.update();
-            time -= 300000/36;
-        }
+    private void updateAt(long time) {
+        when(gameTime.getTimeSince(anyLong())).thenReturn(time);
+        gameBackgroundDisplay.update();
     }
 
 }
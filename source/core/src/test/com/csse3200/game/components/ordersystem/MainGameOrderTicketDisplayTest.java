@@ -5,8 +5,10 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
@@ -27,6 +29,8 @@ import org.slf4j.LoggerFactory;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -363,6 +367,62 @@ class MainGameOrderTicketDisplayTest {
 		testMealDisplay("bananaSplit");
 	}
 
+	/**
+	 * Tests that repeated updates within the same second don't re-format the countdown or rebuild
+	 * the meal image drawables.
+	 */
+	@Test
+	void shouldOnlyUpdateCountdownWhenSecondChanges() {
+		orderTicketDisplay.dispose();
+		orderTicketDisplay.addActors();
+		orderTicketDisplay.addActors();
+
+		List<Label> countdowns = MainGameOrderTicketDisplay.getCountdownLabelArrayList();
+		Label countdown = spy(countdowns.getFirst());
+		countdowns.set(0, countdown);
+		Table table = MainGameOrderTicketDisplay.getTableArrayList().getFirst();
+		Image mealImage = (Image) table.getChildren().get(2);
+
+		orderTicketDisplay.update();
+		Drawable drawable = mealImage.getDrawable();
+		for (int i = 0; i < 20; i++) {
+			orderTicketDisplay.update();
+		}
+
+		verify(countdown, atMost(2)).setText(any(CharSequence.class));
+		assertTrue(countdown.getText().toString().startsWith("Timer: "));
+		assertSame(drawable, mealImage.getDrawable());
+		verify(ticketDetails, atLeastOnce()).onUpdateBigTicket(eq("2"), eq("acaiBowl"), anyString());
+	}
+
+	/**
+	 * Tests that dockets are only laid out again once they change or the screen is resized, and
+	 * that their backgrounds are only set again when the docket's time state changes.
+	 */
+	@Test
+	void shouldOnlyLayOutDocketsWhenChangedOrResized() {
+		orderTicketDisplay.dispose();
+		orderTicketDisplay.addActors();
+		orderTicketDisplay.addActors();
+		orderTicketDisplay.update();
+
+		Table table = MainGameOrderTicketDisplay.getTableArrayList().getFirst();
+		float x = table.getX();
+		table.setX(x + 50);
+		table.setBackground((Drawable) null);
+		orderTicketDisplay.update();
+		assertEquals(x + 50, table.getX());
+		assertNull(table.getBackground());
+
+		orderTicketDisplay.resize();
+		orderTicketDisplay.update();
+		assertEquals(x, table.getX());
+
+		orderTicketDisplay.shiftDocketsLeft();
+		orderTicketDisplay.update();
+		assertNotEquals(x, table.getX());
+	}
+
 	/**
 	 * Test should get the Z index
 	 */
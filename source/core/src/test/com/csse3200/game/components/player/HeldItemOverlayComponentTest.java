@@ -0,0 +1,100 @@
+package com.csse3200.game.components.player;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.rendering.AnimationRenderComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class HeldItemOverlayComponentTest {
+    private final TextureAtlas playerAtlas =
+            new TextureAtlas(Gdx.files.internal("images/player/player.atlas"));
+    private final TextureAtlas heldItemsAtlas =
+            new TextureAtlas(Gdx.files.internal(HeldItemOverlayComponent.HELD_ITEMS_ATLAS));
+    private Entity entity;
+    private AnimationRenderComponent animator;
+    private HeldItemOverlayComponent overlay;
+    private PlayerAnimationController controller;
+
+    @BeforeEach
+    void beforeEach() {
+        entity = new Entity();
+        animator = spy(new AnimationRenderComponent(playerAtlas));
+        animator.addAnimation("Character_Left", 0.2f);
+        animator.addAnimation("Character_Left" + PlayerAnimationController.HOLDING_SUFFIX, 0.2f);
+        overlay = new HeldItemOverlayComponent(heldItemsAtlas);
+        controller = new PlayerAnimationController();
+        entity.addComponent(animator);
+        overlay.setEntity(entity);
+        controller.setEntity(entity);
+        overlay.create();
+        controller.create();
+    }
+
+    @Test
+    void shouldHaveRegionsForEveryDirection() {
+        String[] directions = {"Down", "Up", "Left", "Right", "DownLeft", "DownRight", "UpLeft", "UpRight"};
+        for (String direction : directions) {
+            assertNotNull(heldItemsAtlas.findRegion("RawTomato_" + direction), direction);
+        }
+    }
+
+    @Test
+    void shouldSwitchPoseWithoutChangingAtlas() {
+        controller.animateLeft();
+        verify(animator).startAnimation("Character_Left");
+
+        entity.getEvents().trigger("updateHeldItem", "RawTomato");
+        assertTrue(controller.isHolding());
+        assertEquals("RawTomato", overlay.getItem());
+        assertEquals("Character_Left_Holding", animator.getCurrentAnimation());
+        assertSame(playerAtlas, animator.getAtlas());
+
+        entity.getEvents().trigger("updateHeldItem", (String) null);
+        assertFalse(controller.isHolding());
+        assertNull(overlay.getItem());
+        assertEquals("Character_Left", animator.getCurrentAnimation());
+    }
+
+    @Test
+    void shouldDrawOneRegionWhileHolding() {
+        SpriteBatch batch = mock(SpriteBatch.class);
+
+        overlay.draw(batch, "Character_Left_Holding", 0, 0f, 0f, 1f, 1.25f);
+        verify(batch, never()).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+
+        overlay.setItem("RawTomato");
+        overlay.draw(batch, "Character_Left_Holding", 1, 0f, 0f, 1f, 1.25f);
+        TextureAtlas.AtlasRegion region = heldItemsAtlas.findRegion("RawTomato_Left");
+        // Second frame of the left walk bobs one pixel left and down
+        verify(batch).draw(region,
+                (region.offsetX - 1) / 32f,
+                (region.offsetY - 1) * 1.25f / 32f,
+                region.getRegionWidth() / 32f,
+                region.getRegionHeight() * 1.25f / 32f);
+    }
+
+    @Test
+    void shouldRemoveLayerOnDispose() {
+        overlay.dispose();
+        assertFalse(animator.removeLayer(overlay));
+    }
+
+    @Test
+    void shouldGetDirection() {
+        assertEquals("Left", HeldItemOverlayComponent.getDirection("Character_Left"));
+        assertEquals("Left", HeldItemOverlayComponent.getDirection("Character_StandLeft"));
+        assertEquals("UpRight", HeldItemOverlayComponent.getDirection("Character_UpRight_Holding"));
+        assertEquals("Down", HeldItemOverlayComponent.getDirection("Character_StandDown_Holding"));
+    }
+}
@@ -20,13 +20,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
-import com.csse3200.game.components.TooltipsDisplay;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.station.IngredientStationHandlerComponent;
 import com.csse3200.game.components.station.StationCollectionComponent;
 import com.csse3200.game.components.station.StationCookingComponent;
 import com.csse3200.game.components.station.StationItemHandlerComponent;
 import com.csse3200.game.components.station.StationServingComponent;
+import com.csse3200.game.components.station.SubmitHoverComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.InteractionComponent;
@@ -70,7 +70,6 @@ public class StationFactoryTest {
 //        assertNotNull(oven.getComponent(PhysicsComponent.class));
 //        assertNotNull(oven.getComponent(ColliderComponent.class));
 //        assertNotNull(oven.getComponent(InteractionComponent.class));
-//        assertNotNull(oven.getComponent(TooltipsDisplay.class));
 //        assertNotNull(oven.getComponent(StationCookingComponent.class));
 //        assertNotNull(oven.getComponent(StationItemHandlerComponent.class));
 //        assertNotNull(oven.getComponent(InventoryComponent.class));
@@ -204,7 +203,7 @@ public class StationFactoryTest {
         assertNotNull(submissionWindow.getComponent(PhysicsComponent.class));
         assertNotNull(submissionWindow.getComponent(ColliderComponent.class));
         assertNotNull(submissionWindow.getComponent(InteractionComponent.class));
-        assertNotNull(submissionWindow.getComponent(TooltipsDisplay.class));
+        assertNotNull(submissionWindow.getComponent(SubmitHoverComponent.class));
         assertNotNull(submissionWindow.getComponent(InventoryComponent.class));
         assertNotNull(submissionWindow.getComponent(StationServingComponent.class));
 
@@ -222,7 +221,6 @@ public class StationFactoryTest {
         assertNotNull(entity.getComponent(PhysicsComponent.class));
         assertNotNull(entity.getComponent(ColliderComponent.class));
         assertNotNull(entity.getComponent(InteractionComponent.class));
-        assertNotNull(entity.getComponent(TooltipsDisplay.class));
         assertEquals(BodyDef.BodyType.StaticBody, entity.getComponent(PhysicsComponent.class).getBody().getType());
     }
 
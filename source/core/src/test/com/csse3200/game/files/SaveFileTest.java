@@ -0,0 +1,86 @@
+package com.csse3200.game.files;
+
+import com.csse3200.game.components.moral.Decision;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveFileTest {
+
+    @Test
+    void shouldReadWrittenSave(@TempDir Path saves) throws IOException {
+        Decision pending = new Decision("Help the customer", true, 5);
+        Decision made = new Decision("Take the loan", false, 10);
+        made.setDecision(true);
+        Path file = saves.resolve("save" + SaveFile.EXTENSION);
+        Files.write(file, SaveFile.write(state(List.of(pending, made))));
+
+        GameState state = SaveFile.read(file);
+        assertEquals(3, state.getDay());
+        assertEquals(250, state.getMoney());
+        assertEquals("16-10-2024_15-59-54", state.getModTime());
+        assertEquals(2, state.getDecisions().size());
+        Decision first = state.getDecisions().get(0);
+        assertEquals("Help the customer", first.getStatement());
+        assertTrue(first.isPending());
+        assertEquals(5, first.getDecisionPoints());
+        Decision second = state.getDecisions().get(1);
+        assertFalse(second.isGood());
+        assertTrue(second.getDecision());
+        assertEquals(-10, second.getDecisionPoints());
+    }
+
+    @Test
+    void shouldKeepPointsOfBadDecisions(@TempDir Path saves) throws IOException {
+        // Negative points on a bad decision make positive points once negated, and must stay so
+        Decision negative = new Decision("Report the mafia", false, -10);
+        Decision bad = new Decision("Take the loan", false, 10);
+        Path file = saves.resolve("save" + SaveFile.EXTENSION);
+        Files.write(file, SaveFile.write(state(List.of(negative, bad))));
+
+        List<Decision> decisions = SaveFile.read(file).getDecisions();
+        assertEquals(-10, decisions.get(0).getRawDecisionPoints());
+        assertEquals(10, decisions.get(0).getDecisionPoints());
+        assertEquals(10, decisions.get(1).getRawDecisionPoints());
+        assertEquals(-10, decisions.get(1).getDecisionPoints());
+    }
+
+    @Test
+    void shouldReadOnlyHeader(@TempDir Path saves) throws IOException {
+        Path file = saves.resolve("save" + SaveFile.EXTENSION);
+        byte[] save = SaveFile.write(state(List.of(new Decision("Help the customer", true, 5))));
+        // A header is all that is needed to list a save, even if the rest of it is missing
+        Files.write(file, Arrays.copyOf(save, SaveFile.HEADER_BYTES));
+
+        SaveFile.Header header = SaveFile.readHeader(file);
+        assertEquals("save", header.getName());
+        assertEquals(3, header.getDay());
+        assertEquals(250, header.getMoney());
+        assertEquals("16-10-2024_15-59-54", header.getModTime());
+        assertEquals(1, header.getDecisionCount());
+        assertThrows(IOException.class, () -> SaveFile.read(file));
+    }
+
+    @Test
+    void shouldNotReadOtherFiles(@TempDir Path saves) throws IOException {
+        Path json = saves.resolve("save" + SaveFile.JSON_EXTENSION);
+        Files.writeString(json, "{\nmoney: 50\nModTime: 16-10-2024_15-59-54\ndecisions: []\n}");
+        assertThrows(IOException.class, () -> SaveFile.readHeader(json));
+    }
+
+    private static GameState state(List<Decision> decisions) {
+        GameState state = new GameState();
+        state.setDay(3);
+        state.setMoney(250);
+        state.setModTime("16-10-2024_15-59-54");
+        state.setDecisions(decisions);
+        return state;
+    }
+}
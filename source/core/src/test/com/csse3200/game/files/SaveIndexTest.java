@@ -0,0 +1,94 @@
+package com.csse3200.game.files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveIndexTest {
+
+    @Test
+    void shouldOnlyReadHeadersOnce(@TempDir Path saves) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            writeSave(saves, "save" + i, i);
+        }
+        SaveIndex index = SaveIndex.read(saves);
+        assertEquals(100, index.list().size());
+        assertEquals(100, index.getHeaderReads());
+        assertTrue(index.isChanged());
+        Files.write(index.getPath(), index.toBytes());
+
+        SaveIndex reread = SaveIndex.read(saves);
+        List<SaveFile.Header> headers = reread.list();
+        assertEquals(100, headers.size());
+        assertEquals(0, reread.getHeaderReads());
+        assertFalse(reread.isChanged());
+        assertEquals("save0", headers.get(0).getName());
+        assertEquals(0, headers.get(0).getDay());
+    }
+
+    @Test
+    void shouldReadChangedAndRemovedSaves(@TempDir Path saves) throws IOException {
+        writeSave(saves, "kept", 1);
+        writeSave(saves, "changed", 1);
+        writeSave(saves, "removed", 1);
+        SaveIndex index = SaveIndex.read(saves);
+        index.list();
+        Files.write(index.getPath(), index.toBytes());
+
+        writeSave(saves, "changed", 7);
+        Files.setLastModifiedTime(saves.resolve("changed" + SaveFile.EXTENSION),
+                FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        Files.delete(saves.resolve("removed" + SaveFile.EXTENSION));
+
+        SaveIndex reread = SaveIndex.read(saves);
+        List<SaveFile.Header> headers = reread.list();
+        assertEquals(2, headers.size());
+        assertEquals("changed", headers.get(0).getName());
+        assertEquals(7, headers.get(0).getDay());
+        assertEquals(1, reread.getHeaderReads());
+        assertTrue(reread.isChanged());
+    }
+
+    @Test
+    void shouldListJsonSaves(@TempDir Path saves) throws IOException {
+        Files.writeString(saves.resolve("old.json"),
+                "{\nday: 2\nmoney: 50\nModTime: 16-10-2024_15-59-54\ndecisions: []\n}");
+        writeSave(saves, "both", 4);
+        Files.writeString(saves.resolve("both.json"), "{\nday: 4\nmoney: 100\n}");
+
+        List<SaveFile.Header> headers = SaveIndex.read(saves).list();
+        assertEquals(2, headers.size());
+        // The binary save is listed rather than its JSON export
+        assertEquals("both" + SaveFile.EXTENSION, headers.get(0).getFileName());
+        assertEquals("old.json", headers.get(1).getFileName());
+        assertEquals(2, headers.get(1).getDay());
+        assertEquals(50, headers.get(1).getMoney());
+        assertEquals("16-10-2024_15-59-54", headers.get(1).getModTime());
+    }
+
+    @Test
+    void shouldRebuildUnreadableIndex(@TempDir Path saves) throws IOException {
+        writeSave(saves, "save", 1);
+        Files.writeString(saves.resolve(SaveIndex.FILE_NAME), "not an index");
+
+        SaveIndex index = SaveIndex.read(saves);
+        assertEquals(1, index.list().size());
+        assertEquals(1, index.getHeaderReads());
+    }
+
+    private static void writeSave(Path saves, String name, int day) throws IOException {
+        GameState state = new GameState();
+        state.setDay(day);
+        state.setMoney(100);
+        state.setModTime("16-10-2024_15-59-54");
+        state.setDecisions(List.of());
+        Files.write(saves.resolve(name + SaveFile.EXTENSION), SaveFile.write(state));
+    }
+}
@@ -0,0 +1,135 @@
+package com.csse3200.game.files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveWriterTest {
+
+    @Test
+    void shouldWriteSave(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        Path save = saves.resolve("save.json");
+
+        writer.write(save, () -> bytes("first")).get(5, TimeUnit.SECONDS);
+        assertEquals("first", Files.readString(save));
+        writer.write(save, () -> bytes("second")).get(5, TimeUnit.SECONDS);
+        assertEquals("second", Files.readString(save));
+        assertFalse(Files.exists(saves.resolve("save.json" + SaveWriter.TEMP_SUFFIX)));
+        writer.dispose();
+    }
+
+    @Test
+    void shouldKeepPreviousSaveWhenWriterIsKilled(@TempDir Path saves) throws Exception {
+        Path save = saves.resolve("save.json");
+        KillableWriter writer = new KillableWriter();
+        writer.write(save, () -> bytes("previous save")).get(5, TimeUnit.SECONDS);
+
+        // Interrupting the writer thread closes the temporary file part way through the save
+        writer.killAfter = 4;
+        CompletableFuture<Void> killed = writer.write(save, () -> bytes("a save which never finishes"));
+        assertThrows(ExecutionException.class, () -> killed.get(5, TimeUnit.SECONDS));
+        assertEquals("previous save", Files.readString(save));
+        assertFalse(Files.exists(saves.resolve("save.json" + SaveWriter.TEMP_SUFFIX)));
+
+        // The writer carries on with the next save
+        writer.killAfter = -1;
+        writer.write(save, () -> bytes("next save")).get(5, TimeUnit.SECONDS);
+        assertEquals("next save", Files.readString(save));
+        writer.dispose();
+    }
+
+    @Test
+    void shouldIgnoreTempFileLeftByCrash(@TempDir Path saves) throws Exception {
+        Path save = saves.resolve("save.json");
+        Files.writeString(save, "previous save");
+        Files.writeString(saves.resolve("save.json" + SaveWriter.TEMP_SUFFIX), "half a sa");
+
+        SaveWriter writer = new SaveWriter();
+        writer.write(save, () -> bytes("new save")).get(5, TimeUnit.SECONDS);
+        assertEquals("new save", Files.readString(save));
+        writer.dispose();
+    }
+
+    @Test
+    void shouldCoalesceQueuedSaves(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = writer.write(saves.resolve("other.json"), () -> {
+            blocked.countDown();
+            await(release);
+            return bytes("other");
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        Path save = saves.resolve("save.json");
+        CompletableFuture<Void> second = writer.write(save, () -> bytes("second"));
+        CompletableFuture<Void> third = writer.write(save, () -> bytes("third"));
+        CompletableFuture<Void> fourth = writer.write(save, () -> bytes("fourth"));
+        assertSame(second, third);
+        assertSame(second, fourth);
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        fourth.get(5, TimeUnit.SECONDS);
+        assertEquals("fourth", Files.readString(save));
+        assertEquals(2, writer.getCoalescedCount());
+        writer.dispose();
+    }
+
+    @Test
+    void shouldFlushQueuedSaves(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        Path save = saves.resolve("save.json");
+        writer.write(save, () -> bytes("save"));
+        writer.flush();
+        assertEquals("save", Files.readString(save));
+        writer.dispose();
+    }
+
+    private static byte[] bytes(String contents) {
+        return contents.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Writer whose thread is interrupted once a number of bytes of a save have been written. */
+    private static class KillableWriter extends SaveWriter {
+        private volatile int killAfter = -1;
+
+        @Override
+        protected void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+            if (killAfter < 0) {
+                super.write(channel, buffer);
+                return;
+            }
+            if (channel.position() < killAfter) {
+                ByteBuffer part = buffer.duplicate();
+                part.limit(part.position() + killAfter);
+                buffer.position(buffer.position() + channel.write(part));
+                return;
+            }
+            Thread.currentThread().interrupt();
+            super.write(channel, buffer);
+        }
+    }
+}
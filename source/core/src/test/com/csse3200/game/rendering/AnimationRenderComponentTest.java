@@ -70,7 +70,8 @@ class AnimationRenderComponentTest {
     // Mock game time
     GameTime gameTime = mock(GameTime.class);
     ServiceLocator.registerTimeSource(gameTime);
-    when(gameTime.getDeltaTime()).thenReturn(frameTime);
+    // Animation clock is 0 when started, then one frame later on each draw
+    when(gameTime.getAnimationTime()).thenReturn(0f, 0f, 1f, 2f, 3f, 4f);
 
     // Start animation
     AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
@@ -80,7 +81,7 @@ class AnimationRenderComponentTest {
     animator.startAnimation(animName);
 
     for (int i = 0; i < 5; i++) {
-      // Each draw advances 1 frame, check that it matches for each
+      // Each draw is 1 frame later, check that it matches for each
       animator.draw(batch);
       verify(batch).draw(
           regions.get(i),
@@ -99,7 +100,7 @@ class AnimationRenderComponentTest {
 
     GameTime gameTime = mock(GameTime.class);
     ServiceLocator.registerTimeSource(gameTime);
-    when(gameTime.getDeltaTime()).thenReturn(1f);
+    when(gameTime.getAnimationTime()).thenReturn(0f, 0f, 1f);
 
     AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
     Entity entity = new Entity();
@@ -126,6 +127,42 @@ class AnimationRenderComponentTest {
     assertNull(animator.getCurrentAnimation());
   }
 
+  @Test
+  void shouldShareAnimationsBetweenComponents() {
+    AnimationCache.clear();
+    TextureAtlas atlas = createMockAtlas("test_name", 2);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(new AnimationRenderComponent(atlas).addAnimation("test_name", 0.1f));
+    }
+    assertEquals(1, AnimationCache.getBuildCount());
+    verify(atlas, times(1)).findRegions("test_name");
+
+    // A different frame duration is a different animation
+    new AnimationRenderComponent(atlas).addAnimation("test_name", 0.2f);
+    assertEquals(2, AnimationCache.getBuildCount());
+  }
+
+  @Test
+  void shouldKeepTimeWithoutDrawing() {
+    TextureAtlas atlas = createMockAtlas("test_name", 3);
+    GameTime gameTime = mock(GameTime.class);
+    ServiceLocator.registerTimeSource(gameTime);
+    when(gameTime.getAnimationTime()).thenReturn(5f);
+
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    animator.addAnimation("test_name", 1f);
+    animator.startAnimation("test_name");
+    assertEquals(0f, animator.getPlayTime());
+
+    // Not drawn, but the shared clock moves on
+    when(gameTime.getAnimationTime()).thenReturn(7.5f);
+    assertEquals(2.5f, animator.getPlayTime());
+    assertFalse(animator.isFinished());
+    when(gameTime.getAnimationTime()).thenReturn(8.5f);
+    assertTrue(animator.isFinished());
+  }
+
   static TextureAtlas createMockAtlas(String animationName, int numRegions) {
     TextureAtlas atlas = mock(TextureAtlas.class);
     Array<AtlasRegion> regions = new Array<>(numRegions);
@@ -0,0 +1,100 @@
+package com.csse3200.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class CachedGroupTest {
+  @Test
+  void shouldStartDirty() {
+    assertTrue(new CachedGroup().isDirty());
+  }
+
+  @Test
+  void shouldBeDirtiedByLayoutChanges() {
+    CachedGroup group = new CachedGroup();
+    Table outer = new Table();
+    Table inner = new Table();
+    outer.add(inner);
+    group.addActor(outer);
+
+    group.markClean();
+    inner.add(new Actor());
+    assertTrue(group.isDirty());
+
+    group.markClean();
+    inner.invalidateHierarchy();
+    assertTrue(group.isDirty());
+
+    group.markClean();
+    outer.remove();
+    assertTrue(group.isDirty());
+  }
+
+  @Test
+  void shouldBeDirtiedExplicitly() {
+    CachedGroup group = new CachedGroup();
+    Table table = new Table();
+    Actor actor = new Actor();
+    table.add(actor);
+    group.addActor(table);
+
+    group.markClean();
+    actor.setVisible(false);
+    assertFalse(group.isDirty());
+    CachedGroup.invalidateCache(actor);
+    assertTrue(group.isDirty());
+
+    // Actors outside of a cached group are ignored
+    CachedGroup.invalidateCache(new Actor());
+    CachedGroup.invalidateCache(null);
+  }
+
+  @Test
+  void shouldRedrawAfterCachingChanges() {
+    CachedGroup group = new CachedGroup();
+    group.markClean();
+    group.setCaching(false);
+    assertFalse(group.isCaching());
+    assertTrue(group.isDirty());
+    assertEquals(0, group.getRedrawCount());
+  }
+
+  @Test
+  void shouldCreateHudLayersInOrder() {
+    RenderService renderService = new RenderService();
+    assertNull(renderService.getHudLayer(HudLayer.STATIC));
+
+    Stage stage = new Stage(mock(Viewport.class), mock(SpriteBatch.class));
+    renderService.setStage(stage);
+    Actor background = new Actor();
+    stage.addActor(background);
+
+    assertSame(stage.getRoot(), renderService.getHudLayer(HudLayer.DYNAMIC));
+    CachedGroup slow = (CachedGroup) renderService.getHudLayer(HudLayer.SLOW);
+    CachedGroup cachedStatic = (CachedGroup) renderService.getHudLayer(HudLayer.STATIC);
+    assertSame(slow, renderService.getHudLayer(HudLayer.SLOW));
+
+    // Static chrome goes beneath slow panels, but above anything already on the stage
+    assertEquals(0, background.getZIndex());
+    assertEquals(1, cachedStatic.getZIndex());
+    assertEquals(2, slow.getZIndex());
+
+    renderService.dispose();
+    assertNull(slow.getStage());
+    assertNull(cachedStatic.getStage());
+  }
+}
@@ -51,6 +51,18 @@ class DocketTest {
         updateAndAssertDocketTexture(remainingTimeSecs, 3);
     }
 
+    @Test
+    void shouldOnlySwapDrawableWhenTimeStateChanges() {
+        docket.setTotalRecipeTime(10);
+        assertFalse(docket.updateDocketTexture(9));
+        assertFalse(docket.updateDocketTexture(8));
+        assertTrue(docket.updateDocketTexture(5));
+        assertFalse(docket.updateDocketTexture(4));
+        assertTrue(docket.updateDocketTexture(2));
+        assertTrue(docket.updateDocketTexture(0));
+        assertFalse(docket.updateDocketTexture(-1));
+    }
+
     private void setRecipeTimeAndUpdate(double remainingTimeSecs, double factor) {
         docket.setTotalRecipeTime((long) (remainingTimeSecs / factor));
         docket.updateDocketTexture(remainingTimeSecs);
@@ -0,0 +1,142 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.components.ScoreSystem.HoverBoxComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.DayNightService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class GpuMemoryTrackerTest {
+  private static final String PRELOADED = "test/files/tree.png";
+  private static final String ON_DEMAND = "test/files/heart.png";
+
+  @BeforeEach
+  void beforeEach() {
+    GpuMemoryTracker.clear();
+  }
+
+  @AfterEach
+  void afterEach() {
+    GpuMemoryTracker.clear();
+  }
+
+  @Test
+  void shouldEstimateBytes() {
+    assertEquals(64L * 32 * 4, GpuMemoryTracker.estimateBytes(64, 32, Pixmap.Format.RGBA8888, false));
+    assertEquals(64L * 32 * 3, GpuMemoryTracker.estimateBytes(64, 32, Pixmap.Format.RGB888, false));
+    assertEquals(64L * 32 * 2, GpuMemoryTracker.estimateBytes(64, 32, Pixmap.Format.RGB565, false));
+    assertEquals(64L * 64 * 4 * 4 / 3,
+        GpuMemoryTracker.estimateBytes(64, 64, Pixmap.Format.RGBA8888, true));
+  }
+
+  @Test
+  void shouldGroupByOwner() {
+    Object first = new Object();
+    Object second = new Object();
+    Object third = new Object();
+    GpuMemoryTracker.track(first, "images/stations", 16, 16, Pixmap.Format.RGBA8888, false);
+    GpuMemoryTracker.track(second, "images/stations", 16, 16, Pixmap.Format.RGBA8888, false);
+    GpuMemoryTracker.track(third, "Renderer", 32, 32, Pixmap.Format.RGBA8888, false);
+    GpuMemoryTracker.track(third, "Renderer", 32, 32, Pixmap.Format.RGBA8888, false);
+
+    assertEquals(3, GpuMemoryTracker.getLiveCount());
+    Map<String, Long> byOwner = GpuMemoryTracker.getBytesByOwner();
+    assertEquals(2L * 16 * 16 * 4, byOwner.get("images/stations"));
+    assertEquals(32L * 32 * 4, byOwner.get("Renderer"));
+    assertTrue(GpuMemoryTracker.report().contains("images/stations: 2 resources"));
+
+    GpuMemoryTracker.untrack(third);
+    assertEquals(2L * 16 * 16 * 4, GpuMemoryTracker.getTotalBytes());
+  }
+
+  @Test
+  void shouldRecordCallSite() {
+    GpuMemoryTracker.setRecordCallSites(true);
+    try {
+      GpuMemoryTracker.track(new Object(), "test", 1, 1, null, false);
+      assertTrue(GpuMemoryTracker.report().contains(GpuMemoryTrackerTest.class.getName()));
+    } finally {
+      GpuMemoryTracker.setRecordCallSites(false);
+    }
+  }
+
+  @Test
+  void shouldTrackResourceServiceTextures() {
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.loadTextures(new String[] {PRELOADED});
+    resourceService.loadAll();
+
+    Texture texture = resourceService.getAsset(PRELOADED, Texture.class);
+    assertTrue(GpuMemoryTracker.isTracked(texture));
+    assertEquals(texture.getWidth() * texture.getHeight() * 4L,
+        GpuMemoryTracker.getBytesByOwner().get("test/files"));
+
+    resourceService.unloadAssets(new String[] {PRELOADED});
+    assertEquals(0, GpuMemoryTracker.getLiveCount());
+  }
+
+  /**
+   * Ends a day through {@link DayNightService}, then disposes the day's entities as the main game
+   * screen does when the end of day display moves on. The screen itself can't be created without a
+   * window, so its teardown is reduced to the entity service, which is where the day's customers
+   * release their textures.
+   */
+  @Test
+  void shouldReturnToBaselineAfterDayTransition() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerRenderService(mock(RenderService.class));
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    ServiceLocator.registerResourceService(resourceService);
+    resourceService.loadTextures(new String[] {PRELOADED});
+    resourceService.loadAll();
+    DayNightService dayNightService = new DayNightService(new EventHandler(), new EventHandler());
+    dayNightService.getEvents().addListener("endOfDay", entityService::dispose);
+
+    int baselineCount = GpuMemoryTracker.getLiveCount();
+    long baselineBytes = GpuMemoryTracker.getTotalBytes();
+
+    // A day of customers: each shows their order above them, then a face once served
+    for (int i = 0; i < 5; i++) {
+      Entity customer = new Entity().addComponent(new HoverBoxComponent(ON_DEMAND));
+      entityService.register(customer);
+    }
+    entityService.getEntities().get(0).getComponent(HoverBoxComponent.class).setTexture(PRELOADED);
+    assertTrue(GpuMemoryTracker.getLiveCount() > baselineCount);
+
+    // The last second of the day passes
+    dayNightService.timeRemaining = 1000;
+    when(gameTime.getTime()).thenReturn(1000L);
+    dayNightService.update();
+    assertTrue(dayNightService.getEndOfDayTriggered());
+
+    assertEquals(0, resourceService.getAcquiredCount());
+    assertEquals(baselineCount, GpuMemoryTracker.getLiveCount());
+    assertEquals(baselineBytes, GpuMemoryTracker.getTotalBytes());
+
+    resourceService.dispose();
+    assertEquals(0, GpuMemoryTracker.getLiveCount());
+  }
+}
@@ -0,0 +1,81 @@
+package com.csse3200.game.rendering;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class RenderScaleControllerTest {
+  private static final float BUDGET = 16f;
+
+  @Test
+  void shouldStayAtNativeWhenUnderBudget() {
+    RenderScaleController controller = new RenderScaleController(BUDGET);
+    feed(controller, 10f, 500);
+    assertEquals(1f, controller.getScale());
+    assertFalse(controller.isOverBudget());
+    assertFalse(controller.shouldSkipNonCriticalTick());
+  }
+
+  @Test
+  void shouldScaleDownWhenOverBudget() {
+    RenderScaleController controller = new RenderScaleController(BUDGET, 0.5f, 1f, 0.25f, 10, 10);
+    feed(controller, 40f, 200);
+    assertTrue(controller.isOverBudget());
+    assertEquals(0.5f, controller.getScale());
+  }
+
+  @Test
+  void shouldNotReactToSingleSpike() {
+    RenderScaleController controller = new RenderScaleController(BUDGET, 0.5f, 1f, 0.25f, 10, 10);
+    feed(controller, 12f, 50);
+    controller.update(100f);
+    feed(controller, 12f, 50);
+    assertEquals(1f, controller.getScale());
+  }
+
+  @Test
+  void shouldNotOscillateInsideHysteresisBand() {
+    RenderScaleController controller = new RenderScaleController(BUDGET, 0.5f, 1f, 0.25f, 10, 10);
+    feed(controller, 40f, 200);
+    assertEquals(0.5f, controller.getScale());
+
+    // Between the scale up and scale down thresholds, nothing changes
+    feed(controller, BUDGET, 500);
+    assertEquals(0.5f, controller.getScale());
+  }
+
+  @Test
+  void shouldRecoverWhenLoadDrops() {
+    RenderScaleController controller = new RenderScaleController(BUDGET, 0.5f, 1f, 0.25f, 10, 20);
+    feed(controller, 40f, 200);
+    assertEquals(0.5f, controller.getScale());
+
+    feed(controller, 5f, 500);
+    assertEquals(1f, controller.getScale());
+    assertFalse(controller.isOverBudget());
+  }
+
+  @Test
+  void shouldReduceNonCriticalTicksWhenOverBudget() {
+    RenderScaleController controller = new RenderScaleController(BUDGET);
+    feed(controller, 40f, 100);
+
+    int ticks = 0;
+    for (int i = 0; i < 40; i++) {
+      controller.update(40f);
+      if (!controller.shouldSkipNonCriticalTick()) {
+        ticks++;
+      }
+    }
+    assertEquals(10, ticks);
+  }
+
+  private static void feed(RenderScaleController controller, float frameTime, int frames) {
+    for (int i = 0; i < frames; i++) {
+      controller.update(frameTime);
+    }
+  }
+}
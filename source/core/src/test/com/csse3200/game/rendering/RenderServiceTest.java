@@ -1,12 +1,24 @@
 package com.csse3200.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainComponent.TerrainOrientation;
+import com.csse3200.game.components.ScoreSystem.HoverBoxComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -79,4 +91,83 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldIgnoreDuplicateRegistration() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable renderable = mock(Renderable.class);
+
+    renderService.register(renderable);
+    renderService.register(renderable);
+    renderService.render(spriteBatch);
+    verify(renderable, times(1)).render(spriteBatch);
+    assertEquals(1, renderService.getDuplicateRegistrationCount());
+
+    // Can be registered again once unregistered
+    renderService.unregister(renderable);
+    renderService.register(renderable);
+    assertEquals(1, renderService.getRegisteredCount());
+    assertEquals(1, renderService.getDuplicateRegistrationCount());
+  }
+
+  @Test
+  void shouldCountDraws() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable renderable1 = mock(Renderable.class);
+    Renderable renderable2 = mock(Renderable.class);
+    when(renderable1.getLayer()).thenReturn(1);
+    when(renderable2.getLayer()).thenReturn(2);
+    renderService.register(renderable1);
+    renderService.register(renderable2);
+
+    renderService.render(spriteBatch);
+    assertEquals(0, renderService.getDrawCount(renderable1));
+
+    renderService.setDrawCounting(true);
+    renderService.render(spriteBatch);
+    renderService.render(spriteBatch);
+    // Counts are for the last frame only
+    assertEquals(1, renderService.getDrawCount(renderable1));
+    assertEquals(1, renderService.getDrawCount(renderable2));
+    assertEquals(Map.of(1, 1, 2, 1), renderService.getDrawCountsByLayer());
+    assertEquals(2, renderService.getDrawCountsByClass().values().stream().mapToInt(i -> i).sum());
+    assertEquals(0, renderService.getOverdrawnCount());
+  }
+
+  @Test
+  void shouldDrawGameAreaEntitiesOnce() {
+    RenderService renderService = new RenderService();
+    renderService.setDrawCounting(true);
+    ServiceLocator.registerRenderService(renderService);
+    ServiceLocator.registerEntityService(new EntityService());
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+
+    // The kinds of renderable spawned by the forest game area: terrain, textured entities and
+    // customers with hover boxes over them
+    TiledMapRenderer mapRenderer = mock(TiledMapRenderer.class);
+    TerrainComponent terrain = new TerrainComponent(mock(OrthographicCamera.class),
+        mock(TiledMap.class), mapRenderer, TerrainOrientation.ORTHOGONAL, 0.5f);
+    ServiceLocator.getEntityService().register(new Entity().addComponent(terrain));
+
+    TextureRenderComponent station = new TextureRenderComponent(mock(Texture.class));
+    ServiceLocator.getEntityService().register(new Entity().addComponent(station));
+
+    TextureRenderComponent customer = new TextureRenderComponent(mock(Texture.class));
+    HoverBoxComponent hoverBox = new HoverBoxComponent(mock(Texture.class));
+    ServiceLocator.getEntityService().register(
+        new Entity().addComponent(customer).addComponent(hoverBox));
+
+    renderService.render(spriteBatch);
+
+    assertEquals(0, renderService.getDuplicateRegistrationCount());
+    assertEquals(4, renderService.getRegisteredCount());
+    assertEquals(0, renderService.getOverdrawnCount());
+    for (RenderComponent component : new RenderComponent[] {terrain, station, customer, hoverBox}) {
+      assertEquals(1, renderService.getDrawCount(component));
+    }
+    verify(mapRenderer, times(1)).render();
+    ServiceLocator.clear();
+  }
 }
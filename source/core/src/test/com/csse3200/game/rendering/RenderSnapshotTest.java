@@ -0,0 +1,129 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class RenderSnapshotTest {
+  private RenderService renderService;
+
+  @BeforeEach
+  void beforeEach() {
+    renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(1f);
+    ServiceLocator.registerTimeSource(gameTime);
+  }
+
+  @Test
+  void shouldCaptureTextureState() {
+    Texture texture = mock(Texture.class);
+    Entity entity = createTextureEntity(texture, 3f, 4f);
+
+    RenderSnapshot snapshot = new RenderSnapshot();
+    renderService.capture(snapshot);
+
+    assertEquals(1, snapshot.size());
+    RenderSnapshot.Entry entry = snapshot.get(0);
+    assertSame(texture, entry.getTexture());
+    assertEquals(3f, entry.getX());
+    assertEquals(4f, entry.getY());
+    assertEquals(entity.getScale().x, entry.getWidth());
+    assertEquals(entity.getScale().y, entry.getHeight());
+    assertEquals(-4f, entry.getZIndex());
+    assertNull(entry.getLive());
+  }
+
+  @Test
+  void shouldDrawSameAsSingleThreadedPath() {
+    Texture texture = mock(Texture.class);
+    createTextureEntity(texture, 1f, 5f);
+    createTextureEntity(texture, 2f, 1f);
+    Renderable live = mock(Renderable.class);
+    when(live.getLayer()).thenReturn(3);
+    renderService.register(live);
+
+    SpriteBatch directBatch = mock(SpriteBatch.class);
+    renderService.render(directBatch);
+
+    RenderStateBuffer buffer = new RenderStateBuffer();
+    buffer.capture(renderService);
+    buffer.swap();
+    SpriteBatch snapshotBatch = mock(SpriteBatch.class);
+    renderService.render(snapshotBatch, buffer.getFront());
+
+    for (SpriteBatch batch : new SpriteBatch[] {directBatch, snapshotBatch}) {
+      InOrder inOrder = inOrder(batch, live);
+      inOrder.verify(batch).draw(texture, 1f, 5f, 1f, 1f);
+      inOrder.verify(batch).draw(texture, 2f, 1f, 1f, 1f);
+      inOrder.verify(live).render(batch);
+    }
+  }
+
+  @Test
+  void shouldAdvanceAnimationOncePerCapture() {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+    Array<AtlasRegion> regions = new Array<>();
+    for (int i = 0; i < 3; i++) {
+      regions.add(mock(AtlasRegion.class));
+    }
+    when(atlas.findRegions("anim")).thenReturn(regions);
+
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    Entity entity = new Entity().addComponent(animator);
+    entity.create();
+    animator.addAnimation("anim", 1f);
+    animator.startAnimation("anim");
+
+    RenderSnapshot snapshot = new RenderSnapshot();
+    for (int i = 0; i < 3; i++) {
+      renderService.capture(snapshot);
+      assertEquals(1, snapshot.size());
+      assertSame(regions.get(i), snapshot.get(0).getRegion());
+    }
+  }
+
+  @Test
+  void shouldSwapBuffers() {
+    RenderStateBuffer buffer = new RenderStateBuffer();
+    RenderSnapshot front = buffer.getFront();
+    RenderSnapshot back = buffer.getBack();
+
+    buffer.swap();
+    assertSame(back, buffer.getFront());
+    assertSame(front, buffer.getBack());
+  }
+
+  @Test
+  void shouldReuseEntriesAfterClear() {
+    RenderSnapshot snapshot = new RenderSnapshot();
+    RenderSnapshot.Entry first = snapshot.add();
+    snapshot.clear();
+
+    assertEquals(0, snapshot.size());
+    assertSame(first, snapshot.add());
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+  }
+
+  private Entity createTextureEntity(Texture texture, float x, float y) {
+    Entity entity = new Entity().addComponent(new TextureRenderComponent(texture));
+    entity.setPosition(x, y);
+    entity.create();
+    return entity;
+  }
+}
@@ -6,7 +6,10 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.csse3200.game.components.CameraComponent;
@@ -87,6 +90,45 @@ class RendererTest {
     verify(renderService).render(spriteBatch);
   }
 
+  @Test
+  void shouldStopRequestingFramesWhenIdle() {
+    CameraComponent cameraComponent = makeCameraEntity(camera);
+    Stage stage = new Stage(new ScreenViewport(), spriteBatch);
+    Renderer renderer =
+        new Renderer(cameraComponent, 10, spriteBatch, stage, renderService, debugRenderer);
+    renderer.setRenderOnDemand(true);
+    verify(graphics).setContinuousRendering(false);
+    verify(graphics, times(1)).requestRendering();
+
+    // Nothing is animating, so rendering a frame shouldn't ask for another
+    for (int i = 0; i < 10; i++) {
+      renderer.render();
+    }
+    verify(graphics, times(1)).requestRendering();
+    assertEquals(10, renderer.getFramesRendered());
+
+    renderer.dispose();
+    verify(graphics).setContinuousRendering(true);
+  }
+
+  @Test
+  void shouldRequestFramesWhileAnimating() {
+    CameraComponent cameraComponent = makeCameraEntity(camera);
+    Stage stage = new Stage(new ScreenViewport(), spriteBatch);
+    Renderer renderer =
+        new Renderer(cameraComponent, 10, spriteBatch, stage, renderService, debugRenderer);
+    renderer.setRenderOnDemand(true);
+
+    Group group = new Group();
+    Actor actor = new Actor();
+    actor.addAction(Actions.moveTo(10f, 10f, 1f));
+    group.addActor(actor);
+    stage.addActor(group);
+
+    renderer.render();
+    verify(graphics, times(2)).requestRendering();
+  }
+
   private static CameraComponent makeCameraEntity(Camera camera) {
     Entity camEntity = new Entity().addComponent(new CameraComponent(camera));
     return camEntity.getComponent(CameraComponent.class);
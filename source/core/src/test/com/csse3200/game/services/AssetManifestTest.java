@@ -0,0 +1,98 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.components.cutscenes.Cutscene;
+import com.csse3200.game.components.cutscenes.MoralDay1Cutscene;
+import com.csse3200.game.components.cutscenes.MoralDay2Cutscene;
+import com.csse3200.game.components.cutscenes.MoralDay3Cutscene;
+import com.csse3200.game.components.cutscenes.MoralDay4Cutscene;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(GameExtension.class)
+class AssetManifestTest {
+  @Test
+  void gameManifestShouldNotDeclareAssetsTwice() {
+    AssetManifest manifest = AssetManifest.read(AssetManifest.DEFAULT_FILE);
+    assertTrue(manifest.getProblems().isEmpty(), manifest.getProblems().toString("\n"));
+    for (String name : manifest.getScopeNames()) {
+      assertTrue(manifest.getScope(name).getAssetNames().length > 0, name + " is empty");
+    }
+  }
+
+  @Test
+  void gameManifestShouldHaveScreenScopes() {
+    AssetManifest manifest = AssetManifest.read(AssetManifest.DEFAULT_FILE);
+    for (String name : new String[] {"mainMenu", "mainGame", "forest", "cutscene"}) {
+      assertTrue(manifest.hasScope(name), name);
+    }
+    for (int day = 1; day <= 4; day++) {
+      assertTrue(manifest.hasScope("moral" + day), "moral" + day);
+    }
+  }
+
+  @Test
+  void moralCutscenesShouldLoadTheirScopes() {
+    ResourceService resourceService = mock(ResourceService.class);
+    ServiceLocator.registerResourceService(resourceService);
+    Cutscene[] cutscenes = {
+        new MoralDay1Cutscene(), new MoralDay2Cutscene(), new MoralDay3Cutscene(), new MoralDay4Cutscene()};
+
+    for (int day = 1; day <= cutscenes.length; day++) {
+      AssetManifest.Scope scope = AssetManifest.get().getScope("moral" + day);
+      assertSame(scope, cutscenes[day - 1].getAssetScope(), "moral" + day);
+      verify(resourceService).loadScope(scope, LoadPriority.CRITICAL);
+    }
+  }
+
+  @Test
+  void shouldIncludeAssetsOfIncludedScopes() {
+    AssetManifest manifest = new AssetManifest(config(
+        scope("common", new String[0], "images/textbox.png"),
+        scope("game", new String[] {"common"}, "images/heart.png")));
+
+    assertArrayEquals(new String[] {"images/textbox.png", "images/heart.png"},
+        manifest.getScope("game").getTextures());
+    assertArrayEquals(new String[] {"images/textbox.png"}, manifest.getScope("common").getTextures());
+    assertTrue(manifest.getProblems().isEmpty());
+  }
+
+  @Test
+  void shouldReportDuplicateAssets() {
+    AssetManifest manifest = new AssetManifest(config(
+        scope("menu", new String[0], "images/heart.png", "images/heart.png"),
+        scope("game", new String[0], "images/heart.png")));
+
+    assertEquals(2, manifest.getProblems().size);
+    assertTrue(manifest.getProblems().get(0).contains("menu twice"));
+    assertTrue(manifest.getProblems().get(1).contains("menu and game"));
+  }
+
+  @Test
+  void shouldReportMissingIncludes() {
+    AssetManifest manifest = new AssetManifest(config(
+        scope("game", new String[] {"missing"}, "images/heart.png")));
+
+    assertEquals(1, manifest.getProblems().size);
+    assertThrows(IllegalArgumentException.class, () -> manifest.getScope("game"));
+    assertThrows(IllegalArgumentException.class, () -> manifest.getScope("other"));
+  }
+
+  private static AssetManifest.Config config(AssetManifest.ScopeConfig... scopes) {
+    AssetManifest.Config config = new AssetManifest.Config();
+    config.scopes = scopes;
+    return config;
+  }
+
+  private static AssetManifest.ScopeConfig scope(String name, String[] includes, String... textures) {
+    AssetManifest.ScopeConfig scope = new AssetManifest.ScopeConfig();
+    scope.name = name;
+    scope.includes = includes;
+    scope.textures = textures;
+    return scope;
+  }
+}
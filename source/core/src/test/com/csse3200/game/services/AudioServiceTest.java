@@ -0,0 +1,292 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class AudioServiceTest {
+  private CountingLoader<Sound> soundLoader;
+  private CountingLoader<Music> musicLoader;
+  private AudioService audioService;
+  private long nextVoiceId;
+
+  @BeforeEach
+  void beforeEach() {
+    AssetManager assetManager = new AssetManager();
+    FileHandleResolver resolver = assetManager.getFileHandleResolver();
+    soundLoader = new CountingLoader<>(resolver, this::mockSound);
+    musicLoader = new CountingLoader<>(resolver, FakeMusic::new);
+    assetManager.setLoader(Sound.class, soundLoader);
+    assetManager.setLoader(Music.class, musicLoader);
+    audioService = new AudioService(new ResourceService(assetManager));
+  }
+
+  @Test
+  void shouldDecodeEachSoundOnce() {
+    audioService.preload("sounds/a.ogg", "sounds/b.ogg");
+    audioService.preload("sounds/a.ogg");
+    for (int i = 0; i < 3; i++) {
+      assertNotEquals(-1, audioService.play("sounds/a.ogg"));
+      assertNotEquals(-1, audioService.play("sounds/b.ogg", 0.5f));
+    }
+
+    assertEquals(2, soundLoader.loads);
+    assertEquals(2, audioService.getLoadedSoundCount());
+  }
+
+  @Test
+  void shouldLoadSoundsWhichWereNotPreloaded() {
+    assertNotEquals(-1, audioService.play("sounds/a.ogg"));
+    audioService.preload("sounds/a.ogg");
+    audioService.play("sounds/a.ogg");
+    assertEquals(1, soundLoader.loads);
+  }
+
+  @Test
+  void shouldStopOldestVoiceOfSound() {
+    audioService.setVoiceLimit("sounds/a.ogg", 2);
+    long first = audioService.play("sounds/a.ogg");
+    long second = audioService.play("sounds/a.ogg");
+    audioService.play("sounds/a.ogg");
+
+    Sound sound = soundLoader.get("sounds/a.ogg");
+    verify(sound).stop(first);
+    verify(sound, never()).stop(second);
+    assertEquals(2, audioService.getVoiceCount("sounds/a.ogg"));
+    assertEquals(1, audioService.getStolenVoices());
+  }
+
+  @Test
+  void shouldStopOldestVoiceOverall() {
+    audioService.setMaxVoices(3);
+    long first = audioService.play("sounds/a.ogg");
+    audioService.play("sounds/b.ogg");
+    audioService.play("sounds/a.ogg");
+    audioService.play("sounds/b.ogg");
+
+    verify(soundLoader.get("sounds/a.ogg")).stop(first);
+    assertEquals(3, audioService.getVoiceCount());
+    assertEquals(1, audioService.getVoiceCount("sounds/a.ogg"));
+  }
+
+  @Test
+  void shouldForgetFinishedVoices() {
+    AssetManager assetManager = new AssetManager();
+    soundLoader = new CountingLoader<>(assetManager.getFileHandleResolver(), () -> timedSound(1f));
+    assetManager.setLoader(Sound.class, soundLoader);
+    audioService = new AudioService(new ResourceService(assetManager));
+    assertEquals(1f, AudioService.getDuration(timedSound(1f)));
+
+    audioService.setVoiceLimit("sounds/a.ogg", 2);
+    long first = audioService.play("sounds/a.ogg");
+    audioService.play("sounds/a.ogg");
+    audioService.update(1.5f);
+    assertEquals(0, audioService.getVoiceCount());
+
+    // Both earlier voices have finished, so there is nothing to stop
+    audioService.play("sounds/a.ogg");
+    audioService.play("sounds/a.ogg");
+    verify(soundLoader.get("sounds/a.ogg"), never()).stop(first);
+    assertEquals(2, audioService.getVoiceCount("sounds/a.ogg"));
+    assertEquals(0, audioService.getStolenVoices());
+
+    audioService.play("sounds/a.ogg");
+    assertEquals(1, audioService.getStolenVoices());
+  }
+
+  @Test
+  void shouldCrossfadeMusic() {
+    audioService.playMusic("sounds/first.mp3", 0.5f, 1f);
+    FakeMusic first = (FakeMusic) musicLoader.get("sounds/first.mp3");
+    assertTrue(first.isPlaying());
+    assertTrue(first.isLooping());
+    audioService.update(0.5f);
+    assertEquals(0.25f, first.getVolume(), 0.001f);
+    audioService.update(0.5f);
+    assertEquals(0.5f, first.getVolume(), 0.001f);
+
+    audioService.playMusic("sounds/second.mp3", 0.4f, 1f);
+    FakeMusic second = (FakeMusic) musicLoader.get("sounds/second.mp3");
+    audioService.update(0.5f);
+    assertEquals(0.25f, first.getVolume(), 0.001f);
+    assertEquals(0.2f, second.getVolume(), 0.001f);
+    audioService.update(0.5f);
+    assertFalse(first.isPlaying());
+    assertEquals(0.4f, second.getVolume(), 0.001f);
+    assertEquals("sounds/second.mp3", audioService.getMusicId());
+  }
+
+  @Test
+  void shouldStopMusic() {
+    audioService.playMusic("sounds/first.mp3", 0.5f, 0f);
+    FakeMusic music = (FakeMusic) musicLoader.get("sounds/first.mp3");
+    assertEquals(0.5f, music.getVolume(), 0.001f);
+
+    audioService.stopMusic(0f);
+    assertFalse(music.isPlaying());
+    assertNull(audioService.getMusicId());
+
+    // Playing it again reuses the loaded track
+    audioService.playMusic("sounds/first.mp3", 0.5f, 0f);
+    assertTrue(music.isPlaying());
+    assertEquals(1, musicLoader.loads);
+  }
+
+  @Test
+  void shouldBeBusyUntilFadesAndPreloadsFinish() {
+    assertFalse(audioService.isBusy());
+    audioService.preload("sounds/a.ogg");
+    assertTrue(audioService.isBusy());
+    audioService.update(0f);
+    assertFalse(audioService.isBusy());
+
+    audioService.playMusic("sounds/first.mp3", 0.5f, 1f);
+    assertTrue(audioService.isBusy());
+    audioService.update(1f);
+    assertFalse(audioService.isBusy());
+
+    audioService.stopMusic(1f);
+    assertTrue(audioService.isBusy());
+    audioService.update(1f);
+    assertFalse(audioService.isBusy());
+  }
+
+  private Sound mockSound() {
+    Sound sound = mock(Sound.class);
+    when(sound.play(anyFloat())).thenAnswer(invocation -> nextVoiceId++);
+    return sound;
+  }
+
+  private Sound timedSound(float seconds) {
+    TimedSound sound = mock(TimedSound.class);
+    when(sound.play(anyFloat())).thenAnswer(invocation -> nextVoiceId++);
+    when(sound.duration()).thenReturn(seconds);
+    return sound;
+  }
+
+  /** Sound which gives its length, as the desktop backend's sounds do. */
+  public abstract static class TimedSound implements Sound {
+    public abstract float duration();
+  }
+
+  /** Loader which counts the assets it loads, instead of decoding audio files. */
+  static class CountingLoader<T> extends SynchronousAssetLoader<T, AssetLoaderParameters<T>> {
+    private final Supplier<T> factory;
+    private final ObjectMap<String, T> loaded = new ObjectMap<>();
+    private int loads;
+
+    CountingLoader(FileHandleResolver resolver, Supplier<T> factory) {
+      super(resolver);
+      this.factory = factory;
+    }
+
+    T get(String fileName) {
+      return loaded.get(fileName);
+    }
+
+    @Override
+    public T load(AssetManager assetManager, String fileName, FileHandle file,
+        AssetLoaderParameters<T> parameter) {
+      loads++;
+      T asset = factory.get();
+      loaded.put(fileName, asset);
+      return asset;
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+        AssetLoaderParameters<T> parameter) {
+      return null;
+    }
+  }
+
+  /** Music track which only keeps its state, so fades can be checked. */
+  static class FakeMusic implements Music {
+    private boolean playing;
+    private boolean looping;
+    private float volume = 1f;
+
+    @Override
+    public void play() {
+      playing = true;
+    }
+
+    @Override
+    public void pause() {
+      playing = false;
+    }
+
+    @Override
+    public void stop() {
+      playing = false;
+    }
+
+    @Override
+    public boolean isPlaying() {
+      return playing;
+    }
+
+    @Override
+    public void setLooping(boolean isLooping) {
+      looping = isLooping;
+    }
+
+    @Override
+    public boolean isLooping() {
+      return looping;
+    }
+
+    @Override
+    public void setVolume(float volume) {
+      this.volume = volume;
+    }
+
+    @Override
+    public float getVolume() {
+      return volume;
+    }
+
+    @Override
+    public void setPan(float pan, float volume) {
+      this.volume = volume;
+    }
+
+    @Override
+    public void setPosition(float position) {
+    }
+
+    @Override
+    public float getPosition() {
+      return 0;
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void setOnCompletionListener(OnCompletionListener listener) {
+    }
+  }
+}
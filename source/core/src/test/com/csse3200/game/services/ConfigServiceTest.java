@@ -0,0 +1,66 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.entities.configs.NPCConfigs;
+import com.csse3200.game.entities.configs.PlayerConfig;
+import com.csse3200.game.entities.configs.RecipeBook;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ConfigServiceTest {
+  @Test
+  void shouldParseEachFileOnce() {
+    ConfigService configService = new ConfigService();
+    NPCConfigs npcs = configService.getNPCs();
+    assertNotNull(npcs);
+    assertSame(npcs, configService.getNPCs());
+    assertSame(npcs, configService.get(NPCConfigs.class, ConfigService.NPCS_FILE));
+
+    Map<String, Long> parseTimes = configService.getParseTimes();
+    assertEquals(1, parseTimes.size());
+    assertTrue(parseTimes.containsKey(ConfigService.NPCS_FILE));
+  }
+
+  @Test
+  void shouldReportParseTimesInOrder() {
+    ConfigService configService = new ConfigService();
+    configService.getPlayer();
+    configService.getRecipes();
+    configService.getStationItems();
+
+    assertArrayEquals(new String[] {ConfigService.PLAYER_FILE, ConfigService.RECIPES_FILE,
+        ConfigService.STATIONS_FILE}, configService.getParseTimes().keySet().toArray());
+  }
+
+  @Test
+  void shouldNotReadFileAsAnotherType() {
+    ConfigService configService = new ConfigService();
+    configService.getPlayer();
+    assertThrows(IllegalArgumentException.class,
+        () -> configService.get(NPCConfigs.class, ConfigService.PLAYER_FILE));
+    assertNotNull(configService.get(PlayerConfig.class, ConfigService.PLAYER_FILE));
+  }
+
+  @Test
+  void shouldLookUpRecipeIngredients() {
+    RecipeBook recipes = new ConfigService().getRecipes();
+    assertEquals(Set.of("acai", "banana"), recipes.getIngredients("acaiBowl"));
+    assertEquals(Set.of("tomato", "cucumber", "lettuce"), recipes.getIngredients("salad"));
+    assertTrue(recipes.getIngredients("missing").isEmpty());
+    assertEquals(5, recipes.getRecipes().size());
+    assertThrows(UnsupportedOperationException.class, () -> recipes.getRecipes().clear());
+  }
+
+  @Test
+  void shouldHaveNoRecipesWithoutConfig() {
+    RecipeBook recipes = new RecipeBook(null);
+    assertTrue(recipes.isEmpty());
+    assertTrue(recipes.getIngredients("salad").isEmpty());
+  }
+}
@@ -93,6 +93,21 @@ public class DayNightServiceTest {
         Assertions.assertTrue(disposeTriggered.get(), "Dispose not triggered");
         Assertions.assertTrue(endOfDayTriggered.get(), "endOfDay not triggered");
         Assertions.assertTrue(dayNightService.getEndOfDayTriggered(), "End of day not triggered in service");
+        Assertions.assertEquals(1f, dayNightService.getDayProgress());
+    }
+
+    @Test
+    public void testDayProgressMovesBetweenSeconds() {
+        Assertions.assertEquals(0f, dayNightService.getDayProgress());
+
+        when(gameTime.getTime()).thenReturn(500L);
+        Assertions.assertEquals(500f / dayNightService.FIVE_MINUTES, dayNightService.getDayProgress());
+
+        when(gameTime.getTime()).thenReturn(1000L);
+        dayNightService.update();
+        enddayEventHandler.trigger("callpastsecond");
+        when(gameTime.getTime()).thenReturn(1500L);
+        Assertions.assertEquals(1500f / dayNightService.FIVE_MINUTES, dayNightService.getDayProgress());
     }
 
 //    @Test
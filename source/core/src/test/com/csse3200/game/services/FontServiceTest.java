@@ -0,0 +1,73 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class FontServiceTest {
+  private static final String FACE = "flat-earth/skin/fonts/Tiny5-Regular.ttf";
+  private FreeTypeFontGenerator generator;
+  private Function<FileHandle, FreeTypeFontGenerator> factory;
+  private FontService fontService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void beforeEach() {
+    generator = mock(FreeTypeFontGenerator.class);
+    when(generator.generateFont(any(FreeTypeFontParameter.class)))
+        .thenAnswer(invocation -> mock(BitmapFont.class));
+    factory = mock(Function.class);
+    when(factory.apply(any())).thenReturn(generator);
+    fontService = new FontService(factory);
+  }
+
+  @Test
+  void shouldReturnSameInstanceForSameRequest() {
+    BitmapFont font = fontService.getFont(FACE, 32);
+    assertSame(font, fontService.getFont(FACE, 32));
+    assertEquals(1, fontService.getFontCount());
+    verify(generator, times(1)).generateFont(any(FreeTypeFontParameter.class));
+  }
+
+  @Test
+  void shouldShareGeneratorBetweenSizes() {
+    BitmapFont small = fontService.getFont(FACE, 16);
+    BitmapFont large = fontService.getFont(FACE, 300);
+    assertNotSame(small, large);
+    assertEquals(2, fontService.getFontCount());
+    verify(factory, times(1)).apply(any());
+  }
+
+  @Test
+  void shouldGenerateIncrementally() {
+    fontService.getFont(FACE, 300, 1.8f);
+    ArgumentCaptor<FreeTypeFontParameter> captor =
+        ArgumentCaptor.forClass(FreeTypeFontParameter.class);
+    verify(generator).generateFont(captor.capture());
+    assertTrue(captor.getValue().incremental);
+    assertEquals(300, captor.getValue().size);
+    assertEquals(1.8f, captor.getValue().gamma);
+  }
+
+  @Test
+  void shouldDisposeFontsAndGenerators() {
+    BitmapFont font = fontService.getFont(FACE, 32);
+    fontService.dispose();
+    verify(font).dispose();
+    verify(generator).dispose();
+    assertEquals(0, fontService.getFontCount());
+  }
+}
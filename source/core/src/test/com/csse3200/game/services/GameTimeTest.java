@@ -8,7 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(GameExtension.class)
@@ -46,6 +48,20 @@ class GameTimeTest {
     shouldScale(0f, 0f, 10f);
   }
 
+  @Test
+  void shouldAdvanceAnimationTimeOncePerFrame() {
+    GameTime time = spy(gameTime);
+    // Game time doesn't move between the first two frames, e.g. while paused
+    doReturn(1000L, 1000L, 3000L).when(time).getTime();
+    when(Gdx.graphics.getFrameId()).thenReturn(1L, 1L, 2L, 3L);
+
+    assertEquals(1f, time.getAnimationTime());
+    assertEquals(1f, time.getAnimationTime());
+    assertEquals(1f, time.getAnimationTime());
+    time.setTimeScale(0.5f);
+    assertEquals(2f, time.getAnimationTime());
+  }
+
   private void shouldScale(float scale, float delta, float rawDelta) {
     gameTime.setTimeScale(scale);
     assertEquals(delta, gameTime.getDeltaTime());
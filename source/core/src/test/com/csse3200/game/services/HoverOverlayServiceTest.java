@@ -0,0 +1,100 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class HoverOverlayServiceTest {
+  private ResourceService resourceService;
+  private HoverOverlayService overlay;
+
+  @BeforeEach
+  void beforeEach() {
+    resourceService = mock(ResourceService.class);
+    when(resourceService.acquire(anyString())).thenAnswer(
+        invocation -> new TextureHandle(invocation.getArgument(0), mock(Texture.class)));
+    ServiceLocator.registerResourceService(resourceService);
+    overlay = new HoverOverlayService();
+  }
+
+  @Test
+  void shouldShareTexturesBetweenProviders() {
+    Texture first = overlay.getTexture("images/inventory_ui/take_key.png");
+    Texture second = overlay.getTexture("images/inventory_ui/take_key.png");
+
+    assertSame(first, second);
+    verify(resourceService, times(1)).acquire("images/inventory_ui/take_key.png");
+
+    overlay.dispose();
+    verify(resourceService, times(1)).release(any(TextureHandle.class));
+  }
+
+  @Test
+  void shouldOnlyDrawFocusedTooltips() {
+    HoverProvider focused = createProvider(1f, 1f);
+    HoverProvider other = createProvider(5f, 1f);
+    SpriteBatch batch = mock(SpriteBatch.class);
+
+    overlay.focus(other);
+    overlay.focus(focused);
+    // A stale hide from the previously focused provider is ignored
+    overlay.unfocus(other);
+    overlay.render(batch);
+
+    assertSame(focused, overlay.getFocused());
+    verify(focused).drawToolTips(batch);
+    verify(other, never()).drawToolTips(batch);
+
+    overlay.unfocus(focused);
+    overlay.render(batch);
+    verify(focused, times(1)).drawToolTips(batch);
+  }
+
+  @Test
+  void shouldOnlyDrawPreviewsForProvidersWithItems() {
+    Texture item = mock(Texture.class);
+    HoverProvider occupied = createProvider(1f, 1f);
+    SpriteBatch batch = mock(SpriteBatch.class);
+
+    overlay.setPreview(occupied, List.of(item));
+    for (int i = 0; i < 20; i++) {
+      overlay.setPreview(createProvider(i, 2f), Collections.emptyList());
+    }
+    assertEquals(1, overlay.getPreviewCount());
+
+    overlay.render(batch);
+    // One background and one item
+    verify(batch, times(2)).draw(any(Texture.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    verify(batch).draw(eq(item), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+
+  @Test
+  void shouldForgetRemovedProviders() {
+    HoverProvider provider = createProvider(1f, 1f);
+    overlay.setPreview(provider, List.of(mock(Texture.class)));
+    overlay.focus(provider);
+
+    overlay.remove(provider);
+
+    assertEquals(0, overlay.getPreviewCount());
+    assertNull(overlay.getFocused());
+  }
+
+  private static HoverProvider createProvider(float x, float y) {
+    HoverProvider provider = mock(HoverProvider.class);
+    when(provider.getHoverPosition()).thenReturn(new Vector2(x, y));
+    return provider;
+  }
+}
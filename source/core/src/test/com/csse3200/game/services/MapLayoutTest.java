@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.areas.map.BenchGenerator;
+import com.csse3200.game.areas.map.CompiledMap;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.station.*;
@@ -21,9 +22,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -96,6 +102,7 @@ class MapLayoutTest {
     void testLoad() {
         when(mapLayoutSpy.parseLine(any(String[].class), anyInt(), anyInt())).thenReturn(new ArrayList<>());
 
+        mapLayoutSpy.setUseCompiledMaps(false);
         mapLayoutSpy.load(GdxGame.LevelType.LEVEL_1);
 
         assertEquals("Level 1", mapLayoutSpy.getMapName());
@@ -107,6 +114,46 @@ class MapLayoutTest {
         verify(mapLayoutSpy).parseLine("X09 Y02 Y97".split(""), 4, 8);
     }
 
+    @Test
+    void compiledMapsShouldPlaceSameEntitiesAsText(@TempDir Path compiledDir) throws IOException {
+        for (GdxGame.LevelType level : GdxGame.LevelType.values()) {
+            String textFile = MapLayout.getMapFile(level);
+            Path compiledFile = compiledDir.resolve(level + CompiledMap.EXTENSION);
+            CompiledMap.compile(Path.of(textFile), compiledFile);
+
+            MapLayout textLayout = spy(new MapLayout());
+            List<String> textPlacements = recordPlacements(textLayout);
+            textLayout.loadText(textFile);
+
+            MapLayout compiledLayout = spy(new MapLayout());
+            List<String> compiledPlacements = recordPlacements(compiledLayout);
+            assertTrue(compiledLayout.loadCompiled(compiledFile.toString()));
+
+            assertFalse(textPlacements.isEmpty(), textFile);
+            assertEquals(textPlacements, compiledPlacements, textFile);
+            assertEquals(textLayout.getMapName(), compiledLayout.getMapName());
+            assertEquals(textLayout.getMapWidth(), compiledLayout.getMapWidth());
+            assertEquals(textLayout.getMapHeight(), compiledLayout.getMapHeight());
+        }
+    }
+
+    @Test
+    void shouldNotLoadInvalidCompiledMap(@TempDir Path compiledDir) {
+        assertFalse(mapLayoutSpy.loadCompiled(compiledDir.resolve("missing.map").toString()));
+        assertEquals("images/map/map_one.map", CompiledMap.getCompiledPath("images/map/map_one.txt"));
+    }
+
+    /** Records where a layout places benches and stations, instead of creating them. */
+    private static List<String> recordPlacements(MapLayout layout) {
+        List<String> placements = new ArrayList<>();
+        doAnswer(invocation -> {
+            placements.add(invocation.getArgument(0) + " at column " + invocation.getArgument(1)
+                    + ", row " + invocation.getArgument(3) + ", length " + invocation.getArgument(2));
+            return new ArrayList<>();
+        }).when(layout).place(anyChar(), anyInt(), anyInt(), anyInt());
+        return placements;
+    }
+
     @Test
     void validateStations() {
         for (String station : validStations) {
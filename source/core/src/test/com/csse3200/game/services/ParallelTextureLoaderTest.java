@@ -0,0 +1,169 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ParallelTextureLoaderTest {
+  private static final Logger logger = LoggerFactory.getLogger(ParallelTextureLoaderTest.class);
+  private static final String TREE = "test/files/tree.png";
+  private static final String HEART = "test/files/heart.png";
+  private static final int BENCHMARK_IMAGES = 40;
+
+  @Test
+  void shouldDecodeQueuedTexturesAhead() {
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    ParallelTextureLoader loader = resourceService.getTextureLoader();
+
+    resourceService.loadTextures(new String[] {TREE, HEART});
+    assertEquals(2, loader.getDecodesAhead());
+
+    resourceService.loadAll();
+    assertEquals(0, loader.getDecodesAhead());
+    assertTrue(resourceService.containsAsset(TREE, Texture.class));
+    assertTrue(resourceService.containsAsset(HEART, Texture.class));
+    assertTrue(loader.getDecodedBytes() > 0);
+
+    // Already loaded textures aren't decoded again
+    resourceService.loadTextures(new String[] {TREE});
+    assertEquals(0, loader.getDecodesAhead());
+  }
+
+  @Test
+  void shouldLimitDecodesAhead() {
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    ParallelTextureLoader loader = resourceService.getTextureLoader();
+    loader.setMaxDecodesAhead(1);
+
+    resourceService.loadTextures(new String[] {TREE, HEART});
+    assertEquals(1, loader.getDecodesAhead());
+
+    resourceService.loadAll();
+    assertTrue(resourceService.containsAsset(TREE, Texture.class));
+    assertTrue(resourceService.containsAsset(HEART, Texture.class));
+  }
+
+  @Test
+  void shouldDropDecodesOfUnloadedTextures() {
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    ParallelTextureLoader loader = resourceService.getTextureLoader();
+
+    resourceService.loadTextures(new String[] {TREE});
+    resourceService.unloadAssets(new String[] {TREE});
+    assertEquals(0, loader.getDecodesAhead());
+  }
+
+  @Test
+  void shouldLoadAtlasPages() {
+    String atlas = "test/files/test.atlas";
+    ResourceService resourceService = new ResourceService(new AssetManager());
+
+    ParallelTextureLoader loader = resourceService.getTextureLoader();
+
+    resourceService.loadTextureAtlases(new String[] {atlas});
+    loader.awaitAtlasPages();
+    assertEquals(1, loader.getDecodesAhead());
+
+    resourceService.loadAll();
+    assertTrue(resourceService.containsAsset(atlas, TextureAtlas.class));
+    assertEquals(0, loader.getDecodesAhead());
+
+    resourceService.clearAllAssets();
+    assertEquals(0, loader.getDecodesAhead());
+  }
+
+  @Test
+  void shouldDropAtlasPagesFoundAfterClear() {
+    String atlas = "test/files/test.atlas";
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    ParallelTextureLoader loader = resourceService.getTextureLoader();
+
+    // Whether the pages are found before or after the clear, none are left decoded ahead
+    loader.decodeAtlasPages(atlas);
+    loader.clear();
+    loader.awaitAtlasPages();
+    assertEquals(0, loader.getDecodesAhead());
+
+    loader.decodeAtlasPages(atlas);
+    loader.cancel(atlas);
+    loader.awaitAtlasPages();
+    assertEquals(0, loader.getDecodesAhead());
+  }
+
+  @Test
+  void shouldStopAtUploadBudget() {
+    AssetManager assetManager = new AssetManager();
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setUploadBudgetBytes(1);
+
+    resourceService.loadTextures(new String[] {TREE, HEART});
+    assertFalse(resourceService.loadForMillis(10000));
+    assertTrue(assetManager.isLoaded(TREE, Texture.class));
+    assertFalse(assetManager.isLoaded(HEART, Texture.class));
+
+    assertTrue(resourceService.loadForMillis(10000));
+    assertTrue(assetManager.isLoaded(HEART, Texture.class));
+  }
+
+  /**
+   * Loads the same images with libGDX's texture loader and with the parallel one, and reports the
+   * decode throughput of each. GL is mocked, so this is almost entirely decoding.
+   */
+  @Test
+  void shouldReportDecodeThroughput() {
+    String[] images = findImages();
+    assertTrue(images.length > 0);
+
+    AssetManager serialManager = new AssetManager();
+    long serialStart = System.nanoTime();
+    for (String image : images) {
+      serialManager.load(image, Texture.class);
+    }
+    serialManager.finishLoading();
+    long serialNanos = System.nanoTime() - serialStart;
+
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    long parallelStart = System.nanoTime();
+    resourceService.loadTextures(images);
+    resourceService.loadAll();
+    long parallelNanos = System.nanoTime() - parallelStart;
+
+    for (String image : images) {
+      assertTrue(serialManager.isLoaded(image, Texture.class));
+      assertTrue(resourceService.containsAsset(image, Texture.class));
+    }
+    long bytes = resourceService.getTextureLoader().getDecodedBytes();
+    logger.info("Decoded {} images ({} MB) on {} cores: serial {} MB/s, parallel {} MB/s",
+        images.length, bytes / (1024 * 1024), Runtime.getRuntime().availableProcessors(),
+        megabytesPerSecond(bytes, serialNanos), megabytesPerSecond(bytes, parallelNanos));
+
+    serialManager.dispose();
+    resourceService.dispose();
+  }
+
+  private static String[] findImages() {
+    Array<String> images = new Array<>(String.class);
+    for (FileHandle file : Gdx.files.internal("images").list(".png")) {
+      if (images.size == BENCHMARK_IMAGES) {
+        break;
+      }
+      images.add(file.path());
+    }
+    return images.toArray();
+  }
+
+  private static long megabytesPerSecond(long bytes, long nanos) {
+    return bytes * 1_000_000_000L / Math.max(1, nanos) / (1024 * 1024);
+  }
+}
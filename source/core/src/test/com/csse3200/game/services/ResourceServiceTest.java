@@ -1,23 +1,35 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
 class ResourceServiceTest {
+  private static final String TREE = "test/files/tree.png";
+
   @Test
   void loadAllShouldLoadUnloadAssets() {
     String texture1 = "test/files/tree.png";
@@ -147,4 +159,377 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
   }
 
+  @Test
+  void shouldShareAcquiredTextures() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setStrictRefCounting(true);
+
+    TextureHandle first = resourceService.acquire(texture);
+    TextureHandle second = resourceService.acquire(texture);
+    assertSame(first.getTexture(), second.getTexture());
+    assertEquals(2, resourceService.getRefCount(texture));
+    verify(assetManager, times(1)).load(texture, Texture.class);
+
+    resourceService.release(first);
+    assertTrue(assetManager.isLoaded(texture, Texture.class));
+    resourceService.release(second);
+    assertEquals(0, resourceService.getAcquiredCount());
+    assertFalse(assetManager.isLoaded(texture, Texture.class));
+  }
+
+  @Test
+  void shouldNotUnloadPreloadedTextures() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {texture});
+    resourceService.loadAll();
+
+    TextureHandle handle = resourceService.acquire(texture);
+    assertSame(resourceService.getAsset(texture, Texture.class), handle.getTexture());
+    resourceService.release(handle);
+
+    verify(assetManager, never()).unload(texture);
+    assertTrue(assetManager.isLoaded(texture, Texture.class));
+  }
+
+  @Test
+  void shouldFailOnUnbalancedReleaseWhenStrict() {
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setStrictRefCounting(true);
+
+    TextureHandle handle = resourceService.acquire("test/files/tree.png");
+    TextureHandle other = resourceService.acquire("test/files/tree.png");
+    resourceService.release(handle);
+    assertThrows(IllegalStateException.class, () -> resourceService.release(handle));
+    assertEquals(1, resourceService.getRefCount("test/files/tree.png"));
+    resourceService.release(other);
+  }
+
+  @Test
+  void shouldLogUnbalancedReleaseByDefault() {
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    TextureHandle handle = resourceService.acquire("test/files/tree.png");
+    resourceService.release(handle);
+    assertDoesNotThrow(() -> resourceService.release(handle));
+    assertEquals(0, resourceService.getAcquiredCount());
+  }
+
+  @Test
+  void shouldLoadAcquiredTexturesInBackground() {
+    AssetManager assetManager = new AssetManager();
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    TextureHandle handle = resourceService.acquire(TREE);
+    assertFalse(handle.isLoaded());
+    assertEquals(1, resourceService.getTextureMisses());
+    while (!resourceService.update()) {
+      ;
+    }
+    assertTrue(handle.isLoaded());
+    assertSame(assetManager.get(TREE, Texture.class), handle.getTexture());
+
+    // Released before it was needed, so it is unloaded without being waited for
+    TextureHandle unused = resourceService.acquire("test/files/heart.png");
+    resourceService.release(unused);
+    assertFalse(assetManager.contains("test/files/heart.png"));
+    resourceService.release(handle);
+  }
+
+  @Test
+  void shouldKeepReleasedTexturesWithinBudget() {
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setResidencyBudgetBytes(Long.MAX_VALUE);
+
+    TextureHandle handle = resourceService.acquire(TREE);
+    handle.getTexture();
+    resourceService.release(handle);
+    assertTrue(assetManager.isLoaded(TREE, Texture.class));
+    assertEquals(0, resourceService.getRefCount(TREE));
+    assertTrue(resourceService.getResidentTextureBytes() > 0);
+
+    TextureHandle again = resourceService.acquire(TREE);
+    assertTrue(again.isLoaded());
+    verify(assetManager, times(1)).load(TREE, Texture.class);
+    assertEquals(1, resourceService.getTextureHits());
+    assertEquals(1, resourceService.getTextureMisses());
+
+    // Textures with handles are never evicted
+    resourceService.setResidencyBudgetBytes(1);
+    assertTrue(assetManager.isLoaded(TREE, Texture.class));
+    resourceService.release(again);
+    assertFalse(assetManager.isLoaded(TREE, Texture.class));
+    assertEquals(1, resourceService.getTextureEvictions());
+    assertEquals(0, resourceService.getResidentTextureBytes());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedTextures() {
+    String heart = "test/files/heart.png";
+    AssetManager assetManager = new AssetManager();
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setResidencyBudgetBytes(Long.MAX_VALUE);
+
+    TextureHandle tree = resourceService.acquire(TREE);
+    tree.getTexture();
+    long treeBytes = resourceService.getResidentTextureBytes();
+    TextureHandle other = resourceService.acquire(heart);
+    other.getTexture();
+    resourceService.release(tree);
+    resourceService.release(other);
+
+    // Using the tree again makes the heart the least recently used
+    resourceService.release(resourceService.acquire(TREE));
+    resourceService.setResidencyBudgetBytes(treeBytes);
+    assertTrue(assetManager.isLoaded(TREE, Texture.class));
+    assertFalse(assetManager.isLoaded(heart, Texture.class));
+    assertEquals(1, resourceService.getTextureEvictions());
+
+    // An evicted texture is loaded again on its next acquire
+    TextureHandle reloaded = resourceService.acquire(heart);
+    assertNotNull(reloaded.getTexture());
+    assertEquals(3, resourceService.getTextureMisses());
+    resourceService.release(reloaded);
+  }
+
+  @Test
+  void shouldCompleteRequestsOnceLoaded() {
+    String[] textures = {"test/files/tree.png", "test/files/heart.png"};
+    ResourceService resourceService = new ResourceService(new AssetManager());
+
+    CompletableFuture<Void> loaded = resourceService.load(textures, Texture.class, LoadPriority.SOON);
+    assertFalse(loaded.isDone());
+    assertTrue(resourceService.isLoading(LoadPriority.SOON));
+    assertFalse(resourceService.isLoading(LoadPriority.CRITICAL));
+
+    while (!resourceService.update()) {
+      ;
+    }
+    assertTrue(loaded.isDone());
+    assertFalse(loaded.isCompletedExceptionally());
+    assertTrue(resourceService.containsAsset(textures[0], Texture.class));
+
+    // Requests for assets which are already loaded complete straight away
+    assertTrue(resourceService.load(textures, Texture.class, LoadPriority.BACKGROUND).isDone());
+  }
+
+  @Test
+  void shouldFailRequestsForMissingAssets() {
+    String[] textures = {"test/files/tree.png", "test/files/missing.png"};
+    ResourceService resourceService = new ResourceService(new AssetManager());
+
+    CompletableFuture<Void> loaded =
+        resourceService.load(textures, Texture.class, LoadPriority.CRITICAL);
+    while (!resourceService.update()) {
+      ;
+    }
+    assertTrue(loaded.isCompletedExceptionally());
+  }
+
+  @Test
+  void shouldHoldBackLowerPriorities() {
+    String critical = "test/files/tree.png";
+    String background = "test/files/heart.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.load(new String[] {background}, Texture.class, LoadPriority.BACKGROUND);
+    resourceService.load(new String[] {critical}, Texture.class, LoadPriority.CRITICAL);
+    verify(assetManager).load(critical, Texture.class);
+    verify(assetManager, never()).load(eq(background), eq(Texture.class));
+
+    resourceService.finishLoading(critical);
+    assertTrue(assetManager.isLoaded(critical, Texture.class));
+    verify(assetManager, never()).load(eq(background), eq(Texture.class));
+
+    while (!resourceService.update()) {
+      ;
+    }
+    assertTrue(assetManager.isLoaded(background, Texture.class));
+  }
+
+  @Test
+  void shouldFinishWaitingRequestsOnDemand() {
+    String texture = "test/files/tree.png";
+    ResourceService resourceService = new ResourceService(new AssetManager());
+
+    CompletableFuture<Void> loaded =
+        resourceService.load(new String[] {texture}, Texture.class, LoadPriority.BACKGROUND);
+    resourceService.finishLoading(texture);
+    assertTrue(loaded.isDone());
+    assertTrue(resourceService.containsAsset(texture, Texture.class));
+  }
+
+  @Test
+  void shouldKeepFramesWithinBudgetWhileStreaming() {
+    AssetManager assetManager = new AssetManager();
+    SlowAssetLoader loader = new SlowAssetLoader(assetManager.getFileHandleResolver());
+    assetManager.setLoader(SlowAsset.class, loader);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setFrameBudgetMillis(2);
+    // Timed by the loader, so the test doesn't depend on how fast the machine is
+    resourceService.setClock(() -> loader.time);
+
+    String[] assets = new String[30];
+    for (int i = 0; i < assets.length; i++) {
+      assets[i] = "slow" + i;
+    }
+    CompletableFuture<Void> loaded = resourceService.load(assets, SlowAsset.class, LoadPriority.SOON);
+
+    int frames = 0;
+    int mostLoadedInFrame = 0;
+    boolean finished = false;
+    while (!finished) {
+      int loadedBefore = loader.loads;
+      finished = resourceService.update();
+      mostLoadedInFrame = Math.max(mostLoadedInFrame, loader.loads - loadedBefore);
+      frames++;
+    }
+
+    assertTrue(loaded.isDone());
+    assertEquals(assets.length, loader.loads);
+    // Each asset takes 1ms, so a frame can start loading one more after its 2ms are up but no more
+    assertEquals(3, mostLoadedInFrame);
+    assertTrue(frames >= assets.length / 3, "Loaded in " + frames + " frames");
+  }
+
+  @Test
+  void shouldNotReloadAssetsAcrossTransitions() {
+    AssetManifest.Scope scope = treeScope();
+    try {
+      ResourceService first = new ResourceService();
+      first.loadScope(scope, LoadPriority.CRITICAL);
+      first.loadAll();
+      Texture texture = first.getAsset(TREE, Texture.class);
+      first.unloadScope(scope);
+      first.dispose();
+
+      // A screen in between which doesn't use the texture, e.g. a moral scene
+      ResourceService second = new ResourceService();
+      second.loadAll();
+      assertTrue(second.containsAsset(TREE, Texture.class));
+      second.dispose();
+
+      ResourceService third = new ResourceService();
+      third.loadScope(scope, LoadPriority.CRITICAL);
+      third.loadAll();
+      assertSame(texture, third.getAsset(TREE, Texture.class));
+      third.dispose();
+    } finally {
+      ResourceService.disposeSharedAssets();
+    }
+  }
+
+  @Test
+  void shouldUnloadReleasedAssetsAfterNextScreen() {
+    try {
+      ResourceService first = new ResourceService();
+      first.loadScope(treeScope(), LoadPriority.CRITICAL);
+      first.loadAll();
+      first.dispose();
+
+      ResourceService second = new ResourceService();
+      second.loadAll();
+      second.dispose();
+
+      ResourceService third = new ResourceService();
+      third.loadAll();
+      assertFalse(third.containsAsset(TREE, Texture.class));
+      assertEquals(0, ResourceService.getReleasedCount());
+      third.dispose();
+    } finally {
+      ResourceService.disposeSharedAssets();
+    }
+  }
+
+  @Test
+  void shouldEvictReleasedScopeAssetsOverBudget() {
+    try {
+      ResourceService first = new ResourceService();
+      first.loadScope(treeScope(), LoadPriority.CRITICAL);
+      first.loadAll();
+      assertTrue(first.getResidentTextureBytes() > 0);
+      first.dispose();
+
+      // Without a budget the tree would be kept loaded for this screen and the next
+      ResourceService second = new ResourceService();
+      second.setResidencyBudgetBytes(1);
+      second.loadAll();
+      assertFalse(second.containsAsset(TREE, Texture.class));
+      assertEquals(0, ResourceService.getReleasedCount());
+      assertEquals(1, second.getTextureEvictions());
+      assertEquals(0, second.getResidentTextureBytes());
+
+      // Loaded again once a screen needs it, and not evicted while it is in use
+      second.loadScope(treeScope(), LoadPriority.CRITICAL);
+      second.loadAll();
+      assertTrue(second.containsAsset(TREE, Texture.class));
+      assertTrue(second.getResidentTextureBytes() > 1);
+      second.dispose();
+    } finally {
+      ResourceService.disposeSharedAssets();
+    }
+  }
+
+  @Test
+  void shouldOnlyUnloadOwnReferencesFromSharedManager() {
+    try {
+      ResourceService first = new ResourceService();
+      first.loadTextures(new String[] {TREE});
+      first.loadAll();
+
+      ResourceService second = new ResourceService();
+      second.unloadAssets(new String[] {TREE});
+      assertTrue(second.containsAsset(TREE, Texture.class));
+
+      first.unloadAssets(new String[] {TREE});
+      assertFalse(first.containsAsset(TREE, Texture.class));
+    } finally {
+      ResourceService.disposeSharedAssets();
+    }
+  }
+
+  private static AssetManifest.Scope treeScope() {
+    AssetManifest.ScopeConfig scope = new AssetManifest.ScopeConfig();
+    scope.name = "tree";
+    scope.textures = new String[] {TREE};
+    AssetManifest.Config config = new AssetManifest.Config();
+    config.scopes = new AssetManifest.ScopeConfig[] {scope};
+    return new AssetManifest(config).getScope("tree");
+  }
+
+  /** Asset which takes a couple of milliseconds to load, standing in for a large texture. */
+  static class SlowAsset {
+  }
+
+  /** Loads each asset in 1ms of its own clock. */
+  static class SlowAssetLoader
+      extends SynchronousAssetLoader<SlowAsset, AssetLoaderParameters<SlowAsset>> {
+    private long time;
+    private int loads;
+
+    SlowAssetLoader(FileHandleResolver resolver) {
+      super(resolver);
+    }
+
+    @Override
+    public SlowAsset load(AssetManager assetManager, String fileName, FileHandle file,
+        AssetLoaderParameters<SlowAsset> parameter) {
+      time++;
+      loads++;
+      return new SlowAsset();
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+        AssetLoaderParameters<SlowAsset> parameter) {
+      return null;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.utils.Json;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.moral.Decision;
 import com.csse3200.game.components.moral.MoralDecision;
@@ -8,23 +9,32 @@ import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.files.GameState;
+import com.csse3200.game.files.SaveFile;
+import com.csse3200.game.files.SaveIndex;
+import com.csse3200.game.files.SaveWriter;
+import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
-import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+@ExtendWith(GameExtension.class)
 class SaveLoadServiceTest {
 
     private SaveLoadService saveLoadService;
@@ -74,54 +84,113 @@ class SaveLoadServiceTest {
     }
 
     @Test
-    void testSave() {
-        // Mocking static methods of FileLoader
-        try (MockedStatic<FileLoader> mockedFileLoader = Mockito.mockStatic(FileLoader.class)) {
+    void testSave(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        saveLoadService = new SaveLoadService(writer, saves);
 
-            // Ensure saveFile is empty to test conditional branch
-            saveLoadService.setSaveFile("");
+        // Ensure saveFile is empty to test conditional branch
+        saveLoadService.setSaveFile("");
 
-            saveLoadService.save();
+        saveLoadService.save().get(5, TimeUnit.SECONDS);
 
-            // Verify that getPlayer was called
-            verify(ServiceLocator.getPlayerService(), times(1)).getPlayer();
+        // Verify that getPlayer was called
+        verify(ServiceLocator.getPlayerService(), times(1)).getPlayer();
 
-            // Verify that gold was retrieved
-            verify(ServiceLocator.getPlayerService().getPlayer().getComponent(CombatStatsComponent.class), times(1)).getGold();
+        // Verify that gold was retrieved
+        verify(ServiceLocator.getPlayerService().getPlayer().getComponent(CombatStatsComponent.class), times(1)).getGold();
 
-            // Verify that day was retrieved
-            verify(ServiceLocator.getDayNightService(), times(1)).getDay();
+        // Verify that day was retrieved
+        verify(ServiceLocator.getDayNightService(), times(1)).getDay();
 
-            // Verify that decisions were retrieved
-            verify(ServiceLocator.getEntityService().getMoralSystem().getComponent(MoralDecision.class), times(1)).getListOfDecisions();
+        // Verify that decisions were retrieved
+        verify(ServiceLocator.getEntityService().getMoralSystem().getComponent(MoralDecision.class), times(1)).getListOfDecisions();
 
-            // Verify that writeClass was called
-            mockedFileLoader.verify(() -> FileLoader.writeClass(any(GameState.class), anyString(), eq(FileLoader.Location.LOCAL)), times(1));
-        }
+        // Verify that the save was written
+        assertTrue(saveLoadService.getSaveFile().endsWith(SaveFile.EXTENSION));
+        GameState state = SaveFile.read(saves.resolve(saveLoadService.getSaveFile()));
+        assertEquals(100, state.getMoney());
+        assertEquals(5, state.getDay());
+        writer.dispose();
     }
 
     @Test
-    void testSaveWithExistingSaveFile() {
-        try (MockedStatic<FileLoader> mockedFileLoader = Mockito.mockStatic(FileLoader.class)) {
+    void testSaveWithExistingSaveFile(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        saveLoadService = new SaveLoadService(writer, saves);
 
-            // Set saveFile to an existing filename
-            String existingFilename = "existing_save.json";
-            saveLoadService.setSaveFile(existingFilename);
+        // Set saveFile to an existing filename
+        String existingFilename = "existing_save.json";
+        saveLoadService.setSaveFile(existingFilename);
 
-            saveLoadService.save();
+        saveLoadService.save().get(5, TimeUnit.SECONDS);
 
-            // Verify that getPlayer was called
-            verify(ServiceLocator.getPlayerService(), times(1)).getPlayer();
+        // Verify that getPlayer was called
+        verify(ServiceLocator.getPlayerService(), times(1)).getPlayer();
 
-            // Verify that saveFile was not changed
-            assertEquals(existingFilename, saveLoadService.getSaveFile());
+        // Verify that saveFile was not changed
+        assertEquals(existingFilename, saveLoadService.getSaveFile());
 
-            // Construct the expected file path using File.separator
-            String expectedFilePath = "saves" + File.separator + existingFilename;
+        // Verify that the save was written in binary with that name, with no temporary file left
+        assertTrue(Files.exists(saves.resolve("existing_save" + SaveFile.EXTENSION)));
+        assertFalse(Files.exists(saves.resolve("existing_save" + SaveFile.EXTENSION + SaveWriter.TEMP_SUFFIX)));
+        writer.dispose();
+    }
 
-            // Verify that writeClass was called with the correct filename
-            mockedFileLoader.verify(() -> FileLoader.writeClass(any(GameState.class), eq(expectedFilePath), eq(FileLoader.Location.LOCAL)), times(1));
-        }
+    @Test
+    void testSaveSnapshotsDecisions(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        saveLoadService = new SaveLoadService(writer, saves);
+        saveLoadService.setSaveFile("snapshot.json");
+        List<Decision> decisions = ServiceLocator.getEntityService().getMoralSystem()
+                .getComponent(MoralDecision.class).getListOfDecisions();
+        decisions.add(new Decision("Take the loan", false, 10));
+
+        CompletableFuture<Void> saved = saveLoadService.save();
+        // Changes made after saving, while the save is being written, aren't saved
+        decisions.get(0).setPoints(20);
+        decisions.add(new Decision("Pay it back", true, 5));
+        saved.get(5, TimeUnit.SECONDS);
+
+        List<Decision> written = SaveFile.read(saves.resolve("snapshot" + SaveFile.EXTENSION)).getDecisions();
+        assertEquals(1, written.size());
+        assertEquals("Take the loan", written.get(0).getStatement());
+        assertEquals(-10, written.get(0).getDecisionPoints());
+        writer.dispose();
+    }
+
+    @Test
+    void testExportJson(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        saveLoadService = new SaveLoadService(writer, saves);
+        saveLoadService.setSaveFile("export.json");
+
+        saveLoadService.exportJson().get(5, TimeUnit.SECONDS);
+        GameState state = new Json().fromJson(GameState.class, Files.readString(saves.resolve("export.json")));
+        assertEquals(100, state.getMoney());
+        assertEquals(5, state.getDay());
+        writer.dispose();
+    }
+
+    @Test
+    void testListSavesFromIndex(@TempDir Path saves) throws Exception {
+        SaveWriter writer = new SaveWriter();
+        saveLoadService = new SaveLoadService(writer, saves);
+        saveLoadService.setSaveFile("first.json");
+        saveLoadService.save();
+        saveLoadService.setSaveFile("second.sav");
+        saveLoadService.save();
+        writer.flush();
+
+        // Each save updates the index, so listing them doesn't read them again
+        SaveIndex index = SaveIndex.read(saves);
+        List<SaveFile.Header> headers = index.list();
+        assertEquals(2, headers.size());
+        assertEquals("first", headers.get(0).getName());
+        assertEquals("second" + SaveFile.EXTENSION, headers.get(1).getFileName());
+        assertEquals(5, headers.get(1).getDay());
+        assertEquals(100, headers.get(1).getMoney());
+        assertEquals(0, index.getHeaderReads());
+        writer.dispose();
     }
 
 
@@ -0,0 +1,56 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class SkinServiceTest {
+  private static final String ATLAS = "images/ordersystem/DocketStatusIndicator.atlas";
+  private ResourceService resourceService;
+  private SkinService skinService;
+
+  @BeforeEach
+  void beforeEach() {
+    resourceService = mock(ResourceService.class);
+    skinService = new SkinService(resourceService);
+  }
+
+  @Test
+  void shouldLoadDefaultSkinOnce() {
+    Skin skin = mock(Skin.class);
+    when(resourceService.containsAsset(SkinService.DEFAULT_SKIN, Skin.class))
+        .thenReturn(false, true);
+    when(resourceService.getAsset(SkinService.DEFAULT_SKIN, Skin.class)).thenReturn(skin);
+
+    assertSame(skin, skinService.getSkin());
+    assertSame(skin, skinService.getSkin());
+    verify(resourceService, times(1)).loadSkins(new String[] {SkinService.DEFAULT_SKIN});
+  }
+
+  @Test
+  void shouldShareAtlasSkin() {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+    when(atlas.getRegions()).thenReturn(new Array<AtlasRegion>());
+    when(resourceService.getAsset(ATLAS, TextureAtlas.class)).thenReturn(atlas);
+
+    Skin first = skinService.getAtlasSkin(ATLAS);
+    assertSame(first, skinService.getAtlasSkin(ATLAS));
+    verify(resourceService, times(1)).loadTextureAtlases(any());
+  }
+
+  @Test
+  void shouldDisposeThroughResourceService() {
+    skinService.dispose();
+    verify(resourceService).dispose();
+  }
+}
@@ -0,0 +1,121 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class TextureCacheTest {
+  private static final String TREE = "test/files/tree.png";
+  private static final String HEART = "test/files/heart.png";
+
+  @TempDir
+  Path cacheDir;
+
+  @Test
+  void shouldMapCachedImagesOnSecondLoad() {
+    TextureCache cache = new TextureCache(cacheDir);
+    FileHandle file = Gdx.files.internal(TREE);
+
+    DecodedImage decoded = cache.load(TREE, file);
+    assertFalse(decoded.isMapped());
+    assertEquals(1, cache.getMisses());
+    assertTrue(Files.isRegularFile(cache.getEntryPath(TREE)));
+
+    DecodedImage cached = cache.load(TREE, file);
+    assertTrue(cached.isMapped());
+    assertEquals(1, cache.getHits());
+    assertEquals(decoded.getWidth(), cached.getWidth());
+    assertEquals(decoded.getHeight(), cached.getHeight());
+    assertEquals(decoded.getFormat(), cached.getFormat());
+    assertEquals(decoded.getPixels(), cached.getPixels());
+    decoded.dispose();
+  }
+
+  @Test
+  void shouldReplaceEntriesWhenSourceChanges() throws IOException {
+    TextureCache cache = new TextureCache(cacheDir);
+    Path source = cacheDir.resolve("source.png");
+    Files.write(source, Gdx.files.internal(TREE).readBytes());
+    FileHandle file = new FileHandle(source.toFile());
+    cache.build("images/source.png", file);
+
+    Files.write(source, Gdx.files.internal(HEART).readBytes());
+    assertTrue(cache.build("images/source.png", file));
+    assertEquals(2, cache.getMisses());
+
+    Pixmap heart = new Pixmap(Gdx.files.internal(HEART));
+    DecodedImage cached = cache.load("images/source.png", file);
+    assertTrue(cached.isMapped());
+    assertEquals(heart.getWidth(), cached.getWidth());
+    assertEquals(heart.getHeight(), cached.getHeight());
+    heart.dispose();
+  }
+
+  @Test
+  void shouldIgnoreDamagedEntries() throws IOException {
+    TextureCache cache = new TextureCache(cacheDir);
+    FileHandle file = Gdx.files.internal(TREE);
+    cache.build(TREE, file);
+
+    Path entry = cache.getEntryPath(TREE);
+    byte[] bytes = Files.readAllBytes(entry);
+    Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+    DecodedImage image = cache.load(TREE, file);
+    assertFalse(image.isMapped());
+    image.dispose();
+
+    // The damaged entry is rewritten
+    assertTrue(cache.load(TREE, file).isMapped());
+  }
+
+  @Test
+  void shouldPruneRemovedImages() {
+    TextureCache cache = new TextureCache(cacheDir);
+    cache.build(TREE, Gdx.files.internal(TREE));
+    cache.build(HEART, Gdx.files.internal(HEART));
+
+    assertEquals(1, cache.prune(List.of(TREE)));
+    assertTrue(Files.exists(cache.getEntryPath(TREE)));
+    assertFalse(Files.exists(cache.getEntryPath(HEART)));
+  }
+
+  @Test
+  void shouldLoadTexturesFromCache() {
+    TextureCache cache = new TextureCache(cacheDir);
+    ResourceService.setSharedTextureCache(cache);
+    try {
+      ResourceService first = new ResourceService(new AssetManager());
+      first.loadTextures(new String[] {TREE});
+      first.loadAll();
+      assertTrue(first.containsAsset(TREE, Texture.class));
+      first.dispose();
+
+      ResourceService second = new ResourceService(new AssetManager());
+      second.loadTextures(new String[] {TREE});
+      second.loadAll();
+      Texture texture = second.getAsset(TREE, Texture.class);
+      assertEquals(1, cache.getHits());
+      Pixmap tree = new Pixmap(Gdx.files.internal(TREE));
+      assertEquals(tree.getWidth(), texture.getWidth());
+      tree.dispose();
+      second.dispose();
+    } finally {
+      ResourceService.setSharedTextureCache(null);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.csse3200.game.ui.binding;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class LabelBindingTest {
+  private BitmapFont font;
+
+  @BeforeEach
+  void beforeEach() {
+    font = new BitmapFont();
+  }
+
+  @AfterEach
+  void afterEach() {
+    font.dispose();
+  }
+
+  @Test
+  void shouldOnlyNotifyOnChange() {
+    ObservableProperty<Integer> property = new ObservableProperty<>(1);
+    @SuppressWarnings("unchecked")
+    Consumer<Integer> listener = mock(Consumer.class);
+    property.bind(listener);
+    verify(listener).accept(1);
+
+    assertFalse(property.set(1));
+    assertTrue(property.set(2));
+    assertFalse(property.set(2));
+    verify(listener).accept(2);
+    verifyNoMoreInteractions(listener);
+
+    property.unbind(listener);
+    property.set(3);
+    verifyNoMoreInteractions(listener);
+    assertEquals(0, property.getListenerCount());
+  }
+
+  @Test
+  void shouldNotifyEveryListenerWhenOneUnbinds() {
+    ObservableProperty<Integer> property = new ObservableProperty<>(1);
+    @SuppressWarnings("unchecked")
+    Consumer<Integer> second = mock(Consumer.class);
+    @SuppressWarnings("unchecked")
+    Consumer<Integer> third = mock(Consumer.class);
+    Consumer<Integer> first = new Consumer<>() {
+      @Override
+      public void accept(Integer value) {
+        if (value == 2) {
+          property.unbind(this);
+        }
+      }
+    };
+    property.bind(first);
+    property.bind(second);
+    property.bind(third);
+
+    property.set(2);
+    verify(second).accept(2);
+    verify(third).accept(2);
+    assertEquals(2, property.getListenerCount());
+  }
+
+  @Test
+  void shouldNotRelayoutOverStaticInterval() {
+    ObservableProperty<Integer> gold = new ObservableProperty<>(100);
+    CountingLabel label = new CountingLabel(font);
+    Table table = new Table();
+    table.add(label);
+
+    LabelBinding<Integer> binding = LabelBinding.bind(label, gold, value -> "Cash: " + value);
+    table.validate();
+    assertEquals("Cash: 100", label.getText().toString());
+    int initialLayouts = label.layouts;
+
+    // Game keeps writing the same value every frame, e.g. from an update loop
+    for (int frame = 0; frame < 600; frame++) {
+      gold.set(100);
+      table.validate();
+    }
+    assertEquals(1, binding.getUpdateCount());
+    assertEquals(initialLayouts, label.layouts);
+
+    gold.set(150);
+    table.validate();
+    assertEquals("Cash: 150", label.getText().toString());
+    assertEquals(2, binding.getUpdateCount());
+    assertEquals(initialLayouts + 1, label.layouts);
+
+    binding.unbind();
+    gold.set(200);
+    table.validate();
+    assertEquals("Cash: 150", label.getText().toString());
+    assertEquals(initialLayouts + 1, label.layouts);
+  }
+
+  private static class CountingLabel extends Label {
+    private int layouts;
+
+    CountingLabel(BitmapFont font) {
+      super("", new LabelStyle(font, Color.WHITE));
+    }
+
+    @Override
+    public void layout() {
+      layouts++;
+      super.layout();
+    }
+  }
+}
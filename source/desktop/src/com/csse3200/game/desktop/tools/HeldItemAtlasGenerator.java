@@ -0,0 +1,243 @@
+package com.csse3200.game.desktop.tools;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the layered player sprite assets from the player sheets with items baked in.
+ *
+ * <p>Each Cook_Model32_[item].png sheet is the hands up player pose with an item drawn on top. The
+ * pixels that differ from Cook_Model32_HandsUp.png in the first frame of each walk direction are
+ * the item as seen from that direction, so they are cropped out into one small region per item and
+ * direction and packed into images/player/held_items.png. The hands up pose is added to
+ * player.atlas as a second page, with every animation suffixed with "_Holding".
+ *
+ * <p>Run from the assets directory, or pass it as the only argument:
+ * <pre>
+ *   ./gradlew :desktop:generateHeldItemAtlas
+ * </pre>
+ */
+public class HeldItemAtlasGenerator {
+  static final String HOLDING_SUFFIX = "_Holding";
+  private static final String PLAYER_DIR = "images/player/";
+  private static final String BASE_SHEET = "Cook_Model32.png";
+  private static final String HOLDING_SHEET = "Cook_Model32_HandsUp.png";
+  private static final String OUTPUT_NAME = "held_items";
+  private static final String[] DIRECTIONS = {
+      "Down", "Up", "Left", "Right", "DownLeft", "DownRight", "UpLeft", "UpRight"};
+  private static final int FRAME_SIZE = 32;
+  private static final int PADDING = 2;
+  private static final int SHEET_WIDTH = 512;
+
+  /** Item overlay name, as used by PlayerItemSpriteManager, to the sheet it is cropped from. */
+  private static final Map<String, String> ITEM_SHEETS = new LinkedHashMap<>();
+
+  static {
+    ITEM_SHEETS.put("RawAcai", "Cook_Model32_RawAcai.png");
+    ITEM_SHEETS.put("ChoppedAcai", "Cook_Model32_CookedAcai.png");
+    ITEM_SHEETS.put("RawBanana", "Cook_Model32_RawBanana.png");
+    ITEM_SHEETS.put("ChoppedBanana", "Cook_Model32_SlicedBanana.png");
+    ITEM_SHEETS.put("RawLettuce", "Cook_Model32_RawLettuce.png");
+    ITEM_SHEETS.put("ChoppedLettuce", "Cook_Model32_ChoppedLettuce.png");
+    ITEM_SHEETS.put("RawCucumber", "Cook_Model32_Cucumber.png");
+    ITEM_SHEETS.put("ChoppedCucumber", "Cook_Model32_CucumberChopped.png");
+    ITEM_SHEETS.put("RawTomato", "Cook_Model32_RawTomato.png");
+    ITEM_SHEETS.put("ChoppedTomato", "Cook_Model32_TomatoChopped.png");
+    ITEM_SHEETS.put("RawStrawberry", "Cook_Model32_Strawberry.png");
+    ITEM_SHEETS.put("ChoppedStrawberry", "Cook_Model32_StrawberryChopped.png");
+    ITEM_SHEETS.put("RawChocolate", "Cook_Model32_Chocolate.png");
+    ITEM_SHEETS.put("ChoppedChocolate", "Cook_Model32_ChocolateChopped.png");
+    ITEM_SHEETS.put("RawBeef", "Cook_Model32_RawBeef.png");
+    ITEM_SHEETS.put("CookedBeef", "Cook_Model32_CookedBeef.png");
+    ITEM_SHEETS.put("BurntBeef", "Cook_Model32_BurntBeef.png");
+    ITEM_SHEETS.put("RawFish", "Cook_Model32_RawFish.png");
+    ITEM_SHEETS.put("CookedFish", "Cook_Model32_CookedFish.png");
+    ITEM_SHEETS.put("AcaiBowl", "Cook_Model32_AcaiBowl.png");
+    ITEM_SHEETS.put("BananaSplit", "Cook_Model32_BananaSplit.png");
+    ITEM_SHEETS.put("FruitSalad", "Cook_Model32_FruitSalad.png");
+    ITEM_SHEETS.put("Salad", "Cook_Model32_Salad.png");
+    ITEM_SHEETS.put("Steak", "Cook_Model32_SteakMeal.png");
+    ITEM_SHEETS.put("Plate", "Cook_Model32_Plate.png");
+    ITEM_SHEETS.put("DirtyPlate", "Cook_Model32_DirtyPlate.png");
+    ITEM_SHEETS.put("FireExtinguisher", "Cook_Model32_FireExtinguisher.png");
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path playerDir = Path.of(args.length > 0 ? args[0] : ".").resolve(PLAYER_DIR);
+    List<String> baseAtlas = readFirstPage(playerDir.resolve("player.atlas"));
+    Map<String, int[]> firstFrames = findFirstFrames(baseAtlas);
+
+    BufferedImage holding = ImageIO.read(playerDir.resolve(HOLDING_SHEET).toFile());
+    List<Region> regions = new ArrayList<>();
+    for (Map.Entry<String, String> item : ITEM_SHEETS.entrySet()) {
+      BufferedImage sheet = ImageIO.read(playerDir.resolve(item.getValue()).toFile());
+      for (String direction : DIRECTIONS) {
+        int[] frame = firstFrames.get("Character_" + direction);
+        Region region = crop(item.getKey() + "_" + direction, sheet, holding, frame[0], frame[1]);
+        if (region != null) {
+          regions.add(region);
+        }
+      }
+    }
+
+    BufferedImage packed = pack(regions);
+    ImageIO.write(packed, "png", playerDir.resolve(OUTPUT_NAME + ".png").toFile());
+    Files.write(playerDir.resolve(OUTPUT_NAME + ".atlas"), writeAtlas(regions, packed),
+        StandardCharsets.UTF_8);
+    Files.write(playerDir.resolve("player.atlas"), addHoldingPage(baseAtlas),
+        StandardCharsets.UTF_8);
+    System.out.printf("Packed %d held item regions into %dx%d%n",
+        regions.size(), packed.getWidth(), packed.getHeight());
+  }
+
+  /** Lines of the first page of an atlas, so rerunning replaces the generated holding page. */
+  private static List<String> readFirstPage(Path atlas) throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (String line : Files.readAllLines(atlas, StandardCharsets.UTF_8)) {
+      if (line.trim().isEmpty() && !lines.isEmpty()) {
+        break;
+      }
+      if (!line.trim().isEmpty()) {
+        lines.add(line);
+      }
+    }
+    if (!lines.get(0).trim().equals(BASE_SHEET)) {
+      throw new IllegalStateException("player.atlas should start with the " + BASE_SHEET + " page");
+    }
+    return lines;
+  }
+
+  private static Map<String, int[]> findFirstFrames(List<String> atlas) {
+    Map<String, int[]> frames = new LinkedHashMap<>();
+    String name = null;
+    for (String line : atlas) {
+      if (!line.startsWith(" ") && !line.contains(":")) {
+        name = line.trim();
+      } else if (line.trim().startsWith("xy:") && name != null && !frames.containsKey(name)) {
+        String[] xy = line.trim().substring(3).split(",");
+        frames.put(name, new int[] {Integer.parseInt(xy[0].trim()), Integer.parseInt(xy[1].trim())});
+      }
+    }
+    return frames;
+  }
+
+  private static Region crop(String name, BufferedImage sheet, BufferedImage holding, int x, int y) {
+    int minX = FRAME_SIZE;
+    int minY = FRAME_SIZE;
+    int maxX = -1;
+    int maxY = -1;
+    for (int py = 0; py < FRAME_SIZE; py++) {
+      for (int px = 0; px < FRAME_SIZE; px++) {
+        if (isItemPixel(sheet, holding, x + px, y + py)) {
+          minX = Math.min(minX, px);
+          minY = Math.min(minY, py);
+          maxX = Math.max(maxX, px);
+          maxY = Math.max(maxY, py);
+        }
+      }
+    }
+    if (maxX < 0) {
+      return null;
+    }
+
+    BufferedImage image =
+        new BufferedImage(maxX - minX + 1, maxY - minY + 1, BufferedImage.TYPE_INT_ARGB);
+    for (int py = minY; py <= maxY; py++) {
+      for (int px = minX; px <= maxX; px++) {
+        if (isItemPixel(sheet, holding, x + px, y + py)) {
+          image.setRGB(px - minX, py - minY, sheet.getRGB(x + px, y + py));
+        }
+      }
+    }
+    // Atlas offsets are measured from the bottom left of the original frame
+    return new Region(name, image, minX, FRAME_SIZE - 1 - maxY);
+  }
+
+  private static boolean isItemPixel(BufferedImage sheet, BufferedImage holding, int x, int y) {
+    int argb = sheet.getRGB(x, y);
+    return argb != holding.getRGB(x, y) && (argb >>> 24) != 0;
+  }
+
+  private static BufferedImage pack(List<Region> regions) {
+    int x = 0;
+    int y = 0;
+    int rowHeight = 0;
+    for (Region region : regions) {
+      if (x + region.image.getWidth() > SHEET_WIDTH) {
+        x = 0;
+        y += rowHeight + PADDING;
+        rowHeight = 0;
+      }
+      region.x = x;
+      region.y = y;
+      x += region.image.getWidth() + PADDING;
+      rowHeight = Math.max(rowHeight, region.image.getHeight());
+    }
+
+    int height = Integer.highestOneBit(Math.max(1, y + rowHeight - 1)) << 1;
+    BufferedImage packed = new BufferedImage(SHEET_WIDTH, height, BufferedImage.TYPE_INT_ARGB);
+    for (Region region : regions) {
+      packed.getGraphics().drawImage(region.image, region.x, region.y, null);
+    }
+    return packed;
+  }
+
+  private static List<String> writeAtlas(List<Region> regions, BufferedImage packed) {
+    List<String> lines = new ArrayList<>();
+    lines.add(OUTPUT_NAME + ".png");
+    lines.add("size: " + packed.getWidth() + ", " + packed.getHeight());
+    lines.add("format: RGBA8888");
+    lines.add("filter: Nearest, Nearest");
+    lines.add("repeat: none");
+    for (Region region : regions) {
+      lines.add(region.name);
+      lines.add("  rotate: false");
+      lines.add("  xy: " + region.x + ", " + region.y);
+      lines.add("  size: " + region.image.getWidth() + ", " + region.image.getHeight());
+      lines.add("  orig: " + FRAME_SIZE + ", " + FRAME_SIZE);
+      lines.add("  offset: " + region.offsetX + ", " + region.offsetY);
+      lines.add("  index: -1");
+    }
+    return lines;
+  }
+
+  private static List<String> addHoldingPage(List<String> baseAtlas) {
+    List<String> lines = new ArrayList<>(baseAtlas);
+    lines.add("");
+    lines.add(HOLDING_SHEET);
+    for (String line : baseAtlas.subList(1, baseAtlas.size())) {
+      boolean isName = !line.startsWith(" ") && !line.contains(":");
+      lines.add(isName ? line + HOLDING_SUFFIX : line);
+    }
+    return lines;
+  }
+
+  private static class Region {
+    private final String name;
+    private final BufferedImage image;
+    private final int offsetX;
+    private final int offsetY;
+    private int x;
+    private int y;
+
+    private Region(String name, BufferedImage image, int offsetX, int offsetY) {
+      this.name = name;
+      this.image = image;
+      this.offsetX = offsetX;
+      this.offsetY = offsetY;
+    }
+  }
+
+  private HeldItemAtlasGenerator() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -0,0 +1,48 @@
+package com.csse3200.game.desktop.tools;
+
+import com.csse3200.game.areas.map.CompiledMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles the map layouts in images/map from their text files into the binary files MapLayout
+ * loads instead (see {@link CompiledMap}). The text files stay the source of the maps, so this
+ * should be run after editing one; MapLayout reads the text file while its compiled file is older.
+ *
+ * <p>Run from the assets directory, or pass it as the first argument:
+ * <pre>
+ *   ./gradlew :desktop:compileMaps
+ * </pre>
+ */
+public class MapCompiler {
+  private static final String MAP_DIR = "images/map";
+
+  public static void main(String[] args) throws IOException {
+    Path mapDir = Path.of(args.length > 0 ? args[0] : ".").resolve(MAP_DIR);
+
+    List<Path> maps;
+    try (Stream<Path> files = Files.list(mapDir)) {
+      maps = files.filter(file -> file.getFileName().toString().endsWith(".txt"))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+
+    int failed = 0;
+    for (Path map : maps) {
+      Path output = Path.of(CompiledMap.getCompiledPath(map.toString()));
+      try {
+        CompiledMap.compile(map, output);
+      } catch (IOException e) {
+        // Test maps which aren't in the map format are left as text
+        System.out.printf("Skipped %s: %s%n", map.getFileName(), e.getMessage());
+        failed++;
+      }
+    }
+    System.out.printf("Compiled %d maps in %s (%d skipped)%n", maps.size() - failed, mapDir, failed);
+  }
+}
@@ -0,0 +1,56 @@
+package com.csse3200.game.desktop.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.csse3200.game.services.TextureCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Fills the texture cache with every image in the assets, so that the first launch afterwards
+ * doesn't have to decode them either. Entries for images which have been removed are deleted.
+ *
+ * <p>Run from the assets directory, or pass it as the first argument. The cache directory can be
+ * passed as the second argument, and defaults to the one the game uses:
+ * <pre>
+ *   ./gradlew :desktop:buildTextureCache
+ * </pre>
+ */
+public class TextureCacheBuilder {
+  public static void main(String[] args) throws IOException {
+    Path assetsDir = Path.of(args.length > 0 ? args[0] : ".");
+    Path cacheDir = args.length > 1 ? Path.of(args[1]) : TextureCache.defaultDirectory();
+    GdxNativesLoader.load();
+
+    List<String> images = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(assetsDir)) {
+      files.filter(Files::isRegularFile)
+          .map(file -> assetsDir.relativize(file).toString().replace('\\', '/'))
+          .filter(name -> !name.startsWith("test/") && isImage(name))
+          .sorted()
+          .forEach(images::add);
+    }
+
+    TextureCache cache = new TextureCache(cacheDir);
+    int written = 0;
+    for (String image : images) {
+      if (cache.build(image, new FileHandle(assetsDir.resolve(image).toFile()))) {
+        written++;
+      }
+    }
+    int pruned = cache.prune(images);
+    System.out.printf("Cached %d images in %s (%d updated, %d removed, %d failed)%n",
+        images.size(), cacheDir, written, pruned, cache.getWriteFailures());
+  }
+
+  private static boolean isImage(String name) {
+    String lower = name.toLowerCase();
+    return lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".jpeg")
+        || lower.endsWith(".bmp");
+  }
+}